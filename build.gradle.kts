@@ -304,7 +304,7 @@ allprojects {
         apply(plugin = "com.gradleup.nmcp")
         apply(plugin = "signing")
 
-        if (project.path !in listOf(":", ":annotations", ":annotations-processor")) {
+        if (project.path !in listOf(":", ":annotations", ":annotations-processor", ":jsvg-benchmarks")) {
             if (!isRelease) {
                 configure<PublishingExtension> {
                     repositories {
@@ -330,7 +330,7 @@ allprojects {
             }
 
             configure<PublishingExtension> {
-                if (project.path in listOf(":", ":annotations", ":annotations-processor")) {
+                if (project.path in listOf(":", ":annotations", ":annotations-processor", ":jsvg-benchmarks")) {
                     return@configure
                 }
 
@@ -0,0 +1,26 @@
+plugins {
+    java
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(projects.jsvg)
+    jmhCompileOnly(libs.nullabilityAnnotations)
+}
+
+val svgResourcePath = File(rootDir, "jsvg/src/test/resources/com/github/weisj/jsvg").absolutePath
+val resvgTestSuitePath = File(rootDir, "resvg-test-suite/tests").absolutePath
+
+jmh {
+    jmhVersion.set(rootProject.extra["jmh.version"].toString())
+    // Allocation rates are as important as timings for most of the hot paths.
+    profilers.add("gc")
+    jvmArgsAppend.addAll(
+        "-Djava.awt.headless=true",
+        "-Djsvg.benchmark.svgPath=$svgResourcePath",
+        "-Djsvg.benchmark.resvgPath=$resvgTestSuitePath",
+    )
+    providers.gradleProperty("jmhIncludes").orNull?.let {
+        includes.addAll(it.split(","))
+    }
+}
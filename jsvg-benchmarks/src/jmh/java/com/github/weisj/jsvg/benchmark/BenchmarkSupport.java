@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.view.FloatSize;
+import com.github.weisj.jsvg.view.ViewBox;
+
+/**
+ * Shared helpers for locating benchmark inputs and rendering documents.
+ * <p>
+ * Input locations are passed in by the build through the {@code jsvg.benchmark.svgPath} and
+ * {@code jsvg.benchmark.resvgPath} system properties. If they are absent the paths are resolved relative to the
+ * working directory, which allows running the benchmarks from an IDE.
+ */
+final class BenchmarkSupport {
+    private static final String SVG_PATH_PROPERTY = "jsvg.benchmark.svgPath";
+    private static final String RESVG_PATH_PROPERTY = "jsvg.benchmark.resvgPath";
+
+    private BenchmarkSupport() {}
+
+    static @NotNull Path testSvgDirectory() {
+        return directory(SVG_PATH_PROPERTY, "jsvg/src/test/resources/com/github/weisj/jsvg");
+    }
+
+    static @NotNull Path resvgTestSuiteDirectory() {
+        return directory(RESVG_PATH_PROPERTY, "resvg-test-suite/tests");
+    }
+
+    private static @NotNull Path directory(@NotNull String property, @NotNull String fallback) {
+        String path = System.getProperty(property);
+        if (path != null) return Paths.get(path);
+        return Paths.get(System.getProperty("user.dir"), fallback.replace('/', File.separatorChar));
+    }
+
+    /**
+     * Resolves an input. Names prefixed with {@code resvg:} are resolved against the resvg test suite, all other
+     * names against the jsvg test resources.
+     */
+    static @NotNull Path resolve(@NotNull String name) {
+        if (name.startsWith("resvg:")) {
+            return resvgTestSuiteDirectory().resolve(name.substring("resvg:".length()));
+        }
+        return testSvgDirectory().resolve(name);
+    }
+
+    /**
+     * Resolves an input to a list of files. The input may either name a single file or a directory which is searched
+     * recursively.
+     */
+    static @NotNull List<@NotNull Path> svgFilesIn(@NotNull String name) {
+        Path directory = resolve(name);
+        if (Files.isRegularFile(directory)) return Collections.singletonList(directory);
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalStateException("Benchmark input " + directory + " does not exist. "
+                    + "The resvg test suite can be fetched using `git submodule update --init --recursive`.");
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .filter(p -> p.getFileName().toString().endsWith(".svg"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte @NotNull [] readBytes(@NotNull Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static @Nullable SVGDocument load(@NotNull SVGLoader loader, byte @NotNull [] data) {
+        return loader.load(new ByteArrayInputStream(data), null, LoaderContext.createDefault());
+    }
+
+    static byte @NotNull [] compile(@NotNull SVGLoader loader, byte @NotNull [] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            loader.compile(new ByteArrayInputStream(data), null, out, LoaderContext.createDefault());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static @NotNull SVGDocument loadDocument(byte @NotNull [] data) {
+        SVGDocument document = load(new SVGLoader(), data);
+        if (document == null) throw new IllegalStateException("Benchmark input could not be loaded");
+        return document;
+    }
+
+    static @NotNull SVGDocument loadDocument(@NotNull String name) {
+        return loadDocument(readBytes(resolve(name)));
+    }
+
+    /**
+     * Loads all documents of the given input. Documents which can't be loaded (e.g. the resvg test suite contains
+     * intentionally broken files) are skipped.
+     */
+    static @NotNull SVGDocument @NotNull [] loadDocuments(@NotNull String name) {
+        SVGLoader loader = new SVGLoader();
+        return svgFilesIn(name).stream()
+                .map(p -> load(loader, readBytes(p)))
+                .filter(Objects::nonNull)
+                .toArray(SVGDocument[]::new);
+    }
+
+    static @NotNull SVGDocument loadSource(@NotNull String svgSource) {
+        return loadDocument(svgSource.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static @NotNull BufferedImage createTarget(@NotNull SVGDocument document, double scale) {
+        FloatSize size = document.size();
+        return new BufferedImage(
+                Math.max(1, (int) Math.ceil(size.width * scale)),
+                Math.max(1, (int) Math.ceil(size.height * scale)),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    static @NotNull Graphics2D createGraphics(@NotNull BufferedImage target, double scale) {
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g.scale(scale, scale);
+        return g;
+    }
+
+    static void setSoftClipping(@NotNull Graphics2D g, boolean softClipping) {
+        g.setRenderingHint(SVGRenderingHints.KEY_SOFT_CLIPPING, softClipping
+                ? SVGRenderingHints.VALUE_SOFT_CLIPPING_ON
+                : SVGRenderingHints.VALUE_SOFT_CLIPPING_OFF);
+    }
+
+    static void render(@NotNull SVGDocument document, @NotNull Graphics2D g) {
+        FloatSize size = document.size();
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, new ViewBox(size.width, size.height));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.weisj.jsvg.SVGDocument;
+
+/**
+ * Measures {@link com.github.weisj.jsvg.nodes.filter.Filter#applyFilter} for the most expensive primitives.
+ * <p>
+ * The filter is exercised by rendering a document whose cost is dominated by a single filtered group covering the
+ * whole canvas. The {@code baseline} primitive renders the same content without a filter and can be subtracted from
+ * the other results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    public enum Primitive {
+        baseline(""),
+        blurSmall("<feGaussianBlur stdDeviation='1.5'/>"),
+        blurLarge("<feGaussianBlur stdDeviation='20'/>"),
+        blurAlpha("<feGaussianBlur in='SourceAlpha' stdDeviation='6'/>"),
+        dropShadow("<feDropShadow dx='4' dy='4' stdDeviation='4'/>"),
+        turbulence("<feTurbulence type='turbulence' baseFrequency='0.05' numOctaves='2'/>"),
+        fractalNoise("<feTurbulence type='fractalNoise' baseFrequency='0.02' numOctaves='4'/>"),
+        distantLight("<feDiffuseLighting surfaceScale='4'><feDistantLight azimuth='45' elevation='35'/>"
+                + "</feDiffuseLighting>"),
+        pointLight("<feDiffuseLighting surfaceScale='4'><fePointLight x='150' y='60' z='200'/>"
+                + "</feDiffuseLighting>"),
+        specularLight("<feSpecularLighting surfaceScale='4' specularExponent='20'>"
+                + "<fePointLight x='150' y='60' z='200'/></feSpecularLighting>"),
+        erodeSmall("<feMorphology operator='erode' radius='1'/>"),
+        dilateLarge("<feMorphology operator='dilate' radius='20'/>"),
+        sharpen("<feConvolveMatrix order='3' kernelMatrix='0 -1 0 -1 5 -1 0 -1 0'/>"),
+        emboss("<feConvolveMatrix order='3' kernelMatrix='-2 -1 0 -1 1 1 0 1 2' preserveAlpha='true'/>"),
+        convolveSeparable("<feConvolveMatrix order='5' kernelMatrix='1 4 6 4 1 4 16 24 16 4 6 24 36 24 6 "
+                + "4 16 24 16 4 1 4 6 4 1'/>");
+
+        private final String primitives;
+
+        Primitive(String primitives) {
+            this.primitives = primitives;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Synthetic {
+        @Param
+        public Primitive primitive;
+
+        @Param({"1", "2"})
+        public double scale;
+
+        private SVGDocument document;
+        private BufferedImage target;
+        private Graphics2D graphics;
+
+        @Setup
+        public void setup() {
+            document = BenchmarkSupport.loadSource(SyntheticDocuments.filterDocument(primitive.primitives));
+            target = BenchmarkSupport.createTarget(document, scale);
+            graphics = BenchmarkSupport.createGraphics(target, scale);
+        }
+
+        @TearDown
+        public void tearDown() {
+            graphics.dispose();
+        }
+    }
+
+    @Benchmark
+    public BufferedImage applyFilter(Synthetic state) {
+        BenchmarkSupport.render(state.document, state.graphics);
+        return state.target;
+    }
+
+    /**
+     * Filter test documents from the jsvg and resvg test suites.
+     */
+    @State(Scope.Thread)
+    public static class Documents {
+        @Param({
+                "filter/blur.svg",
+                "filter/turbulence1.svg",
+                "filter/diffuseLighting.svg",
+                "filter/dropShadow.svg",
+                "resvg:filters/feGaussianBlur",
+                "resvg:filters/feTurbulence",
+                "resvg:filters/feDiffuseLighting"
+        })
+        public String input;
+
+        private SVGDocument[] documents;
+        private BufferedImage[] targets;
+
+        @Setup
+        public void setup() {
+            documents = BenchmarkSupport.loadDocuments(input);
+            targets = new BufferedImage[documents.length];
+            for (int i = 0; i < documents.length; i++) {
+                targets[i] = BenchmarkSupport.createTarget(documents[i], 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public void renderFilterDocuments(Documents state, Blackhole blackhole) {
+        for (int i = 0; i < state.documents.length; i++) {
+            Graphics2D g = BenchmarkSupport.createGraphics(state.targets[i], 1);
+            BenchmarkSupport.render(state.documents[i], g);
+            g.dispose();
+            blackhole.consume(state.targets[i]);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+/**
+ * Measures {@link SVGLoader#load} i.e. xml parsing, css matching and node building, as well as
+ * {@link SVGLoader#loadCompiled} of the same documents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @State(Scope.Thread)
+    public static class Single {
+        @Param({
+                "svg_logo.svg",
+                "icons/desktop.svg",
+                "mask/chromeLogo.svg",
+                "filter/diffuseLighting.svg",
+                "text/text5.svg"
+        })
+        public String input;
+
+        private byte[] data;
+        private ByteBuffer compiled;
+        private SVGLoader loader;
+
+        @Setup
+        public void setup() {
+            data = BenchmarkSupport.readBytes(BenchmarkSupport.resolve(input));
+            loader = new SVGLoader();
+            compiled = ByteBuffer.wrap(BenchmarkSupport.compile(loader, data));
+        }
+    }
+
+    @Benchmark
+    public SVGDocument load(Single state) {
+        return BenchmarkSupport.load(state.loader, state.data);
+    }
+
+    @Benchmark
+    public SVGDocument loadCompiled(Single state) {
+        return state.loader.loadCompiled(state.compiled, null, LoaderContext.createDefault());
+    }
+
+    /**
+     * Loads every document of a directory per invocation. This resembles the startup of an application loading its
+     * icon set.
+     */
+    @State(Scope.Thread)
+    public static class Corpus {
+        @Param({
+                "icons",
+                "resvg:shapes",
+                "resvg:structure/style",
+                "resvg:filters",
+                "resvg:text"
+        })
+        public String corpus;
+
+        private byte[][] documents;
+        private List<ByteBuffer> compiledDocuments;
+        private SVGLoader loader;
+
+        @Setup
+        public void setup() {
+            List<Path> files = BenchmarkSupport.svgFilesIn(corpus);
+            documents = new byte[files.size()][];
+            for (int i = 0; i < documents.length; i++) {
+                documents[i] = BenchmarkSupport.readBytes(files.get(i));
+            }
+            loader = new SVGLoader();
+            compiledDocuments = new ArrayList<>();
+            for (byte[] document : documents) {
+                try {
+                    compiledDocuments.add(ByteBuffer.wrap(BenchmarkSupport.compile(loader, document)));
+                } catch (UncheckedIOException e) {
+                    // Documents which fail to load are skipped by the compiled variant.
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void loadCorpus(Corpus state, Blackhole blackhole) {
+        for (byte[] document : state.documents) {
+            blackhole.consume(BenchmarkSupport.load(state.loader, document));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void loadCompiledCorpus(Corpus state, Blackhole blackhole) {
+        for (ByteBuffer document : state.compiledDocuments) {
+            blackhole.consume(state.loader.loadCompiled(document, null, LoaderContext.createDefault()));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+
+/**
+ * Measures {@link com.github.weisj.jsvg.nodes.Mask#createMaskPaint} and the masked paint it produces for a mask
+ * covering the whole canvas. Both the fast (masked paint) and the accurate (isolated surface) mask rendering modes
+ * are covered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskBenchmark {
+
+    @Param({"synthetic", "mask/chromeLogo.svg", "mask/nestedMask.svg", "mask/maskContentUnits.svg"})
+    public String input;
+
+    @Param({"true", "false"})
+    public boolean softClipping;
+
+    @Param({"fast", "accurate"})
+    public String maskRendering;
+
+    private SVGDocument document;
+    private BufferedImage target;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setup() {
+        document = "synthetic".equals(input)
+                ? BenchmarkSupport.loadSource(SyntheticDocuments.maskDocument())
+                : BenchmarkSupport.loadDocument(input);
+        target = BenchmarkSupport.createTarget(document, 1);
+        graphics = BenchmarkSupport.createGraphics(target, 1);
+        BenchmarkSupport.setSoftClipping(graphics, softClipping);
+        graphics.setRenderingHint(SVGRenderingHints.KEY_MASK_CLIP_RENDERING, "accurate".equals(maskRendering)
+                ? SVGRenderingHints.VALUE_MASK_CLIP_RENDERING_ACCURACY
+                : SVGRenderingHints.VALUE_MASK_CLIP_RENDERING_FAST);
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage renderMasked() {
+        BenchmarkSupport.render(document, graphics);
+        return target;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.github.weisj.jsvg.attributes.MaskType;
+import com.github.weisj.jsvg.paint.impl.MaskedPaint;
+
+/**
+ * Measures a full-screen fill with a {@link MaskedPaint}, i.e. the per pixel cost of applying a mask to its parent
+ * paint. The parent paint context decides whether the packed int fast path of the mask context can be used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskedPaintBenchmark {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    @Param({"Luminance", "Alpha"})
+    public MaskType maskType;
+
+    @Param({"color", "gradient", "texture"})
+    public String parentPaint;
+
+    private BufferedImage mask;
+    private Paint paint;
+    private BufferedImage target;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setup() {
+        mask = new BufferedImage(WIDTH, HEIGHT, maskType == MaskType.Luminance
+                ? BufferedImage.TYPE_BYTE_GRAY
+                : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D maskGraphics = mask.createGraphics();
+        maskGraphics.setPaint(new GradientPaint(0, 0, Color.WHITE, WIDTH, HEIGHT, new Color(0, 0, 0, 0)));
+        maskGraphics.fillRect(0, 0, WIDTH, HEIGHT);
+        maskGraphics.dispose();
+
+        switch (parentPaint) {
+            case "color":
+                paint = new Color(200, 100, 50);
+                break;
+            case "gradient":
+                paint = new LinearGradientPaint(0, 0, WIDTH, 0, new float[] {0, 1},
+                        new Color[] {Color.RED, new Color(0, 0, 255, 128)});
+                break;
+            case "texture":
+                BufferedImage texture = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB_PRE);
+                Graphics2D textureGraphics = texture.createGraphics();
+                textureGraphics.setColor(new Color(0, 200, 0, 180));
+                textureGraphics.fillOval(0, 0, 64, 64);
+                textureGraphics.dispose();
+                paint = new TexturePaint(texture, new Rectangle(0, 0, 64, 64));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown paint " + parentPaint);
+        }
+
+        target = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+        graphics = target.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage fillMasked() {
+        graphics.setPaint(new MaskedPaint(paint, mask.getRaster(), new Point2D.Double(), null, maskType));
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        return target;
+    }
+}
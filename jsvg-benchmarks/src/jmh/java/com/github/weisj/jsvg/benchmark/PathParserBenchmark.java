@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.github.weisj.jsvg.attributes.FillRule;
+import com.github.weisj.jsvg.geometry.SVGShape;
+import com.github.weisj.jsvg.geometry.path.PackedPath;
+import com.github.weisj.jsvg.geometry.path.PathCommand;
+import com.github.weisj.jsvg.geometry.path.PathParser;
+import com.github.weisj.jsvg.util.PathUtil;
+
+/**
+ * Measures parsing of path data using {@link PathParser#parsePathCommand()} and
+ * {@link PathParser#parsePackedPath()} as well as building the resulting shape.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathParserBenchmark {
+
+    @Param({"100", "10000", "200000"})
+    public int segments;
+
+    private String pathData;
+
+    @Setup
+    public void setup() {
+        pathData = SyntheticDocuments.pathData(segments);
+    }
+
+    @Benchmark
+    public PathCommand[] parsePathCommand() {
+        return new PathParser(pathData).parsePathCommand();
+    }
+
+    @Benchmark
+    public PackedPath parsePackedPath() {
+        return new PathParser(pathData).parsePackedPath();
+    }
+
+    @Benchmark
+    public SVGShape parseFromPathData() {
+        return PathUtil.parseFromPathData(pathData, FillRule.Nonzero);
+    }
+}
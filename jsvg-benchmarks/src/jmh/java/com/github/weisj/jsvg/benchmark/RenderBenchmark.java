@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.view.ViewBox;
+
+/**
+ * Measures {@link SVGDocument#render(Component, Graphics2D, ViewBox)} and
+ * {@link SVGDocument#renderWithPlatform} of already loaded documents at several device scales.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderBenchmark {
+
+    @Param({
+            "svg_logo.svg",
+            "icons/desktop.svg",
+            "icons/folder.svg",
+            "gradient/linearGradient.svg",
+            "stroke/stroke1.svg"
+    })
+    public String input;
+
+    @Param({"1", "2", "4"})
+    public double scale;
+
+    private SVGDocument document;
+    private BufferedImage target;
+    private Graphics2D graphics;
+    private ViewBox viewBox;
+
+    @Setup
+    public void setup() {
+        document = BenchmarkSupport.loadDocument(input);
+        target = BenchmarkSupport.createTarget(document, scale);
+        graphics = BenchmarkSupport.createGraphics(target, scale);
+        viewBox = new ViewBox(document.size());
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        document.render(null, graphics, viewBox);
+        return target;
+    }
+
+    @Benchmark
+    public BufferedImage renderWithPlatform() {
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, graphics, viewBox);
+        return target;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generated inputs for hot paths which aren't stressed enough by the test resources, e.g. very long path data or
+ * filters covering a large area. All generators are deterministic.
+ */
+final class SyntheticDocuments {
+    private static final long SEED = 0x5EED;
+
+    private SyntheticDocuments() {}
+
+    static @NotNull String pathData(int segments) {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(segments * 24);
+        builder.append("M 10 10");
+        for (int i = 0; i < segments; i++) {
+            switch (i % 5) {
+                case 0:
+                    builder.append(" L ").append(coordinate(random)).append(' ').append(coordinate(random));
+                    break;
+                case 1:
+                    builder.append(" c").append(delta(random)).append(',').append(delta(random))
+                            .append(' ').append(delta(random)).append(',').append(delta(random))
+                            .append(' ').append(delta(random)).append(',').append(delta(random));
+                    break;
+                case 2:
+                    builder.append(" Q").append(coordinate(random)).append(' ').append(coordinate(random))
+                            .append(' ').append(coordinate(random)).append(' ').append(coordinate(random));
+                    break;
+                case 3:
+                    builder.append(" a10 5 30 0 1 ").append(delta(random)).append(' ').append(delta(random));
+                    break;
+                default:
+                    builder.append(" h").append(delta(random)).append('v').append(delta(random));
+                    break;
+            }
+        }
+        builder.append(" Z");
+        return builder.toString();
+    }
+
+    private static @NotNull String coordinate(@NotNull Random random) {
+        return String.format(Locale.ROOT, "%.3f", random.nextFloat() * 200);
+    }
+
+    private static @NotNull String delta(@NotNull Random random) {
+        return String.format(Locale.ROOT, "%.2f", (random.nextFloat() - 0.5f) * 40);
+    }
+
+    static @NotNull String pathDocument(int segments) {
+        return svg(200, 200, "<path fill='none' stroke='black' d='" + pathData(segments) + "'/>");
+    }
+
+    static @NotNull String filterDocument(@NotNull String filterPrimitives) {
+        return svg(400, 400,
+                "<filter id='f' x='0' y='0' width='1' height='1'>" + filterPrimitives + "</filter>"
+                        + "<g filter='url(#f)'>"
+                        + "<rect width='400' height='400' fill='royalblue'/>"
+                        + "<circle cx='200' cy='200' r='120' fill='orange'/>"
+                        + "</g>");
+    }
+
+    static @NotNull String maskDocument() {
+        return svg(800, 600,
+                "<linearGradient id='g'><stop offset='0' stop-color='white'/>"
+                        + "<stop offset='1' stop-color='black'/></linearGradient>"
+                        + "<mask id='m'><rect width='800' height='600' fill='url(#g)'/>"
+                        + "<circle cx='400' cy='300' r='200' fill='white' fill-opacity='0.5'/></mask>"
+                        + "<rect width='800' height='600' fill='crimson' mask='url(#m)'/>");
+    }
+
+    static @NotNull String textDocument(int lines) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append("<text x='10' y='").append(20 + i * 20).append("' font-size='16'")
+                    .append(i % 3 == 0 ? " letter-spacing='1'" : "")
+                    .append(">The quick brown fox <tspan font-weight='bold' dx='2'>jumps</tspan>")
+                    .append(" over the lazy dog ").append(i).append("</text>");
+        }
+        return svg(600, 20 + lines * 20, content.toString());
+    }
+
+    private static @NotNull String svg(int width, int height, @NotNull String content) {
+        return "<svg xmlns='http://www.w3.org/2000/svg' width='" + width + "' height='" + height + "'>"
+                + content + "</svg>";
+    }
+}
@@ -74,6 +74,8 @@ tasks {
             workingDir = File(project.rootDir, "build/ref_test").also { it.mkdirs() }
         }
         environment("RESVG_TEST_SUITE_PATH" to File(project.rootDir, "resvg-test-suite/tests").absolutePath)
+        // Lets SizeOf measure the internals of the JDK collections, which the memory tests compare against.
+        jvmArgs("--add-opens", "java.base/java.util=ALL-UNNAMED")
         useJUnitPlatform()
         testLogging {
             showStandardStreams = true
@@ -24,6 +24,10 @@ package com.github.weisj.jsvg;
 import java.awt.*;
 import java.awt.geom.Area;
 import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 import javax.swing.*;
 
@@ -45,14 +49,23 @@ import com.github.weisj.jsvg.renderer.impl.*;
 import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.renderer.output.impl.CurrentColorProvider;
+import com.github.weisj.jsvg.renderer.output.impl.RenderPlan;
 import com.github.weisj.jsvg.renderer.output.impl.ShapeOutput;
 import com.github.weisj.jsvg.view.FloatSize;
 import com.github.weisj.jsvg.view.ViewBox;
 
+/**
+ * A parsed svg document.
+ * <p>
+ * A document may be rendered from multiple threads concurrently. All state needed during rendering is confined to
+ * the individual render call, and values cached on the nodes are safely published. Modifying the document while it
+ * is being rendered is not supported.
+ */
 public final class SVGDocument {
     private static final boolean DEBUG = false;
     private final @NotNull SVG root;
     private final @NotNull FloatSize size;
+    private volatile @Nullable HitTestCache hitTestCache;
 
     static {
         DocumentConstructorAccessor.setDocumentConstructor(SVGDocument::new);
@@ -86,6 +99,66 @@ public final class SVGDocument {
         return accumulator;
     }
 
+    /**
+     * Finds the elements painted at the given point.
+     *
+     * @param point the point in the coordinate system the document is rendered into.
+     * @param viewBox the viewport of the document or null to use the size of the document.
+     * @return the ids of the hit elements, top-most first.
+     * @see #hitTest(Point2D, ViewBox, AnimationState)
+     */
+    public @NotNull List<@NotNull String> hitTest(@NotNull Point2D point, @Nullable ViewBox viewBox) {
+        return hitTest(point, viewBox, null);
+    }
+
+    /**
+     * Finds the elements painted at the given point. Painted shapes count as hit regardless of their paint or
+     * opacity. Clip paths are respected, masks and filters are not.
+     * <p>
+     * The shapes of the document are indexed on the first call and the index is reused as long as the viewport
+     * doesn't change. For a different animation state only the shapes of animated elements are indexed again.
+     *
+     * @param point the point in the coordinate system the document is rendered into.
+     * @param viewBox the viewport of the document or null to use the size of the document.
+     * @param animationState the animation state or null if the document isn't animated.
+     * @return the ids of the hit elements. Shapes painted last come first. For every shape the ids of the
+     *         elements it was painted by follow from the innermost to the outermost element, including the use
+     *         elements instantiating it. Each id is only reported once.
+     */
+    public @NotNull List<@NotNull String> hitTest(@NotNull Point2D point, @Nullable ViewBox viewBox,
+            @Nullable AnimationState animationState) {
+        AnimationState state = animationState != null ? animationState : AnimationState.NO_ANIMATION;
+        Consumer<Output> renderer = output -> renderWithPlatform(NullPlatformSupport.INSTANCE, output, viewBox, state);
+
+        HitTestCache cache = hitTestCache;
+        HitTestIndex index = cache != null && Objects.equals(cache.viewBox, viewBox)
+                ? cache.index.forAnimationState(state, renderer)
+                : HitTestIndex.create(root.animatedNodes(), state, renderer);
+        if (cache == null || cache.index != index) {
+            hitTestCache = new HitTestCache(viewBox != null ? new ViewBox(viewBox) : null, index);
+        }
+        return index.hitTest(point);
+    }
+
+    /**
+     * Compiles the document into a {@link RenderPlan}, which can be drawn repeatedly without resolving the node tree
+     * again. Only documents without animations can be compiled.
+     * <p>
+     * Lengths relative to the font size are resolved using the font size of the given platform support, and
+     * {@code currentColor} resolves to its default. A new plan has to be compiled if these change.
+     *
+     * @param platformSupport the platform support.
+     * @param viewBox the viewport of the document or null to use the size of the document.
+     * @param renderingHints the rendering hints of the outputs the plan is drawn on or null to use the defaults of
+     *        JSVG.
+     * @return the render plan or null if the document is animated.
+     */
+    public @Nullable RenderPlan compile(@NotNull PlatformSupport platformSupport, @Nullable ViewBox viewBox,
+            @Nullable RenderingHints renderingHints) {
+        if (isAnimated()) return null;
+        return RenderPlan.compile(output -> renderWithPlatform(platformSupport, output, viewBox), renderingHints);
+    }
+
     public boolean isAnimated() {
         return animation().duration() > 0;
     }
@@ -177,4 +250,13 @@ public final class SVGDocument {
         return RenderContextAccessor.instance().createInitial(currentColor, platformSupport, initialMeasure);
     }
 
+    private static final class HitTestCache {
+        private final @Nullable ViewBox viewBox;
+        private final @NotNull HitTestIndex index;
+
+        private HitTestCache(@Nullable ViewBox viewBox, @NotNull HitTestIndex index) {
+            this.viewBox = viewBox;
+            this.index = index;
+        }
+    }
 }
@@ -43,8 +43,7 @@ public final class AnimatedColor implements SVGPaint, ColorValue {
     private final @NotNull ColorValue initial;
     private final @NotNull RGBColor @NotNull [] values;
 
-    private Color current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable CurrentColor current;
 
     public AnimatedColor(@NotNull Track track, @NotNull ColorValue initial, @NotNull RGBColor @NotNull [] values) {
         this.track = track;
@@ -78,10 +77,12 @@ public final class AnimatedColor implements SVGPaint, ColorValue {
 
     private @NotNull Color current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(context, timestamp);
-        return current;
+        // The timestamp and color are published together as the value may be queried by concurrent renders.
+        CurrentColor cached = current;
+        if (cached != null && cached.timestamp == timestamp) return cached.color;
+        Color color = computeCurrent(context, timestamp);
+        current = new CurrentColor(timestamp, color);
+        return color;
     }
 
     private @NotNull Color computeCurrent(@NotNull MeasureContext context, long timestamp) {
@@ -119,4 +120,14 @@ public final class AnimatedColor implements SVGPaint, ColorValue {
     public boolean isVisible(@NotNull RenderContext context) {
         return RGBColor.isVisible(current(context.measureContext()));
     }
+
+    private static final class CurrentColor {
+        private final long timestamp;
+        private final @NotNull Color color;
+
+        private CurrentColor(long timestamp, @NotNull Color color) {
+            this.timestamp = timestamp;
+            this.color = color;
+        }
+    }
 }
@@ -23,6 +23,7 @@ package com.github.weisj.jsvg.animation.value;
 
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.animation.Track;
 import com.github.weisj.jsvg.attributes.value.FloatListValue;
@@ -34,10 +35,7 @@ public final class AnimatedFloatList implements FloatListValue {
 
     private final @NotNull FloatListValue initial;
     private final float @NotNull [] @NotNull [] values;
-    private float[] cache;
-
-    private long timestamp = 0;
-    private Track.InterpolationProgress progressCacheKey = null;
+    private volatile @Nullable CachedValue cache;
 
     public AnimatedFloatList(@NotNull Track track, @NotNull FloatListValue initial,
             float @NotNull [] @NotNull [] values) {
@@ -51,33 +49,47 @@ public final class AnimatedFloatList implements FloatListValue {
     }
 
     public boolean isDirty(long timestamp) {
-        return this.timestamp != timestamp;
+        CachedValue cached = cache;
+        return cached == null || cached.timestamp != timestamp;
     }
 
     @Override
     public float @NotNull [] get(@NotNull MeasureContext context) {
         long ts = context.timestamp();
-        if (ts != this.timestamp) {
-            this.timestamp = ts;
-            Track.InterpolationProgress progress = track.interpolationProgress(ts, values.length);
-
-            if (progress.equals(progressCacheKey)) {
-                return cache;
-            }
-            progressCacheKey = progress;
+        CachedValue cached = cache;
+        if (cached != null && cached.timestamp == ts) return cached.value;
 
-            if (progress.isInitial()) {
-                cache = initial.get(context);
-                return cache;
-            }
+        Track.InterpolationProgress progress = track.interpolationProgress(ts, values.length);
+        if (cached != null && progress.equals(cached.progress)) {
+            cache = new CachedValue(ts, progress, cached.value);
+            return cached.value;
+        }
 
+        float[] value;
+        if (progress.isInitial()) {
+            value = initial.get(context);
+        } else {
             int index = progress.iterationIndex();
             float[] start = values[index];
             float[] end = index == values.length - 1 ? null : values[index + 1];
 
             float fraction = progress.indexProgress();
-            cache = track.floatListInterpolator().interpolate(initial.get(context), start, end, fraction, cache);
+            // Concurrent renders may still use the previous value, hence it can't be reused as the target buffer.
+            value = track.floatListInterpolator().interpolate(initial.get(context), start, end, fraction, null);
+        }
+        cache = new CachedValue(ts, progress, value);
+        return value;
+    }
+
+    private static final class CachedValue {
+        private final long timestamp;
+        private final @NotNull Track.InterpolationProgress progress;
+        private final float @NotNull [] value;
+
+        private CachedValue(long timestamp, @NotNull Track.InterpolationProgress progress, float @NotNull [] value) {
+            this.timestamp = timestamp;
+            this.progress = progress;
+            this.value = value;
         }
-        return cache;
     }
 }
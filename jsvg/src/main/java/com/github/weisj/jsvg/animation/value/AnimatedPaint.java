@@ -40,8 +40,7 @@ public class AnimatedPaint implements SVGPaint {
     private final @NotNull SVGPaint initial;
     private final @NotNull SVGPaint @NotNull [] values;
 
-    private SVGPaint current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable CurrentPaint current;
 
     public AnimatedPaint(@NotNull Track track, @NotNull SVGPaint initial, @NotNull SVGPaint @NotNull [] values) {
         this.track = track;
@@ -56,10 +55,12 @@ public class AnimatedPaint implements SVGPaint {
 
     private @NotNull SVGPaint current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(timestamp);
-        return current;
+        // The timestamp and paint are published together as the value may be queried by concurrent renders.
+        CurrentPaint cached = current;
+        if (cached != null && cached.timestamp == timestamp) return cached.paint;
+        SVGPaint paint = computeCurrent(timestamp);
+        current = new CurrentPaint(timestamp, paint);
+        return paint;
     }
 
     private @NotNull SVGPaint computeCurrent(long timestamp) {
@@ -95,4 +96,14 @@ public class AnimatedPaint implements SVGPaint {
     public boolean isVisible(@NotNull RenderContext context) {
         return current(context.measureContext()).isVisible(context);
     }
+
+    private static final class CurrentPaint {
+        private final long timestamp;
+        private final @NotNull SVGPaint paint;
+
+        private CurrentPaint(long timestamp, @NotNull SVGPaint paint) {
+            this.timestamp = timestamp;
+            this.paint = paint;
+        }
+    }
 }
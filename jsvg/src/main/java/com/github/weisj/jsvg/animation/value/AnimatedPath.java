@@ -33,7 +33,7 @@ import com.github.weisj.jsvg.util.PathUtil;
 public final class AnimatedPath implements Value<@NotNull Path2D> {
 
     private final @NotNull AnimatedFloatList list;
-    private @Nullable Path2D cache;
+    private volatile @Nullable CachedPath cache;
     private final boolean closed;
 
     public AnimatedPath(@NotNull AnimatedFloatList list, boolean closed) {
@@ -43,9 +43,22 @@ public final class AnimatedPath implements Value<@NotNull Path2D> {
 
     @Override
     public @NotNull Path2D get(@NotNull MeasureContext context) {
-        if (cache == null || list.isDirty(context.timestamp())) {
-            cache = PathUtil.setPolyLine(cache, list.get(context), closed);
+        long timestamp = context.timestamp();
+        CachedPath cached = cache;
+        if (cached != null && cached.timestamp == timestamp) return cached.path;
+        // Concurrent renders may still use the previous path, hence it can't be reset and reused.
+        Path2D path = PathUtil.setPolyLine(null, list.get(context), closed);
+        cache = new CachedPath(timestamp, path);
+        return path;
+    }
+
+    private static final class CachedPath {
+        private final long timestamp;
+        private final @NotNull Path2D path;
+
+        private CachedPath(long timestamp, @NotNull Path2D path) {
+            this.timestamp = timestamp;
+            this.path = path;
         }
-        return cache;
     }
 }
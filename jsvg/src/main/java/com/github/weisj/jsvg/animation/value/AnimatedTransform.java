@@ -25,6 +25,7 @@ import java.awt.geom.AffineTransform;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.animation.Track;
 import com.github.weisj.jsvg.attributes.transform.TransformPart;
@@ -38,8 +39,7 @@ public final class AnimatedTransform implements TransformValue {
     private final @NotNull TransformValue initial;
     private final @NotNull TransformPart @NotNull [] values;
 
-    private AffineTransform current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable CurrentTransform current;
 
     public AnimatedTransform(@NotNull Track track, @NotNull TransformValue initial,
             @NotNull TransformPart @NotNull [] values) {
@@ -59,10 +59,12 @@ public final class AnimatedTransform implements TransformValue {
 
     private @NotNull AffineTransform current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(context, timestamp);
-        return current;
+        // The timestamp and transform are published together as the value may be queried by concurrent renders.
+        CurrentTransform cached = current;
+        if (cached != null && cached.timestamp == timestamp) return cached.transform;
+        AffineTransform transform = computeCurrent(context, timestamp);
+        current = new CurrentTransform(timestamp, transform);
+        return transform;
     }
 
     private @NotNull AffineTransform computeCurrent(@NotNull MeasureContext context, long timestamp) {
@@ -88,4 +90,14 @@ public final class AnimatedTransform implements TransformValue {
     public @NotNull AffineTransform get(@NotNull MeasureContext context) {
         return current(context);
     }
+
+    private static final class CurrentTransform {
+        private final long timestamp;
+        private final @NotNull AffineTransform transform;
+
+        private CurrentTransform(long timestamp, @NotNull AffineTransform transform) {
+            this.timestamp = timestamp;
+            this.transform = transform;
+        }
+    }
 }
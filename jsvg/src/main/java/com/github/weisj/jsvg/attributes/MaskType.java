@@ -26,6 +26,7 @@ import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.util.BlittableImage;
 import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.SurfacePool;
 import com.github.weisj.jsvg.util.supplier.ImmutableSupplier;
 
 /**
@@ -57,6 +58,10 @@ public enum MaskType {
         this.bufferSurfaceSupplier = bufferSurfaceSupplier;
     }
 
+    public @NotNull SurfacePool.SurfaceType surfaceType() {
+        return this == Luminance ? SurfacePool.SurfaceType.Luminosity : SurfacePool.SurfaceType.Transparent;
+    }
+
     public @NotNull BlittableImage.BufferSurfaceSupplier bufferSurface() {
         return bufferSurfaceSupplier.get();
     }
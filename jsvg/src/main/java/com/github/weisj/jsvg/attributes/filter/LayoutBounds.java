@@ -129,14 +129,18 @@ public final class LayoutBounds {
     public @NotNull LayoutBounds translate(float dx, float dy, @NotNull FilterLayoutContext context) {
         return transform((data, flags) -> {
             FloatInsets insets = data.clipBoundsEscapeInsets;
+            // Content shifted into the clip is read from the opposite side of the clip.
             FloatInsets offsetInsets = new FloatInsets(
                     Math.max(dy, 0),
                     Math.max(dx, 0),
                     Math.max(-dy, 0),
                     Math.max(-dx, 0));
-            Rectangle2D newBounds = GeometryUtil.grow(data.bounds, offsetInsets);
+            // The new layout rect contains the shifted rect and the pixels it is read from, which lie outside
+            // the original rect if it has been clipped.
+            float h = Math.abs(dx);
+            float v = Math.abs(dy);
+            Rectangle2D newBounds = GeometryUtil.grow(data.bounds, new FloatInsets(v, h, v, h));
             Rectangle2D clipBounds = context.clipBounds();
-            // The new layout rect is the union of the original rect and the shifted rect.
             FloatInsets ins = GeometryUtil.max(GeometryUtil.overhangInsets(clipBounds, data.bounds), offsetInsets);
             return new Data(newBounds, GeometryUtil.max(insets, ins));
         });
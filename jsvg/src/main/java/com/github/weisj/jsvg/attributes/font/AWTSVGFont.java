@@ -26,7 +26,7 @@ import java.awt.font.FontRenderContext;
 import java.awt.font.GlyphMetrics;
 import java.awt.font.GlyphVector;
 import java.awt.font.LineMetrics;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,16 +39,18 @@ public final class AWTSVGFont implements SVGFont {
 
     private final @NotNull Font font;
     private final FontRenderContext frc = new FontRenderContext(null, true, true);
-    private final HashMap<String, Glyph> glyphCache;
+    private final ConcurrentHashMap<String, Glyph> glyphCache;
 
-    private @Nullable LineMetrics lineMetrics;
-    private float[] baselineOffsets;
-    private float exHeight = Length.UNSPECIFIED_RAW;
-    private float mathBaseline = Length.UNSPECIFIED_RAW;
+    // Fonts are shared through the font cache and may be queried from multiple rendering threads.
+    // The lazily computed values are idempotent, hence racing computations are harmless.
+    private volatile @Nullable LineMetrics lineMetrics;
+    private volatile float[] baselineOffsets;
+    private volatile float exHeight = Length.UNSPECIFIED_RAW;
+    private volatile float mathBaseline = Length.UNSPECIFIED_RAW;
 
     public AWTSVGFont(@NotNull Font font) {
         this.font = font;
-        this.glyphCache = new HashMap<>();
+        this.glyphCache = new ConcurrentHashMap<>();
     }
 
     public @NotNull Font font() {
@@ -60,8 +62,8 @@ public final class AWTSVGFont implements SVGFont {
         Glyph glyph = glyphCache.get(codepoint);
         if (glyph != null) return glyph;
         glyph = createGlyph(codepoint.toCharArray());
-        glyphCache.put(codepoint, glyph);
-        return glyph;
+        Glyph concurrentGlyph = glyphCache.putIfAbsent(codepoint, glyph);
+        return concurrentGlyph != null ? concurrentGlyph : glyph;
     }
 
     @Override
@@ -75,18 +77,22 @@ public final class AWTSVGFont implements SVGFont {
     }
 
     private @NotNull LineMetrics lineMetrics() {
-        if (lineMetrics == null) {
-            lineMetrics = font.getLineMetrics("Ax-", 0, 1, frc);
+        LineMetrics metrics = lineMetrics;
+        if (metrics == null) {
+            metrics = font.getLineMetrics("Ax-", 0, 1, frc);
+            lineMetrics = metrics;
         }
-        return lineMetrics;
+        return metrics;
     }
 
     @Override
     public float effectiveExHeight() {
-        if (Length.isUnspecified(exHeight)) {
-            exHeight = (float) codepointGlyph("x").glyphOutline().getBounds2D().getHeight();
+        float height = exHeight;
+        if (Length.isUnspecified(height)) {
+            height = (float) codepointGlyph("x").glyphOutline().getBounds2D().getHeight();
+            exHeight = height;
         }
-        return exHeight;
+        return height;
     }
 
     @Override
@@ -96,15 +102,21 @@ public final class AWTSVGFont implements SVGFont {
 
     @Override
     public float mathematicalBaseline() {
-        if (Length.isUnspecified(mathBaseline)) {
-            mathBaseline = -effectiveExHeight() / 2;
+        float baseline = mathBaseline;
+        if (Length.isUnspecified(baseline)) {
+            baseline = -effectiveExHeight() / 2;
+            mathBaseline = baseline;
         }
-        return mathBaseline;
+        return baseline;
     }
 
     private float[] baselineOffsets() {
-        if (baselineOffsets == null) baselineOffsets = lineMetrics().getBaselineOffsets();
-        return baselineOffsets;
+        float[] offsets = baselineOffsets;
+        if (offsets == null) {
+            offsets = lineMetrics().getBaselineOffsets();
+            baselineOffsets = offsets;
+        }
+        return offsets;
     }
 
     @Override
@@ -27,6 +27,7 @@ import java.awt.geom.AffineTransform;
 import java.text.AttributedCharacterIterator;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -45,8 +46,8 @@ public final class FontResolver {
         SVGFont cachedFont = FontCache.INSTANCE.cache.get(key);
         if (cachedFont != null) return cachedFont;
         SVGFont resolvedFont = resolveWithoutCache(fontSpec, measureContext, defaultFontFamily);
-        FontCache.INSTANCE.cache.put(key, resolvedFont);
-        return resolvedFont;
+        SVGFont concurrentlyResolved = FontCache.INSTANCE.cache.putIfAbsent(key, resolvedFont);
+        return concurrentlyResolved != null ? concurrentlyResolved : resolvedFont;
     }
 
     public static @NotNull SVGFont resolveWithoutCache(@NotNull MeasurableFontSpec fontSpec,
@@ -128,7 +129,7 @@ public final class FontResolver {
     private enum FontCache {
         INSTANCE;
 
-        private final HashMap<CacheKey, SVGFont> cache = new HashMap<>();
+        private final ConcurrentHashMap<CacheKey, SVGFont> cache = new ConcurrentHashMap<>();
 
         private static final class CacheKey {
             private final @NotNull MeasurableFontSpec spec;
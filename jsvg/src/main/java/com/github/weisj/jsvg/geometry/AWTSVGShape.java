@@ -29,15 +29,15 @@ import org.jetbrains.annotations.NotNull;
 import com.github.weisj.jsvg.attributes.value.ConstantValue;
 import com.github.weisj.jsvg.attributes.value.Value;
 import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.renderer.MeasureContext;
 import com.github.weisj.jsvg.renderer.RenderContext;
 
 public class AWTSVGShape<T extends Shape> implements SVGShape {
     public static final Rectangle2D EMPTY_SHAPE = new Rectangle();
     protected final @NotNull Value<@NotNull T> shapeValue;
-    private Rectangle2D boundsCache;
-    private T shapeCache;
+    private volatile ResolvedShape<T> shapeCache;
 
-    private double pathLength;
+    private volatile double pathLength;
 
     public AWTSVGShape(@NotNull T shape) {
         this(new ConstantValue<>(shape));
@@ -54,19 +54,22 @@ public class AWTSVGShape<T extends Shape> implements SVGShape {
 
     @Override
     public @NotNull T shape(@NotNull RenderContext context, boolean validate) {
-        if (shapeCache == null || validate) {
-            shapeCache = shapeValue.get(context.measureContext());
-        }
-        return shapeCache;
+        return cachedShape(context, validate).shape();
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (boundsCache == null || validate) {
-            Shape shape = shape(context, validate);
-            boundsCache = shape.getBounds2D();
+        return cachedShape(context, validate).bounds();
+    }
+
+    private @NotNull ResolvedShape<T> cachedShape(@NotNull RenderContext context, boolean validate) {
+        MeasureContext measureContext = context.measureContext();
+        ResolvedShape<T> cached = shapeCache;
+        if (!ResolvedShape.isValid(cached, measureContext, validate)) {
+            cached = new ResolvedShape<>(measureContext, shapeValue.get(measureContext));
+            shapeCache = cached;
         }
-        return boundsCache;
+        return cached;
     }
 
     @Override
@@ -31,6 +31,10 @@ import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 
 public final class FillRuleAwareAWTSVGShape extends AWTSVGShape<Path2D> {
 
+    // The cached path is shared between renderings, so it can't be mutated to match the requested fill rule.
+    // Instead, a copy with the adjusted winding rule is cached alongside the path it has been derived from.
+    private volatile WindingRuleVariant variantCache;
+
     public FillRuleAwareAWTSVGShape(@NotNull Value<Path2D> shape) {
         super(shape);
     }
@@ -38,7 +42,27 @@ public final class FillRuleAwareAWTSVGShape extends AWTSVGShape<Path2D> {
     @Override
     public @NotNull Path2D shape(@NotNull RenderContext context, boolean validate) {
         Path2D shape = super.shape(context, validate);
-        shape.setWindingRule(RenderContextAccessor.instance().fillRule(context).awtWindingRule);
-        return shape;
+        int windingRule = RenderContextAccessor.instance().fillRule(context).awtWindingRule;
+        if (shape.getWindingRule() == windingRule) return shape;
+        WindingRuleVariant variant = variantCache;
+        if (variant == null || variant.source != shape || variant.path.getWindingRule() != windingRule) {
+            Path2D path = shape instanceof Path2D.Double
+                    ? new Path2D.Double(shape)
+                    : new Path2D.Float(shape);
+            path.setWindingRule(windingRule);
+            variant = new WindingRuleVariant(shape, path);
+            variantCache = variant;
+        }
+        return variant.path;
+    }
+
+    private static final class WindingRuleVariant {
+        private final @NotNull Path2D source;
+        private final @NotNull Path2D path;
+
+        private WindingRuleVariant(@NotNull Path2D source, @NotNull Path2D path) {
+            this.source = source;
+            this.path = path;
+        }
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.geometry;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.MeasureContext;
+
+/**
+ * A shape resolved for a measure context. Shapes are shared between all renderings of a document, which may happen
+ * concurrently with different measure contexts. Hence, resolved shapes are published as immutable snapshots, which
+ * keep the shape and its bounds together, and are never mutated in place.
+ *
+ * @param <T> the type of the shape.
+ */
+final class ResolvedShape<T extends Shape> {
+    private final @NotNull MeasureContext measureContext;
+    private final @NotNull T shape;
+    // Derived from the shape. Racing computations yield the same value.
+    private volatile Rectangle2D bounds;
+
+    ResolvedShape(@NotNull MeasureContext measureContext, @NotNull T shape) {
+        this.measureContext = measureContext;
+        this.shape = shape;
+    }
+
+    /**
+     * Returns whether the resolved shape can be used for the given measure context.
+     *
+     * @param resolved the resolved shape or null if none has been resolved yet.
+     * @param measureContext the measure context.
+     * @param validate whether the shape has to match the measure context. Otherwise, any resolved shape is used.
+     * @return true if the shape doesn't have to be resolved again.
+     */
+    static boolean isValid(@Nullable ResolvedShape<?> resolved, @NotNull MeasureContext measureContext,
+            boolean validate) {
+        return resolved != null && (!validate || resolved.measureContext.equals(measureContext));
+    }
+
+    @NotNull
+    T shape() {
+        return shape;
+    }
+
+    @NotNull
+    Rectangle2D bounds() {
+        Rectangle2D b = bounds;
+        if (b == null) {
+            b = shape.getBounds2D();
+            bounds = b;
+        }
+        return b;
+    }
+}
@@ -33,7 +33,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGCircle implements SVGShape {
 
-    private final @NotNull Ellipse2D.Float circle = new Ellipse2D.Float();
+    private volatile ResolvedShape<Ellipse2D> resolvedShape;
     private final @NotNull LengthValue cx;
     private final @NotNull LengthValue cy;
     private final @NotNull LengthValue r;
@@ -44,23 +44,28 @@ public final class SVGCircle implements SVGShape {
         this.r = r;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull ResolvedShape<Ellipse2D> resolveShape(@NotNull RenderContext context, boolean validate) {
+        MeasureContext measureContext = context.measureContext();
+        ResolvedShape<Ellipse2D> resolved = resolvedShape;
+        if (ResolvedShape.isValid(resolved, measureContext, validate)) return resolved;
+        Ellipse2D.Float circle = new Ellipse2D.Float();
         float x = cx.resolve(measureContext);
         float y = cy.resolve(measureContext);
         float rr = r.resolve(measureContext);
         circle.setFrame(x - rr, y - rr, 2 * rr, 2 * rr);
+        resolved = new ResolvedShape<>(measureContext, circle);
+        resolvedShape = resolved;
+        return resolved;
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return circle;
+        return resolveShape(context, validate).shape();
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return circle.getBounds2D();
+        return resolveShape(context, validate).bounds();
     }
 
     @Override
@@ -33,7 +33,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGEllipse implements SVGShape {
 
-    private final @NotNull Ellipse2D.Float ellipse = new Ellipse2D.Float();
+    private volatile ResolvedShape<Ellipse2D> resolvedShape;
     private final @NotNull LengthValue cx;
     private final @NotNull LengthValue cy;
     private final @NotNull LengthValue rx;
@@ -47,24 +47,29 @@ public final class SVGEllipse implements SVGShape {
         this.ry = ry;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull ResolvedShape<Ellipse2D> resolveShape(@NotNull RenderContext context, boolean validate) {
+        MeasureContext measureContext = context.measureContext();
+        ResolvedShape<Ellipse2D> resolved = resolvedShape;
+        if (ResolvedShape.isValid(resolved, measureContext, validate)) return resolved;
+        Ellipse2D.Float ellipse = new Ellipse2D.Float();
         float x = cx.resolve(measureContext);
         float y = cy.resolve(measureContext);
         float rrx = rx.resolve(measureContext);
         float rry = ry.resolve(measureContext);
         ellipse.setFrame(x - rrx, y - rry, 2 * rrx, 2 * rry);
+        resolved = new ResolvedShape<>(measureContext, ellipse);
+        resolvedShape = resolved;
+        return resolved;
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return ellipse;
+        return resolveShape(context, validate).shape();
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return ellipse.getBounds2D();
+        return resolveShape(context, validate).bounds();
     }
 
     @Override
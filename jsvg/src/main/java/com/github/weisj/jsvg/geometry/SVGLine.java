@@ -34,7 +34,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGLine implements SVGShape {
 
-    private final @NotNull Line2D.Float line = new Line2D.Float();
+    private volatile ResolvedShape<Line2D> resolvedShape;
     private final LengthValue x1;
     private final LengthValue y1;
     private final LengthValue x2;
@@ -52,22 +52,27 @@ public final class SVGLine implements SVGShape {
         return false;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull ResolvedShape<Line2D> resolveShape(@NotNull RenderContext context, boolean validate) {
+        MeasureContext measureContext = context.measureContext();
+        ResolvedShape<Line2D> resolved = resolvedShape;
+        if (ResolvedShape.isValid(resolved, measureContext, validate)) return resolved;
+        Line2D.Float line = new Line2D.Float();
         line.setLine(
                 x1.resolve(measureContext), y1.resolve(measureContext),
                 x2.resolve(measureContext), y2.resolve(measureContext));
+        resolved = new ResolvedShape<>(measureContext, line);
+        resolvedShape = resolved;
+        return resolved;
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return line;
+        return resolveShape(context, validate).shape();
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return line.getBounds2D();
+        return resolveShape(context, validate).bounds();
     }
 
     @Override
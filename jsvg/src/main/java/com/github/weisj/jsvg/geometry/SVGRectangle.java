@@ -32,7 +32,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGRectangle implements SVGShape {
 
-    private final @NotNull Rectangle2D.Float rect = new Rectangle2D.Float();
+    private volatile ResolvedShape<Rectangle2D> resolvedShape;
     private final @NotNull LengthValue x;
     private final @NotNull LengthValue y;
     private final @NotNull LengthValue w;
@@ -46,24 +46,29 @@ public final class SVGRectangle implements SVGShape {
         this.h = h;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull ResolvedShape<Rectangle2D> resolveShape(@NotNull RenderContext context, boolean validate) {
+        MeasureContext measureContext = context.measureContext();
+        ResolvedShape<Rectangle2D> resolved = resolvedShape;
+        if (ResolvedShape.isValid(resolved, measureContext, validate)) return resolved;
+        Rectangle2D.Float rect = new Rectangle2D.Float();
         rect.setRect(
                 x.resolve(measureContext),
                 y.resolve(measureContext),
                 w.resolve(measureContext),
                 h.resolve(measureContext));
+        resolved = new ResolvedShape<>(measureContext, rect);
+        resolvedShape = resolved;
+        return resolved;
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect;
+        return resolveShape(context, validate).shape();
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect;
+        return resolveShape(context, validate).shape();
     }
 
     @Override
@@ -33,7 +33,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGRoundRectangle implements SVGShape {
 
-    private final @NotNull RoundRectangle2D.Float rect = new RoundRectangle2D.Float();
+    private volatile ResolvedShape<RoundRectangle2D> resolvedShape;
     private final @NotNull LengthValue x;
     private final @NotNull LengthValue y;
     private final @NotNull LengthValue w;
@@ -52,7 +52,11 @@ public final class SVGRoundRectangle implements SVGShape {
         this.ry = ry;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull ResolvedShape<RoundRectangle2D> resolveShape(@NotNull RenderContext context, boolean validate) {
+        MeasureContext measureContext = context.measureContext();
+        ResolvedShape<RoundRectangle2D> resolved = resolvedShape;
+        if (ResolvedShape.isValid(resolved, measureContext, validate)) return resolved;
+        RoundRectangle2D.Float rect = new RoundRectangle2D.Float();
         rect.setRoundRect(
                 x.resolve(measureContext),
                 y.resolve(measureContext),
@@ -60,18 +64,19 @@ public final class SVGRoundRectangle implements SVGShape {
                 h.resolve(measureContext),
                 Math.max(0, rx.resolve(measureContext) * 2),
                 Math.max(0, ry.resolve(measureContext) * 2));
+        resolved = new ResolvedShape<>(measureContext, rect);
+        resolvedShape = resolved;
+        return resolved;
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect;
+        return resolveShape(context, validate).shape();
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect.getBounds2D();
+        return resolveShape(context, validate).bounds();
     }
 
     @Override
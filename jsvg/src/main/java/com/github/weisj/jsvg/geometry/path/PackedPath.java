@@ -0,0 +1,349 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.geometry.path;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Path data stored as a sequence of command opcodes and a flat buffer of their coordinates.
+ * <p>
+ * This is the result of {@link PathParser#parsePackedPath()}. Compared to an array of {@link PathCommand}s it
+ * needs no object per segment and can be appended to a {@link Path2D} directly. Arc flags are stored as
+ * {@code 0} or {@code 1} in the coordinate buffer.
+ *
+ * @author Jannis Weis
+ */
+public final class PackedPath {
+    private static final byte[] EMPTY_COMMANDS = new byte[0];
+    private static final float[] EMPTY_COORDINATES = new float[0];
+
+    private byte[] commands = EMPTY_COMMANDS;
+    float[] coordinates = EMPTY_COORDINATES;
+    private int commandCount;
+    private int coordinateCount;
+    private int nodeCount = 2;
+
+    PackedPath() {}
+
+    /**
+     * The number of coordinates the given command takes, where arc flags are counted as coordinates.
+     *
+     * @param command the command character.
+     * @return the number of coordinates or -1 if the command is not a path command.
+     */
+    static int arity(char command) {
+        switch (command) {
+            case 'M':
+            case 'm':
+            case 'L':
+            case 'l':
+            case 'T':
+            case 't':
+                return 2;
+            case 'H':
+            case 'h':
+            case 'V':
+            case 'v':
+                return 1;
+            case 'Q':
+            case 'q':
+            case 'S':
+            case 's':
+                return 4;
+            case 'C':
+            case 'c':
+                return 6;
+            case 'A':
+            case 'a':
+                return 7;
+            case 'Z':
+            case 'z':
+                return 0;
+            default:
+                return -1;
+        }
+    }
+
+    private static int nodeCount(char command) {
+        switch (command) {
+            case 'Q':
+            case 'q':
+            case 'T':
+            case 't':
+                return 4;
+            case 'C':
+            case 'c':
+            case 'S':
+            case 's':
+            case 'A':
+            case 'a':
+                return 6;
+            case 'Z':
+            case 'z':
+                return 1;
+            default:
+                return 2;
+        }
+    }
+
+    /**
+     * Makes room for the coordinates of the next command. The coordinates have to be written to
+     * {@link #coordinates} starting at the returned index before calling {@link #addCommand(char, int)}.
+     *
+     * @param arity the number of coordinates of the command.
+     * @return the index of the first coordinate.
+     */
+    int reserveCoordinates(int arity) {
+        int required = coordinateCount + arity;
+        if (required > coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, Math.max(required, 2 * coordinates.length + 16));
+        }
+        return coordinateCount;
+    }
+
+    void addCommand(char command, int arity) {
+        if (commandCount == commands.length) {
+            commands = Arrays.copyOf(commands, 2 * commands.length + 8);
+        }
+        commands[commandCount++] = (byte) command;
+        coordinateCount += arity;
+        nodeCount += nodeCount(command) - 1;
+    }
+
+    public boolean isEmpty() {
+        return commandCount == 0;
+    }
+
+    public int commandCount() {
+        return commandCount;
+    }
+
+    /**
+     * The number of points needed to store this path in a {@link Path2D}.
+     *
+     * @return the node count.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public @NotNull Path2D.Float toPath(int windingRule) {
+        Path2D.Float path = new Path2D.Float(windingRule, nodeCount);
+        appendTo(path);
+        return path;
+    }
+
+    /**
+     * Appends the segments to the given path. This produces the same geometry as calling
+     * {@link PathCommand#appendPath(Path2D, BuildHistory)} for each of the commands returned by
+     * {@link #toCommands()}.
+     *
+     * @param path the path to append to.
+     */
+    public void appendTo(@NotNull Path2D path) {
+        float[] c = coordinates;
+        int ci = 0;
+        float startX = 0;
+        float startY = 0;
+        float lastX = 0;
+        float lastY = 0;
+        float cubicKnotX = 0;
+        float cubicKnotY = 0;
+        float quadKnotX = 0;
+        float quadKnotY = 0;
+        for (int i = 0; i < commandCount; i++) {
+            char command = (char) commands[i];
+            boolean relative = Character.isLowerCase(command);
+            float offsetX = relative ? lastX : 0f;
+            float offsetY = relative ? lastY : 0f;
+            switch (command) {
+                case 'M':
+                case 'm':
+                    lastX = c[ci] + offsetX;
+                    lastY = c[ci + 1] + offsetY;
+                    path.moveTo(lastX, lastY);
+                    startX = lastX;
+                    startY = lastY;
+                    quadKnotX = cubicKnotX = lastX;
+                    quadKnotY = cubicKnotY = lastY;
+                    break;
+                case 'L':
+                case 'l':
+                    lastX = c[ci] + offsetX;
+                    lastY = c[ci + 1] + offsetY;
+                    path.lineTo(lastX, lastY);
+                    quadKnotX = cubicKnotX = lastX;
+                    quadKnotY = cubicKnotY = lastY;
+                    break;
+                case 'H':
+                case 'h':
+                    lastX = c[ci] + offsetX;
+                    path.lineTo(lastX, lastY);
+                    quadKnotX = cubicKnotX = lastX;
+                    quadKnotY = cubicKnotY = lastY;
+                    break;
+                case 'V':
+                case 'v':
+                    lastY = c[ci] + offsetY;
+                    path.lineTo(lastX, lastY);
+                    quadKnotX = cubicKnotX = lastX;
+                    quadKnotY = cubicKnotY = lastY;
+                    break;
+                case 'Q':
+                case 'q':
+                    quadKnotX = c[ci] + offsetX;
+                    quadKnotY = c[ci + 1] + offsetY;
+                    lastX = c[ci + 2] + offsetX;
+                    lastY = c[ci + 3] + offsetY;
+                    path.quadTo(quadKnotX, quadKnotY, lastX, lastY);
+                    cubicKnotX = lastX;
+                    cubicKnotY = lastY;
+                    break;
+                case 'T':
+                case 't':
+                    quadKnotX = lastX * 2f - quadKnotX;
+                    quadKnotY = lastY * 2f - quadKnotY;
+                    lastX = c[ci] + offsetX;
+                    lastY = c[ci + 1] + offsetY;
+                    path.quadTo(quadKnotX, quadKnotY, lastX, lastY);
+                    cubicKnotX = lastX;
+                    cubicKnotY = lastY;
+                    break;
+                case 'C':
+                case 'c': {
+                    float k1x = c[ci] + offsetX;
+                    float k1y = c[ci + 1] + offsetY;
+                    cubicKnotX = c[ci + 2] + offsetX;
+                    cubicKnotY = c[ci + 3] + offsetY;
+                    lastX = c[ci + 4] + offsetX;
+                    lastY = c[ci + 5] + offsetY;
+                    path.curveTo(k1x, k1y, cubicKnotX, cubicKnotY, lastX, lastY);
+                    quadKnotX = lastX;
+                    quadKnotY = lastY;
+                    break;
+                }
+                case 'S':
+                case 's': {
+                    float k1x = lastX * 2f - cubicKnotX;
+                    float k1y = lastY * 2f - cubicKnotY;
+                    cubicKnotX = c[ci] + offsetX;
+                    cubicKnotY = c[ci + 1] + offsetY;
+                    lastX = c[ci + 2] + offsetX;
+                    lastY = c[ci + 3] + offsetY;
+                    path.curveTo(k1x, k1y, cubicKnotX, cubicKnotY, lastX, lastY);
+                    quadKnotX = lastX;
+                    quadKnotY = lastY;
+                    break;
+                }
+                case 'A':
+                case 'a': {
+                    Arc.arcTo(path, c[ci], c[ci + 1], c[ci + 2], c[ci + 3] != 0, c[ci + 4] != 0,
+                            c[ci + 5] + offsetX, c[ci + 6] + offsetY, lastX, lastY);
+                    // The end point of the approximating curves may differ slightly from the requested one.
+                    Point2D current = path.getCurrentPoint();
+                    lastX = (float) current.getX();
+                    lastY = (float) current.getY();
+                    quadKnotX = cubicKnotX = lastX;
+                    quadKnotY = cubicKnotY = lastY;
+                    break;
+                }
+                case 'Z':
+                case 'z':
+                    path.closePath();
+                    lastX = startX;
+                    lastY = startY;
+                    quadKnotX = cubicKnotX = lastX;
+                    quadKnotY = cubicKnotY = lastY;
+                    break;
+                default:
+                    throw new IllegalStateException("Invalid path element " + command);
+            }
+            ci += arity(command);
+        }
+    }
+
+    /**
+     * Creates the {@link PathCommand} objects for this path.
+     *
+     * @return the path commands.
+     */
+    public @NotNull PathCommand @NotNull [] toCommands() {
+        PathCommand[] result = new PathCommand[commandCount];
+        float[] c = coordinates;
+        int ci = 0;
+        for (int i = 0; i < commandCount; i++) {
+            char command = (char) commands[i];
+            boolean relative = Character.isLowerCase(command);
+            switch (command) {
+                case 'M':
+                case 'm':
+                    result[i] = new MoveTo(relative, c[ci], c[ci + 1]);
+                    break;
+                case 'L':
+                case 'l':
+                    result[i] = new LineTo(relative, c[ci], c[ci + 1]);
+                    break;
+                case 'H':
+                case 'h':
+                    result[i] = new Horizontal(relative, c[ci]);
+                    break;
+                case 'V':
+                case 'v':
+                    result[i] = new Vertical(relative, c[ci]);
+                    break;
+                case 'Q':
+                case 'q':
+                    result[i] = new Quadratic(relative, c[ci], c[ci + 1], c[ci + 2], c[ci + 3]);
+                    break;
+                case 'T':
+                case 't':
+                    result[i] = new QuadraticSmooth(relative, c[ci], c[ci + 1]);
+                    break;
+                case 'C':
+                case 'c':
+                    result[i] = new Cubic(relative, c[ci], c[ci + 1], c[ci + 2], c[ci + 3], c[ci + 4], c[ci + 5]);
+                    break;
+                case 'S':
+                case 's':
+                    result[i] = new CubicSmooth(relative, c[ci], c[ci + 1], c[ci + 2], c[ci + 3]);
+                    break;
+                case 'A':
+                case 'a':
+                    result[i] = new Arc(relative, c[ci], c[ci + 1], c[ci + 2], c[ci + 3] != 0, c[ci + 4] != 0,
+                            c[ci + 5], c[ci + 6]);
+                    break;
+                case 'Z':
+                case 'z':
+                    result[i] = new Terminal();
+                    break;
+                default:
+                    throw new IllegalStateException("Invalid path element " + command);
+            }
+            ci += arity(command);
+        }
+        return result;
+    }
+}
@@ -21,9 +21,6 @@
  */
 package com.github.weisj.jsvg.geometry.path;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.logging.Logger;
@@ -93,17 +90,27 @@ public final class PathParser extends ParserBase {
     }
 
     public PathCommand[] parsePathCommand() {
-        if ("none".equals(input)) return new PathCommand[0];
-        List<PathCommand> commands = new ArrayList<>();
+        return parsePackedPath().toCommands();
+    }
+
+    /**
+     * Parses the path data into opcodes and a packed coordinate buffer without creating an object per segment.
+     * If the data is malformed, the segments up to the erroneous one are returned.
+     *
+     * @return the parsed path.
+     */
+    public @NotNull PackedPath parsePackedPath() {
+        PackedPath path = new PackedPath();
+        if ("none".equals(input)) return path;
         try {
-            parsePathCommandInto(commands);
+            parsePackedPathInto(path);
         } catch (Exception e) {
             LOGGER.log(Level.INFO, "Error parsing path command: " + e.getMessage());
         }
-        return commands.toArray(new PathCommand[0]);
+        return path;
     }
 
-    private void parsePathCommandInto(List<PathCommand> commands) {
+    private void parsePackedPathInto(@NotNull PackedPath path) {
         currentCommand = 'Z';
         while (hasNext()) {
             char peekChar = peek();
@@ -113,86 +120,38 @@ public final class PathParser extends ParserBase {
             }
             consumeWhiteSpaceOrSeparator();
 
-            if (currentCommand != 'M' && currentCommand != 'm' && commands.isEmpty()) {
+            if (currentCommand != 'M' && currentCommand != 'm' && path.isEmpty()) {
                 throw new IllegalArgumentException("Path must start with a move command " + currentLocation());
             }
 
-            PathCommand cmd;
-            switch (currentCommand) {
-                case 'M':
-                    cmd = new MoveTo(false, nextFloat(), nextFloat());
-                    currentCommand = 'L';
-                    break;
-                case 'm':
-                    cmd = new MoveTo(true, nextFloat(), nextFloat());
-                    currentCommand = 'l';
-                    break;
-                case 'L':
-                    cmd = new LineTo(false, nextFloat(), nextFloat());
-                    break;
-                case 'l':
-                    cmd = new LineTo(true, nextFloat(), nextFloat());
-                    break;
-                case 'H':
-                    cmd = new Horizontal(false, nextFloat());
-                    break;
-                case 'h':
-                    cmd = new Horizontal(true, nextFloat());
-                    break;
-                case 'V':
-                    cmd = new Vertical(false, nextFloat());
-                    break;
-                case 'v':
-                    cmd = new Vertical(true, nextFloat());
-                    break;
-                case 'A':
-                    cmd = new Arc(false, nextFloat(), nextFloat(), nextFloat(),
-                            nextFlag(), nextFlag(), nextFloat(), nextFloat());
-                    break;
-                case 'a':
-                    cmd = new Arc(true, nextFloat(), nextFloat(), nextFloat(),
-                            nextFlag(), nextFlag(), nextFloat(), nextFloat());
-                    break;
-                case 'Q':
-                    cmd = new Quadratic(false, nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat());
-                    break;
-                case 'q':
-                    cmd = new Quadratic(true, nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat());
-                    break;
-                case 'T':
-                    cmd = new QuadraticSmooth(false, nextFloat(), nextFloat());
-                    break;
-                case 't':
-                    cmd = new QuadraticSmooth(true, nextFloat(), nextFloat());
-                    break;
-                case 'C':
-                    cmd = new Cubic(false, nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat());
-                    break;
-                case 'c':
-                    cmd = new Cubic(true, nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat());
-                    break;
-                case 'S':
-                    cmd = new CubicSmooth(false, nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat());
-                    break;
-                case 's':
-                    cmd = new CubicSmooth(true, nextFloat(), nextFloat(),
-                            nextFloat(), nextFloat());
-                    break;
-                case 'Z':
-                case 'z':
-                    cmd = new Terminal();
-                    break;
-                default:
-                    throw new IllegalArgumentException("Invalid path element " + currentCommand + currentLocation());
+            char command = currentCommand;
+            int arity = PackedPath.arity(command);
+            if (arity < 0) {
+                throw new IllegalArgumentException("Invalid path element " + currentCommand + currentLocation());
+            }
+            // Coordinates are only committed by addCommand, hence a partially parsed segment is dropped on error.
+            int index = path.reserveCoordinates(arity);
+            float[] coordinates = path.coordinates;
+            if (command == 'A' || command == 'a') {
+                coordinates[index] = nextFloat();
+                coordinates[index + 1] = nextFloat();
+                coordinates[index + 2] = nextFloat();
+                coordinates[index + 3] = nextFlag() ? 1 : 0;
+                coordinates[index + 4] = nextFlag() ? 1 : 0;
+                coordinates[index + 5] = nextFloat();
+                coordinates[index + 6] = nextFloat();
+            } else {
+                for (int i = 0; i < arity; i++) {
+                    coordinates[index + i] = nextFloat();
+                }
+            }
+            path.addCommand(command, arity);
+
+            if (command == 'M') {
+                currentCommand = 'L';
+            } else if (command == 'm') {
+                currentCommand = 'l';
             }
-            commands.add(cmd);
         }
     }
 }
@@ -42,8 +42,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.impl.ElementBounds;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.util.BlittableImage;
-import com.github.weisj.jsvg.util.CachedSurfaceSupplier;
-import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.SurfacePool;
 import com.github.weisj.jsvg.util.ShapeUtil;
 
 @ElementCategories({/* None */})
@@ -55,8 +54,6 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
     private static final boolean DEBUG = false;
     public static final String TAG = "clippath";
 
-    private final CachedSurfaceSupplier surfaceSupplier =
-            new CachedSurfaceSupplier(ImageUtil::createLuminosityBuffer);
     private boolean isValid;
 
     private UnitType clipPathUnits;
@@ -107,15 +104,14 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
         Rectangle2D transformedClipBounds = GeometryUtil.containingBoundsAfterTransform(
                 clipPathUnits.viewTransform(elementBounds.boundingBox()), clipShape.getBounds2D());
 
-        boolean useCache = surfaceSupplier.useCache(output, context);
         BlittableImage blitImage = BlittableImage.create(
-                surfaceSupplier.surfaceSupplier(useCache), context, output.clipBounds(),
+                SurfacePool.SurfaceType.Luminosity, SurfacePool.isPoolingEnabled(output), context,
+                output.clipBounds(),
                 transformedClipBounds.createIntersection(elementBounds.geometryBox()),
                 elementBounds.boundingBox(), clipPathUnits);
 
         if (blitImage == null) return PaintParser.DEFAULT_COLOR;
 
-        blitImage.clearBackground(Color.BLACK);
         blitImage.render(output, g -> {
             g.setColor(Color.WHITE);
             g.fill(clipShape);
@@ -127,7 +123,7 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
 
         Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
         return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
-                surfaceSupplier.resourceCleaner(output, useCache), MaskType.Luminance);
+                blitImage.releaseWith(output), MaskType.Luminance);
     }
 
     public void applyClip(@NotNull Output output, @NotNull RenderContext context,
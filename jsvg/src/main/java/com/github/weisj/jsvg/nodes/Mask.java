@@ -47,7 +47,7 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.impl.ElementBounds;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.util.BlittableImage;
-import com.github.weisj.jsvg.util.CachedSurfaceSupplier;
+import com.github.weisj.jsvg.util.SurfacePool;
 
 @ElementCategories(Category.Container)
 @PermittedContent(
@@ -63,7 +63,6 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
     private static final boolean DEBUG = false;
     public static final String TAG = "mask";
 
-    private CachedSurfaceSupplier surfaceSupplier;
     private Length x;
     private Length y;
     private Length width;
@@ -84,7 +83,6 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
         maskContentUnits = attributeNode.getEnum("maskContentUnits", UnitType.UserSpaceOnUse);
         maskUnits = attributeNode.getEnum("maskUnits", UnitType.ObjectBoundingBox);
         maskType = attributeNode.getEnum("mask-type", MaskType.Luminance);
-        surfaceSupplier = new CachedSurfaceSupplier(maskType.bufferSurface());
 
         x = attributeNode.getLength("x", PercentageDimension.WIDTH, Unit.PERCENTAGE_WIDTH.valueOf(-10))
                 .coercePercentageToCorrectUnit(maskUnits, PercentageDimension.WIDTH);
@@ -101,22 +99,13 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
         Rectangle2D.Double maskBounds = maskUnits.computeViewBounds(
                 context.measureContext(), elementBounds.boundingBox(), x, y, width, height);
 
-        boolean useCache = surfaceSupplier.useCache(output, context);
         BlittableImage blitImage = BlittableImage.create(
-                surfaceSupplier.surfaceSupplier(useCache), context, output.clipBounds(),
+                maskType.surfaceType(), SurfacePool.isPoolingEnabled(output), context, output.clipBounds(),
                 maskBounds.createIntersection(elementBounds.geometryBox()), elementBounds.boundingBox(),
                 maskContentUnits);
 
         if (blitImage == null) return PaintParser.DEFAULT_COLOR;
 
-        if (maskType == MaskType.Luminance) {
-            blitImage.clearBackground(Color.BLACK);
-        } else {
-            Graphics2D g = blitImage.image().createGraphics();
-            g.setComposite(AlphaComposite.Clear);
-            g.fillRect(0, 0, blitImage.image().getWidth(), blitImage.image().getHeight());
-            g.dispose();
-        }
         blitImage.renderNode(output, this, this);
 
         if (DEBUG) {
@@ -125,7 +114,7 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
 
         Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
         return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
-                surfaceSupplier.resourceCleaner(output, useCache), maskType);
+                blitImage.releaseWith(output), maskType);
     }
 
     @Override
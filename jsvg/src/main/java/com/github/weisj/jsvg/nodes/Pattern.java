@@ -42,6 +42,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.nodes.text.Text;
 import com.github.weisj.jsvg.paint.SVGPaint;
+import com.github.weisj.jsvg.paint.impl.PooledPaint;
 import com.github.weisj.jsvg.paint.impl.TransformedPaint;
 import com.github.weisj.jsvg.parser.PaintParser;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
@@ -50,7 +51,8 @@ import com.github.weisj.jsvg.renderer.MeasureContext;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.util.BlittableImage;
-import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.ResourceCleaner;
+import com.github.weisj.jsvg.util.SurfacePool;
 import com.github.weisj.jsvg.view.FloatSize;
 
 @ElementCategories(Category.Container)
@@ -171,7 +173,7 @@ public final class Pattern extends BaseInnerViewContainer implements SVGPaint, S
 
         // TODO: With overflow = visible this does not result in the correct behaviour
         BlittableImage blittableImage = BlittableImage.create(
-                ImageUtil::createCompatibleTransparentImage, context, null,
+                SurfacePool.SurfaceType.Transparent, SurfacePool.isPoolingEnabled(output), context, null,
                 patternBounds, bounds, patternContentUnits);
 
         if (blittableImage == null) return PaintParser.DEFAULT_COLOR;
@@ -184,10 +186,12 @@ public final class Pattern extends BaseInnerViewContainer implements SVGPaint, S
         });
 
         // Fixme: When patternTransform != null antialiasing is broken
-        return patternTransform != null
+        Paint paint = patternTransform != null
                 ? new TransformedPaint(new TexturePaint(blittableImage.image(), patternBounds),
                         patternTransform.get(measure))
                 : new TexturePaint(blittableImage.image(), patternBounds);
+        ResourceCleaner cleaner = blittableImage.releaseWith(output);
+        return cleaner != null ? new PooledPaint(paint, cleaner) : paint;
     }
 
     @Override
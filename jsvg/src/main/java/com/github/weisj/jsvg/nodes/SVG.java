@@ -23,7 +23,9 @@ package com.github.weisj.jsvg.nodes;
 
 import java.awt.*;
 import java.awt.geom.Point2D;
+import java.util.Set;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -65,6 +67,7 @@ public final class SVG extends CommonInnerViewContainer {
 
     private boolean isTopLevel;
     private AnimationPeriod animationPeriod;
+    private Set<@NotNull SVGNode> animatedNodes;
 
     @Override
     public @NotNull String tagName() {
@@ -79,11 +82,22 @@ public final class SVG extends CommonInnerViewContainer {
         return animationPeriod;
     }
 
+    /**
+     * The nodes of the document with animated attributes. Only complete for the top level svg element.
+     *
+     * @return the animated nodes.
+     */
+    @ApiStatus.Internal
+    public @NotNull Set<@NotNull SVGNode> animatedNodes() {
+        return animatedNodes;
+    }
+
     @Override
     public void build(@NotNull AttributeNode attributeNode) {
         isTopLevel = attributeNode.element().parent() == null;
         super.build(attributeNode);
         animationPeriod = attributeNode.document().animationPeriod();
+        animatedNodes = attributeNode.document().animatedNodes();
     }
 
     @Override
@@ -26,6 +26,7 @@ import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.util.Set;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -43,6 +44,7 @@ import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.parser.impl.AttributeNode.ElementRelation;
 import com.github.weisj.jsvg.renderer.MeasureContext;
 import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.impl.CullingBounds;
 import com.github.weisj.jsvg.renderer.impl.ShapeRenderer;
 import com.github.weisj.jsvg.renderer.impl.context.PaintContext;
 import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
@@ -64,6 +66,8 @@ public abstract class ShapeNode extends RenderableSVGNode
 
     private Set<VectorEffect> vectorEffects;
 
+    private volatile @Nullable CullingBounds cullingBounds;
+
     @Override
     public @NotNull PaintContext paintContext() {
         return paintContext;
@@ -83,6 +87,20 @@ public abstract class ShapeNode extends RenderableSVGNode
         return vectorEffects;
     }
 
+    public boolean hasMarkers() {
+        return markerStart != null || markerMid != null || markerEnd != null;
+    }
+
+    @ApiStatus.Internal
+    public @Nullable CullingBounds cullingBounds() {
+        return cullingBounds;
+    }
+
+    @ApiStatus.Internal
+    public void setCullingBounds(@NotNull CullingBounds cullingBounds) {
+        this.cullingBounds = cullingBounds;
+    }
+
     @Override
     public final void build(@NotNull AttributeNode attributeNode) {
         super.build(attributeNode);
@@ -170,7 +188,7 @@ public abstract class ShapeNode extends RenderableSVGNode
     public final void render(@NotNull RenderContext context, @NotNull Output output) {
         Shape paintShape = shape.shape(context);
         @Nullable Rectangle2D bounds = shape.usesOptimizedBoundsCalculation()
-                ? shape.bounds(context, false)
+                ? shape.bounds(context, true)
                 : null;
 
         Stroke effectiveStroke = computeEffectiveStroke(context);
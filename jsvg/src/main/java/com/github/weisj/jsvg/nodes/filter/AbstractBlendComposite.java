@@ -103,8 +103,26 @@ public abstract class AbstractBlendComposite implements Composite {
         this.convertToLinearRGB = convertToLinearRGB;
     }
 
+    /**
+     * Returns a composite which blends using the given color space without modifying this instance.
+     * Composites stored on nodes are shared between concurrent renders and hence shouldn't be mutated.
+     *
+     * @param convertToLinearRGB whether to blend in linear RGB.
+     * @return a composite with the given color space conversion.
+     */
+    public @NotNull Composite withConvertToLinearRGB(boolean convertToLinearRGB) {
+        if (this.convertToLinearRGB == convertToLinearRGB) return this;
+        return (srcColorModel, dstColorModel, hints) -> createContext(srcColorModel, dstColorModel,
+                convertToLinearRGB);
+    }
+
     @Override
     public CompositeContext createContext(ColorModel srcColorModel, ColorModel dstColorModel, RenderingHints hints) {
+        return createContext(srcColorModel, dstColorModel, convertToLinearRGB);
+    }
+
+    private @NotNull CompositeContext createContext(ColorModel srcColorModel, ColorModel dstColorModel,
+            boolean convertToLinearRGB) {
         if (isColorModelInvalid(srcColorModel) || isColorModelInvalid(dstColorModel)) {
             throw new RasterFormatException("Incompatible color models");
         }
@@ -56,6 +56,11 @@ abstract class AbstractCompositeFilterPrimitive extends AbstractFilterPrimitive
         return impl.channel(inputChannel2, filterContext);
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputChannels() {
+        return new FilterChannelKey[] {impl().inputKey(), inputChannel2};
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds in = impl().layoutInput(filterLayoutContext);
@@ -66,22 +71,32 @@ abstract class AbstractCompositeFilterPrimitive extends AbstractFilterPrimitive
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         FilterPrimitiveBase impl = impl();
-        BufferedImage dst = destinationChannel(impl, filterContext).toBufferedImageNonAliased(context);
+        Channel destination = destinationChannel(impl, filterContext);
+        if (destination instanceof AlphaChannel && composite() == AlphaComposite.SrcIn) {
+            // Colors the alpha channel, e.g. the blurred shadow of feDropShadow, without expanding it first.
+            RasterChannel source = sourceChannel(impl, filterContext).toRaster(context);
+            impl.saveResult(((AlphaChannel) destination).mask(source, filterContext.primitiveRegion(this)),
+                    filterContext);
+            return;
+        }
+        RasterChannel dst = filterContext.writableRaster(destination, destination.toRaster(context));
 
-        Image other = context.platformSupport().createImage(sourceChannel(impl, filterContext).producer());
-        Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst);
+        BufferedImage other = sourceChannel(impl, filterContext).toRaster(context).image();
+        Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst.image());
+        imgGraphics.clip(filterContext.primitiveRegion(this));
         imgGraphics.setComposite(computeComposite(filterContext));
-        imgGraphics.drawImage(other, null, context.platformSupport().imageObserver());
+        imgGraphics.drawImage(other, null, 0, 0);
         imgGraphics.dispose();
 
-        impl.saveResult(new ImageProducerChannel(dst.getSource()), filterContext);
+        impl.saveResult(dst, filterContext);
     }
 
     private @NotNull Composite computeComposite(@NotNull FilterContext filterContext) {
         Composite comp = composite();
         if (comp instanceof AbstractBlendComposite) {
             ColorInterpolation colorInterpolation = colorInterpolation(filterContext);
-            ((AbstractBlendComposite) comp).setConvertToLinearRGB(colorInterpolation == ColorInterpolation.LinearRGB);
+            return ((AbstractBlendComposite) comp).withConvertToLinearRGB(
+                    colorInterpolation == ColorInterpolation.LinearRGB);
         }
         return comp;
     }
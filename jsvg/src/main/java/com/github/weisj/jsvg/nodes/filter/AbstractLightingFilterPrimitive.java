@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.MustBeInvokedByOverriders;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
+import com.github.weisj.jsvg.geometry.size.FloatInsets;
+import com.github.weisj.jsvg.logging.Logger;
+import com.github.weisj.jsvg.logging.impl.LogFactory;
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.prototype.Container;
+import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+abstract class AbstractLightingFilterPrimitive extends AbstractFilterPrimitive implements Container<LightSource> {
+    private static final Logger LOGGER = LogFactory.createLogger(AbstractLightingFilterPrimitive.class);
+    // Normal maps of larger surfaces aren't kept between renders.
+    private static final int MAXIMUM_RETAINED_NORMAL_MAP_PIXELS = 1 << 20;
+
+    private float surfaceScale;
+    private Color lightingColor;
+    private double @Nullable [] kernelUnitLength;
+    private @Nullable LightSource lightSource;
+    private volatile @Nullable LightingFilter.NormalMap normalMap;
+
+    @Override
+    @MustBeInvokedByOverriders
+    public void build(@NotNull AttributeNode attributeNode) {
+        super.build(attributeNode);
+
+        surfaceScale = attributeNode.getFloat("surfaceScale", 1);
+        lightingColor = attributeNode.getColor("lighting-color", Color.WHITE);
+
+        double[] values = attributeNode.getDoubleList("kernelUnitLength");
+        if (values.length > 0 && values[0] > 0) {
+            double x = values[0];
+            double y = values.length > 1 && values[1] > 0 ? values[1] : x;
+            kernelUnitLength = new double[] {x, y};
+        } else {
+            kernelUnitLength = null;
+        }
+    }
+
+    protected abstract @NotNull LightingFilter.Reflection reflection();
+
+    @Override
+    public void addChild(@Nullable String id, @NotNull SVGNode node) {
+        if (node instanceof LightSource) {
+            if (lightSource != null) {
+                LOGGER.log(Logger.Level.WARNING,
+                        "Element <" + tagName() + "> should only have one light source. Using the first one.");
+            } else {
+                lightSource = (LightSource) node;
+            }
+        }
+    }
+
+    @Override
+    public @NotNull List<? extends @NotNull LightSource> children() {
+        if (lightSource == null) return Collections.emptyList();
+        return Collections.singletonList(lightSource);
+    }
+
+    @Override
+    public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
+        LayoutBounds layoutBounds = new LayoutBounds(
+                filterLayoutContext.filterPrimitiveRegion(context.measureContext(), this),
+                new FloatInsets());
+        impl().saveLayoutResult(layoutBounds, filterLayoutContext);
+    }
+
+    @Override
+    public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+        Filter.FilterInfo info = filterContext.info();
+        RasterChannel result = RasterChannel.create(info.imageWidth, info.imageHeight);
+        Rectangle area = filterContext.primitiveRegion(this)
+                .intersection(new Rectangle(info.imageWidth, info.imageHeight));
+        LightSource light = lightSource;
+        if (light == null || area.isEmpty()) {
+            impl().saveResult(result, filterContext);
+            return;
+        }
+
+        Channel input = impl().inputChannel(filterContext);
+        AlphaChannel alpha = input instanceof AlphaChannel
+                ? (AlphaChannel) input
+                : input.toRaster(context).alphaChannel();
+        LightingFilter.NormalMap normals = LightingFilter.NormalMap.of(normalMap, alpha, area, surfaceScale,
+                kernelUnitLength, info.imageBounds(), filterContext.renderingHints());
+        // Animations which only change the light reuse the normals.
+        normalMap = normals.pixelCount() <= MAXIMUM_RETAINED_NORMAL_MAP_PIXELS ? normals : null;
+
+        LightingFilter.light(normals, light, reflection(), lightingColor,
+                colorInterpolation(filterContext) != ColorInterpolation.S_RGB, info.imageBounds(), result,
+                filterContext.renderingHints());
+        impl().saveResult(result, filterContext);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageFilter;
+import java.awt.image.ImageProducer;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.util.ColorUtil;
+
+/**
+ * A channel which only has an alpha channel, stored with one byte per pixel. It is used for {@code SourceAlpha} and
+ * the results of primitives which only operate on alpha, like the blur of a drop shadow. Its color is black.
+ * <p>
+ * Primitives which need color are handed a new {@link RasterChannel} by {@link #toRaster(RenderContext)}, which they
+ * may modify. Like raster channels, alpha channels are never modified after they have been saved as the result of a
+ * primitive.
+ */
+public final class AlphaChannel implements Channel, PixelProvider {
+    private final int width;
+    private final int height;
+    private final byte @NotNull [] data;
+
+    private AlphaChannel(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.data = new byte[width * height];
+    }
+
+    /**
+     * Creates a new transparent alpha channel.
+     *
+     * @param width the width in pixels.
+     * @param height the height in pixels.
+     * @return the channel.
+     */
+    public static @NotNull AlphaChannel create(int width, int height) {
+        return new AlphaChannel(width, height);
+    }
+
+    /**
+     * Extracts the alpha channel of the given raster.
+     *
+     * @param raster the raster.
+     * @return the alpha channel.
+     */
+    public static @NotNull AlphaChannel of(@NotNull RasterChannel raster) {
+        AlphaChannel result = create(raster.width(), raster.height());
+        int[] src = raster.data();
+        byte[] dst = result.data;
+        for (int y = 0, h = result.height; y < h; y++) {
+            int sp = raster.offset() + y * raster.scanlineStride();
+            int dp = y * result.width;
+            for (int x = 0, w = result.width; x < w; x++) {
+                dst[dp + x] = (byte) (src[sp + x] >>> 24);
+            }
+        }
+        return result;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * The alpha of the pixel at {@code (x, y)} is stored at {@code data()[y * width() + x]}.
+     *
+     * @return the alpha values.
+     */
+    public byte @NotNull [] data() {
+        return data;
+    }
+
+    /**
+     * Multiplies the pixels of the given raster inside the region with the alpha of this channel, which corresponds
+     * to compositing the raster {@code in} this channel. Pixels outside the region are transparent.
+     *
+     * @param raster the premultiplied raster, which has the same size as this channel.
+     * @param region the region to composite.
+     * @return the composited raster.
+     */
+    public @NotNull RasterChannel mask(@NotNull RasterChannel raster, @NotNull Rectangle region) {
+        RasterChannel result = RasterChannel.create(width, height);
+        Rectangle area = region.intersection(new Rectangle(width, height));
+        int[] src = raster.data();
+        int[] dst = result.data();
+        for (int y = area.y, yEnd = area.y + area.height; y < yEnd; y++) {
+            int sp = raster.offset() + y * raster.scanlineStride();
+            int dp = result.offset() + y * result.scanlineStride();
+            int ap = y * width;
+            for (int x = area.x, xEnd = area.x + area.width; x < xEnd; x++) {
+                int a = data[ap + x] & 0xFF;
+                if (a == 0) continue;
+                int argb = src[sp + x];
+                if (a != 255) {
+                    argb = (ColorUtil.div255((argb >>> 24) * a) << 24)
+                            | (ColorUtil.div255(((argb >> 16) & 0xFF) * a) << 16)
+                            | (ColorUtil.div255(((argb >> 8) & 0xFF) * a) << 8)
+                            | ColorUtil.div255((argb & 0xFF) * a);
+                }
+                dst[dp + x] = argb;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Expands this channel into a new raster of black pixels.
+     *
+     * @param context the render context.
+     * @return the raster, which isn't shared with anything else.
+     */
+    @Override
+    public @NotNull RasterChannel toRaster(@NotNull RenderContext context) {
+        return toRaster();
+    }
+
+    private @NotNull RasterChannel toRaster() {
+        RasterChannel result = RasterChannel.create(width, height);
+        int[] dst = result.data();
+        for (int y = 0; y < height; y++) {
+            int sp = y * width;
+            int dp = result.offset() + y * result.scanlineStride();
+            for (int x = 0; x < width; x++) {
+                dst[dp + x] = data[sp + x] << 24;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull AlphaChannel alphaChannel() {
+        return this;
+    }
+
+    @Override
+    public @NotNull ImageProducer producer() {
+        return toRaster().producer();
+    }
+
+    @Override
+    public @NotNull Image toImage(@NotNull RenderContext context) {
+        return toRaster().image();
+    }
+
+    @Override
+    public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
+        return toRaster().image();
+    }
+
+    @Override
+    public @NotNull Channel applyFilter(@NotNull ImageFilter filter) {
+        return toRaster().applyFilter(filter);
+    }
+
+    @Override
+    public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
+        return this;
+    }
+
+    @Override
+    public int pixelAt(double x, double y) {
+        return data[(int) y * width + (int) x] << 24;
+    }
+}
@@ -53,6 +53,16 @@ public interface Channel {
         return bufferedImage;
     }
 
+    /**
+     * Returns the pixels of this channel as a raster channel. Channels which aren't backed by a raster are copied.
+     *
+     * @param context the render context.
+     * @return the raster channel.
+     */
+    default @NotNull RasterChannel toRaster(@NotNull RenderContext context) {
+        return RasterChannel.of(toImage(context));
+    }
+
     @NotNull
     Channel applyFilter(@NotNull ImageFilter filter);
 
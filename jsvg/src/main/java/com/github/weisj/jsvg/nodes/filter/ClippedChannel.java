@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.FilteredImageSource;
+import java.awt.image.ImageFilter;
+import java.awt.image.ImageProducer;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+/**
+ * A channel whose pixels outside of a region are transparent. The pixels of the underlying channel are only clipped
+ * when they are read, hence channels which provide values other than colors, e.g. the noise of feTurbulence, are passed
+ * on unconverted.
+ */
+final class ClippedChannel implements Channel {
+    private final @NotNull Channel channel;
+    private final @NotNull Rectangle region;
+    private final @NotNull RenderContext context;
+    private RasterChannel raster;
+
+    ClippedChannel(@NotNull Channel channel, @NotNull Rectangle region, @NotNull RenderContext context) {
+        this.channel = channel;
+        this.region = region;
+        this.context = context;
+    }
+
+    /**
+     * Makes the pixels of the raster outside of the region transparent.
+     *
+     * @param raster the raster.
+     * @param region the region.
+     * @param writable whether the raster may be modified. Otherwise, the region is copied into a new raster.
+     * @return the clipped raster.
+     */
+    static @NotNull RasterChannel clip(@NotNull RasterChannel raster, @NotNull Rectangle region, boolean writable) {
+        RasterChannel clipped = writable ? raster : RasterChannel.create(raster.width(), raster.height());
+        int[] src = raster.data();
+        int[] dst = clipped.data();
+        for (int y = 0, h = raster.height(); y < h; y++) {
+            int sp = raster.offset() + y * raster.scanlineStride();
+            int dp = clipped.offset() + y * clipped.scanlineStride();
+            if (y < region.y || y >= region.y + region.height) {
+                if (writable) Arrays.fill(dst, dp, dp + raster.width(), 0);
+            } else if (writable) {
+                Arrays.fill(dst, dp, dp + region.x, 0);
+                Arrays.fill(dst, dp + region.x + region.width, dp + raster.width(), 0);
+            } else {
+                System.arraycopy(src, sp + region.x, dst, dp + region.x, region.width);
+            }
+        }
+        return clipped;
+    }
+
+    private @NotNull RasterChannel ensureRaster() {
+        if (raster == null) raster = clip(channel.toRaster(context), region, false);
+        return raster;
+    }
+
+    @Override
+    public @NotNull ImageProducer producer() {
+        return ensureRaster().producer();
+    }
+
+    @Override
+    public @NotNull Image toImage(@NotNull RenderContext context) {
+        return ensureRaster().image();
+    }
+
+    @Override
+    public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
+        return ensureRaster().toBufferedImageNonAliased(context);
+    }
+
+    @Override
+    public @NotNull RasterChannel toRaster(@NotNull RenderContext context) {
+        return ensureRaster();
+    }
+
+    @Override
+    public @NotNull Channel alphaChannel() {
+        return ensureRaster().alphaChannel();
+    }
+
+    @Override
+    public @NotNull Channel applyFilter(@NotNull ImageFilter filter) {
+        return new ImageProducerChannel(new FilteredImageSource(producer(), filter));
+    }
+
+    @Override
+    public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
+        PixelProvider pixels = channel.pixels(context);
+        return (x, y) -> x >= region.x && y >= region.y && x < region.x + region.width && y < region.y + region.height
+                ? pixels.pixelAt(x, y)
+                : 0;
+    }
+}
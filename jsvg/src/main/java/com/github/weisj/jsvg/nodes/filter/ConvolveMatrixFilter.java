@@ -0,0 +1,381 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+
+/**
+ * Convolution of premultiplied packed int ARGB pixels with an arbitrary kernel.
+ * <p>
+ * Pixels outside the image are sampled according to the edge mode, so the input is never copied into a padded
+ * image. Every source row a kernel row reads is unpacked once into per channel float lines, which are then
+ * accumulated with the weights of the kernel row.
+ * <p>
+ * Kernels of rank one, like box or binomial kernels, are the outer product of a column and a row vector. These are
+ * applied as a horizontal and a vertical pass, which costs {@code orderX + orderY} instead of
+ * {@code orderX * orderY} multiplications per channel and pixel. The intermediate result is kept in floats, as it may
+ * be negative or exceed the range of a channel.
+ */
+final class ConvolveMatrixFilter {
+    private static final int CHANNELS = 4;
+    private static final float SEPARABLE_TOLERANCE = 1e-5f;
+
+    private ConvolveMatrixFilter() {}
+
+    /**
+     * A convolution kernel. The weights are stored in the order they are applied, i.e. the weight at
+     * {@code weights[i * orderX + j]} is multiplied with the source pixel at {@code (x - targetX + j, y - targetY + i)}.
+     */
+    static final class Kernel {
+        final int orderX;
+        final int orderY;
+        final int targetX;
+        final int targetY;
+        final float @NotNull [] weights;
+        final float divisor;
+        final float bias;
+        private final float @Nullable [] column;
+        private final float @Nullable [] row;
+
+        Kernel(int orderX, int orderY, int targetX, int targetY, float @NotNull [] weights, float divisor,
+                float bias) {
+            if (weights.length != orderX * orderY) {
+                throw new IllegalArgumentException(
+                        "Expected " + orderX * orderY + " weights but got " + weights.length);
+            }
+            this.orderX = orderX;
+            this.orderY = orderY;
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.weights = weights;
+            this.divisor = divisor;
+            this.bias = bias;
+
+            float[][] factors = factorize(orderX, orderY, weights);
+            this.column = factors != null ? factors[0] : null;
+            this.row = factors != null ? factors[1] : null;
+        }
+
+        boolean isSeparable() {
+            return column != null;
+        }
+
+        /**
+         * Factors a kernel of rank one into a column and a row vector, such that
+         * {@code weights[i * orderX + j] == column[i] * row[j]}.
+         *
+         * @return the column and row vector or null if the kernel doesn't have rank one.
+         */
+        private static float @Nullable [] @Nullable [] factorize(int orderX, int orderY, float @NotNull [] weights) {
+            if (orderX == 1 || orderY == 1) return null;
+            int pivot = 0;
+            float max = 0;
+            for (int k = 0; k < weights.length; k++) {
+                float abs = Math.abs(weights[k]);
+                if (abs > max) {
+                    max = abs;
+                    pivot = k;
+                }
+            }
+            if (max == 0) return null;
+
+            int pivotRow = pivot / orderX;
+            int pivotColumn = pivot % orderX;
+            float[] column = new float[orderY];
+            float[] row = new float[orderX];
+            for (int i = 0; i < orderY; i++) {
+                column[i] = weights[i * orderX + pivotColumn];
+            }
+            for (int j = 0; j < orderX; j++) {
+                row[j] = weights[pivotRow * orderX + j] / weights[pivot];
+            }
+            float tolerance = SEPARABLE_TOLERANCE * max;
+            for (int i = 0; i < orderY; i++) {
+                for (int j = 0; j < orderX; j++) {
+                    if (Math.abs(column[i] * row[j] - weights[i * orderX + j]) > tolerance) return null;
+                }
+            }
+            return new float[][] {column, row};
+        }
+    }
+
+    /**
+     * Convolves the given area of the source into the destination. The source and destination may be the same raster.
+     *
+     * @param src the source pixels.
+     * @param dst the destination, which has the same size as the source. Only the pixels inside the area are written.
+     * @param area the area to convolve.
+     * @param kernel the kernel.
+     * @param edgeMode how pixels outside the source are sampled.
+     * @param preserveAlpha whether only the color channels are convolved. The alpha channel of the source is kept.
+     * @param hints the rendering hints, which determine whether the convolution runs in parallel.
+     */
+    static void convolve(@NotNull RasterChannel src, @NotNull RasterChannel dst, @NotNull Rectangle area,
+            @NotNull Kernel kernel, @NotNull EdgeMode edgeMode, boolean preserveAlpha,
+            @Nullable RenderingHints hints) {
+        Rectangle target = area.intersection(new Rectangle(src.width(), src.height()));
+        if (target.isEmpty()) return;
+        Source source = new Source(src, edgeMode, preserveAlpha);
+        // The output is written row by row, hence the input has to be copied if it is also the destination.
+        int[] result = new int[target.width * target.height];
+        if (kernel.isSeparable()) {
+            convolveSeparable(source, result, target, kernel, hints);
+        } else {
+            convolveFull(source, result, target, kernel, hints);
+        }
+        int[] dstData = dst.data();
+        for (int y = 0; y < target.height; y++) {
+            System.arraycopy(result, y * target.width, dstData,
+                    dst.offset() + (target.y + y) * dst.scanlineStride() + target.x, target.width);
+        }
+    }
+
+    private static void convolveFull(@NotNull Source source, int @NotNull [] result, @NotNull Rectangle target,
+            @NotNull Kernel kernel, @Nullable RenderingHints hints) {
+        int columns = target.width;
+        int lineLength = columns + kernel.orderX - 1;
+        ParallelBands.run(hints, target.height, columns * kernel.weights.length, (from, to) -> {
+            float[][] line = new float[CHANNELS][lineLength];
+            float[][] sum = new float[CHANNELS][columns];
+            for (int y = from; y < to; y++) {
+                for (float[] s : sum) {
+                    Arrays.fill(s, 0);
+                }
+                int sy = target.y + y - kernel.targetY;
+                for (int i = 0; i < kernel.orderY; i++) {
+                    if (!source.readRow(sy + i, target.x - kernel.targetX, line)) continue;
+                    int weightOffset = i * kernel.orderX;
+                    for (int c = 0; c < CHANNELS; c++) {
+                        float[] in = line[c];
+                        float[] out = sum[c];
+                        for (int j = 0; j < kernel.orderX; j++) {
+                            float w = kernel.weights[weightOffset + j];
+                            if (w == 0) continue;
+                            for (int x = 0; x < columns; x++) {
+                                out[x] += w * in[x + j];
+                            }
+                        }
+                    }
+                }
+                source.writeRow(sum, target.x, target.y + y, kernel, result, y * columns);
+            }
+        });
+    }
+
+    private static void convolveSeparable(@NotNull Source source, int @NotNull [] result, @NotNull Rectangle target,
+            @NotNull Kernel kernel, @Nullable RenderingHints hints) {
+        float[] column = kernel.column;
+        float[] row = kernel.row;
+        assert column != null && row != null;
+        int columns = target.width;
+        int lineLength = columns + kernel.orderX - 1;
+
+        // The source rows the vertical pass reads, after mapping them into the image according to the edge mode.
+        int height = source.height;
+        int top = target.y - kernel.targetY;
+        int bottom = top + target.height + kernel.orderY - 1;
+        if (source.edgeMode == EdgeMode.Wrap && (top < 0 || bottom > height)) {
+            top = 0;
+            bottom = height;
+        } else {
+            // Duplicated edges map to the first and last row, which are inside the clamped range.
+            top = Math.max(0, top);
+            bottom = Math.min(height, bottom);
+        }
+        int firstRow = top;
+        int rows = bottom - top;
+
+        // The horizontally convolved rows, whose channels are stored one after another.
+        float[] horizontal = new float[rows * CHANNELS * columns];
+        ParallelBands.run(hints, rows, columns * kernel.orderX, (from, to) -> {
+            float[][] line = new float[CHANNELS][lineLength];
+            for (int r = from; r < to; r++) {
+                source.readRow(firstRow + r, target.x - kernel.targetX, line);
+                for (int c = 0; c < CHANNELS; c++) {
+                    float[] in = line[c];
+                    int hp = (r * CHANNELS + c) * columns;
+                    for (int x = 0; x < columns; x++) {
+                        float s = 0;
+                        for (int j = 0; j < row.length; j++) {
+                            s += row[j] * in[x + j];
+                        }
+                        horizontal[hp + x] = s;
+                    }
+                }
+            }
+        });
+
+        ParallelBands.run(hints, target.height, columns * kernel.orderY, (from, to) -> {
+            float[][] sum = new float[CHANNELS][columns];
+            for (int y = from; y < to; y++) {
+                for (float[] s : sum) {
+                    Arrays.fill(s, 0);
+                }
+                int sy = target.y + y - kernel.targetY;
+                for (int i = 0; i < kernel.orderY; i++) {
+                    int r = source.mapRow(sy + i);
+                    if (r < 0) continue;
+                    float w = column[i];
+                    for (int c = 0; c < CHANNELS; c++) {
+                        float[] out = sum[c];
+                        int hp = ((r - firstRow) * CHANNELS + c) * columns;
+                        for (int x = 0; x < columns; x++) {
+                            out[x] += w * horizontal[hp + x];
+                        }
+                    }
+                }
+                source.writeRow(sum, target.x, target.y + y, kernel, result, y * columns);
+            }
+        });
+    }
+
+    /**
+     * Reads rows of the source, sampling pixels outside of it according to the edge mode.
+     */
+    private static final class Source {
+        private final @NotNull RasterChannel raster;
+        private final @NotNull EdgeMode edgeMode;
+        private final boolean preserveAlpha;
+        private final int width;
+        private final int height;
+
+        private Source(@NotNull RasterChannel raster, @NotNull EdgeMode edgeMode, boolean preserveAlpha) {
+            this.raster = raster;
+            this.edgeMode = edgeMode;
+            this.preserveAlpha = preserveAlpha;
+            this.width = raster.width();
+            this.height = raster.height();
+        }
+
+        /**
+         * @return the row of the image sampled for row y or -1 if it is transparent.
+         */
+        int mapRow(int y) {
+            return map(y, height);
+        }
+
+        private int map(int i, int n) {
+            if (i >= 0 && i < n) return i;
+            switch (edgeMode) {
+                case Duplicate:
+                    return i < 0 ? 0 : n - 1;
+                case Wrap:
+                    return Math.floorMod(i, n);
+                default:
+                    return -1;
+            }
+        }
+
+        private int pixel(int row, int x) {
+            int sx = map(x, width);
+            if (sx < 0) return 0;
+            return raster.data()[row + sx];
+        }
+
+        /**
+         * Unpacks the channels of the row sampled for row y, starting at x. The color channels are premultiplied
+         * unless the alpha channel is preserved.
+         *
+         * @return false if the row is transparent, in which case the line isn't written.
+         */
+        boolean readRow(int y, int x, float @NotNull [] @NotNull [] line) {
+            int sy = mapRow(y);
+            if (sy < 0) return false;
+            int row = raster.offset() + sy * raster.scanlineStride();
+            float[] a = line[0];
+            float[] r = line[1];
+            float[] g = line[2];
+            float[] b = line[3];
+            int[] data = raster.data();
+            for (int i = 0, sx = x; i < a.length; i++, sx++) {
+                int argb = sx >= 0 && sx < width ? data[row + sx] : pixel(row, sx);
+                int alpha = argb >>> 24;
+                a[i] = alpha;
+                if (preserveAlpha && alpha != 0 && alpha != 255) {
+                    float scale = 255f / alpha;
+                    r[i] = ((argb >> 16) & 0xFF) * scale;
+                    g[i] = ((argb >> 8) & 0xFF) * scale;
+                    b[i] = (argb & 0xFF) * scale;
+                } else {
+                    r[i] = (argb >> 16) & 0xFF;
+                    g[i] = (argb >> 8) & 0xFF;
+                    b[i] = argb & 0xFF;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Packs the convolution sums of row y starting at x into premultiplied pixels. The bias is added as
+         * {@code bias * ALPHA}, which is {@code bias * 255} for the unpremultiplied colors if the alpha channel is
+         * preserved, and premultiplied with the resulting alpha otherwise.
+         */
+        void writeRow(float @NotNull [] @NotNull [] sum, int x, int y, @NotNull Kernel kernel,
+                int @NotNull [] result, int offset) {
+            float scale = 1 / kernel.divisor;
+            float[] a = sum[0];
+            float[] r = sum[1];
+            float[] g = sum[2];
+            float[] b = sum[3];
+            int[] data = raster.data();
+            int row = raster.offset() + y * raster.scanlineStride() + x;
+            for (int i = 0; i < a.length; i++) {
+                int alpha;
+                int red;
+                int green;
+                int blue;
+                if (preserveAlpha) {
+                    float bias = kernel.bias * 255;
+                    red = clamp(r[i] * scale + bias);
+                    green = clamp(g[i] * scale + bias);
+                    blue = clamp(b[i] * scale + bias);
+                    alpha = data[row + i] >>> 24;
+                    if (alpha != 255) {
+                        red = (red * alpha + 127) / 255;
+                        green = (green * alpha + 127) / 255;
+                        blue = (blue * alpha + 127) / 255;
+                    }
+                } else {
+                    alpha = clamp(a[i] * scale + kernel.bias * 255);
+                    float bias = kernel.bias * alpha;
+                    // Keep the result a valid premultiplied color.
+                    red = Math.min(clamp(r[i] * scale + bias), alpha);
+                    green = Math.min(clamp(g[i] * scale + bias), alpha);
+                    blue = Math.min(clamp(b[i] * scale + bias), alpha);
+                }
+                result[offset + i] = (alpha << 24) | (red << 16) | (green << 8) | blue;
+            }
+        }
+
+        private static int clamp(float value) {
+            if (value <= 0) return 0;
+            if (value >= 255) return 255;
+            return (int) (value + 0.5f);
+        }
+    }
+}
@@ -119,13 +119,26 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
 
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        @Nullable AffineRGBImageFilter f = filter;
-        if (f == null) {
+        if (filter == null) {
             impl().noop(filterContext);
             return;
         }
-        f.setConvertToLinear(colorInterpolation(filterContext) == ColorInterpolation.LinearRGB);
-        impl().saveResult(impl().inputChannel(filterContext).applyFilter(f), filterContext);
+        Channel in = impl().inputChannel(filterContext);
+        RasterChannel input = in.toRaster(context);
+        PixelPass pass = new PixelPass();
+        pass.add(pixelStage(filterContext));
+        impl().saveResult(pass.apply(input, filterContext.outputRaster(in, input), filterContext.primitiveRegion(this)),
+                filterContext);
+    }
+
+    @NotNull
+    PixelPass.Stage pixelStage(@NotNull FilterContext filterContext) {
+        @Nullable AffineRGBImageFilter f = filter;
+        if (f == null) return PixelPass.Stage.IDENTITY;
+        // The filter uses a scratch buffer, hence every pass needs its own instance.
+        ColorSpaceAwareRGBImageFilter imageFilter = (ColorSpaceAwareRGBImageFilter) f.withConvertToLinear(
+                colorInterpolation(filterContext) == ColorInterpolation.LinearRGB).clone();
+        return PixelPass.Stage.color(argb -> imageFilter.filterRGB(0, 0, argb));
     }
 
     private abstract static class AffineRGBImageFilter extends ColorSpaceAwareRGBImageFilter {
@@ -21,13 +21,14 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
-import java.awt.image.*;
+import java.awt.image.ByteLookupTable;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.attributes.filter.TransferFunctionType;
 import com.github.weisj.jsvg.geometry.size.Length;
@@ -123,6 +124,16 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
         return filterPrimitiveBase.height;
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputChannels() {
+        return new FilterChannelKey[] {filterPrimitiveBase.inputKey()};
+    }
+
+    @Override
+    public @NotNull FilterChannelKey resultChannel() {
+        return filterPrimitiveBase.resultKey();
+    }
+
     @Override
     public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
         return filterPrimitiveBase.colorInterpolation(filterContext);
@@ -136,13 +147,14 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
         filterPrimitiveBase.saveLayoutResult(bounds, filterLayoutContext);
     }
 
-    private @Nullable LookupTable lookupTable(@NotNull FilterContext filterContext) {
+    private @Nullable ByteLookupTable lookupTable(@NotNull FilterContext filterContext) {
         if (sRGBlookupTable == null) return null;
         if (filterPrimitiveBase.colorInterpolation(filterContext) != ColorInterpolation.LinearRGB) {
             return sRGBlookupTable;
         }
         if (linearRGBlookupTable == null) {
-            byte[][] tables = sRGBlookupTable.getTable();
+            // The tables are returned by reference. Copy them to not modify the sRGB tables.
+            byte[][] tables = sRGBlookupTable.getTable().clone();
             for (int j = 0; j < tables.length; j++) {
                 byte[] table = tables[j];
                 if (table == TransferFunctionElement.IDENTITY_LOOKUP_TABLE) continue;
@@ -159,12 +171,35 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
 
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        LookupTable lookup = lookupTable(filterContext);
-        if (lookup == null) {
+        if (sRGBlookupTable == null) {
             filterPrimitiveBase.noop(filterContext);
             return;
         }
-        ImageFilter f = new BufferedImageFilter(new LookupOp(lookup, filterContext.renderingHints()));
-        filterPrimitiveBase.saveResult(filterPrimitiveBase.inputChannel(filterContext).applyFilter(f), filterContext);
+        Channel in = filterPrimitiveBase.inputChannel(filterContext);
+        RasterChannel input = in.toRaster(context);
+        PixelPass pass = new PixelPass();
+        pass.add(pixelStage(filterContext));
+        filterPrimitiveBase.saveResult(
+                pass.apply(input, filterContext.outputRaster(in, input), filterContext.primitiveRegion(this)),
+                filterContext);
+    }
+
+    @NotNull
+    PixelPass.Stage pixelStage(@NotNull FilterContext filterContext) {
+        ByteLookupTable lookup = lookupTable(filterContext);
+        if (lookup == null) return PixelPass.Stage.IDENTITY;
+        byte[][] tables = lookup.getTable();
+        byte[] red = tables[0];
+        byte[] green = tables[1];
+        byte[] blue = tables[2];
+        byte[] alpha = tables[3];
+        // The transfer functions operate on non-premultiplied color values.
+        return PixelPass.Stage.color(argb -> {
+            int a = alpha[argb >>> 24] & 0xFF;
+            int r = red[(argb >> 16) & 0xFF] & 0xFF;
+            int g = green[(argb >> 8) & 0xFF] & 0xFF;
+            int b = blue[argb & 0xFF] & 0xFF;
+            return (a << 24) | (r << 16) | (g << 8) | b;
+        });
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
+import com.github.weisj.jsvg.nodes.animation.Animate;
+import com.github.weisj.jsvg.nodes.animation.Set;
+import com.github.weisj.jsvg.nodes.prototype.spec.Category;
+import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
+import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+@ElementCategories(Category.FilterPrimitive)
+@PermittedContent(
+    anyOf = {Animate.class, Set.class}
+)
+public final class FeConvolveMatrix extends AbstractFilterPrimitive {
+    public static final String TAG = "feconvolvematrix";
+
+    private @Nullable ConvolveMatrixFilter.Kernel kernel;
+    private EdgeMode edgeMode;
+    private boolean preserveAlpha;
+
+    @Override
+    public @NotNull String tagName() {
+        return TAG;
+    }
+
+    @Override
+    public void build(@NotNull AttributeNode attributeNode) {
+        super.build(attributeNode);
+        edgeMode = attributeNode.getEnum("edgeMode", EdgeMode.Duplicate);
+        preserveAlpha = "true".equals(attributeNode.getValue("preserveAlpha"));
+        kernel = parseKernel(attributeNode);
+    }
+
+    /**
+     * @return the kernel or null if the attributes are invalid, in which case the primitive passes its input through.
+     */
+    private static @Nullable ConvolveMatrixFilter.Kernel parseKernel(@NotNull AttributeNode attributeNode) {
+        float[] order = attributeNode.getFloatList("order");
+        float fx = order.length > 0 ? order[0] : 3;
+        float fy = order.length > 1 ? order[1] : fx;
+        int orderX = (int) fx;
+        int orderY = (int) fy;
+        if (orderX != fx || orderY != fy || orderX <= 0 || orderY <= 0) return null;
+
+        float[] kernelMatrix = attributeNode.getFloatList("kernelMatrix");
+        if (kernelMatrix.length != orderX * orderY) return null;
+
+        int targetX = attributeNode.getInt("targetX", orderX / 2);
+        int targetY = attributeNode.getInt("targetY", orderY / 2);
+        if (targetX < 0 || targetX >= orderX || targetY < 0 || targetY >= orderY) return null;
+
+        // The kernel matrix is rotated by 180 degrees with respect to the pixels it is applied to.
+        float[] weights = new float[kernelMatrix.length];
+        float sum = 0;
+        for (int i = 0; i < kernelMatrix.length; i++) {
+            weights[i] = kernelMatrix[kernelMatrix.length - 1 - i];
+            sum += weights[i];
+        }
+        float divisor = attributeNode.getFloat("divisor", 0);
+        if (divisor == 0) divisor = sum != 0 ? sum : 1;
+        float bias = attributeNode.getFloat("bias", 0);
+        return new ConvolveMatrixFilter.Kernel(orderX, orderY, targetX, targetY, weights, divisor, bias);
+    }
+
+    @Override
+    public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
+        LayoutBounds input = impl().layoutInput(filterLayoutContext);
+        if (kernel == null) {
+            impl().saveLayoutResult(input, filterLayoutContext);
+            return;
+        }
+        // The kernel reaches at most its order minus one pixel in either direction.
+        LayoutBounds result = input.grow(kernel.orderX - 1, kernel.orderY - 1, filterLayoutContext);
+        if (kernel.bias != 0) {
+            // A bias makes transparent pixels visible.
+            result = result.withFlags(new LayoutBounds.ComputeFlags(true));
+        }
+        impl().saveLayoutResult(result, filterLayoutContext);
+    }
+
+    @Override
+    public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+        if (kernel == null) {
+            impl().noop(filterContext);
+            return;
+        }
+        Channel in = impl().inputChannel(filterContext);
+        RasterChannel input = in.toRaster(context);
+        RasterChannel output = filterContext.outputRaster(in, input);
+        ConvolveMatrixFilter.convolve(input, output, filterContext.primitiveRegion(this), kernel, edgeMode,
+                preserveAlpha, filterContext.renderingHints());
+        impl().saveResult(output, filterContext);
+    }
+}
@@ -22,12 +22,10 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.color.ColorSpace;
-import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.*;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.UnitType;
 import com.github.weisj.jsvg.attributes.filter.ColorChannel;
@@ -41,7 +39,6 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
-import com.github.weisj.jsvg.util.ImageUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -73,6 +70,11 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
         inputChannel2 = attributeNode.getFilterChannelKey("in2", DefaultFilterChannel.LastResult);
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputChannels() {
+        return new FilterChannelKey[] {impl().inputKey(), inputChannel2};
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         // The displacement formula maps channel values from [0, 1] to [-0.5, 0.5],
@@ -99,113 +101,92 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
             displacementScaleY *= elementBounds.getHeight();
         }
 
-        ImageFilter displacementFilter = new BufferedImageFilter(
-                new DisplacementOp(displacementInput.pixels(context), filterContext.info().imageBounds(),
-                        displacementScaleX, displacementScaleY));
-        impl().saveResult(input.applyFilter(displacementFilter), filterContext);
+        RasterChannel source = input.toRaster(context);
+        Displacement displacement = displacementInput instanceof RasterChannel
+                ? new RasterDisplacement((RasterChannel) displacementInput)
+                : new PixelProviderDisplacement(displacementInput.pixels(context),
+                        filterContext.info().imageBounds(), source.width(), source.height());
+        impl().saveResult(displace(source, displacement, filterContext.info().imageBounds(),
+                filterContext.primitiveRegion(this), displacementScaleX, displacementScaleY,
+                filterContext.renderingHints()), filterContext);
     }
 
-    private final class DisplacementOp implements BufferedImageOp {
-
-        private final @NotNull PixelProvider displacementChannel;
-        private final @NotNull Rectangle2D sourceBounds;
-        private final double displacementScaleX;
-        private final double displacementScaleY;
-
-        public DisplacementOp(@NotNull PixelProvider displacementChannel, @NotNull Rectangle2D sourceBounds,
-                double displacementScaleX, double displacementScaleY) {
-            this.displacementChannel = displacementChannel;
-            this.sourceBounds = sourceBounds;
-            this.displacementScaleX = displacementScaleX;
-            this.displacementScaleY = displacementScaleY;
-        }
-
-        @Override
-        public BufferedImage createCompatibleDestImage(BufferedImage src, ColorModel dstCM) {
-            if (dstCM == null) dstCM = src.getColorModel();
-            return new BufferedImage(dstCM, dstCM.createCompatibleWritableRaster(src.getWidth(), src.getHeight()),
-                    dstCM.isAlphaPremultiplied(), null);
-        }
-
-        @Override
-        public Rectangle2D getBounds2D(@NotNull BufferedImage src) {
-            return new Rectangle(0, 0, src.getWidth(), src.getHeight());
-        }
-
-        @Override
-        public Point2D getPoint2D(Point2D srcPt, Point2D dstPt) {
-            return (Point2D) srcPt.clone();
-        }
-
-        @Override
-        public BufferedImage filter(BufferedImage src, BufferedImage dest) {
-            if (src == null) {
-                throw new NullPointerException("src image is null");
-            }
-            if (src == dest) {
-                throw new IllegalArgumentException("src image cannot be the " +
-                        "same as the dst image");
-            }
-
-            BufferedImage result = dest;
-
-            if (result == null) {
-                ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_sRGB);
-                ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
-                        false, DataBuffer.TYPE_INT);
-                result = createCompatibleDestImage(src, cm);
-            }
-
-            WritableRaster raster = result.getRaster();
-
-            final int w = raster.getWidth();
-            final int h = raster.getHeight();
-
-            final double scaleX = sourceBounds.getWidth() / w;
-            final double scaleY = sourceBounds.getHeight() / h;
-
-            final double startX = sourceBounds.getX();
-            final double startY = sourceBounds.getY();
-
-            Raster sourceRaster = src.getRaster();
-            Rectangle sourceRasterBounds = sourceRaster.getBounds();
-
-            final int[] destPixels = ImageUtil.getINT_RGBA_DataBank(raster);
-            final int dstAdjust = ImageUtil.getINT_RGBA_DataAdjust(raster);
-            int dp = ImageUtil.getINT_RGBA_DataOffset(raster);
-
-            double point0;
-            double point1 = startY;
-            int x;
-            int y = 0;
-            for (int i = 0; i < h; i++) {
-                x = 0;
-                point0 = startX;
-                for (int end = dp + w; dp < end; dp++) {
-                    int displacementRGB = displacementChannel.pixelAt(point0, point1);
+    private @NotNull RasterChannel displace(@NotNull RasterChannel source, @NotNull Displacement displacement,
+            @NotNull Rectangle2D sourceBounds, @NotNull Rectangle region, double displacementScaleX,
+            double displacementScaleY, @Nullable RenderingHints hints) {
+        final int w = source.width();
+        final int h = source.height();
+
+        final double scaleX = sourceBounds.getWidth() / w;
+        final double scaleY = sourceBounds.getHeight() / h;
+
+        RasterChannel result = RasterChannel.create(w, h);
+        final int[] srcPixels = source.data();
+        final int[] destPixels = result.data();
+
+        Rectangle area = region.intersection(new Rectangle(w, h));
+        if (area.isEmpty()) return result;
+        ParallelBands.run(hints, area.height, area.width, (from, to) -> {
+            for (int y = area.y + from, yEnd = area.y + to; y < yEnd; y++) {
+                int dp = result.offset() + y * result.scanlineStride();
+                for (int x = area.x, xEnd = area.x + area.width; x < xEnd; x++) {
+                    int displacementRGB = displacement.pixelAt(x, y);
                     double xDisplacement = xChannelSelector.value(displacementRGB) / 255.0 - 0.5f;
                     double yDisplacement = yChannelSelector.value(displacementRGB) / 255.0 - 0.5f;
                     int xDest = (int) (x + displacementScaleX * xDisplacement / scaleX);
                     int yDest = (int) (y + displacementScaleY * yDisplacement / scaleY);
-                    if (sourceRasterBounds.contains(xDest, yDest)) {
-                        destPixels[dp] = src.getRGB(xDest, yDest);
-                    } else {
-                        destPixels[dp] = 0;
+                    if (xDest >= 0 && yDest >= 0 && xDest < w && yDest < h) {
+                        destPixels[dp + x] = srcPixels[source.offset() + yDest * source.scanlineStride() + xDest];
                     }
-                    point0 += scaleX;
-                    x++;
                 }
-                point1 += scaleY;
-                dp += dstAdjust;
-                y++;
             }
+        });
+        return result;
+    }
+
+    private interface Displacement {
+        /**
+         * @return the non-premultiplied color of the displacement map at the given pixel.
+         */
+        int pixelAt(int x, int y);
+    }
+
+    private static final class RasterDisplacement implements Displacement {
+        private final @NotNull RasterChannel channel;
+
+        private RasterDisplacement(@NotNull RasterChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int pixelAt(int x, int y) {
+            if (x >= channel.width() || y >= channel.height()) return 0;
+            return channel.pixelAt(x, y);
+        }
+    }
 
-            return result;
+    /**
+     * Samples channels which aren't backed by a raster, like the turbulence, in user space.
+     */
+    private static final class PixelProviderDisplacement implements Displacement {
+        private final @NotNull PixelProvider pixels;
+        private final double startX;
+        private final double startY;
+        private final double scaleX;
+        private final double scaleY;
+
+        private PixelProviderDisplacement(@NotNull PixelProvider pixels, @NotNull Rectangle2D sourceBounds,
+                int width, int height) {
+            this.pixels = pixels;
+            this.startX = sourceBounds.getX();
+            this.startY = sourceBounds.getY();
+            this.scaleX = sourceBounds.getWidth() / width;
+            this.scaleY = sourceBounds.getHeight() / height;
         }
 
         @Override
-        public RenderingHints getRenderingHints() {
-            return null;
+        public int pixelAt(int x, int y) {
+            return pixels.pixelAt(startX + x * scaleX, startY + y * scaleY);
         }
     }
 }
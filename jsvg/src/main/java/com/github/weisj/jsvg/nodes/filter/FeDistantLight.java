@@ -61,7 +61,10 @@ public final class FeDistantLight extends AbstractSVGNode implements LightSource
     }
 
     @Override
-    public @NotNull Light lightAt(double x, double y, double z) {
-        return new Light(this.x, this.y, this.z, 1);
+    public void lightAt(double x, double y, double z, double @NotNull [] light) {
+        light[0] = this.x;
+        light[1] = this.y;
+        light[2] = this.z;
+        light[3] = 1;
     }
 }
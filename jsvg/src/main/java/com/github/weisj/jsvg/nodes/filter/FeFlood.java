@@ -28,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.attributes.Animatable;
 import com.github.weisj.jsvg.attributes.Inherited;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.attributes.value.PercentageValue;
 import com.github.weisj.jsvg.geometry.size.FloatInsets;
@@ -68,6 +69,11 @@ public final class FeFlood extends AbstractFilterPrimitive {
                 Inherited.NO, Animatable.YES);
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputChannels() {
+        return new FilterChannelKey[0];
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds layoutBounds = new LayoutBounds(
@@ -78,19 +84,19 @@ public final class FeFlood extends AbstractFilterPrimitive {
 
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        // Todo: We should be able to optimize this heavily by implementing a custom image producer.
-        // and even then filters like feBlend could benefit from knowing that this is a constant color.
+        // Todo: Filters like feBlend could benefit from knowing that this is a constant color.
         Filter.FilterInfo info = filterContext.info();
-        BufferedImage img = new BufferedImage(info.imageWidth, info.imageHeight, BufferedImage.TYPE_INT_ARGB);
+        RasterChannel result = RasterChannel.create(info.imageWidth, info.imageHeight);
         float opacity = floodOpacity.get(context.measureContext());
         if (opacity != 0) {
+            BufferedImage img = result.image();
             Graphics2D graphics = GraphicsUtil.createGraphics(img);
             graphics.setComposite(AlphaComposite.Src.derive(opacity));
-            Rectangle rect = new Rectangle(0, 0, img.getWidth(), img.getHeight());
+            Rectangle rect = filterContext.primitiveRegion(this);
             floodColor.fillShape(new Graphics2DOutput(graphics), context, rect, rect);
             graphics.dispose();
         }
-        impl().saveResult(new ImageProducerChannel(img.getSource()), filterContext);
+        impl().saveResult(result, filterContext);
     }
 
 }
@@ -24,7 +24,6 @@ package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
-import java.awt.image.*;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -51,15 +50,11 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
     private static final double THREE_QUARTER_SQRT_2_PI = SQRT_2_PI * 3f / 4f;
     private static final float KERNEL_PRECISION = 0.001f;
 
-    private static final double BOX_BLUR_APPROXIMATION_THRESHOLD = 2;
+    static final double BOX_BLUR_APPROXIMATION_THRESHOLD = 2;
 
     private float[] stdDeviation;
     private EdgeMode edgeMode;
 
-    private double xCurrent;
-    private double yCurrent;
-    private Kernel xBlur;
-    private Kernel yBlur;
     private boolean onlyAlpha;
 
     @Override
@@ -94,8 +89,8 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds input = impl().layoutInput(filterLayoutContext);
         double[] sigma = computeAbsoluteStdDeviation(null);
-        int hExtend = kernelDiameterForStandardDeviation(sigma[0]);
-        int vExtend = kernelDiameterForStandardDeviation(sigma[1]);
+        int hExtend = kernelExtentForStandardDeviation(sigma[0]);
+        int vExtend = kernelExtentForStandardDeviation(sigma[1]);
         impl().saveLayoutResult(input.grow(hExtend, vExtend, filterLayoutContext), filterLayoutContext);
     }
 
@@ -116,48 +111,46 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         }
 
         Channel inputChannel = impl().inputChannel(filterContext);
-        if (onlyAlpha) {
-            inputChannel = inputChannel.alphaChannel();
+        if (onlyAlpha || inputChannel instanceof AlphaChannel) {
+            // Only the alpha channel is blurred, hence it is stored with one byte per pixel.
+            AlphaChannel input = inputChannel instanceof AlphaChannel
+                    ? (AlphaChannel) inputChannel
+                    : inputChannel.toRaster(context).alphaChannel();
+            Rectangle area = blurArea(filterContext, input.width(), input.height(), xSigma, ySigma);
+            if (area == null) {
+                impl().saveResult(AlphaChannel.create(input.width(), input.height()), filterContext);
+                return;
+            }
+            AlphaChannel output = input == inputChannel ? filterContext.outputAlpha(inputChannel, input) : input;
+            GaussianBlurFilter.blurAlpha(input, output, area, xSigma, ySigma, edgeMode,
+                    filterContext.renderingHints());
+            impl().saveResult(output, filterContext);
+            return;
         }
-        ImageProducer input = inputChannel.producer();
-
-        Kernel xBlurKernel = null;
-        Kernel yBlurKernel = null;
-        int dX = kernelDiameterForStandardDeviation(xSigma);
-        int dY = kernelDiameterForStandardDeviation(ySigma);
 
-        if (xSigma > 0 && xSigma < BOX_BLUR_APPROXIMATION_THRESHOLD) {
-            xBlurKernel = createConvolveKernel(dX, xSigma, true);
-        }
-        if (ySigma > 0 && ySigma < BOX_BLUR_APPROXIMATION_THRESHOLD) {
-            yBlurKernel = createConvolveKernel(dX, ySigma, false);
+        RasterChannel input = inputChannel.toRaster(context);
+        Rectangle area = blurArea(filterContext, input.width(), input.height(), xSigma, ySigma);
+        if (area == null) {
+            impl().saveResult(RasterChannel.create(input.width(), input.height()), filterContext);
+            return;
         }
-
-        ImageProducer output = edgeMode.convolve(context, filterContext, input,
-                new MixedQualityConvolveOperation(xBlurKernel, yBlurKernel, dX, dY));
-        impl().saveResult(new ImageProducerChannel(output), filterContext);
+        RasterChannel output = filterContext.outputRaster(inputChannel, input);
+        GaussianBlurFilter.blur(input, output, area, xSigma, ySigma, edgeMode, filterContext.renderingHints());
+        impl().saveResult(output, filterContext);
     }
 
-
-    private @NotNull Kernel createConvolveKernel(int diameter, double sigma, boolean horizontal) {
-        if (horizontal && xBlur != null && xCurrent == sigma) return xBlur;
-        if (!horizontal && yBlur != null && yCurrent == sigma) return yBlur;
-
-        if (horizontal) {
-            xCurrent = sigma;
-        } else {
-            yCurrent = sigma;
-        }
-
-        float[] data = computeGaussianKernelData(diameter, sigma);
-
-        if (horizontal) {
-            xBlur = new Kernel(diameter, 1, data);
-        } else {
-            yBlur = new Kernel(1, diameter, data);
-        }
-
-        return horizontal ? xBlur : yBlur;
+    /**
+     * @return the area of the image which is blurred or null if the result is transparent.
+     */
+    private @Nullable Rectangle blurArea(@NotNull FilterContext filterContext, int width, int height, double xSigma,
+            double ySigma) {
+        if (edgeMode != EdgeMode.None) return new Rectangle(width, height);
+        // Only the pixels the blur reaches from the subregion contribute. Beyond those the input is treated as
+        // transparent, even if the subregion ends at the border of the image.
+        Rectangle region = filterContext.primitiveRegion(this);
+        if (region.isEmpty()) return null;
+        region.grow(kernelExtentForStandardDeviation(xSigma), kernelExtentForStandardDeviation(ySigma));
+        return region;
     }
 
     private static float normalConvolve(float x, double standardDeviation) {
@@ -165,7 +158,7 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
                 / (standardDeviation * SQRT_2_PI));
     }
 
-    private static float[] computeGaussianKernelData(int diameter, double standardDeviation) {
+    static float[] computeGaussianKernelData(int diameter, double standardDeviation) {
         final float[] data = new float[diameter];
 
         int mid = diameter / 2;
@@ -199,81 +192,14 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         }
     }
 
-
-    private static final class MixedQualityConvolveOperation implements EdgeMode.ConvolveOperation {
-
-        private final @Nullable Kernel xKernel;
-        private final @Nullable Kernel yKernel;
-
-        private final int dX;
-        private final int dY;
-
-        private MixedQualityConvolveOperation(@Nullable Kernel xKernel, @Nullable Kernel yKernel, int dX, int dY) {
-            this.xKernel = xKernel;
-            this.yKernel = yKernel;
-            this.dX = dX;
-            this.dY = dY;
-        }
-
-
-        @Override
-        public @NotNull Dimension maximumKernelSize() {
-            return new Dimension(
-                    xKernel != null ? xKernel.getXOrigin() : dX,
-                    yKernel != null ? yKernel.getXOrigin() : dY);
-        }
-
-        @Override
-        public @NotNull ImageProducer convolve(@NotNull BufferedImage image, @Nullable RenderingHints hints,
-                int awtEdgeMode) {
-            WritableRaster raster = image.getRaster();
-            if (!image.getColorModel().isAlphaPremultiplied()) {
-                throw new IllegalStateException("Image should be premultiplied");
-            }
-
-            if (xKernel != null && yKernel != null) {
-                BufferedImageOp op = new MultiConvolveOp(new ConvolveOp[] {
-                        new ConvolveOp(xKernel, awtEdgeMode, hints),
-                        new ConvolveOp(yKernel, awtEdgeMode, hints)
-                });
-                return new FilteredImageSource(image.getSource(), new BufferedImageFilter(op));
-            } else if (xKernel != null) {
-                verticalBoxBlur(raster);
-                return new FilteredImageSource(image.getSource(), new BufferedImageFilter(
-                        new ConvolveOp(xKernel, awtEdgeMode, hints)));
-            } else if (yKernel != null) {
-                horizontalBoxBlur(raster);
-                return new FilteredImageSource(image.getSource(), new BufferedImageFilter(
-                        new ConvolveOp(yKernel, awtEdgeMode, hints)));
-            } else {
-                horizontalBoxBlur(raster);
-                verticalBoxBlur(raster);
-                return image.getSource();
-            }
-        }
-
-        private void horizontalBoxBlur(@NotNull WritableRaster raster) {
-            if ((dX & 0x01) == 0) {
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2 - 1);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX + 1, dX / 2);
-            } else {
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-            }
-        }
-
-        private void verticalBoxBlur(@NotNull WritableRaster raster) {
-            if ((dY & 0x01) == 0) {
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2 - 1);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY + 1, dY / 2);
-            } else {
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-            }
+    /**
+     * The distance in pixels a blur with the given standard deviation reaches into its neighbourhood. Large blurs are
+     * approximated by three successive box blurs, each of which reaches half of the kernel diameter.
+     */
+    private static int kernelExtentForStandardDeviation(double standardDeviation) {
+        if (standardDeviation < BOX_BLUR_APPROXIMATION_THRESHOLD) {
+            return kernelDiameterForStandardDeviation(standardDeviation);
         }
+        return (int) Math.ceil(3 * (THREE_QUARTER_SQRT_2_PI * standardDeviation + 1) / 2) + 1;
     }
 }
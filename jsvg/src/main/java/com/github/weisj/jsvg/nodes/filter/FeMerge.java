@@ -22,7 +22,6 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -94,6 +93,16 @@ public final class FeMerge extends ContainerNode implements FilterPrimitive {
         return filterPrimitiveBase.height;
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputChannels() {
+        return inputChannels.clone();
+    }
+
+    @Override
+    public @NotNull FilterChannelKey resultChannel() {
+        return filterPrimitiveBase.resultKey();
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         if (inputChannels.length == 0) {
@@ -121,14 +130,15 @@ public final class FeMerge extends ContainerNode implements FilterPrimitive {
         Channel in = filterPrimitiveBase.channel(inputChannels[0], filterContext);
         Channel result = in;
         if (inputChannels.length > 1) {
-            BufferedImage dst = in.toBufferedImageNonAliased(context);
-            Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst);
+            RasterChannel dst = filterContext.writableRaster(in, in.toRaster(context));
+            Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst.image());
+            imgGraphics.clip(filterContext.primitiveRegion(this));
             for (int i = 1; i < inputChannels.length; i++) {
                 Channel channel = filterPrimitiveBase.channel(inputChannels[i], filterContext);
-                imgGraphics.drawImage(context.platformSupport().createImage(channel.producer()),
-                        null, context.platformSupport().imageObserver());
+                imgGraphics.drawImage(channel.toRaster(context).image(), null, 0, 0);
             }
-            result = new ImageProducerChannel(dst.getSource());
+            imgGraphics.dispose();
+            result = dst;
         }
         filterPrimitiveBase.saveResult(result, filterContext);
     }
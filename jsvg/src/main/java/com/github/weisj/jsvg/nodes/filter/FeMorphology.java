@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.nodes.animation.Animate;
+import com.github.weisj.jsvg.nodes.animation.Set;
+import com.github.weisj.jsvg.nodes.prototype.spec.Category;
+import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
+import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+@ElementCategories(Category.FilterPrimitive)
+@PermittedContent(
+    anyOf = {Animate.class, Set.class}
+)
+public final class FeMorphology extends AbstractFilterPrimitive {
+    public static final String TAG = "femorphology";
+
+    public enum Operator {
+        Erode,
+        Dilate
+    }
+
+    private Operator operator;
+    private float xRadius;
+    private float yRadius;
+
+    @Override
+    public @NotNull String tagName() {
+        return TAG;
+    }
+
+    @Override
+    public void build(@NotNull AttributeNode attributeNode) {
+        super.build(attributeNode);
+        operator = attributeNode.getEnum("operator", Operator.Erode);
+        float[] radius = attributeNode.getFloatList("radius");
+        xRadius = radius.length > 0 ? radius[0] : 0;
+        yRadius = radius.length > 1 ? radius[1] : xRadius;
+    }
+
+    /**
+     * A zero or negative radius disables the primitive, in which case the result is the input.
+     */
+    private boolean isDisabled() {
+        return xRadius <= 0 || yRadius <= 0;
+    }
+
+    private @NotNull Point2D.Double radius(@Nullable AffineTransform at, @NotNull UnitType filterPrimitiveUnits,
+            @NotNull Rectangle2D elementBounds) {
+        Point2D.Double radius = new Point2D.Double(xRadius, yRadius);
+        if (at != null) {
+            radius.x *= GeometryUtil.scaleXOfTransform(at);
+            radius.y *= GeometryUtil.scaleYOfTransform(at);
+        }
+
+        if (filterPrimitiveUnits == UnitType.ObjectBoundingBox) {
+            radius.x *= elementBounds.getWidth();
+            radius.y *= elementBounds.getHeight();
+        }
+
+        return radius;
+    }
+
+    @Override
+    public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
+        LayoutBounds input = impl().layoutInput(filterLayoutContext);
+        if (isDisabled()) {
+            impl().saveLayoutResult(input, filterLayoutContext);
+            return;
+        }
+        // Dilation grows the content by the radius. Both operators read the pixels within the radius.
+        Point2D.Double radius = radius(null, filterLayoutContext.primitiveUnits(),
+                filterLayoutContext.elementBounds());
+        impl().saveLayoutResult(input.grow((float) radius.x, (float) radius.y, filterLayoutContext),
+                filterLayoutContext);
+    }
+
+    @Override
+    public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+        if (isDisabled()) {
+            impl().noop(filterContext);
+            return;
+        }
+        Point2D.Double radius = radius(filterContext.info().output().transform(), filterContext.primitiveUnits(),
+                filterContext.info().elementBounds());
+        int rx = (int) Math.round(radius.x);
+        int ry = (int) Math.round(radius.y);
+        if (rx == 0 && ry == 0) {
+            impl().noop(filterContext);
+            return;
+        }
+
+        boolean dilate = operator == Operator.Dilate;
+        Rectangle area = filterContext.primitiveRegion(this);
+        Channel in = impl().inputChannel(filterContext);
+        if (in instanceof AlphaChannel) {
+            AlphaChannel input = (AlphaChannel) in;
+            AlphaChannel output = filterContext.outputAlpha(in, input);
+            MorphologyFilter.filterAlpha(input, output, area, rx, ry, dilate, filterContext.renderingHints());
+            impl().saveResult(output, filterContext);
+            return;
+        }
+        RasterChannel input = in.toRaster(context);
+        RasterChannel output = filterContext.outputRaster(in, input);
+        MorphologyFilter.filter(input, output, area, rx, ry, dilate, filterContext.renderingHints());
+        impl().saveResult(output, filterContext);
+    }
+}
@@ -21,11 +21,12 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.AffineTransformOp;
-import java.awt.image.BufferedImageFilter;
+import java.util.Arrays;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -47,6 +48,8 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 )
 public final class FeOffset extends AbstractFilterPrimitive {
     public static final String TAG = "feOffset";
+    // Offsets this close to whole pixels are applied by copying rows instead of resampling the image.
+    private static final double INTEGER_OFFSET_TOLERANCE = 1e-3;
 
     private float dx;
     private float dy;
@@ -92,14 +95,100 @@ public final class FeOffset extends AbstractFilterPrimitive {
         Channel in = impl().inputChannel(filterContext);
         Channel result = in;
         if (dx != 0 || dy != 0) {
-            AffineTransform at = filterContext.info().output().transform();
-            Point2D.Double off = offset(at, filterContext.primitiveUnits(), filterContext.info().elementBounds());
-            AffineTransform transform = AffineTransform.getTranslateInstance(off.x, off.y);
+            PixelPass.Stage stage = pixelStage(filterContext);
+            if (stage != null && in instanceof AlphaChannel) {
+                AlphaChannel input = (AlphaChannel) in;
+                AlphaChannel output = filterContext.outputAlpha(in, input);
+                translate(input.data(), 0, input.width(), output.data(), 0, output.width(),
+                        input.width(), input.height(), stage.dx(), stage.dy(), filterContext.primitiveRegion(this));
+                impl().saveResult(output, filterContext);
+                return;
+            }
+            RasterChannel input = in.toRaster(context);
+            if (stage != null) {
+                RasterChannel output = filterContext.outputRaster(in, input);
+                translate(input.data(), input.offset(), input.scanlineStride(),
+                        output.data(), output.offset(), output.scanlineStride(),
+                        input.width(), input.height(), stage.dx(), stage.dy(), filterContext.primitiveRegion(this));
+                result = output;
+            } else {
+                Point2D.Double off = deviceOffset(filterContext);
+                RasterChannel output = RasterChannel.create(input.width(), input.height());
+                AffineTransformOp op = new AffineTransformOp(AffineTransform.getTranslateInstance(off.x, off.y),
+                        filterContext.renderingHints());
+                op.filter(input.image(), output.image());
+                result = output;
+            }
+        }
+        impl().saveResult(result, filterContext);
+    }
 
-            AffineTransformOp op = new AffineTransformOp(transform, filterContext.renderingHints());
-            result = in.applyFilter(new BufferedImageFilter(op));
+    private @NotNull Point2D.Double deviceOffset(@NotNull FilterContext filterContext) {
+        AffineTransform at = filterContext.info().output().transform();
+        return offset(at, filterContext.primitiveUnits(), filterContext.info().elementBounds());
+    }
+
+    /**
+     * @return the translation by whole pixels or null if the offset needs resampling.
+     */
+    @Nullable
+    PixelPass.Stage pixelStage(@NotNull FilterContext filterContext) {
+        if (dx == 0 && dy == 0) return PixelPass.Stage.IDENTITY;
+        Point2D.Double off = deviceOffset(filterContext);
+        long ix = Math.round(off.x);
+        long iy = Math.round(off.y);
+        if (Math.abs(off.x - ix) >= INTEGER_OFFSET_TOLERANCE || Math.abs(off.y - iy) >= INTEGER_OFFSET_TOLERANCE) {
+            return null;
         }
+        Filter.FilterInfo info = filterContext.info();
+        // Offsets beyond the image move everything out of it.
+        return PixelPass.Stage.translate(
+                (int) Math.max(-info.imageWidth, Math.min(info.imageWidth, ix)),
+                (int) Math.max(-info.imageHeight, Math.min(info.imageHeight, iy)));
+    }
 
-        impl().saveResult(result, filterContext);
+    /*
+     * Translates the pixels of an int[] or byte[] raster. Source and destination may be the same array.
+     */
+    private static void translate(@NotNull Object src, int srcOffset, int srcStride, @NotNull Object dst,
+            int dstOffset, int dstStride, int width, int height, int dx, int dy, @NotNull Rectangle region) {
+        // Only the pixels inside the region are written.
+        Rectangle area = region.intersection(new Rectangle(width, height));
+        if (area.isEmpty()) return;
+        boolean inPlace = src == dst;
+        int left = area.x;
+        int right = area.x + area.width;
+        int top = area.y;
+        int bottom = area.y + area.height;
+        // Columns and rows shifted outside the image stay transparent.
+        int xStart = Math.max(left, Math.min(right, dx));
+        int xEnd = Math.max(left, Math.min(right, width + dx));
+        int yStart = Math.max(top, Math.min(bottom, dy));
+        int yEnd = Math.max(top, Math.min(bottom, height + dy));
+        int length = xEnd - xStart;
+        // When translating in place rows have to be moved before they are overwritten.
+        boolean reverse = dy > 0;
+        for (int i = top; i < bottom; i++) {
+            int y = reverse ? bottom - 1 - (i - top) : i;
+            int dp = dstOffset + y * dstStride;
+            if (y < yStart || y >= yEnd || length <= 0) {
+                if (inPlace) clear(dst, dp + left, dp + right);
+                continue;
+            }
+            int sp = srcOffset + (y - dy) * srcStride + (xStart - dx);
+            System.arraycopy(src, sp, dst, dp + xStart, length);
+            if (inPlace) {
+                clear(dst, dp + left, dp + xStart);
+                clear(dst, dp + xEnd, dp + right);
+            }
+        }
+    }
+
+    private static void clear(@NotNull Object array, int from, int to) {
+        if (array instanceof int[]) {
+            Arrays.fill((int[]) array, from, to, 0);
+        } else {
+            Arrays.fill((byte[]) array, from, to, (byte) 0);
+        }
     }
 }
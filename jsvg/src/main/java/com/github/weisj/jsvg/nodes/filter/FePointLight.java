@@ -57,16 +57,22 @@ public class FePointLight extends AbstractSVGNode implements LightSource {
     }
 
     @Override
-    public @NotNull Light lightAt(double x, double y, double z) {
-        return computePointLight(x, y, z, 1);
+    public void lightAt(double x, double y, double z, double @NotNull [] light) {
+        computePointLight(x, y, z, light);
     }
 
-    protected final @NotNull Light computePointLight(double x, double y, double z, double intensity) {
+    protected final void computePointLight(double x, double y, double z, double @NotNull [] light) {
         double dx = lightX - x;
         double dy = lightY - y;
         double dz = lightZ - z;
         double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
-        if (length == 0) return new Light(0, 0, 0, 0);
-        return new Light(dx / length, dy / length, dz / length, intensity);
+        if (length == 0) {
+            light[0] = light[1] = light[2] = light[3] = 0;
+            return;
+        }
+        light[0] = dx / length;
+        light[1] = dy / length;
+        light[2] = dz / length;
+        light[3] = 1;
     }
 }
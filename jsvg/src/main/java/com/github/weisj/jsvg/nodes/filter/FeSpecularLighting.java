@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.nodes.animation.Animate;
+import com.github.weisj.jsvg.nodes.animation.Set;
+import com.github.weisj.jsvg.nodes.prototype.spec.Category;
+import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
+import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeNode;
+
+@ElementCategories(Category.FilterPrimitive)
+@PermittedContent(
+    categories = {Category.LightSource},
+    anyOf = {Animate.class, Set.class}
+)
+public final class FeSpecularLighting extends AbstractLightingFilterPrimitive {
+    public static final String TAG = "fespecularlighting";
+
+    private float specularConstant;
+    private float specularExponent;
+
+    @Override
+    public @NotNull String tagName() {
+        return TAG;
+    }
+
+    @Override
+    public void build(@NotNull AttributeNode attributeNode) {
+        super.build(attributeNode);
+        specularConstant = attributeNode.getNonNegativeFloat("specularConstant", 1);
+        // The specification only permits exponents in the range [1, 128].
+        specularExponent = Math.max(1, Math.min(128, attributeNode.getFloat("specularExponent", 1)));
+    }
+
+    @Override
+    protected @NotNull LightingFilter.Reflection reflection() {
+        return new LightingFilter.Specular(specularConstant, specularExponent);
+    }
+}
@@ -76,14 +76,15 @@ public final class FeSpotLight extends FePointLight {
     }
 
     @Override
-    public @NotNull Light lightAt(double x, double y, double z) {
-        Light light = computePointLight(x, y, z, 1);
-        if (light.intensity == 0) return light;
+    public void lightAt(double x, double y, double z, double @NotNull [] light) {
+        computePointLight(x, y, z, light);
+        if (light[3] == 0) return;
 
-        double dot = -(light.x * directionX + light.y * directionY + light.z * directionZ);
-        if (dot <= 0) return new Light(light.x, light.y, light.z, 0);
-        if (limitingConeCos != null && dot < limitingConeCos) return new Light(light.x, light.y, light.z, 0);
-
-        return new Light(light.x, light.y, light.z, Math.pow(dot, specularExponent));
+        double dot = -(light[0] * directionX + light[1] * directionY + light[2] * directionZ);
+        if (dot <= 0 || (limitingConeCos != null && dot < limitingConeCos)) {
+            light[3] = 0;
+            return;
+        }
+        light[3] = Math.pow(dot, specularExponent);
     }
 }
@@ -21,14 +21,15 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
-import java.awt.color.ColorSpace;
+import java.awt.*;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
-import com.github.weisj.jsvg.geometry.noise.PerlinTurbulence;
 import com.github.weisj.jsvg.geometry.size.FloatInsets;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.Set;
@@ -37,7 +38,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
-import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.ColorUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -56,6 +57,7 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
     private int numOctaves;
 
     private Type type;
+    private boolean stitchTiles;
 
     @Override
     public @NotNull String tagName() {
@@ -78,6 +80,12 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
         numOctaves = Math.min(numOctaves, 8);
 
         type = attributeNode.getEnum("type", Type.fractalNoise);
+        stitchTiles = "stitch".equals(attributeNode.getValue("stitchTiles"));
+    }
+
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputChannels() {
+        return new FilterChannelKey[0];
     }
 
     @Override
@@ -93,79 +101,102 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         Filter.FilterInfo info = filterContext.info();
         Channel turbulenceChannel =
-                new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight, seed, numOctaves,
-                        baseFrequency[0], baseFrequency.length > 1 ? baseFrequency[1] : baseFrequency[0], type);
+                new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight,
+                        filterContext.primitiveRegion(this), seed, numOctaves,
+                        baseFrequency[0], baseFrequency.length > 1 ? baseFrequency[1] : baseFrequency[0], type,
+                        stitchTiles ? info.filterPrimitiveUserRegion(this) : null,
+                        filterContext.renderingHints());
         impl().saveResult(turbulenceChannel, filterContext);
     }
 
     public static final class TurbulenceChannel implements Channel, PixelProvider {
 
-        private final PerlinTurbulence perlinTurbulence;
-        private final double[] channels = new double[4];
+        private final @NotNull TurbulenceGenerator generator;
         private final int imageWidth;
         private final int imageHeight;
-        private final Type type;
-        private final Rectangle2D tileBounds;
-        private BufferedImage bufferedImage;
+        private final @Nullable RenderingHints hints;
+        private int[] pixels;
+        private RasterChannel raster;
 
         public TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
                 float seed, int octaves, double xFrequency, double yFrequency, Type type) {
-            this.tileBounds = tileBounds;
-            this.imageWidth = imageWidth;
-            this.imageHeight = imageHeight;
-            this.type = type;
-            this.perlinTurbulence = new PerlinTurbulence((int) seed, octaves, xFrequency, yFrequency);
+            this(tileBounds, imageWidth, imageHeight, seed, octaves, xFrequency, yFrequency, type, null);
         }
 
-        private @NotNull BufferedImage ensureImageBackingStore() {
-            if (bufferedImage == null) {
-                ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_LINEAR_RGB);
-                ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
-                        false, DataBuffer.TYPE_INT);
-                WritableRaster dest = cm.createCompatibleWritableRaster(imageWidth, imageHeight);
-                bufferedImage = new BufferedImage(cm, dest, false, null);
-
-                final int w = dest.getWidth();
-                final int h = dest.getHeight();
-
-                final double scaleX = tileBounds.getWidth() / w;
-                final double scaleY = tileBounds.getHeight() / h;
-
-                final double startX = tileBounds.getX();
-                final double startY = tileBounds.getY();
+        /**
+         * @param hints the rendering hints, which control whether the noise is computed in parallel.
+         */
+        public TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
+                float seed, int octaves, double xFrequency, double yFrequency, Type type,
+                @Nullable RenderingHints hints) {
+            this(tileBounds, imageWidth, imageHeight, new Rectangle(imageWidth, imageHeight), seed, octaves,
+                    xFrequency, yFrequency, type, null, hints);
+        }
 
-                boolean fractalNoise = type == Type.fractalNoise;
+        /**
+         * @param region the pixels of the image which are computed. Pixels outside of it are transparent.
+         * @param stitchTile the tile in user space the noise is stitched to or null if it isn't stitched.
+         * @param hints the rendering hints, which control whether the noise is computed in parallel.
+         */
+        public TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
+                @NotNull Rectangle region, float seed, int octaves, double xFrequency, double yFrequency, Type type,
+                @Nullable Rectangle2D stitchTile, @Nullable RenderingHints hints) {
+            this.imageWidth = imageWidth;
+            this.imageHeight = imageHeight;
+            this.hints = hints;
+            this.generator = new TurbulenceGenerator((int) seed, octaves, xFrequency, yFrequency,
+                    type == Type.fractalNoise, stitchTile,
+                    tileBounds.getX(), tileBounds.getY(),
+                    tileBounds.getWidth() / imageWidth, tileBounds.getHeight() / imageHeight,
+                    region.intersection(new Rectangle(imageWidth, imageHeight)));
+        }
 
-                final int[] destPixels = ImageUtil.getINT_RGBA_DataBank(dest);
-                final int dstAdjust = ImageUtil.getINT_RGBA_DataAdjust(dest);
-                int dp = ImageUtil.getINT_RGBA_DataOffset(dest);
+        private int @NotNull [] ensurePixels() {
+            if (pixels == null) pixels = generator.pixels(hints);
+            return pixels;
+        }
 
-                double point1 = startY;
-                for (int i = 0; i < h; i++) {
-                    double point0 = startX;
-                    for (int end = dp + w; dp < end; dp++) {
-                        perlinTurbulence.turbulence(channels, point0, point1, fractalNoise, null, null);
-                        destPixels[dp] = cm.getRGB(channelsToRGB(channels));
-                        point0 += scaleX;
+        private @NotNull RasterChannel ensureRaster() {
+            if (raster == null) {
+                int[] noise = ensurePixels();
+                Rectangle area = generator.area();
+                RasterChannel result = RasterChannel.create(imageWidth, imageHeight);
+                int[] dst = result.data();
+                for (int y = 0; y < area.height; y++) {
+                    int dp = result.offset() + (area.y + y) * result.scanlineStride() + area.x;
+                    for (int x = 0, sp = y * area.width; x < area.width; x++) {
+                        // The noise is interpreted as linear RGB.
+                        dst[dp + x] = ColorUtil.premultiply(ColorUtil.linearRGBtoSRGB(noise[sp + x]));
                     }
-                    point1 += scaleY;
-                    dp += dstAdjust;
                 }
+                raster = result;
             }
-            return bufferedImage;
+            return raster;
         }
 
         @Override
         public @NotNull ImageProducer producer() {
-            return ensureImageBackingStore().getSource();
+            return ensureRaster().producer();
+        }
+
+        @Override
+        public @NotNull Image toImage(@NotNull RenderContext context) {
+            return ensureRaster().image();
         }
 
         @Override
         public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
-            BufferedImage img = ensureImageBackingStore();
-            ColorModel cm = img.getColorModel();
-            WritableRaster raster = img.copyData(null);
-            return new BufferedImage(cm, raster, cm.isAlphaPremultiplied(), null);
+            return ensureRaster().toBufferedImageNonAliased(context);
+        }
+
+        @Override
+        public @NotNull RasterChannel toRaster(@NotNull RenderContext context) {
+            return ensureRaster();
+        }
+
+        @Override
+        public @NotNull Channel alphaChannel() {
+            return ensureRaster().alphaChannel();
         }
 
         @Override
@@ -175,46 +206,18 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
 
         @Override
         public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
+            ensurePixels();
             return this;
         }
 
         @Override
         public int pixelAt(double x, double y) {
-            perlinTurbulence.turbulence(channels, x, y, type == Type.fractalNoise, null, null);
-            return channelsToRGB(channels);
-        }
-
-        private static int channelsToRGB(double[] channels) {
-            int j;
-            int i = (int) channels[0];
-            if ((i & 0xFFFFFF00) == 0) {
-                j = i << 16;
-            } else {
-                j = ((i & 0x80000000) != 0) ? 0 : 0xFF0000;
-            }
-
-            i = (int) channels[1];
-            if ((i & 0xFFFFFF00) == 0) {
-                j |= i << 8;
-            } else {
-                j |= ((i & 0x80000000) != 0) ? 0 : 0xFF00;
-            }
-
-            i = (int) channels[2];
-            if ((i & 0xFFFFFF00) == 0) {
-                j |= i;
-            } else {
-                j |= ((i & 0x80000000) != 0) ? 0 : 0xFF;
-            }
-
-            i = (int) channels[3];
-            if ((i & 0xFFFFFF00) == 0) {
-                j |= i << 24;
-            } else {
-                j |= ((i & 0x80000000) != 0) ? 0 : 0xFF000000;
+            int[] noise = pixels;
+            if (noise != null) {
+                int index = generator.indexOf(x, y);
+                if (index >= 0) return noise[index];
             }
-
-            return j;
+            return generator.pixelAt(x, y);
         }
     }
 }
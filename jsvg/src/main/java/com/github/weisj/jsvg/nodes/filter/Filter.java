@@ -21,8 +21,12 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
@@ -37,9 +41,6 @@ import com.github.weisj.jsvg.geometry.size.FloatInsets;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.size.Unit;
 import com.github.weisj.jsvg.geometry.util.GeometryUtil;
-import com.github.weisj.jsvg.logging.Logger;
-import com.github.weisj.jsvg.logging.Logger.Level;
-import com.github.weisj.jsvg.logging.impl.LogFactory;
 import com.github.weisj.jsvg.nodes.SVGNode;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.Set;
@@ -59,7 +60,6 @@ import com.github.weisj.jsvg.util.BlittableImage;
     anyOf = {Animate.class, Set.class}
 )
 public final class Filter extends ContainerNode {
-    private static final Logger LOGGER = LogFactory.createLogger(Filter.class);
     public static final String TAG = "filter";
 
     private static final Length DEFAULT_FILTER_COORDINATE_X = Unit.PERCENTAGE_WIDTH.valueOf(-10);
@@ -80,6 +80,7 @@ public final class Filter extends ContainerNode {
     private ColorInterpolation colorInterpolation;
 
     private boolean isValid;
+    private FilterGraph graph;
 
     @Override
     public @NotNull String tagName() {
@@ -95,13 +96,16 @@ public final class Filter extends ContainerNode {
         super.build(attributeNode);
 
         isValid = true;
+        List<FilterPrimitive> primitives = new ArrayList<>(children().size());
         for (SVGNode child : children()) {
             FilterPrimitive filterPrimitive = (FilterPrimitive) child;
             if (!filterPrimitive.isValid()) {
                 isValid = false;
                 break;
             }
+            primitives.add(filterPrimitive);
         }
+        graph = FilterGraph.create(primitives);
 
         filterUnits = attributeNode.getEnum("filterUnits", UnitType.ObjectBoundingBox);
         filterPrimitiveUnits = attributeNode.getEnum("primitiveUnits", UnitType.UserSpaceOnUse);
@@ -125,8 +129,8 @@ public final class Filter extends ContainerNode {
                 ? output.clipBounds()
                 : NO_CLIP_BOUNDS.getBounds2D();
 
-        FilterLayoutContext filterLayoutContext =
-                new FilterLayoutContext(filterPrimitiveUnits, elementBounds.boundingBox(), graphicsClipBounds);
+        FilterLayoutContext filterLayoutContext = new FilterLayoutContext(
+                filterPrimitiveUnits, elementBounds.boundingBox(), graphicsClipBounds, filterRegion);
 
         Rectangle2D clippedElementBounds = elementBounds.geometryBox().createIntersection(graphicsClipBounds);
         Rectangle2D effectiveFilterRegion = filterRegion.createIntersection(graphicsClipBounds);
@@ -148,6 +152,7 @@ public final class Filter extends ContainerNode {
             try {
                 FilterPrimitive filterPrimitive = (FilterPrimitive) child;
                 filterPrimitive.layoutFilter(context, filterLayoutContext);
+                filterLayoutContext.saveFilterPrimitiveRegion(context.measureContext(), filterPrimitive);
             } catch (IllegalFilterStateException ignored) {
                 // Just carry on doing layout
             }
@@ -162,35 +167,29 @@ public final class Filter extends ContainerNode {
                 .createIntersection(GeometryUtil.grow(graphicsClipBounds, insets));
         GeometryUtil.adjustForAliasing(clipHeuristicBounds);
 
-        return new FilterBounds(elementBounds.boundingBox(), filterRegion, clipHeuristicBounds);
+        return new FilterBounds(elementBounds.boundingBox(), filterRegion, clipHeuristicBounds,
+                filterLayoutContext.filterPrimitiveRegions());
     }
 
     public @NotNull BufferedImage applyFilter(@NotNull Output output, @NotNull RenderContext context,
             @NotNull FilterInfo filterInfo) {
-        ImageProducer producer = filterInfo.blittableImage.image().getSource();
+        BufferedImage sourceImage = filterInfo.blittableImage.image();
 
         FilterContext filterContext =
                 new FilterContext(filterInfo, filterPrimitiveUnits, colorInterpolation, output.renderingHints());
 
-        Channel sourceChannel = new ImageProducerChannel(producer);
+        RasterChannel sourceChannel = RasterChannel.of(sourceImage);
         filterContext.resultChannels().addResult(DefaultFilterChannel.SourceGraphic, sourceChannel);
         filterContext.resultChannels().addResult(DefaultFilterChannel.LastResult, sourceChannel);
-        filterContext.resultChannels().addResult(DefaultFilterChannel.SourceAlpha,
-                () -> new SourceAlphaChannel(sourceChannel.alphaChannel().producer()));
+        filterContext.resultChannels().addResult(DefaultFilterChannel.SourceAlpha, sourceChannel::alphaChannel);
 
-        for (SVGNode child : children()) {
-            try {
-                FilterPrimitive filterPrimitive = (FilterPrimitive) child;
-                filterPrimitive.applyFilter(context, filterContext);
-            } catch (IllegalFilterStateException e) {
-                // Just carry on applying filters
-                LOGGER.log(Level.INFO, "Exception during filter", e);
-            }
-            // Todo: Respect filterPrimitiveRegion
-        }
+        graph.apply(context, filterContext);
 
         Channel result = Objects.requireNonNull(filterContext.getChannel(DefaultFilterChannel.LastResult));
-        return result.toBufferedImageNonAliased(context);
+        BufferedImage resultImage = result.toRaster(context).image();
+        // The source image is owned by the filter info, which may hand it back to a pool.
+        if (resultImage == sourceImage) return result.toBufferedImageNonAliased(context);
+        return resultImage;
     }
 
     @Override
@@ -202,12 +201,15 @@ public final class Filter extends ContainerNode {
         private final @NotNull Rectangle2D elementBounds;
         private final @NotNull Rectangle2D filterRegion;
         private final @NotNull Rectangle2D effectiveFilterArea;
+        private final @NotNull Map<FilterPrimitive, Rectangle2D> filterPrimitiveRegions;
 
         private FilterBounds(@NotNull Rectangle2D elementBounds, @NotNull Rectangle2D filterRegion,
-                @NotNull Rectangle2D effectiveFilterArea) {
+                @NotNull Rectangle2D effectiveFilterArea,
+                @NotNull Map<FilterPrimitive, Rectangle2D> filterPrimitiveRegions) {
             this.elementBounds = elementBounds;
             this.filterRegion = filterRegion;
             this.effectiveFilterArea = effectiveFilterArea;
+            this.filterPrimitiveRegions = filterPrimitiveRegions;
         }
 
         public @NotNull Rectangle2D elementBounds() {
@@ -224,6 +226,9 @@ public final class Filter extends ContainerNode {
     }
 
     public static final class FilterInfo {
+        // Transformed region bounds are snapped to whole pixels if they are this close.
+        private static final double REGION_TOLERANCE = 1e-3;
+
         public final int imageWidth;
         public final int imageHeight;
 
@@ -257,6 +262,48 @@ public final class Filter extends ContainerNode {
             return imageOutput;
         }
 
+        /**
+         * Returns the part of the image the result of the primitive is clipped to. Pixels outside of it are
+         * transparent.
+         *
+         * @param filterPrimitive the primitive.
+         * @return the region in image pixels.
+         */
+        public @NotNull Rectangle filterPrimitiveRegion(@NotNull FilterPrimitive filterPrimitive) {
+            Rectangle imageRegion = new Rectangle(imageWidth, imageHeight);
+            Rectangle2D region = filterBounds.filterPrimitiveRegions.get(filterPrimitive);
+            if (region == null) return imageRegion;
+            if (region.isEmpty()) return new Rectangle();
+            // Subregions covering the filter region don't clip. Compared before rounding, as the image may extend
+            // past the rounded filter region by a partially covered pixel.
+            if (covers(region, filterRegion())) return imageRegion;
+            Rectangle2D deviceRegion = GeometryUtil.userBoundsToDeviceBounds(blittableImage.context(), region);
+            // Pixels partially covered by the region belong to it.
+            int x1 = (int) Math.floor(deviceRegion.getMinX() + REGION_TOLERANCE);
+            int y1 = (int) Math.floor(deviceRegion.getMinY() + REGION_TOLERANCE);
+            int x2 = (int) Math.ceil(deviceRegion.getMaxX() - REGION_TOLERANCE);
+            int y2 = (int) Math.ceil(deviceRegion.getMaxY() - REGION_TOLERANCE);
+            return imageRegion.intersection(new Rectangle(x1, y1, Math.max(0, x2 - x1), Math.max(0, y2 - y1)));
+        }
+
+        private static boolean covers(@NotNull Rectangle2D region, @NotNull Rectangle2D filterRegion) {
+            return region.getMinX() <= filterRegion.getMinX() + REGION_TOLERANCE
+                    && region.getMinY() <= filterRegion.getMinY() + REGION_TOLERANCE
+                    && region.getMaxX() >= filterRegion.getMaxX() - REGION_TOLERANCE
+                    && region.getMaxY() >= filterRegion.getMaxY() - REGION_TOLERANCE;
+        }
+
+        /**
+         * Returns the subregion of the primitive in user space.
+         *
+         * @param filterPrimitive the primitive.
+         * @return the region in user space.
+         */
+        public @NotNull Rectangle2D filterPrimitiveUserRegion(@NotNull FilterPrimitive filterPrimitive) {
+            Rectangle2D region = filterBounds.filterPrimitiveRegions.get(filterPrimitive);
+            return region != null ? region : filterRegion();
+        }
+
         public @NotNull Rectangle2D tile() {
             Rectangle2D elementBounds = elementBounds();
             Rectangle2D imageBounds = imageBounds();
@@ -267,11 +314,4 @@ public final class Filter extends ContainerNode {
                     imageBounds.getHeight());
         }
     }
-
-    private static final class SourceAlphaChannel extends ImageProducerChannel {
-        public SourceAlphaChannel(@NotNull ImageProducer producer) {
-            super(producer);
-        }
-
-    }
 }
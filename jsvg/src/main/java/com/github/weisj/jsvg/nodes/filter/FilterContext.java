@@ -37,6 +37,7 @@ public final class FilterContext {
     private final @NotNull UnitType primitiveUnits;
     private final @Nullable ColorInterpolation colorInterpolation;
     private final @Nullable RenderingHints renderingHints;
+    private @NotNull Channel @NotNull [] overwritableChannels = new Channel[0];
 
     public FilterContext(@NotNull Filter.FilterInfo info, @NotNull UnitType primitiveUnits,
             @Nullable ColorInterpolation colorInterpolation, @Nullable RenderingHints renderingHints) {
@@ -66,6 +67,65 @@ public final class FilterContext {
         return resultChannels.get(key);
     }
 
+    /**
+     * Returns the subregion of the primitive in image pixels. Pixels of the result outside of it are discarded, hence
+     * primitives only need to compute the pixels inside of it.
+     *
+     * @param filterPrimitive the primitive.
+     * @return the subregion.
+     */
+    public @NotNull Rectangle primitiveRegion(@NotNull FilterPrimitive filterPrimitive) {
+        return info.filterPrimitiveRegion(filterPrimitive);
+    }
+
+    void setOverwritableChannels(@NotNull Channel @NotNull [] channels) {
+        overwritableChannels = channels;
+    }
+
+    boolean isOverwritable(@NotNull Channel channel) {
+        for (Channel c : overwritableChannels) {
+            if (c == channel) return true;
+        }
+        return false;
+    }
+
+    private boolean canOverwrite(@NotNull Channel input, @NotNull RasterChannel inputRaster) {
+        // Alpha channels are expanded into new rasters. Rasters converted from other channels may share their pixels
+        // with them.
+        if (input instanceof AlphaChannel) return true;
+        return input == inputRaster && isOverwritable(input);
+    }
+
+    /**
+     * Returns the raster a primitive writes its result to. If no later primitive reads the input its raster is
+     * reused, hence the primitive has to be able to compute its result in place.
+     */
+    @NotNull
+    RasterChannel outputRaster(@NotNull Channel input, @NotNull RasterChannel inputRaster) {
+        if (canOverwrite(input, inputRaster)) return inputRaster;
+        return RasterChannel.create(inputRaster.width(), inputRaster.height());
+    }
+
+    /**
+     * Returns a raster with the contents of the input which the caller may modify. If no later primitive reads the
+     * input its raster is returned directly.
+     */
+    @NotNull
+    RasterChannel writableRaster(@NotNull Channel input, @NotNull RasterChannel inputRaster) {
+        if (canOverwrite(input, inputRaster)) return inputRaster;
+        return inputRaster.copy();
+    }
+
+    /**
+     * Returns the alpha channel a primitive writes its result to. If no later primitive reads the input its alpha
+     * channel is reused, hence the primitive has to be able to compute its result in place.
+     */
+    @NotNull
+    AlphaChannel outputAlpha(@NotNull Channel input, @NotNull AlphaChannel inputAlpha) {
+        if (input == inputAlpha && isOverwritable(input)) return inputAlpha;
+        return AlphaChannel.create(inputAlpha.width(), inputAlpha.height());
+    }
+
     public ColorInterpolation colorInterpolation(ColorInterpolation colorInterpolation) {
         if (colorInterpolation != ColorInterpolation.Inherit) {
             return colorInterpolation;
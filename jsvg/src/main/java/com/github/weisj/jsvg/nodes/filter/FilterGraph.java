@@ -0,0 +1,388 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+import com.github.weisj.jsvg.logging.Logger;
+import com.github.weisj.jsvg.logging.Logger.Level;
+import com.github.weisj.jsvg.logging.impl.LogFactory;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+/**
+ * The evaluation plan of the primitives of a filter, computed from the channels they read and write.
+ * <ul>
+ *     <li>Primitives whose result doesn't contribute to the output of the filter are skipped.</li>
+ *     <li>A primitive may write its result to the raster of an input which isn't read afterwards.</li>
+ *     <li>Consecutive per pixel primitives, where each one only reads the result of the previous one, are applied in
+ *     a single {@link PixelPass}.</li>
+ * </ul>
+ * If a primitive doesn't declare its channels or reads a channel which doesn't exist, the primitives are applied in
+ * document order instead.
+ */
+final class FilterGraph {
+    private static final Logger LOGGER = LogFactory.createLogger(FilterGraph.class);
+    private static final int SOURCE = -1;
+    private static final @NotNull Channel @NotNull [] NO_CHANNELS = new Channel[0];
+
+    private final @NotNull Step @NotNull [] steps;
+    // The index of the step reading the result of a primitive last. Null if the primitives are applied in order.
+    private final int @Nullable [] lastUse;
+
+    private FilterGraph(@NotNull Step @NotNull [] steps, int @Nullable [] lastUse) {
+        this.steps = steps;
+        this.lastUse = lastUse;
+    }
+
+    static @NotNull FilterGraph create(@NotNull List<@NotNull FilterPrimitive> primitives) {
+        int count = primitives.size();
+        int[][] inputs = new int[count][];
+        FilterChannelKey[][] inputKeys = new FilterChannelKey[count][];
+        Map<Object, Integer> producers = new HashMap<>();
+        producers.put(DefaultFilterChannel.SourceGraphic.key(), SOURCE);
+        producers.put(DefaultFilterChannel.SourceAlpha.key(), SOURCE);
+        producers.put(DefaultFilterChannel.LastResult.key(), SOURCE);
+        for (int i = 0; i < count; i++) {
+            FilterPrimitive primitive = primitives.get(i);
+            FilterChannelKey[] keys = primitive.inputChannels();
+            FilterChannelKey resultKey = primitive.resultChannel();
+            if (keys == null || resultKey == null) return sequential(primitives);
+            inputKeys[i] = keys;
+            inputs[i] = new int[keys.length];
+            for (int j = 0; j < keys.length; j++) {
+                Integer producer = producers.get(keys[j].key());
+                // The primitive will fail. Later primitives then see the previous result, so don't reorder anything.
+                if (producer == null) return sequential(primitives);
+                inputs[i][j] = producer;
+            }
+            producers.put(resultKey.key(), i);
+            producers.put(DefaultFilterChannel.LastResult.key(), i);
+        }
+        if (count == 0) return new FilterGraph(new Step[0], new int[0]);
+
+        boolean[] live = new boolean[count];
+        int[] readers = new int[count];
+        int[] lastUse = new int[count];
+        // The result of the filter is never overwritten.
+        live[count - 1] = true;
+        lastUse[count - 1] = Integer.MAX_VALUE;
+        for (int i = count - 1; i >= 0; i--) {
+            if (!live[i]) continue;
+            for (int producer : inputs[i]) {
+                if (producer == SOURCE) continue;
+                if (!live[producer]) lastUse[producer] = i;
+                live[producer] = true;
+                readers[producer]++;
+            }
+        }
+
+        List<Step> steps = new ArrayList<>();
+        List<FilterPrimitive> chain = new ArrayList<>();
+        int chainStart = -1;
+        int previous = -1;
+        for (int i = 0; i < count; i++) {
+            if (!live[i]) continue;
+            FilterPrimitive primitive = primitives.get(i);
+            boolean extendsChain = previous >= 0 && isPixelPrimitive(primitive)
+                    && isPixelPrimitive(primitives.get(previous))
+                    && inputs[i].length == 1 && inputs[i][0] == previous && readers[previous] == 1;
+            if (!extendsChain) {
+                if (!chain.isEmpty()) {
+                    steps.add(new Step(chain, chainStart, previous, inputKeys[chainStart], inputs[chainStart]));
+                }
+                chain.clear();
+                chainStart = i;
+            }
+            chain.add(primitive);
+            previous = i;
+        }
+        steps.add(new Step(chain, chainStart, previous, inputKeys[chainStart], inputs[chainStart]));
+        return new FilterGraph(steps.toArray(new Step[0]), lastUse);
+    }
+
+    private static @NotNull FilterGraph sequential(@NotNull List<@NotNull FilterPrimitive> primitives) {
+        Step[] steps = new Step[primitives.size()];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = new Step(primitives.subList(i, i + 1), i, i, null, null);
+        }
+        return new FilterGraph(steps, null);
+    }
+
+    @NotNull
+    List<@NotNull List<@NotNull FilterPrimitive>> steps() {
+        List<List<FilterPrimitive>> result = new ArrayList<>(steps.length);
+        for (Step step : steps) {
+            result.add(Arrays.asList(step.primitives));
+        }
+        return result;
+    }
+
+    void apply(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+        if (lastUse == null) {
+            for (Step step : steps) {
+                applyStep(step, context, filterContext);
+            }
+            return;
+        }
+
+        int[] lastUse = this.lastUse.clone();
+        // The primitive which created the raster of a result. Results may be passed on unchanged by other primitives.
+        int[] owners = new int[lastUse.length];
+        boolean failed = false;
+        for (Step step : steps) {
+            if (failed) {
+                // Results may be missing now. Just carry on in order.
+                applyStep(step, context, filterContext);
+                continue;
+            }
+            int[] producers = step.inputs();
+            Channel[] inputs = new Channel[producers.length];
+            for (int j = 0; j < producers.length; j++) {
+                inputs[j] = filterContext.getChannel(step.inputKeys()[j]);
+            }
+            filterContext.setOverwritableChannels(overwritableChannels(step, inputs, owners, lastUse));
+            failed = !applyStep(step, context, filterContext);
+            filterContext.setOverwritableChannels(NO_CHANNELS);
+
+            Channel result = filterContext.getChannel(DefaultFilterChannel.LastResult);
+            owners[step.last] = step.last;
+            for (int j = 0; j < producers.length; j++) {
+                if (!sharesPixels(result, inputs[j])) continue;
+                int owner = producers[j] == SOURCE ? SOURCE : owners[producers[j]];
+                owners[step.last] = owner;
+                if (owner != SOURCE) lastUse[owner] = Math.max(lastUse[owner], lastUse[step.last]);
+            }
+        }
+    }
+
+    private static @NotNull Channel @NotNull [] overwritableChannels(@NotNull Step step,
+            @NotNull Channel @NotNull [] inputs, int @NotNull [] owners, int @NotNull [] lastUse) {
+        // Chained primitives may read their inputs multiple times.
+        if (step.primitives[0] instanceof ChainedFilterPrimitive) return NO_CHANNELS;
+        int[] producers = step.inputs();
+        List<Channel> channels = null;
+        for (int j = 0; j < producers.length; j++) {
+            if (producers[j] == SOURCE) continue;
+            int owner = owners[producers[j]];
+            if (owner == SOURCE || lastUse[owner] != step.first) continue;
+            if (!isUniqueInput(inputs, j)) continue;
+            if (channels == null) channels = new ArrayList<>();
+            channels.add(inputs[j]);
+        }
+        return channels != null ? channels.toArray(NO_CHANNELS) : NO_CHANNELS;
+    }
+
+    private static boolean isUniqueInput(@NotNull Channel @NotNull [] inputs, int index) {
+        for (int j = 0; j < inputs.length; j++) {
+            if (j != index && sharesPixels(inputs[j], inputs[index])) return false;
+        }
+        return true;
+    }
+
+    private static boolean sharesPixels(@NotNull Channel a, @NotNull Channel b) {
+        if (a == b) return true;
+        if (a instanceof AlphaChannel && b instanceof AlphaChannel) {
+            return ((AlphaChannel) a).data() == ((AlphaChannel) b).data();
+        }
+        return a instanceof RasterChannel && b instanceof RasterChannel
+                && ((RasterChannel) a).data() == ((RasterChannel) b).data();
+    }
+
+    private static boolean applyStep(@NotNull Step step, @NotNull RenderContext context,
+            @NotNull FilterContext filterContext) {
+        try {
+            if (step.primitives.length == 1 || !applyPixelPass(step, context, filterContext)) {
+                for (FilterPrimitive primitive : step.primitives) {
+                    applyPrimitive(primitive, context, filterContext);
+                }
+            }
+            return true;
+        } catch (IllegalFilterStateException e) {
+            // Just carry on applying filters
+            LOGGER.log(Level.INFO, "Exception during filter", e);
+            return false;
+        }
+    }
+
+    private static void applyPrimitive(@NotNull FilterPrimitive primitive, @NotNull RenderContext context,
+            @NotNull FilterContext filterContext) {
+        Rectangle region = filterContext.primitiveRegion(primitive);
+        if (isFullImage(region, filterContext)) {
+            primitive.applyFilter(context, filterContext);
+            return;
+        }
+        FilterChannelKey resultKey = primitive.resultChannel();
+        if (region.isEmpty() && resultKey != null) {
+            Filter.FilterInfo info = filterContext.info();
+            FilterPrimitiveBase.saveResult(resultKey, RasterChannel.create(info.imageWidth, info.imageHeight),
+                    filterContext.resultChannels());
+            return;
+        }
+        // The previous result is replaced by the primitive, hence the inputs have to be looked up beforehand.
+        Channel[] inputs = null;
+        FilterChannelKey[] inputKeys = primitive.inputChannels();
+        if (inputKeys != null) {
+            inputs = new Channel[inputKeys.length];
+            for (int i = 0; i < inputKeys.length; i++) {
+                inputs[i] = filterContext.getChannel(inputKeys[i]);
+            }
+        }
+        primitive.applyFilter(context, filterContext);
+        if (resultKey != null) clipResult(resultKey, region, inputs, context, filterContext);
+    }
+
+    private static boolean isFullImage(@NotNull Rectangle region, @NotNull FilterContext filterContext) {
+        Filter.FilterInfo info = filterContext.info();
+        return region.x == 0 && region.y == 0 && region.width == info.imageWidth && region.height == info.imageHeight;
+    }
+
+    /**
+     * Makes the pixels of the result outside of the region transparent. The raster of the result is only modified if
+     * it isn't shared with an input which is read afterwards. Otherwise, the region is copied. Results which aren't
+     * backed by a raster are clipped when they are read, so that their values aren't converted to colors.
+     */
+    private static void clipResult(@NotNull FilterChannelKey resultKey, @NotNull Rectangle region,
+            @NotNull Channel @Nullable [] inputs, @NotNull RenderContext context,
+            @NotNull FilterContext filterContext) {
+        Channel resultChannel = filterContext.getChannel(DefaultFilterChannel.LastResult);
+        boolean writable = inputs != null;
+        if (inputs != null) {
+            for (Channel input : inputs) {
+                if (sharesPixels(resultChannel, input) && !filterContext.isOverwritable(input)) writable = false;
+            }
+        }
+        if (resultChannel instanceof AlphaChannel) {
+            clipAlpha(resultKey, region, (AlphaChannel) resultChannel, writable, filterContext);
+            return;
+        }
+        Channel clipped = resultChannel instanceof RasterChannel
+                ? ClippedChannel.clip((RasterChannel) resultChannel, region, writable)
+                : new ClippedChannel(resultChannel, region, context);
+        FilterPrimitiveBase.saveResult(resultKey, clipped, filterContext.resultChannels());
+    }
+
+    private static void clipAlpha(@NotNull FilterChannelKey resultKey, @NotNull Rectangle region,
+            @NotNull AlphaChannel result, boolean writable, @NotNull FilterContext filterContext) {
+        AlphaChannel clipped = writable ? result : AlphaChannel.create(result.width(), result.height());
+        byte[] src = result.data();
+        byte[] dst = clipped.data();
+        int w = result.width();
+        for (int y = 0, h = result.height(); y < h; y++) {
+            int p = y * w;
+            if (y < region.y || y >= region.y + region.height) {
+                if (writable) Arrays.fill(dst, p, p + w, (byte) 0);
+            } else if (writable) {
+                Arrays.fill(dst, p, p + region.x, (byte) 0);
+                Arrays.fill(dst, p + region.x + region.width, p + w, (byte) 0);
+            } else {
+                System.arraycopy(src, p + region.x, dst, p + region.x, region.width);
+            }
+        }
+        FilterPrimitiveBase.saveResult(resultKey, clipped, filterContext.resultChannels());
+    }
+
+    private static boolean applyPixelPass(@NotNull Step step, @NotNull RenderContext context,
+            @NotNull FilterContext filterContext) {
+        FilterPrimitive last = step.primitives[step.primitives.length - 1];
+        // Intermediate results are never saved, hence they must not be clipped.
+        for (FilterPrimitive primitive : step.primitives) {
+            if (primitive != last && !isFullImage(filterContext.primitiveRegion(primitive), filterContext)) {
+                return false;
+            }
+        }
+        PixelPass pass = new PixelPass();
+        for (FilterPrimitive primitive : step.primitives) {
+            PixelPass.Stage stage = pixelStage(primitive, filterContext);
+            if (stage == null) return false;
+            pass.add(stage);
+        }
+        Rectangle region = filterContext.primitiveRegion(last);
+        Channel in = filterContext.getChannel(step.inputKeys()[0]);
+        Channel result = in;
+        if (!pass.isIdentity()) {
+            RasterChannel input = in.toRaster(context);
+            RasterChannel output = pass.isInPlace()
+                    ? filterContext.outputRaster(in, input)
+                    : RasterChannel.create(input.width(), input.height());
+            result = pass.apply(input, output, region);
+        }
+        FilterChannelKey resultKey = Objects.requireNonNull(last.resultChannel());
+        FilterPrimitiveBase.saveResult(resultKey, result, filterContext.resultChannels());
+        if (!isFullImage(region, filterContext)) {
+            clipResult(resultKey, region, new Channel[] {in}, context, filterContext);
+        }
+        return true;
+    }
+
+    private static boolean isPixelPrimitive(@NotNull FilterPrimitive primitive) {
+        return primitive instanceof FeColorMatrix
+                || primitive instanceof FeComponentTransfer
+                || primitive instanceof FeOffset;
+    }
+
+    private static @Nullable PixelPass.Stage pixelStage(@NotNull FilterPrimitive primitive,
+            @NotNull FilterContext filterContext) {
+        if (primitive instanceof FeColorMatrix) return ((FeColorMatrix) primitive).pixelStage(filterContext);
+        if (primitive instanceof FeComponentTransfer) {
+            return ((FeComponentTransfer) primitive).pixelStage(filterContext);
+        }
+        if (primitive instanceof FeOffset) return ((FeOffset) primitive).pixelStage(filterContext);
+        return null;
+    }
+
+    private static final class Step {
+        private final @NotNull FilterPrimitive @NotNull [] primitives;
+        // The indices of the first and last primitive of the step.
+        private final int first;
+        private final int last;
+        private final @NotNull FilterChannelKey @Nullable [] inputKeys;
+        private final int @Nullable [] inputs;
+
+        private Step(@NotNull List<@NotNull FilterPrimitive> primitives, int first, int last,
+                @NotNull FilterChannelKey @Nullable [] inputKeys, int @Nullable [] inputs) {
+            this.primitives = primitives.toArray(new FilterPrimitive[0]);
+            this.first = first;
+            this.last = last;
+            this.inputKeys = inputKeys;
+            this.inputs = inputs;
+        }
+
+        private @NotNull FilterChannelKey @NotNull [] inputKeys() {
+            return Objects.requireNonNull(inputKeys);
+        }
+
+        private int @NotNull [] inputs() {
+            return Objects.requireNonNull(inputs);
+        }
+    }
+}
@@ -22,11 +22,18 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.geom.Rectangle2D;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
+import com.github.weisj.jsvg.attributes.value.PercentageDimension;
+import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.renderer.MeasureContext;
 
 public final class FilterLayoutContext {
@@ -35,12 +42,17 @@ public final class FilterLayoutContext {
     private final @NotNull UnitType primitiveUnits;
     private final @NotNull Rectangle2D elementBounds;
     private final @NotNull Rectangle2D clipBounds;
+    private final @NotNull Rectangle2D filterRegion;
+    private final @NotNull ChannelStorage<Rectangle2D> subregions = new ChannelStorage<>();
+    private final @NotNull Map<FilterPrimitive, Rectangle2D> primitiveRegions = new IdentityHashMap<>();
 
     public FilterLayoutContext(@NotNull UnitType primitiveUnits, @NotNull Rectangle2D elementBounds,
-            @NotNull Rectangle2D clipBounds) {
+            @NotNull Rectangle2D clipBounds, @NotNull Rectangle2D filterRegion) {
         this.primitiveUnits = primitiveUnits;
         this.elementBounds = elementBounds;
         this.clipBounds = clipBounds;
+        this.filterRegion = filterRegion;
+        subregions.addResult(DefaultFilterChannel.LastResult, filterRegion);
     }
 
     public @NotNull UnitType primitiveUnits() {
@@ -51,10 +63,88 @@ public final class FilterLayoutContext {
         return elementBounds;
     }
 
+    /**
+     * Computes the subregion of the primitive. Unspecified values are taken from the union of the subregions of its
+     * inputs or from the filter region if it reads a standard input or no inputs at all.
+     *
+     * @param context the measure context.
+     * @param filterPrimitive the primitive.
+     * @return the subregion in user space.
+     */
     public @NotNull Rectangle2D filterPrimitiveRegion(@NotNull MeasureContext context,
             @NotNull FilterPrimitive filterPrimitive) {
-        return primitiveUnits.computeViewBounds(context, elementBounds,
-                filterPrimitive.x(), filterPrimitive.y(), filterPrimitive.width(), filterPrimitive.height());
+        Rectangle2D region = primitiveRegions.get(filterPrimitive);
+        if (region == null) {
+            region = computeFilterPrimitiveRegion(context, filterPrimitive);
+            primitiveRegions.put(filterPrimitive, region);
+        }
+        return region.getBounds2D();
+    }
+
+    private @NotNull Rectangle2D computeFilterPrimitiveRegion(@NotNull MeasureContext context,
+            @NotNull FilterPrimitive filterPrimitive) {
+        Rectangle2D defaultRegion = defaultSubregion(filterPrimitive);
+        Rectangle2D.Double region = primitiveUnits.computeViewBounds(context, elementBounds,
+                coerce(filterPrimitive.x(), PercentageDimension.WIDTH),
+                coerce(filterPrimitive.y(), PercentageDimension.HEIGHT),
+                coerce(filterPrimitive.width(), PercentageDimension.WIDTH),
+                coerce(filterPrimitive.height(), PercentageDimension.HEIGHT));
+        if (Double.isNaN(region.x)) region.x = defaultRegion.getX();
+        if (Double.isNaN(region.y)) region.y = defaultRegion.getY();
+        if (Double.isNaN(region.width)) region.width = defaultRegion.getWidth();
+        if (Double.isNaN(region.height)) region.height = defaultRegion.getHeight();
+        // Non-positive sizes disable the primitive, i.e. its result is transparent.
+        region.width = Math.max(0, region.width);
+        region.height = Math.max(0, region.height);
+        return region;
+    }
+
+    private @NotNull Length coerce(@NotNull Length length, @NotNull PercentageDimension dimension) {
+        if (length.isUnspecified()) return length;
+        return length.coercePercentageToCorrectUnit(primitiveUnits, dimension);
+    }
+
+    private @NotNull Rectangle2D defaultSubregion(@NotNull FilterPrimitive filterPrimitive) {
+        FilterChannelKey[] inputs = filterPrimitive.inputChannels();
+        if (inputs == null || inputs.length == 0) return filterRegion;
+        Rectangle2D union = null;
+        for (FilterChannelKey input : inputs) {
+            if (input instanceof DefaultFilterChannel && input != DefaultFilterChannel.LastResult) {
+                return filterRegion;
+            }
+            Rectangle2D subregion;
+            try {
+                subregion = subregions.get(input);
+            } catch (IllegalFilterStateException e) {
+                // The primitive won't be applied anyway.
+                return filterRegion;
+            }
+            union = union == null ? subregion.getBounds2D() : union.createUnion(subregion);
+        }
+        return union;
+    }
+
+    /**
+     * Records the subregion of the primitive, which later primitives reading its result default to. This has to be
+     * called after the primitive has been laid out.
+     * <p>
+     * Note: The layout bounds of the result aren't clipped to the subregion. Primitives which extend their input at
+     * the edges of the filter image rely on it covering the neighbourhood they read from.
+     *
+     * @param context the measure context.
+     * @param filterPrimitive the primitive.
+     */
+    public void saveFilterPrimitiveRegion(@NotNull MeasureContext context,
+            @NotNull FilterPrimitive filterPrimitive) {
+        Rectangle2D region = filterPrimitiveRegion(context, filterPrimitive);
+        @Nullable FilterChannelKey resultKey = filterPrimitive.resultChannel();
+        if (resultKey == null) resultKey = DefaultFilterChannel.LastResult;
+        FilterPrimitiveBase.saveResult(resultKey, region, subregions);
+    }
+
+    @NotNull
+    Map<FilterPrimitive, Rectangle2D> filterPrimitiveRegions() {
+        return primitiveRegions;
     }
 
     public @NotNull ChannelStorage<LayoutBounds> resultChannels() {
@@ -23,8 +23,11 @@ package com.github.weisj.jsvg.nodes.filter;
 
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.renderer.RenderContext;
 
@@ -46,6 +49,26 @@ public interface FilterPrimitive {
         return true;
     }
 
+    /**
+     * The channels read by this primitive. The filter uses them to skip primitives whose result is never used and
+     * to reuse buffers which aren't read anymore.
+     *
+     * @return the input channels or null if they aren't known, in which case all primitives are applied in order.
+     */
+    default @NotNull FilterChannelKey @Nullable [] inputChannels() {
+        return null;
+    }
+
+    /**
+     * The channel the result is stored in. The result is always stored as {@link DefaultFilterChannel#LastResult}
+     * as well.
+     *
+     * @return the result channel or null if it isn't known, in which case all primitives are applied in order.
+     */
+    default @Nullable FilterChannelKey resultChannel() {
+        return null;
+    }
+
     void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext);
 
     void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext);
@@ -30,7 +30,6 @@ import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.attributes.value.PercentageDimension;
 import com.github.weisj.jsvg.geometry.size.Length;
-import com.github.weisj.jsvg.geometry.size.Unit;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 public final class FilterPrimitiveBase {
@@ -45,10 +44,11 @@ public final class FilterPrimitiveBase {
     private final ColorInterpolation colorInterpolation;
 
     public FilterPrimitiveBase(@NotNull AttributeNode attributeNode) {
-        x = attributeNode.getLength("x", PercentageDimension.WIDTH, Unit.PERCENTAGE_WIDTH.valueOf(0));
-        y = attributeNode.getLength("y", PercentageDimension.HEIGHT, Unit.PERCENTAGE_HEIGHT.valueOf(0));
-        width = attributeNode.getLength("width", PercentageDimension.WIDTH, Unit.PERCENTAGE_WIDTH.valueOf(100));
-        height = attributeNode.getLength("height", PercentageDimension.HEIGHT, Unit.PERCENTAGE_HEIGHT.valueOf(100));
+        // Unspecified values default to the subregions of the inputs. See FilterLayoutContext#filterPrimitiveRegion.
+        x = attributeNode.getLength("x", PercentageDimension.WIDTH, Length.UNSPECIFIED);
+        y = attributeNode.getLength("y", PercentageDimension.HEIGHT, Length.UNSPECIFIED);
+        width = attributeNode.getLength("width", PercentageDimension.WIDTH, Length.UNSPECIFIED);
+        height = attributeNode.getLength("height", PercentageDimension.HEIGHT, Length.UNSPECIFIED);
 
         inputChannel = attributeNode.getFilterChannelKey("in", DefaultFilterChannel.LastResult);
         resultChannel = attributeNode.getFilterChannelKey("result", DefaultFilterChannel.LastResult);
@@ -56,6 +56,14 @@ public final class FilterPrimitiveBase {
         colorInterpolation = attributeNode.getEnum("color-interpolation-filters", ColorInterpolation.Inherit);
     }
 
+    public @NotNull FilterChannelKey inputKey() {
+        return inputChannel;
+    }
+
+    public @NotNull FilterChannelKey resultKey() {
+        return resultChannel;
+    }
+
     public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
         return filterContext.colorInterpolation(colorInterpolation);
     }
@@ -85,6 +93,11 @@ public final class FilterPrimitiveBase {
     }
 
     private <T> void saveResultImpl(@NotNull T value, @NotNull ChannelStorage<T> storage) {
+        saveResult(resultChannel, value, storage);
+    }
+
+    static <T> void saveResult(@NotNull FilterChannelKey resultChannel, @NotNull T value,
+            @NotNull ChannelStorage<T> storage) {
         storage.addResult(resultChannel, value);
         if (resultChannel != DefaultFilterChannel.LastResult) {
             storage.addResult(DefaultFilterChannel.LastResult, value);
@@ -0,0 +1,474 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+
+/*
+ * NOTICE: The box blur passes are adapted from code of the Batik project:
+ * https://xmlgraphics.apache.org/batik/ by the Apache Software Foundation. It is licensed under the
+ * Apache License 2.0 http://www.apache.org/licenses/LICENSE-2.0
+ */
+/**
+ * Separable gaussian blur of premultiplied packed int ARGB pixels.
+ * <p>
+ * Rows are blurred first and written transposed into an intermediate buffer. The vertical blur hence again operates
+ * on contiguous rows of that buffer, which are written back transposed into the destination. Pixels outside the
+ * blurred area are sampled according to the edge mode, so the input is never copied into a padded image. Only for
+ * duplicated edges the line buffers are extended by the reach of the blur, as repeated box blurs of a clamped line
+ * differ from repeated box blurs of the extended line.
+ * <p>
+ * Large standard deviations are approximated by three successive box blurs as described by the specification. Box
+ * blurs are computed from running sums, hence their cost per pixel doesn't depend on the standard deviation.
+ */
+final class GaussianBlurFilter {
+    private GaussianBlurFilter() {}
+
+    /**
+     * Blurs the given area of the source into the destination. The source and destination may be the same raster.
+     *
+     * @param src the source pixels. Pixels of the area which lie outside the source are transparent.
+     * @param dst the destination, which has the same size as the source. Only the pixels inside the area are written.
+     * @param area the area to blur. Its edges are extended according to the edge mode.
+     * @param xSigma the horizontal standard deviation in pixels.
+     * @param ySigma the vertical standard deviation in pixels.
+     * @param edgeMode the edge mode.
+     * @param hints the rendering hints, which determine whether the blur runs in parallel.
+     */
+    static void blur(@NotNull RasterChannel src, @NotNull RasterChannel dst, @NotNull Rectangle area,
+            double xSigma, double ySigma, @NotNull EdgeMode edgeMode, @Nullable RenderingHints hints) {
+        Rectangle target = area.intersection(new Rectangle(dst.width(), dst.height()));
+        if (target.isEmpty()) return;
+        int w = area.width;
+        int h = area.height;
+        int xMargin = edgeMode == EdgeMode.Duplicate ? reach(xSigma) : 0;
+        int yMargin = edgeMode == EdgeMode.Duplicate ? reach(ySigma) : 0;
+        int[] transposed = new int[w * h];
+
+        ParallelBands.run(hints, h, w, (from, to) -> {
+            int length = w + 2 * xMargin;
+            int[] line = new int[length];
+            LineBlur xBlur = lineBlur(xSigma, length);
+            for (int y = from; y < to; y++) {
+                readRow(src, area.x, area.y + y, line, xMargin, w);
+                extendEdges(line, xMargin, w);
+                int[] result = xBlur.blur(line, edgeMode);
+                for (int x = 0, tp = y; x < w; x++, tp += h) {
+                    transposed[tp] = result[xMargin + x];
+                }
+            }
+        });
+
+        int[] dstData = dst.data();
+        int dstStride = dst.scanlineStride();
+        ParallelBands.run(hints, target.width, h, (from, to) -> {
+            int length = h + 2 * yMargin;
+            int[] line = new int[length];
+            LineBlur yBlur = lineBlur(ySigma, length);
+            for (int x = target.x + from, xEnd = target.x + to; x < xEnd; x++) {
+                System.arraycopy(transposed, (x - area.x) * h, line, yMargin, h);
+                extendEdges(line, yMargin, h);
+                int[] result = yBlur.blur(line, edgeMode);
+                int dp = dst.offset() + target.y * dstStride + x;
+                for (int y = yMargin + target.y - area.y, yEnd = y + target.height; y < yEnd; y++, dp += dstStride) {
+                    dstData[dp] = result[y];
+                }
+            }
+        });
+    }
+
+    /**
+     * Blurs the given area of the source alpha channel into the destination. The source and destination may be the
+     * same channel.
+     *
+     * @see #blur(RasterChannel, RasterChannel, Rectangle, double, double, EdgeMode, RenderingHints)
+     */
+    static void blurAlpha(@NotNull AlphaChannel src, @NotNull AlphaChannel dst, @NotNull Rectangle area,
+            double xSigma, double ySigma, @NotNull EdgeMode edgeMode, @Nullable RenderingHints hints) {
+        Rectangle target = area.intersection(new Rectangle(dst.width(), dst.height()));
+        if (target.isEmpty()) return;
+        int w = area.width;
+        int h = area.height;
+        int xMargin = edgeMode == EdgeMode.Duplicate ? reach(xSigma) : 0;
+        int yMargin = edgeMode == EdgeMode.Duplicate ? reach(ySigma) : 0;
+        byte[] transposed = new byte[w * h];
+
+        byte[] srcData = src.data();
+        ParallelBands.run(hints, h, w, (from, to) -> {
+            int length = w + 2 * xMargin;
+            int[] line = new int[length];
+            LineBlur xBlur = lineBlur(xSigma, length);
+            int start = Math.max(0, -area.x);
+            int end = Math.min(w, src.width() - area.x);
+            for (int y = from; y < to; y++) {
+                int sy = area.y + y;
+                Arrays.fill(line, 0);
+                if (sy >= 0 && sy < src.height()) {
+                    int sp = sy * src.width() + area.x;
+                    for (int x = start; x < end; x++) {
+                        line[xMargin + x] = srcData[sp + x] & 0xFF;
+                    }
+                }
+                extendEdges(line, xMargin, w);
+                int[] result = xBlur.blurAlpha(line, edgeMode);
+                for (int x = 0, tp = y; x < w; x++, tp += h) {
+                    transposed[tp] = (byte) result[xMargin + x];
+                }
+            }
+        });
+
+        byte[] dstData = dst.data();
+        int dstWidth = dst.width();
+        ParallelBands.run(hints, target.width, h, (from, to) -> {
+            int length = h + 2 * yMargin;
+            int[] line = new int[length];
+            LineBlur yBlur = lineBlur(ySigma, length);
+            for (int x = target.x + from, xEnd = target.x + to; x < xEnd; x++) {
+                for (int y = 0, tp = (x - area.x) * h; y < h; y++, tp++) {
+                    line[yMargin + y] = transposed[tp] & 0xFF;
+                }
+                extendEdges(line, yMargin, h);
+                int[] result = yBlur.blurAlpha(line, edgeMode);
+                int dp = target.y * dstWidth + x;
+                for (int y = yMargin + target.y - area.y, yEnd = y + target.height; y < yEnd; y++, dp += dstWidth) {
+                    dstData[dp] = (byte) result[y];
+                }
+            }
+        });
+    }
+
+    /*
+     * Reads w pixels of the source row starting at x into the line starting at off.
+     */
+    private static void readRow(@NotNull RasterChannel src, int x, int y, int @NotNull [] line, int off, int w) {
+        int start = Math.max(0, -x);
+        int end = Math.min(w, src.width() - x);
+        if (y < 0 || y >= src.height() || start >= end) {
+            Arrays.fill(line, off, off + w, 0);
+            return;
+        }
+        Arrays.fill(line, off, off + start, 0);
+        Arrays.fill(line, off + end, off + w, 0);
+        int[] data = src.data();
+        int sp = src.offset() + y * src.scanlineStride() + x;
+        System.arraycopy(data, sp + start, line, off + start, end - start);
+    }
+
+    private static void extendEdges(int @NotNull [] line, int margin, int n) {
+        if (margin == 0) return;
+        Arrays.fill(line, 0, margin, line[margin]);
+        Arrays.fill(line, margin + n, n + 2 * margin, line[margin + n - 1]);
+    }
+
+    /*
+     * The number of pixels the blur reaches beyond either end of a line.
+     */
+    private static int reach(double sigma) {
+        if (sigma <= 0) return 0;
+        int diameter = FeGaussianBlur.kernelDiameterForStandardDeviation(sigma);
+        if (sigma < FeGaussianBlur.BOX_BLUR_APPROXIMATION_THRESHOLD) return diameter / 2;
+        // Every box pass reaches at most d / 2 + 1 pixels in either direction.
+        return 3 * (diameter / 2 + 1);
+    }
+
+    private static @NotNull LineBlur lineBlur(double sigma, int length) {
+        if (sigma <= 0) return new Identity();
+        int diameter = FeGaussianBlur.kernelDiameterForStandardDeviation(sigma);
+        if (sigma < FeGaussianBlur.BOX_BLUR_APPROXIMATION_THRESHOLD) {
+            return new KernelBlur(FeGaussianBlur.computeGaussianKernelData(diameter, sigma), length);
+        }
+        return new BoxBlur(diameter, length);
+    }
+
+    private static int sample(int @NotNull [] line, int n, int i, @NotNull EdgeMode edgeMode) {
+        if (i >= 0 && i < n) return line[i];
+        switch (edgeMode) {
+            case Duplicate:
+                return line[i < 0 ? 0 : n - 1];
+            case Wrap:
+                return line[Math.floorMod(i, n)];
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Blurs lines of a fixed length. Line blurs hold scratch buffers, hence every thread uses its own instance.
+     */
+    private abstract static class LineBlur {
+        final int @NotNull [] scratch;
+
+        LineBlur(int length) {
+            this.scratch = new int[length];
+        }
+
+        /**
+         * Blurs a line of premultiplied ARGB pixels.
+         *
+         * @return the array holding the result, which is either the line or the scratch buffer.
+         */
+        abstract int @NotNull [] blur(int @NotNull [] line, @NotNull EdgeMode edgeMode);
+
+        /**
+         * Blurs a line of alpha values.
+         *
+         * @return the array holding the result, which is either the line or the scratch buffer.
+         */
+        abstract int @NotNull [] blurAlpha(int @NotNull [] line, @NotNull EdgeMode edgeMode);
+    }
+
+    private static final class Identity extends LineBlur {
+        private Identity() {
+            super(0);
+        }
+
+        @Override
+        int @NotNull [] blur(int @NotNull [] line, @NotNull EdgeMode edgeMode) {
+            return line;
+        }
+
+        @Override
+        int @NotNull [] blurAlpha(int @NotNull [] line, @NotNull EdgeMode edgeMode) {
+            return line;
+        }
+    }
+
+    /**
+     * Convolves the line with a symmetric kernel in 16.16 fixed point. The alpha and green as well as the red and
+     * blue channels are accumulated in two lanes of a long each, which halves the number of multiplications.
+     */
+    private static final class KernelBlur extends LineBlur {
+        private static final long ROUNDING = (1L << 47) | (1L << 15);
+        private final int @NotNull [] weights;
+        private final long @NotNull [] ag;
+        private final long @NotNull [] rb;
+
+        private KernelBlur(float @NotNull [] kernel, int length) {
+            super(length);
+            int mid = kernel.length / 2;
+            // Only the center and the right half of the kernel are stored.
+            this.weights = new int[mid + 1];
+            for (int k = 0; k <= mid; k++) {
+                weights[k] = Math.round(kernel[mid + k] * (1 << 16));
+            }
+            this.ag = new long[length];
+            this.rb = new long[length];
+        }
+
+        @Override
+        int @NotNull [] blur(int @NotNull [] line, @NotNull EdgeMode edgeMode) {
+            int n = line.length;
+            int[] w = weights;
+            int mid = w.length - 1;
+            for (int i = 0; i < n; i++) {
+                int p = line[i];
+                ag[i] = ((long) (p >>> 24) << 32) | ((p >> 8) & 0xFF);
+                rb[i] = ((long) ((p >> 16) & 0xFF) << 32) | (p & 0xFF);
+            }
+            int interiorStart = Math.min(mid, n);
+            int interiorEnd = Math.max(interiorStart, n - mid);
+            for (int i = 0; i < interiorStart; i++) {
+                scratch[i] = edgePixel(line, n, i, edgeMode);
+            }
+            for (int i = interiorStart; i < interiorEnd; i++) {
+                long sumAG = ag[i] * w[0] + ROUNDING;
+                long sumRB = rb[i] * w[0] + ROUNDING;
+                for (int k = 1; k <= mid; k++) {
+                    sumAG += (ag[i - k] + ag[i + k]) * w[k];
+                    sumRB += (rb[i - k] + rb[i + k]) * w[k];
+                }
+                scratch[i] = (channel(sumAG >>> 48) << 24) | (channel(sumRB >>> 48) << 16)
+                        | (channel((sumAG >>> 16) & 0xFFFF) << 8) | channel((sumRB >>> 16) & 0xFFFF);
+            }
+            for (int i = interiorEnd; i < n; i++) {
+                scratch[i] = edgePixel(line, n, i, edgeMode);
+            }
+            return scratch;
+        }
+
+        @Override
+        int @NotNull [] blurAlpha(int @NotNull [] line, @NotNull EdgeMode edgeMode) {
+            int n = line.length;
+            int[] w = weights;
+            int mid = w.length - 1;
+            for (int i = 0; i < n; i++) {
+                int sum = 1 << 15;
+                if (i >= mid && i < n - mid) {
+                    sum += line[i] * w[0];
+                    for (int k = 1; k <= mid; k++) {
+                        sum += (line[i - k] + line[i + k]) * w[k];
+                    }
+                } else {
+                    for (int k = -mid; k <= mid; k++) {
+                        sum += sample(line, n, i + k, edgeMode) * w[Math.abs(k)];
+                    }
+                }
+                scratch[i] = Math.min(255, sum >>> 16);
+            }
+            return scratch;
+        }
+
+        private int edgePixel(int @NotNull [] line, int n, int i, @NotNull EdgeMode edgeMode) {
+            int[] w = weights;
+            int mid = w.length - 1;
+            int a = 1 << 15;
+            int r = 1 << 15;
+            int g = 1 << 15;
+            int b = 1 << 15;
+            for (int k = -mid; k <= mid; k++) {
+                int p = sample(line, n, i + k, edgeMode);
+                int weight = w[Math.abs(k)];
+                a += weight * (p >>> 24);
+                r += weight * ((p >> 16) & 0xFF);
+                g += weight * ((p >> 8) & 0xFF);
+                b += weight * (p & 0xFF);
+            }
+            return (channel(a >>> 16) << 24) | (channel(r >>> 16) << 16) | (channel(g >>> 16) << 8)
+                    | channel(b >>> 16);
+        }
+
+        private static int channel(long value) {
+            return (int) Math.min(255, value);
+        }
+    }
+
+    private static final class BoxBlur extends LineBlur {
+        private final int diameter;
+
+        private BoxBlur(int diameter, int length) {
+            super(length);
+            this.diameter = diameter;
+        }
+
+        @Override
+        int @NotNull [] blur(int @NotNull [] line, @NotNull EdgeMode edgeMode) {
+            int d = diameter;
+            if ((d & 0x01) == 0) {
+                // Two boxes centered on the pixel boundaries left and right of the output pixel followed by a box
+                // of size d + 1 centered on the output pixel.
+                boxPass(line, scratch, d, d / 2, edgeMode);
+                boxPass(scratch, line, d, d / 2 - 1, edgeMode);
+                boxPass(line, scratch, d + 1, d / 2, edgeMode);
+            } else {
+                boxPass(line, scratch, d, d / 2, edgeMode);
+                boxPass(scratch, line, d, d / 2, edgeMode);
+                boxPass(line, scratch, d, d / 2, edgeMode);
+            }
+            return scratch;
+        }
+
+        @Override
+        int @NotNull [] blurAlpha(int @NotNull [] line, @NotNull EdgeMode edgeMode) {
+            int d = diameter;
+            if ((d & 0x01) == 0) {
+                alphaBoxPass(line, scratch, d, d / 2, edgeMode);
+                alphaBoxPass(scratch, line, d, d / 2 - 1, edgeMode);
+                alphaBoxPass(line, scratch, d + 1, d / 2, edgeMode);
+            } else {
+                alphaBoxPass(line, scratch, d, d / 2, edgeMode);
+                alphaBoxPass(scratch, line, d, d / 2, edgeMode);
+                alphaBoxPass(line, scratch, d, d / 2, edgeMode);
+            }
+            return scratch;
+        }
+
+        /*
+         * The output pixel i is the average of the source pixels i - loc to i - loc + boxSize - 1.
+         */
+        private static void boxPass(int @NotNull [] src, int @NotNull [] dst, int boxSize, int loc,
+                @NotNull EdgeMode edgeMode) {
+            int n = src.length;
+            // Averages are computed in 8.24 fixed point. Rounding them keeps repeated passes from darkening the
+            // image.
+            long scale = Math.round((double) (1 << 24) / boxSize);
+            int sumA = 0;
+            int sumR = 0;
+            int sumG = 0;
+            int sumB = 0;
+            for (int j = -loc, end = boxSize - loc; j < end; j++) {
+                int p = sample(src, n, j, edgeMode);
+                sumA += p >>> 24;
+                sumR += (p >> 16) & 0xFF;
+                sumG += (p >> 8) & 0xFF;
+                sumB += p & 0xFF;
+            }
+            // Within [interiorStart, interiorEnd) the pixels entering and leaving the box lie inside the line.
+            int interiorStart = Math.min(n, loc);
+            int interiorEnd = Math.max(interiorStart, n - boxSize + loc);
+            int average = average(sumA, sumR, sumG, sumB, scale);
+            for (int i = 0; i < n; i++) {
+                dst[i] = average;
+                int out;
+                int in;
+                if (i >= interiorStart && i < interiorEnd) {
+                    out = src[i - loc];
+                    in = src[i - loc + boxSize];
+                } else {
+                    out = sample(src, n, i - loc, edgeMode);
+                    in = sample(src, n, i - loc + boxSize, edgeMode);
+                }
+                if (out != in) {
+                    sumA += (in >>> 24) - (out >>> 24);
+                    sumR += ((in >> 16) & 0xFF) - ((out >> 16) & 0xFF);
+                    sumG += ((in >> 8) & 0xFF) - ((out >> 8) & 0xFF);
+                    sumB += (in & 0xFF) - (out & 0xFF);
+                    average = average(sumA, sumR, sumG, sumB, scale);
+                }
+            }
+        }
+
+        private static void alphaBoxPass(int @NotNull [] src, int @NotNull [] dst, int boxSize, int loc,
+                @NotNull EdgeMode edgeMode) {
+            int n = src.length;
+            long scale = Math.round((double) (1 << 24) / boxSize);
+            int sum = 0;
+            for (int j = -loc, end = boxSize - loc; j < end; j++) {
+                sum += sample(src, n, j, edgeMode);
+            }
+            int interiorStart = Math.min(n, loc);
+            int interiorEnd = Math.max(interiorStart, n - boxSize + loc);
+            for (int i = 0; i < n; i++) {
+                dst[i] = channel(sum, scale);
+                if (i >= interiorStart && i < interiorEnd) {
+                    sum += src[i - loc + boxSize] - src[i - loc];
+                } else {
+                    sum += sample(src, n, i - loc + boxSize, edgeMode) - sample(src, n, i - loc, edgeMode);
+                }
+            }
+        }
+
+        private static int average(int sumA, int sumR, int sumG, int sumB, long scale) {
+            return (channel(sumA, scale) << 24) | (channel(sumR, scale) << 16) | (channel(sumG, scale) << 8)
+                    | channel(sumB, scale);
+        }
+
+        private static int channel(int sum, long scale) {
+            return (int) ((sum * scale + (1 << 23)) >>> 24);
+        }
+    }
+}
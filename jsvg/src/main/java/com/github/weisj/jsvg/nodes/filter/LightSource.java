@@ -25,20 +25,10 @@ import org.jetbrains.annotations.NotNull;
 
 interface LightSource {
 
-    @NotNull
-    Light lightAt(double x, double y, double z);
-
-    final class Light {
-        final double x;
-        final double y;
-        final double z;
-        final double intensity;
-
-        Light(double x, double y, double z, double intensity) {
-            this.x = x;
-            this.y = y;
-            this.z = z;
-            this.intensity = intensity;
-        }
-    }
+    /**
+     * Computes the light at the given point of the surface in user space.
+     *
+     * @param light receives the unit vector from the surface towards the light followed by the intensity of the light.
+     */
+    void lightAt(double x, double y, double z, double @NotNull [] light);
 }
@@ -0,0 +1,304 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.util.ColorUtil;
+
+/**
+ * Lights the surface described by an alpha plane, as done by feDiffuseLighting and feSpecularLighting.
+ * <p>
+ * The surface normals only depend on the alpha plane, hence they are computed once into a {@link NormalMap}, which
+ * is reused as long as the alpha plane stays the same, e.g. if only the light source is animated. The direction of
+ * a distant light is the same for every pixel and hence computed only once.
+ */
+final class LightingFilter {
+    private LightingFilter() {}
+
+    /**
+     * The fraction of the light the surface reflects towards the viewer.
+     */
+    interface Reflection {
+        /**
+         * @param intensity the intensity of the light.
+         * @param nx the x component of the unit surface normal.
+         * @param ny the y component of the unit surface normal.
+         * @param nz the z component of the unit surface normal.
+         * @param lx the x component of the unit vector towards the light.
+         * @param ly the y component of the unit vector towards the light.
+         * @param lz the z component of the unit vector towards the light.
+         * @return the factor the light color is scaled with.
+         */
+        double reflect(double intensity, double nx, double ny, double nz, double lx, double ly, double lz);
+
+        /**
+         * @return the alpha of the non-premultiplied lit color.
+         */
+        int alpha(int r, int g, int b);
+    }
+
+    static final class Diffuse implements Reflection {
+        private final double diffuseConstant;
+
+        Diffuse(double diffuseConstant) {
+            this.diffuseConstant = diffuseConstant;
+        }
+
+        @Override
+        public double reflect(double intensity, double nx, double ny, double nz, double lx, double ly, double lz) {
+            return diffuseConstant * intensity * Math.max(0, nx * lx + ny * ly + nz * lz);
+        }
+
+        @Override
+        public int alpha(int r, int g, int b) {
+            return 255;
+        }
+    }
+
+    static final class Specular implements Reflection {
+        private final double specularConstant;
+        private final double specularExponent;
+
+        Specular(double specularConstant, double specularExponent) {
+            this.specularConstant = specularConstant;
+            this.specularExponent = specularExponent;
+        }
+
+        @Override
+        public double reflect(double intensity, double nx, double ny, double nz, double lx, double ly, double lz) {
+            // The halfway vector between the light and the eye, which is located at infinity in z direction.
+            double hz = lz + 1;
+            double length = Math.sqrt(lx * lx + ly * ly + hz * hz);
+            if (length == 0) return 0;
+            double dot = (nx * lx + ny * ly + nz * hz) / length;
+            if (dot <= 0) return 0;
+            return specularConstant * intensity * Math.pow(dot, specularExponent);
+        }
+
+        @Override
+        public int alpha(int r, int g, int b) {
+            return Math.max(r, Math.max(g, b));
+        }
+    }
+
+    /**
+     * Lights the given area.
+     *
+     * @param normalMap the normals of the surface.
+     * @param lightSource the light source.
+     * @param reflection how the surface reflects the light.
+     * @param lightColor the non-premultiplied color of the light in sRGB.
+     * @param linearRGB whether the light is computed in linear RGB.
+     * @param imageBounds the bounds of the image in user space.
+     * @param dst the destination. Only the pixels of the area of the normal map are written.
+     * @param hints the rendering hints, which control whether the pixels are computed in parallel.
+     */
+    static void light(@NotNull NormalMap normalMap, @NotNull LightSource lightSource, @NotNull Reflection reflection,
+            @NotNull Color lightColor, boolean linearRGB, @NotNull Rectangle2D imageBounds,
+            @NotNull RasterChannel dst, @Nullable RenderingHints hints) {
+        Rectangle area = normalMap.area;
+        int w = normalMap.width;
+        double scaleX = imageBounds.getWidth() / w;
+        double scaleY = imageBounds.getHeight() / normalMap.height;
+        double startX = imageBounds.getX();
+        double startY = imageBounds.getY();
+
+        int[] color = {lightColor.getRed(), lightColor.getGreen(), lightColor.getBlue(), 255};
+        if (linearRGB) ColorUtil.sRGBtoLinearRGBinPlace(color);
+        int red = color[0];
+        int green = color[1];
+        int blue = color[2];
+
+        double[] distantLight = null;
+        if (lightSource instanceof FeDistantLight) {
+            distantLight = new double[4];
+            lightSource.lightAt(0, 0, 0, distantLight);
+        }
+        double[] constantLight = distantLight;
+
+        float[] normals = normalMap.normals;
+        byte[] alpha = normalMap.alpha;
+        double surfaceScale = normalMap.surfaceScale;
+        int[] dstPixels = dst.data();
+        ParallelBands.run(hints, area.height, area.width, (from, to) -> {
+            double[] light = constantLight != null ? constantLight : new double[4];
+            for (int i = from; i < to; i++) {
+                int y = area.y + i;
+                double userY = startY + y * scaleY;
+                int np = 3 * i * area.width;
+                int dp = dst.offset() + y * dst.scanlineStride() + area.x;
+                for (int x = area.x, xEnd = area.x + area.width; x < xEnd; x++, np += 3, dp++) {
+                    if (constantLight == null) {
+                        double z = surfaceScale * (alpha[y * w + x] & 0xFF) / 255.0;
+                        lightSource.lightAt(startX + x * scaleX, userY, z, light);
+                    }
+                    double factor = reflection.reflect(light[3], normals[np], normals[np + 1], normals[np + 2],
+                            light[0], light[1], light[2]);
+
+                    int r = ColorUtil.toRgbRange(red * factor);
+                    int g = ColorUtil.toRgbRange(green * factor);
+                    int b = ColorUtil.toRgbRange(blue * factor);
+                    int a = reflection.alpha(r, g, b);
+                    if (linearRGB) {
+                        r = ColorUtil.linearRGBtoSRGBBand(r);
+                        g = ColorUtil.linearRGBtoSRGBBand(g);
+                        b = ColorUtil.linearRGBtoSRGBBand(b);
+                    }
+                    dstPixels[dp] = ColorUtil.premultiply((a << 24) | (r << 16) | (g << 8) | b);
+                }
+            }
+        });
+    }
+
+    /**
+     * The unit normals of the surface whose height is given by the alpha plane scaled by the surface scale. Normals
+     * are computed from the central differences of the heights. If a kernel unit length is given, the heights
+     * between pixels are interpolated bilinearly.
+     */
+    static final class NormalMap {
+        private final byte @NotNull [] alpha;
+        private final int width;
+        private final int height;
+        private final @NotNull Rectangle area;
+        private final double surfaceScale;
+        private final double pixelStepX;
+        private final double pixelStepY;
+        private final double userStepX;
+        private final double userStepY;
+        private final float @NotNull [] normals;
+
+        private NormalMap(byte @NotNull [] alpha, int width, int height, @NotNull Rectangle area,
+                double surfaceScale, double pixelStepX, double pixelStepY, double userStepX, double userStepY) {
+            this.alpha = alpha;
+            this.width = width;
+            this.height = height;
+            this.area = area;
+            this.surfaceScale = surfaceScale;
+            this.pixelStepX = pixelStepX;
+            this.pixelStepY = pixelStepY;
+            this.userStepX = userStepX;
+            this.userStepY = userStepY;
+            this.normals = new float[3 * area.width * area.height];
+        }
+
+        /**
+         * Returns the normals of the given surface. The previous normal map is returned if it was computed for the
+         * same surface.
+         *
+         * @param previous the previously computed normal map or null.
+         * @param alpha the alpha plane.
+         * @param area the pixels the normals are computed for.
+         * @param surfaceScale the height of the surface where the alpha is 1.
+         * @param kernelUnitLength the distance between the sampled heights in user space or null to sample the
+         *        neighbouring pixels.
+         * @param imageBounds the bounds of the image in user space.
+         * @param hints the rendering hints, which control whether the normals are computed in parallel.
+         * @return the normal map.
+         */
+        static @NotNull NormalMap of(@Nullable NormalMap previous, @NotNull AlphaChannel alpha,
+                @NotNull Rectangle area, double surfaceScale, double @Nullable [] kernelUnitLength,
+                @NotNull Rectangle2D imageBounds, @Nullable RenderingHints hints) {
+            int w = alpha.width();
+            int h = alpha.height();
+            double scaleX = imageBounds.getWidth() / w;
+            double scaleY = imageBounds.getHeight() / h;
+            double pixelStepX = kernelUnitLength != null ? kernelUnitLength[0] / scaleX : 1;
+            double pixelStepY = kernelUnitLength != null ? kernelUnitLength[1] / scaleY : 1;
+            double userStepX = kernelUnitLength != null ? kernelUnitLength[0] : scaleX;
+            double userStepY = kernelUnitLength != null ? kernelUnitLength[1] : scaleY;
+
+            if (previous != null && previous.width == w && previous.height == h && previous.area.equals(area)
+                    && Double.compare(previous.surfaceScale, surfaceScale) == 0
+                    && Double.compare(previous.pixelStepX, pixelStepX) == 0
+                    && Double.compare(previous.pixelStepY, pixelStepY) == 0
+                    && Double.compare(previous.userStepX, userStepX) == 0
+                    && Double.compare(previous.userStepY, userStepY) == 0
+                    && Arrays.equals(previous.alpha, alpha.data())) {
+                return previous;
+            }
+
+            // The alpha channel may be modified by later primitives.
+            NormalMap normalMap = new NormalMap(alpha.data().clone(), w, h, new Rectangle(area), surfaceScale,
+                    pixelStepX, pixelStepY, userStepX, userStepY);
+            ParallelBands.run(hints, area.height, area.width, normalMap::computeNormals);
+            return normalMap;
+        }
+
+        int pixelCount() {
+            return area.width * area.height;
+        }
+
+        private void computeNormals(int from, int to) {
+            boolean neighbours = pixelStepX == 1 && pixelStepY == 1;
+            for (int i = from; i < to; i++) {
+                int y = area.y + i;
+                int np = 3 * i * area.width;
+                for (int x = area.x, xEnd = area.x + area.width; x < xEnd; x++, np += 3) {
+                    double dx;
+                    double dy;
+                    if (neighbours) {
+                        dx = (heightAt(Math.min(width - 1, x + 1), y) - heightAt(Math.max(0, x - 1), y))
+                                / (2 * userStepX);
+                        dy = (heightAt(x, Math.min(height - 1, y + 1)) - heightAt(x, Math.max(0, y - 1)))
+                                / (2 * userStepY);
+                    } else {
+                        dx = (heightAt(x + pixelStepX, y) - heightAt(x - pixelStepX, y)) / (2 * userStepX);
+                        dy = (heightAt(x, y + pixelStepY) - heightAt(x, y - pixelStepY)) / (2 * userStepY);
+                    }
+                    double length = Math.sqrt(dx * dx + dy * dy + 1);
+                    normals[np] = (float) (-dx / length);
+                    normals[np + 1] = (float) (-dy / length);
+                    normals[np + 2] = (float) (1 / length);
+                }
+            }
+        }
+
+        private double heightAt(int x, int y) {
+            return surfaceScale * (alpha[y * width + x] & 0xFF) / 255.0;
+        }
+
+        private double heightAt(double x, double y) {
+            double clampedX = Math.max(0, Math.min(width - 1.0, x));
+            double clampedY = Math.max(0, Math.min(height - 1.0, y));
+            int x0 = (int) Math.floor(clampedX);
+            int y0 = (int) Math.floor(clampedY);
+            int x1 = Math.min(width - 1, x0 + 1);
+            int y1 = Math.min(height - 1, y0 + 1);
+            double tx = clampedX - x0;
+            double ty = clampedY - y0;
+
+            double a00 = alpha[y0 * width + x0] & 0xFF;
+            double a10 = alpha[y0 * width + x1] & 0xFF;
+            double a01 = alpha[y1 * width + x0] & 0xFF;
+            double a11 = alpha[y1 * width + x1] & 0xFF;
+            double a0 = a00 + (a10 - a00) * tx;
+            double a1 = a01 + (a11 - a01) * tx;
+            return surfaceScale * (a0 + (a1 - a0) * ty) / 255.0;
+        }
+    }
+}
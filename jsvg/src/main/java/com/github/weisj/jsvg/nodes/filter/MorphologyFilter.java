@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Separable erosion and dilation of premultiplied packed int ARGB or alpha pixels, which take the per channel
+ * minimum or maximum of a rectangular window. Pixels outside the image are transparent.
+ * <p>
+ * Every line is filtered using the van Herk/Gil-Werman algorithm: The line is split into blocks of the window size,
+ * for which running minima (or maxima) from the start and from the end of each block are computed. Any window covers
+ * the end of one block and the start of the next, hence its result combines one value of each. The cost per pixel
+ * is therefore independent of the radius.
+ * <p>
+ * Like {@link GaussianBlurFilter}, rows are filtered first and written transposed into an intermediate buffer, whose
+ * rows are then filtered and written back transposed into the destination.
+ */
+final class MorphologyFilter {
+    private MorphologyFilter() {}
+
+    /**
+     * Filters the given area of the source into the destination. The source and destination may be the same raster.
+     *
+     * @param src the source pixels.
+     * @param dst the destination, which has the same size as the source. Only the pixels inside the area are written.
+     * @param area the area to filter.
+     * @param xRadius the horizontal radius of the window in pixels.
+     * @param yRadius the vertical radius of the window in pixels.
+     * @param dilate whether the maximum instead of the minimum is taken.
+     * @param hints the rendering hints, which control whether the lines are filtered in parallel.
+     */
+    static void filter(@NotNull RasterChannel src, @NotNull RasterChannel dst, @NotNull Rectangle area,
+            int xRadius, int yRadius, boolean dilate, @Nullable RenderingHints hints) {
+        filter(src.data(), src.offset(), src.scanlineStride(), dst.data(), dst.offset(), dst.scanlineStride(),
+                src.width(), src.height(), area, xRadius, yRadius, dilate, hints);
+    }
+
+    /**
+     * Filters the given area of the alpha source into the destination. The source and destination may be the same
+     * channel.
+     *
+     * @see #filter(RasterChannel, RasterChannel, Rectangle, int, int, boolean, RenderingHints)
+     */
+    static void filterAlpha(@NotNull AlphaChannel src, @NotNull AlphaChannel dst, @NotNull Rectangle area,
+            int xRadius, int yRadius, boolean dilate, @Nullable RenderingHints hints) {
+        filter(src.data(), 0, src.width(), dst.data(), 0, dst.width(),
+                src.width(), src.height(), area, xRadius, yRadius, dilate, hints);
+    }
+
+    private static void filter(@NotNull Object src, int srcOffset, int srcStride, @NotNull Object dst,
+            int dstOffset, int dstStride, int width, int height, @NotNull Rectangle area, int xRadius, int yRadius,
+            boolean dilate, @Nullable RenderingHints hints) {
+        Rectangle target = area.intersection(new Rectangle(width, height));
+        if (target.isEmpty()) return;
+        // Rows the vertical pass reads. Rows outside the image are transparent.
+        int top = Math.max(0, target.y - yRadius);
+        int bottom = Math.min(height, target.y + target.height + yRadius);
+        int rows = bottom - top;
+        int columns = target.width;
+
+        // The transposed result of the horizontal pass.
+        int[] buffer = new int[columns * rows];
+        ParallelBands.run(hints, rows, columns, (from, to) -> {
+            LineFilter lineFilter = new LineFilter(columns, xRadius, dilate);
+            int[] line = lineFilter.line;
+            for (int i = from; i < to; i++) {
+                int rowStart = srcOffset + (top + i) * srcStride;
+                for (int j = 0, x = target.x - xRadius; j < line.length; j++, x++) {
+                    line[j] = x >= 0 && x < width ? get(src, rowStart + x) : 0;
+                }
+                int[] result = lineFilter.filter();
+                for (int j = 0, bp = i; j < columns; j++, bp += rows) {
+                    buffer[bp] = result[j];
+                }
+            }
+        });
+
+        ParallelBands.run(hints, columns, rows, (from, to) -> {
+            LineFilter lineFilter = new LineFilter(target.height, yRadius, dilate);
+            int[] line = lineFilter.line;
+            for (int j = from; j < to; j++) {
+                int columnStart = j * rows;
+                for (int i = 0, y = target.y - yRadius; i < line.length; i++, y++) {
+                    line[i] = y >= top && y < bottom ? buffer[columnStart + y - top] : 0;
+                }
+                int[] result = lineFilter.filter();
+                for (int i = 0, dp = dstOffset + target.y * dstStride + target.x + j; i < target.height;
+                        i++, dp += dstStride) {
+                    set(dst, dp, result[i]);
+                }
+            }
+        });
+    }
+
+    private static int get(@NotNull Object array, int index) {
+        if (array instanceof int[]) return ((int[]) array)[index];
+        return ((byte[]) array)[index] & 0xFF;
+    }
+
+    private static void set(@NotNull Object array, int index, int value) {
+        if (array instanceof int[]) {
+            ((int[]) array)[index] = value;
+        } else {
+            ((byte[]) array)[index] = (byte) value;
+        }
+    }
+
+    /**
+     * Filters a line of {@code length} pixels, which is extended by the radius at either end.
+     */
+    static final class LineFilter {
+        final int @NotNull [] line;
+        private final int length;
+        private final int window;
+        private final boolean dilate;
+        private final int @NotNull [] prefix;
+        private final int @NotNull [] suffix;
+        private final int @NotNull [] result;
+
+        LineFilter(int length, int radius, boolean dilate) {
+            this.length = length;
+            this.window = 2 * radius + 1;
+            this.dilate = dilate;
+            this.line = new int[length + 2 * radius];
+            this.prefix = new int[line.length];
+            this.suffix = new int[line.length];
+            this.result = new int[length];
+        }
+
+        /**
+         * @return the pixels of the line, where pixel i is the minimum (or maximum) of {@code line[i .. i + 2r]}.
+         */
+        int @NotNull [] filter() {
+            int n = line.length;
+            if (window == 1) {
+                System.arraycopy(line, 0, result, 0, length);
+                return result;
+            }
+            for (int blockStart = 0; blockStart < n; blockStart += window) {
+                int blockEnd = Math.min(n, blockStart + window);
+                int acc = line[blockStart];
+                prefix[blockStart] = acc;
+                for (int i = blockStart + 1; i < blockEnd; i++) {
+                    acc = combine(acc, line[i]);
+                    prefix[i] = acc;
+                }
+                acc = line[blockEnd - 1];
+                suffix[blockEnd - 1] = acc;
+                for (int i = blockEnd - 2; i >= blockStart; i--) {
+                    acc = combine(acc, line[i]);
+                    suffix[i] = acc;
+                }
+            }
+            // The window [i, i + window) covers the end of the block containing i and the start of the next one.
+            for (int i = 0; i < length; i++) {
+                result[i] = combine(suffix[i], prefix[i + window - 1]);
+            }
+            return result;
+        }
+
+        private int combine(int a, int b) {
+            return dilate ? max(a, b) : min(a, b);
+        }
+
+        private static int max(int a, int b) {
+            return (Math.max(a >>> 24, b >>> 24) << 24)
+                    | Math.max(a & 0xFF0000, b & 0xFF0000)
+                    | Math.max(a & 0xFF00, b & 0xFF00)
+                    | Math.max(a & 0xFF, b & 0xFF);
+        }
+
+        private static int min(int a, int b) {
+            return (Math.min(a >>> 24, b >>> 24) << 24)
+                    | Math.min(a & 0xFF0000, b & 0xFF0000)
+                    | Math.min(a & 0xFF00, b & 0xFF00)
+                    | Math.min(a & 0xFF, b & 0xFF);
+        }
+    }
+}
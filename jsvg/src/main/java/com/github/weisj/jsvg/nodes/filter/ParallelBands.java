@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+
+/**
+ * Splits the work of a filter primitive into bands of rows (or columns) which are computed in parallel.
+ * <p>
+ * The calling thread claims bands just like the workers of the executor do. Hence, bands which no worker has picked
+ * up are computed by the caller and it only ever waits on bands which are already in progress. This way rendering
+ * can't deadlock, even if the executor is busy with rendering itself.
+ */
+final class ParallelBands {
+    private ParallelBands() {}
+
+    @FunctionalInterface
+    interface Band {
+        /**
+         * Computes the rows {@code from} (inclusive) to {@code to} (exclusive). Bands are disjoint and may be computed
+         * concurrently.
+         */
+        void compute(int from, int to);
+    }
+
+    /**
+     * Computes all rows of the given band task.
+     *
+     * @param hints the rendering hints, which determine the executor and the parallelism threshold.
+     * @param rows the number of rows.
+     * @param columns the number of pixels per row.
+     * @param band the task.
+     */
+    static void run(@Nullable RenderingHints hints, int rows, int columns, @NotNull Band band) {
+        Executor executor = executor(hints);
+        int bands = (long) rows * columns >= threshold(hints)
+                ? Math.min(rows, parallelism(executor))
+                : 1;
+        if (bands <= 1) {
+            if (rows > 0) band.compute(0, rows);
+            return;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(bands);
+        Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < bands) {
+                try {
+                    if (failure.get() == null) {
+                        band.compute((int) ((long) rows * i / bands), (int) ((long) rows * (i + 1) / bands));
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+        for (int i = 1; i < bands; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // The remaining bands are computed by the calling thread.
+                break;
+            }
+        }
+        worker.run();
+        awaitUninterruptibly(done);
+
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) throw (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        if (t != null) throw new IllegalStateException(t);
+    }
+
+    private static void awaitUninterruptibly(@NotNull CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private static @NotNull Executor executor(@Nullable RenderingHints hints) {
+        Object executor = hints != null ? hints.get(SVGRenderingHints.KEY_FILTER_EXECUTOR) : null;
+        return executor instanceof Executor ? (Executor) executor : ForkJoinPool.commonPool();
+    }
+
+    private static long threshold(@Nullable RenderingHints hints) {
+        Object threshold = hints != null ? hints.get(SVGRenderingHints.KEY_FILTER_PARALLELISM_THRESHOLD) : null;
+        if (!(threshold instanceof Integer)) return SVGRenderingHints.DEFAULT_FILTER_PARALLELISM_THRESHOLD;
+        int value = (Integer) threshold;
+        return value == Integer.MAX_VALUE ? Long.MAX_VALUE : Math.max(1, value);
+    }
+
+    private static int parallelism(@NotNull Executor executor) {
+        if (executor instanceof ForkJoinPool) return ((ForkJoinPool) executor).getParallelism() + 1;
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
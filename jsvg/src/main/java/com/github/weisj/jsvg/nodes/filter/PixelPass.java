@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.util.ColorUtil;
+
+/**
+ * A chain of per pixel operations which is applied to a raster in a single pass.
+ * <p>
+ * Color operations work on non-premultiplied colors. Hence, chaining them avoids the intermediate rasters as well as
+ * the rounding of premultiplying in between. Whole pixel translations are applied by reading from the shifted
+ * position instead.
+ */
+final class PixelPass {
+
+    @FunctionalInterface
+    interface ColorOperation {
+        /**
+         * @param argb the non-premultiplied color.
+         * @return the filtered non-premultiplied color.
+         */
+        int filter(int argb);
+    }
+
+    static final class Stage {
+        static final Stage IDENTITY = new Stage(null, 0, 0);
+
+        private final @Nullable ColorOperation operation;
+        private final int dx;
+        private final int dy;
+
+        private Stage(@Nullable ColorOperation operation, int dx, int dy) {
+            this.operation = operation;
+            this.dx = dx;
+            this.dy = dy;
+        }
+
+        static @NotNull Stage color(@NotNull ColorOperation operation) {
+            return new Stage(operation, 0, 0);
+        }
+
+        static @NotNull Stage translate(int dx, int dy) {
+            if (dx == 0 && dy == 0) return IDENTITY;
+            return new Stage(null, dx, dy);
+        }
+
+        int dx() {
+            return dx;
+        }
+
+        int dy() {
+            return dy;
+        }
+
+        private boolean isTranslation() {
+            return dx != 0 || dy != 0;
+        }
+    }
+
+    private final @NotNull List<@NotNull ColorOperation> operations = new ArrayList<>();
+    // The number of color operations applied before the i-th translation.
+    private final @NotNull List<@NotNull Integer> translationPositions = new ArrayList<>();
+    private final @NotNull List<@NotNull Stage> translations = new ArrayList<>();
+
+    void add(@NotNull Stage stage) {
+        if (stage.operation != null) {
+            operations.add(stage.operation);
+        } else if (stage.isTranslation()) {
+            translationPositions.add(operations.size());
+            translations.add(stage);
+        }
+    }
+
+    boolean isIdentity() {
+        return operations.isEmpty() && translations.isEmpty();
+    }
+
+    /**
+     * Whether the pass may write to its input raster. Translations read pixels which may already have been written.
+     *
+     * @return true if the output raster may be the input raster.
+     */
+    boolean isInPlace() {
+        return translations.isEmpty();
+    }
+
+    @NotNull RasterChannel apply(@NotNull RasterChannel input, @NotNull RasterChannel output) {
+        return apply(input, output, new Rectangle(input.width(), input.height()));
+    }
+
+    /**
+     * Applies the pass to the pixels inside the given region. Pixels of the output outside of it are left untouched.
+     *
+     * @param input the input raster.
+     * @param output the output raster.
+     * @param region the region of the output to compute.
+     * @return the output raster.
+     */
+    @NotNull RasterChannel apply(@NotNull RasterChannel input, @NotNull RasterChannel output,
+            @NotNull Rectangle region) {
+        if (output == input && !isInPlace()) throw new IllegalStateException("Translations can't be applied in place");
+        ColorOperation[] ops = operations.toArray(new ColorOperation[0]);
+        int count = translations.size();
+
+        // The position of the pixel read by the i-th translation relative to the output pixel.
+        int[] readX = new int[count];
+        int[] readY = new int[count];
+        // The output if the i-th translation reads outside the raster i.e. transparent run through the remaining ops.
+        int[] outside = new int[count];
+        int sumX = 0;
+        int sumY = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            Stage stage = translations.get(i);
+            sumX += stage.dx;
+            sumY += stage.dy;
+            readX[i] = -sumX;
+            readY[i] = -sumY;
+            outside[i] = ColorUtil.premultiply(filter(ops, translationPositions.get(i), 0));
+        }
+
+        int width = input.width();
+        int height = input.height();
+        int[] src = input.data();
+        int[] dst = output.data();
+        Rectangle area = region.intersection(new Rectangle(width, height));
+        for (int y = area.y, yEnd = area.y + area.height; y < yEnd; y++) {
+            int sp = input.offset() + (y - sumY) * input.scanlineStride() - sumX;
+            int dp = output.offset() + y * output.scanlineStride();
+            for (int x = area.x, xEnd = area.x + area.width; x < xEnd; x++) {
+                // The last translation reading outside the raster determines the result.
+                int i = count - 1;
+                while (i >= 0 && isInside(x + readX[i], y + readY[i], width, height)) {
+                    i--;
+                }
+                int value = i >= 0
+                        ? outside[i]
+                        : ColorUtil.premultiply(filter(ops, 0, ColorUtil.unpremultiply(src[sp + x])));
+                dst[dp + x] = value;
+            }
+        }
+        return output;
+    }
+
+    private static boolean isInside(int x, int y, int width, int height) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private static int filter(@NotNull ColorOperation @NotNull [] ops, int from, int argb) {
+        for (int i = from; i < ops.length; i++) {
+            argb = ops[i].filter(argb);
+        }
+        return argb;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.image.*;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * A channel backed by premultiplied packed int ARGB pixels. Primitives read and write the pixel data of raster
+ * channels directly. The {@link ImageProducer} based methods of {@link Channel} only exist to adapt primitives which
+ * still operate on image producers.
+ * <p>
+ * Raster channels are never modified after they have been saved as the result of a primitive, as the same channel
+ * may be the input of several primitives.
+ */
+public final class RasterChannel implements Channel, PixelProvider {
+    private final @NotNull BufferedImage image;
+    private final int @NotNull [] data;
+    private final int offset;
+    private final int scanlineStride;
+
+    private RasterChannel(@NotNull BufferedImage image) {
+        this.image = image;
+        WritableRaster raster = image.getRaster();
+        this.data = ImageUtil.getINT_RGBA_DataBank(raster);
+        this.offset = ImageUtil.getINT_RGBA_DataOffset(raster);
+        this.scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(raster);
+    }
+
+    /**
+     * Creates a new transparent raster channel.
+     *
+     * @param width the width in pixels.
+     * @param height the height in pixels.
+     * @return the channel.
+     */
+    public static @NotNull RasterChannel create(int width, int height) {
+        return new RasterChannel(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE));
+    }
+
+    /**
+     * Creates a raster channel for the given image. Images which already store premultiplied packed int ARGB pixels
+     * are used without copying them, hence the image must not be modified while the channel is in use.
+     *
+     * @param image the image.
+     * @return the channel.
+     */
+    public static @NotNull RasterChannel of(@NotNull Image image) {
+        if (image instanceof BufferedImage && isCompatible((BufferedImage) image)) {
+            return new RasterChannel((BufferedImage) image);
+        }
+        RasterChannel channel = create(image.getWidth(null), image.getHeight(null));
+        Graphics2D g = GraphicsUtil.createGraphics(channel.image);
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return channel;
+    }
+
+    private static boolean isCompatible(@NotNull BufferedImage image) {
+        return image.getColorModel().isAlphaPremultiplied()
+                && image.getColorModel().getColorSpace().isCS_sRGB()
+                && ImageUtil.is_INT_PACK_Data(image.getSampleModel(), true);
+    }
+
+    public int width() {
+        return image.getWidth();
+    }
+
+    public int height() {
+        return image.getHeight();
+    }
+
+    /**
+     * The pixel at {@code (x, y)} is stored at {@code data()[offset() + y * scanlineStride() + x]}.
+     *
+     * @return the premultiplied pixel data.
+     */
+    public int @NotNull [] data() {
+        return data;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public int scanlineStride() {
+        return scanlineStride;
+    }
+
+    public @NotNull BufferedImage image() {
+        return image;
+    }
+
+    public @NotNull RasterChannel copy() {
+        RasterChannel copy = create(width(), height());
+        int w = width();
+        for (int y = 0, h = height(); y < h; y++) {
+            System.arraycopy(data, offset + y * scanlineStride, copy.data, copy.offset + y * copy.scanlineStride, w);
+        }
+        return copy;
+    }
+
+    /**
+     * Applies the given filter to every pixel. The filter receives and returns non-premultiplied colors, like an
+     * {@link RGBImageFilter} applied to an image producer would.
+     *
+     * @param filter the filter.
+     * @return the filtered channel.
+     */
+    public @NotNull RasterChannel filterRGB(@NotNull RGBImageFilter filter) {
+        // Filters may hold scratch state, hence every application uses its own instance.
+        RGBImageFilter f = (RGBImageFilter) filter.clone();
+        RasterChannel result = create(width(), height());
+        int[] dst = result.data;
+        for (int y = 0, h = height(); y < h; y++) {
+            int sp = offset + y * scanlineStride;
+            int dp = result.offset + y * result.scanlineStride;
+            for (int x = 0, w = width(); x < w; x++) {
+                int argb = ColorUtil.unpremultiply(data[sp + x]);
+                dst[dp + x] = ColorUtil.premultiply(f.filterRGB(x, y, argb));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull AlphaChannel alphaChannel() {
+        return AlphaChannel.of(this);
+    }
+
+    @Override
+    public @NotNull RasterChannel toRaster(@NotNull RenderContext context) {
+        return this;
+    }
+
+    @Override
+    public @NotNull ImageProducer producer() {
+        return image.getSource();
+    }
+
+    @Override
+    public @NotNull Image toImage(@NotNull RenderContext context) {
+        return image;
+    }
+
+    @Override
+    public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
+        return copy().image;
+    }
+
+    @Override
+    public @NotNull Channel applyFilter(@NotNull ImageFilter filter) {
+        return new ImageProducerChannel(new FilteredImageSource(producer(), filter));
+    }
+
+    @Override
+    public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
+        return this;
+    }
+
+    @Override
+    public int pixelAt(double x, double y) {
+        return ColorUtil.unpremultiply(data[offset + (int) y * scanlineStride + (int) x]);
+    }
+}
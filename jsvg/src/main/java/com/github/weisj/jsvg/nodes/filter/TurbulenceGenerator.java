@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.geometry.noise.PerlinTurbulence;
+
+/**
+ * Computes the noise of a {@link FeTurbulence} for a tile of device pixels.
+ * <p>
+ * The pixel {@code (x, y)} of the tile samples the noise at {@code (startX + x * scaleX, startY + y * scaleY)} in
+ * user space. The noise only depends on these parameters, hence the pixels are shared between all renders which
+ * request the same tile, e.g. the frames of an animation which doesn't change the turbulence. The most recently used
+ * tiles are kept up to a total of {@link #MAXIMUM_CACHE_BYTES}. They are keyed by the parameters only, hence the
+ * lattice tables of the noise aren't retained by the cache.
+ */
+final class TurbulenceGenerator {
+    static final long MAXIMUM_CACHE_BYTES = 16L * 1024 * 1024;
+
+    private static final @NotNull Object lock = new Object();
+    private static final @NotNull LinkedHashMap<Key, int[]> cache =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private static long usedBytes;
+
+    private final @NotNull Key key;
+    private final @NotNull PerlinTurbulence perlinTurbulence;
+
+    /**
+     * @param stitchTile the tile in user space the noise is stitched to or null if it isn't stitched.
+     * @param area the pixels which are computed. The pixels of the image outside of it are transparent.
+     */
+    TurbulenceGenerator(int seed, int octaves, double xFrequency, double yFrequency, boolean fractalNoise,
+            @Nullable Rectangle2D stitchTile, double startX, double startY, double scaleX, double scaleY,
+            @NotNull Rectangle area) {
+        this.key = new Key(seed, octaves, xFrequency, yFrequency, fractalNoise, stitchTile,
+                startX, startY, scaleX, scaleY, area);
+        this.perlinTurbulence = new PerlinTurbulence(seed, octaves, xFrequency, yFrequency);
+    }
+
+    @NotNull
+    Rectangle area() {
+        return key.area;
+    }
+
+    /**
+     * The pixel {@code (x, y)} of the area is stored at {@code pixels()[y * area().width + x]}. The returned array
+     * may be shared and must not be modified.
+     *
+     * @param hints the rendering hints, which control whether the noise is computed in parallel.
+     * @return the noise as non-premultiplied ARGB pixels in the color space of the filter.
+     */
+    int @NotNull [] pixels(@Nullable RenderingHints hints) {
+        int[] pixels;
+        synchronized (lock) {
+            pixels = cache.get(key);
+        }
+        if (pixels != null) return pixels;
+
+        pixels = computePixels(hints);
+        long byteCount = 4L * pixels.length;
+        if (byteCount <= MAXIMUM_CACHE_BYTES) {
+            synchronized (lock) {
+                int[] previous = cache.put(key, pixels);
+                if (previous != null) usedBytes -= 4L * previous.length;
+                usedBytes += byteCount;
+                Iterator<int[]> it = cache.values().iterator();
+                while (usedBytes > MAXIMUM_CACHE_BYTES && it.hasNext()) {
+                    usedBytes -= 4L * it.next().length;
+                    it.remove();
+                }
+            }
+        }
+        return pixels;
+    }
+
+    private int @NotNull [] computePixels(@Nullable RenderingHints hints) {
+        final Rectangle area = key.area;
+        final Rectangle2D.Double stitchTile = key.stitchTile;
+        final boolean fractalNoise = key.fractalNoise;
+        final int w = area.width;
+        int[] pixels = new int[w * area.height];
+        ParallelBands.run(hints, area.height, w, (from, to) -> {
+            double[] channels = new double[4];
+            // The stitch info holds the lattice wrapping of the current octave, hence every band needs its own.
+            PerlinTurbulence.StitchInfo stitchInfo = stitchTile != null ? new PerlinTurbulence.StitchInfo() : null;
+            for (int i = from; i < to; i++) {
+                double pointY = key.startY + (area.y + i) * key.scaleY;
+                for (int j = 0, p = i * w; j < w; j++, p++) {
+                    // Computed like the coordinates passed to pixelAt, which may then use the cached pixels.
+                    double pointX = key.startX + (area.x + j) * key.scaleX;
+                    perlinTurbulence.turbulence(channels, pointX, pointY, fractalNoise, stitchInfo, stitchTile);
+                    pixels[p] = channelsToRGB(channels);
+                }
+            }
+        });
+        return pixels;
+    }
+
+    /**
+     * Computes the noise at the given point in user space.
+     *
+     * @return the noise as non-premultiplied ARGB pixel in the color space of the filter.
+     */
+    int pixelAt(double x, double y) {
+        // Pixels may be requested concurrently.
+        double[] channels = new double[4];
+        PerlinTurbulence.StitchInfo stitchInfo = key.stitchTile != null ? new PerlinTurbulence.StitchInfo() : null;
+        perlinTurbulence.turbulence(channels, x, y, key.fractalNoise, stitchInfo, key.stitchTile);
+        return channelsToRGB(channels);
+    }
+
+    /**
+     * Returns the index of the pixel of the area which samples the given point or -1 if no pixel samples it exactly.
+     */
+    int indexOf(double x, double y) {
+        double startX = key.startX;
+        double startY = key.startY;
+        double scaleX = key.scaleX;
+        double scaleY = key.scaleY;
+        Rectangle area = key.area;
+        int i = (int) Math.round((x - startX) / scaleX) - area.x;
+        int j = (int) Math.round((y - startY) / scaleY) - area.y;
+        if (i < 0 || j < 0 || i >= area.width || j >= area.height) return -1;
+        if (startX + (area.x + i) * scaleX != x || startY + (area.y + j) * scaleY != y) return -1;
+        return j * area.width + i;
+    }
+
+    private static int channelsToRGB(double[] channels) {
+        int j;
+        int i = (int) channels[0];
+        if ((i & 0xFFFFFF00) == 0) {
+            j = i << 16;
+        } else {
+            j = ((i & 0x80000000) != 0) ? 0 : 0xFF0000;
+        }
+
+        i = (int) channels[1];
+        if ((i & 0xFFFFFF00) == 0) {
+            j |= i << 8;
+        } else {
+            j |= ((i & 0x80000000) != 0) ? 0 : 0xFF00;
+        }
+
+        i = (int) channels[2];
+        if ((i & 0xFFFFFF00) == 0) {
+            j |= i;
+        } else {
+            j |= ((i & 0x80000000) != 0) ? 0 : 0xFF;
+        }
+
+        i = (int) channels[3];
+        if ((i & 0xFFFFFF00) == 0) {
+            j |= i << 24;
+        } else {
+            j |= ((i & 0x80000000) != 0) ? 0 : 0xFF000000;
+        }
+
+        return j;
+    }
+
+    /**
+     * The parameters the noise of a tile depends on.
+     */
+    private static final class Key {
+        private final int seed;
+        private final int octaves;
+        private final double xFrequency;
+        private final double yFrequency;
+        private final boolean fractalNoise;
+        private final @Nullable Rectangle2D.Double stitchTile;
+        private final double startX;
+        private final double startY;
+        private final double scaleX;
+        private final double scaleY;
+        private final @NotNull Rectangle area;
+
+        private Key(int seed, int octaves, double xFrequency, double yFrequency, boolean fractalNoise,
+                @Nullable Rectangle2D stitchTile, double startX, double startY, double scaleX, double scaleY,
+                @NotNull Rectangle area) {
+            this.seed = seed;
+            this.octaves = octaves;
+            this.xFrequency = xFrequency;
+            this.yFrequency = yFrequency;
+            this.fractalNoise = fractalNoise;
+            this.stitchTile = stitchTile != null
+                    ? new Rectangle2D.Double(stitchTile.getX(), stitchTile.getY(),
+                            stitchTile.getWidth(), stitchTile.getHeight())
+                    : null;
+            this.startX = startX;
+            this.startY = startY;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.area = new Rectangle(area);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return seed == other.seed
+                    && octaves == other.octaves
+                    && Double.compare(xFrequency, other.xFrequency) == 0
+                    && Double.compare(yFrequency, other.yFrequency) == 0
+                    && fractalNoise == other.fractalNoise
+                    && Objects.equals(stitchTile, other.stitchTile)
+                    && Double.compare(startX, other.startX) == 0
+                    && Double.compare(startY, other.startY) == 0
+                    && Double.compare(scaleX, other.scaleX) == 0
+                    && Double.compare(scaleY, other.scaleY) == 0
+                    && area.equals(other.area);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = seed;
+            result = 31 * result + octaves;
+            result = 31 * result + Double.hashCode(xFrequency);
+            result = 31 * result + Double.hashCode(yFrequency);
+            result = 31 * result + Boolean.hashCode(fractalNoise);
+            result = 31 * result + Objects.hashCode(stitchTile);
+            result = 31 * result + Double.hashCode(startX);
+            result = 31 * result + Double.hashCode(startY);
+            result = 31 * result + Double.hashCode(scaleX);
+            result = 31 * result + Double.hashCode(scaleY);
+            result = 31 * result + area.hashCode();
+            return result;
+        }
+    }
+}
@@ -23,6 +23,8 @@ package com.github.weisj.jsvg.nodes.text;
 
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,6 +35,11 @@ import com.github.weisj.jsvg.renderer.MeasureContext;
 class GlyphCursor {
 
     public final @NotNull AbstractGlyphRun.Metrics completeGlyphRunMetrics;
+    /*
+     * Glyph runs laid out during preparation of a text element, shared with all derived cursors.
+     * This is kept on the cursor instead of the segments, as documents may be rendered concurrently.
+     */
+    final @NotNull Map<StringTextSegment, GlyphRenderer.PreparedGlyphRun> preparedGlyphRuns;
     protected @NotNull GlyphAdvancement advancement = GlyphAdvancement.defaultAdvancement();
 
     protected float x;
@@ -56,20 +63,22 @@ class GlyphCursor {
     protected int rotOff;
 
     GlyphCursor(float x, float y, @NotNull AffineTransform transform) {
-        this(x, y, transform, AbstractGlyphRun.Metrics.createDefault());
+        this(x, y, transform, AbstractGlyphRun.Metrics.createDefault(), new IdentityHashMap<>());
     }
 
     private GlyphCursor(float x, float y, @NotNull AffineTransform transform,
-            @NotNull AbstractGlyphRun.Metrics metrics) {
+            @NotNull AbstractGlyphRun.Metrics metrics,
+            @NotNull Map<StringTextSegment, GlyphRenderer.PreparedGlyphRun> preparedGlyphRuns) {
         this.x = x;
         this.y = y;
         this.transform = transform;
         this.completeGlyphRunMetrics = metrics;
+        this.preparedGlyphRuns = preparedGlyphRuns;
         this.glyphOffset = 0;
     }
 
     GlyphCursor(@NotNull GlyphCursor c) {
-        this(c.x, c.y, c.transform, c.completeGlyphRunMetrics);
+        this(c.x, c.y, c.transform, c.completeGlyphRunMetrics, c.preparedGlyphRuns);
         this.advancement = c.advancement;
         this.glyphOffset = 0;
         this.xLocations = c.xLocations;
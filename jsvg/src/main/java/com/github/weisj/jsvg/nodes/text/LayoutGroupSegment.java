@@ -89,7 +89,7 @@ class LayoutGroupSegment<E, T extends TextContainer<E> & CursorContext> implemen
                     }
                     GlyphRenderer.renderGlyphRun(
                             output, RenderContextAccessor.instance().paintOrder(context),
-                            parent.vectorEffects(), seg);
+                            parent.vectorEffects(), seg, cursor);
                 },
                 (seg, ctx) -> seg.renderSegmentWithoutLayout(cursor, ctx, output));
     }
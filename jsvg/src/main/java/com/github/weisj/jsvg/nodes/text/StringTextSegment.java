@@ -41,11 +41,6 @@ final class StringTextSegment implements TextSegment {
     private final @NotNull TextLayoutGroup layoutGroup;
     private final int index;
 
-    @Nullable
-    GlyphRun currentGlyphRun = null;
-    @Nullable
-    RenderContext currentRenderContext = null;
-
     public StringTextSegment(@NotNull TextContainer<?> parent,
             @NotNull TextLayoutGroup layoutGroup, int index, @NotNull TextContent.Segment content) {
         this.parent = parent;
@@ -85,8 +80,7 @@ final class StringTextSegment implements TextSegment {
 
     private static class CachedCodepoints implements Supplier<List<String>> {
         private final @NotNull TextContent.Segment segment;
-        private List<@NotNull String> codepoints;
-        private @Nullable String lastText;
+        private volatile @Nullable Codepoints cache;
 
         private CachedCodepoints(@NotNull TextContent.Segment segment) {
             this.segment = segment;
@@ -95,12 +89,23 @@ final class StringTextSegment implements TextSegment {
         @Override
         public List<String> get() {
             String text = segment.text();
-            if (Objects.equals(text, lastText)) {
-                return codepoints;
+            Codepoints cached = cache;
+            if (cached != null && Objects.equals(text, cached.text)) {
+                return cached.codepoints;
             }
-            lastText = text;
-            codepoints = segmentCodepoints(text);
+            List<@NotNull String> codepoints = segmentCodepoints(text);
+            cache = new Codepoints(text, codepoints);
             return codepoints;
         }
     }
+
+    private static final class Codepoints {
+        private final String text;
+        private final @NotNull List<@NotNull String> codepoints;
+
+        private Codepoints(String text, @NotNull List<@NotNull String> codepoints) {
+            this.text = text;
+            this.codepoints = codepoints;
+        }
+    }
 }
@@ -29,6 +29,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
+import java.util.Arrays;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -36,17 +37,18 @@ import org.jetbrains.annotations.Nullable;
 import com.github.weisj.jsvg.attributes.MaskType;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
-import com.github.weisj.jsvg.util.CachedSurfaceSupplier;
+import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.ResourceCleaner;
 
 public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, GraphicsUtil.DisposablePaint {
     private @NotNull Paint paint;
     private final @NotNull Raster maskRaster;
     private final @NotNull Point maskOffset;
-    private final @Nullable CachedSurfaceSupplier.ResourceCleaner cleaner;
+    private final @Nullable ResourceCleaner cleaner;
     private final @NotNull MaskType maskType;
 
     public MaskedPaint(@NotNull Paint paint, @NotNull Raster maskRaster, @NotNull Point2D maskOffset,
-            @Nullable CachedSurfaceSupplier.ResourceCleaner cleaner, @NotNull MaskType maskType) {
+            @Nullable ResourceCleaner cleaner, @NotNull MaskType maskType) {
         this.paint = paint;
         this.maskRaster = maskRaster;
         this.maskOffset = new Point((int) Math.floor(maskOffset.getX()), (int) Math.floor(maskOffset.getY()));
@@ -54,6 +56,19 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
         this.maskType = maskType;
     }
 
+    /**
+     * Creates a copy of this paint which doesn't share any mutable state with it. The mask is moved by the given
+     * offset in device space. The copy doesn't own the surface of the mask, hence never cleans it up.
+     *
+     * @param dx the horizontal offset in device space.
+     * @param dy the vertical offset in device space.
+     * @return the copy.
+     */
+    public @NotNull MaskedPaint copy(double dx, double dy) {
+        return new MaskedPaint(paint, maskRaster, new Point2D.Double(maskOffset.x + dx, maskOffset.y + dy),
+                null, maskType);
+    }
+
     @Override
     public void cleanupIfNeeded(@NotNull Output output) {
         if (cleaner != null) cleaner.clean(output);
@@ -83,6 +98,17 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
     }
 
     private static final class MaskPaintContext implements PaintContext {
+        // MUL_DIV_255[(a << 8) | b] == div255(a * b)
+        private static final byte[] MUL_DIV_255 = new byte[256 * 256];
+
+        static {
+            for (int a = 0; a < 256; a++) {
+                for (int b = 0; b < 256; b++) {
+                    MUL_DIV_255[(a << 8) | b] = (byte) div255(a * b);
+                }
+            }
+        }
+
         private final @NotNull PaintContext parentContext;
         private final @NotNull ColorModel colorModel;
         private final int numColorComponents;
@@ -91,6 +117,16 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
         private final @NotNull Point offset;
         private final int maskBand;
 
+        // Layout of the mask for the fast path. Only set if the parent paints into packed int ARGB pixels.
+        private final byte @Nullable [] maskBytes;
+        private final int @Nullable [] maskInts;
+        private final int maskOffset;
+        private final int maskScanlineStride;
+        private final int maskPixelStride;
+        private final int maskShift;
+        private final boolean premultiplied;
+        private @Nullable WritableRaster scratchRaster;
+
         MaskPaintContext(@NotNull PaintContext parentContext, @NotNull Raster maskRaster,
                 @NotNull Point offset, @NotNull MaskType maskType) {
             this.parentContext = parentContext;
@@ -105,6 +141,47 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
             }
             numColorComponents = colorModel.getNumColorComponents();
             this.maskBand = (maskType == MaskType.Alpha) ? maskRaster.getNumBands() - 1 : 0;
+            this.premultiplied = colorModel.isAlphaPremultiplied();
+
+            byte[] bytes = null;
+            int[] ints = null;
+            int dataOffset = 0;
+            int scanlineStride = 0;
+            int pixelStride = 0;
+            int shift = 0;
+            if (colorModel == parentColorModel && isIntArgb(colorModel)) {
+                SampleModel sm = maskRaster.getSampleModel();
+                int sx = maskRaster.getMinX() - maskRaster.getSampleModelTranslateX();
+                int sy = maskRaster.getMinY() - maskRaster.getSampleModelTranslateY();
+                if (sm instanceof ComponentSampleModel && sm.getDataType() == DataBuffer.TYPE_BYTE) {
+                    ComponentSampleModel csm = (ComponentSampleModel) sm;
+                    DataBufferByte db = (DataBufferByte) maskRaster.getDataBuffer();
+                    bytes = db.getData(csm.getBankIndices()[maskBand]);
+                    dataOffset = db.getOffsets()[csm.getBankIndices()[maskBand]]
+                            + csm.getOffset(sx, sy, maskBand);
+                    scanlineStride = csm.getScanlineStride();
+                    pixelStride = csm.getPixelStride();
+                } else if (ImageUtil.is_INT_PACK_Data(sm, false)) {
+                    ints = ImageUtil.getINT_RGBA_DataBank(maskRaster);
+                    dataOffset = ImageUtil.getINT_RGBA_DataOffset(maskRaster);
+                    scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(maskRaster);
+                    pixelStride = 1;
+                    shift = ((SinglePixelPackedSampleModel) sm).getBitOffsets()[maskBand];
+                }
+            }
+            this.maskBytes = bytes;
+            this.maskInts = ints;
+            this.maskOffset = dataOffset;
+            this.maskScanlineStride = scanlineStride;
+            this.maskPixelStride = pixelStride;
+            this.maskShift = shift;
+        }
+
+        private static boolean isIntArgb(@NotNull ColorModel cm) {
+            if (!(cm instanceof DirectColorModel) || cm.getTransferType() != DataBuffer.TYPE_INT) return false;
+            DirectColorModel dcm = (DirectColorModel) cm;
+            return dcm.getRedMask() == 0x00ff0000 && dcm.getGreenMask() == 0x0000ff00
+                    && dcm.getBlueMask() == 0x000000ff && dcm.getAlphaMask() == 0xff000000;
         }
 
         @Override
@@ -120,6 +197,10 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
         @Override
         public Raster getRaster(int x, int y, int w, int h) {
             Raster parentRaster = parentContext.getRaster(x, y, w, h);
+            if ((maskBytes != null || maskInts != null)
+                    && ImageUtil.is_INT_PACK_Data(parentRaster.getSampleModel(), true)) {
+                return maskPackedRaster(parentRaster, x, y, w, h);
+            }
 
             int parentMinX = parentRaster.getMinX();
             int parentMinY = parentRaster.getMinY();
@@ -164,12 +245,114 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
                     } else {
                         luminance = 0;
                     }
-                    int newAlpha = div255(luminance * result.getSample(i, j, numColorComponents));
-                    result.setSample(i, j, numColorComponents, newAlpha);
+                    if (premultiplied) {
+                        // The color components are premultiplied by the alpha, hence they are scaled alike.
+                        for (int band = 0; band <= numColorComponents; band++) {
+                            result.setSample(i, j, band, div255(luminance * result.getSample(i, j, band)));
+                        }
+                    } else {
+                        int newAlpha = div255(luminance * result.getSample(i, j, numColorComponents));
+                        result.setSample(i, j, numColorComponents, newAlpha);
+                    }
                 }
             }
 
             return result;
         }
+
+        private @NotNull Raster maskPackedRaster(@NotNull Raster parentRaster, int x, int y, int w, int h) {
+            WritableRaster result = scratchRaster;
+            if (result == null || result.getWidth() < w || result.getHeight() < h) {
+                // The raster is reused for subsequent calls. Callers only ever read the requested area.
+                result = colorModel.createCompatibleWritableRaster(w, h);
+                scratchRaster = result;
+            }
+            int[] src = ImageUtil.getINT_RGBA_DataBank(parentRaster);
+            int srcOffset = ImageUtil.getINT_RGBA_DataOffset(parentRaster);
+            int srcStride = ImageUtil.getINT_RGBA_ScanlineStride(parentRaster);
+            int[] dst = ImageUtil.getINT_RGBA_DataBank(result);
+            int dstStride = ImageUtil.getINT_RGBA_ScanlineStride(result);
+
+            int maskMinX = maskRaster.getMinX();
+            int maskMinY = maskRaster.getMinY();
+            // The columns [iStart, iEnd) lie inside the mask, all others are masked out entirely.
+            int maskX = x - offset.x - maskMinX;
+            int iStart = Math.max(0, Math.min(w, -maskX));
+            int iEnd = Math.max(iStart, Math.min(w, maskRaster.getWidth() - maskX));
+
+            for (int j = 0; j < h; j++) {
+                int srcRow = srcOffset + j * srcStride;
+                int dstRow = j * dstStride;
+                int maskY = y + j - offset.y - maskMinY;
+                if (maskY < 0 || maskY >= maskRaster.getHeight()) {
+                    clearAlpha(src, srcRow, dst, dstRow, w);
+                    continue;
+                }
+                clearAlpha(src, srcRow, dst, dstRow, iStart);
+                clearAlpha(src, srcRow + iEnd, dst, dstRow + iEnd, w - iEnd);
+
+                int maskIndex = maskOffset + maskY * maskScanlineStride + (maskX + iStart) * maskPixelStride;
+                if (maskBytes != null) {
+                    applyMask(src, srcRow, dst, dstRow, maskBytes, maskIndex, iStart, iEnd);
+                } else {
+                    assert maskInts != null;
+                    applyMask(src, srcRow, dst, dstRow, maskInts, maskIndex, iStart, iEnd);
+                }
+            }
+            return result;
+        }
+
+        private void applyMask(int @NotNull [] src, int srcRow, int @NotNull [] dst, int dstRow,
+                byte @NotNull [] mask, int maskIndex, int iStart, int iEnd) {
+            byte[] table = MUL_DIV_255;
+            int stride = maskPixelStride;
+            if (premultiplied) {
+                for (int i = iStart; i < iEnd; i++, maskIndex += stride) {
+                    dst[dstRow + i] = scalePremultiplied(table, src[srcRow + i], (mask[maskIndex] & 0xFF) << 8);
+                }
+            } else {
+                for (int i = iStart; i < iEnd; i++, maskIndex += stride) {
+                    int argb = src[srcRow + i];
+                    int a = table[((mask[maskIndex] & 0xFF) << 8) | (argb >>> 24)] & 0xFF;
+                    dst[dstRow + i] = (a << 24) | (argb & 0x00FFFFFF);
+                }
+            }
+        }
+
+        private void applyMask(int @NotNull [] src, int srcRow, int @NotNull [] dst, int dstRow,
+                int @NotNull [] mask, int maskIndex, int iStart, int iEnd) {
+            byte[] table = MUL_DIV_255;
+            int shift = maskShift;
+            if (premultiplied) {
+                for (int i = iStart; i < iEnd; i++, maskIndex++) {
+                    int m = (mask[maskIndex] >>> shift) & 0xFF;
+                    dst[dstRow + i] = scalePremultiplied(table, src[srcRow + i], m << 8);
+                }
+            } else {
+                for (int i = iStart; i < iEnd; i++, maskIndex++) {
+                    int argb = src[srcRow + i];
+                    int a = table[(((mask[maskIndex] >>> shift) & 0xFF) << 8) | (argb >>> 24)] & 0xFF;
+                    dst[dstRow + i] = (a << 24) | (argb & 0x00FFFFFF);
+                }
+            }
+        }
+
+        private static int scalePremultiplied(byte @NotNull [] table, int argb, int row) {
+            int a = table[row | (argb >>> 24)] & 0xFF;
+            int r = table[row | ((argb >> 16) & 0xFF)] & 0xFF;
+            int g = table[row | ((argb >> 8) & 0xFF)] & 0xFF;
+            int b = table[row | (argb & 0xFF)] & 0xFF;
+            return (a << 24) | (r << 16) | (g << 8) | b;
+        }
+
+        private void clearAlpha(int @NotNull [] src, int srcIndex, int @NotNull [] dst, int dstIndex, int length) {
+            if (premultiplied) {
+                Arrays.fill(dst, dstIndex, dstIndex + length, 0);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    dst[dstIndex + i] = src[srcIndex + i] & 0x00FFFFFF;
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.paint.impl;
+
+import java.awt.*;
+import java.awt.PaintContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.ColorModel;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
+import com.github.weisj.jsvg.util.ResourceCleaner;
+
+/**
+ * A paint backed by a pooled surface. The surface is returned once the output the paint was created for replaces
+ * the paint or is disposed.
+ */
+public final class PooledPaint implements Paint, GraphicsUtil.DisposablePaint {
+    private final @NotNull Paint paint;
+    private final @NotNull ResourceCleaner cleaner;
+
+    public PooledPaint(@NotNull Paint paint, @NotNull ResourceCleaner cleaner) {
+        this.paint = paint;
+        this.cleaner = cleaner;
+    }
+
+    @Override
+    public void cleanupIfNeeded(@NotNull Output output) {
+        cleaner.clean(output);
+    }
+
+    @Override
+    public PaintContext createContext(ColorModel cm, Rectangle deviceBounds, Rectangle2D userBounds,
+            AffineTransform xform, RenderingHints hints) {
+        return paint.createContext(cm, deviceBounds, userBounds, xform, hints);
+    }
+
+    @Override
+    public int getTransparency() {
+        return paint.getTransparency();
+    }
+}
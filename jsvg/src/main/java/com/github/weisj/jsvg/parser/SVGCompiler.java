@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Command line entry point for compiling SVG files at build time. The compiled files can be loaded using
+ * {@link SVGLoader#loadCompiled(Path, java.net.URI, LoaderContext)}.
+ * <p>
+ * Usage: {@code SVGCompiler <output directory> <svg file>...}. Each file {@code name.svg} is written to
+ * {@code name.svgb} in the output directory.
+ */
+public final class SVGCompiler {
+    public static final String FILE_EXTENSION = ".svgb";
+
+    private SVGCompiler() {}
+
+    public static void main(String @NotNull [] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SVGCompiler <output directory> <svg file>...");
+            System.exit(1);
+        }
+        Path outputDirectory = Paths.get(args[0]);
+        Files.createDirectories(outputDirectory);
+        SVGLoader loader = new SVGLoader();
+        for (int i = 1; i < args.length; i++) {
+            Path input = Paths.get(args[i]);
+            compile(loader, input, outputDirectory.resolve(compiledFileName(input)));
+        }
+    }
+
+    private static void compile(@NotNull SVGLoader loader, @NotNull Path input, @NotNull Path output)
+            throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            loader.compile(input.toUri().toURL(), outputStream, LoaderContext.createDefault());
+        }
+    }
+
+    static @NotNull String compiledFileName(@NotNull Path input) {
+        String name = String.valueOf(input.getFileName());
+        int extension = name.lastIndexOf('.');
+        if (extension > 0) name = name.substring(0, extension);
+        return name + FILE_EXTENSION;
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.logging.Logger.Level;
+
+/**
+ * A thread safe cache of loaded {@link SVGDocument}s.
+ * <p>
+ * Documents are keyed by their {@link URI} and the {@link LoaderContext} used to load them. Loader contexts are
+ * compared by identity, hence a context should be reused across calls to benefit from the cache.
+ * Concurrent requests for a document which is currently being loaded wait for this load instead of loading the
+ * document again.
+ * <p>
+ * Every entry is weighted by an estimate of its retained size. If the total weight exceeds the maximum weight the
+ * least recently used entries are evicted. Additionally, entries may be held by {@link SoftReference}s, in which
+ * case the garbage collector may reclaim them under memory pressure.
+ * <p>
+ * Failed loads are not cached.
+ */
+public final class SVGDocumentCache {
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    /**
+     * Default estimate of the retained size of a document per byte of its source.
+     */
+    public static final int DEFAULT_BYTES_PER_SOURCE_BYTE = 4;
+
+    public enum ReferenceType {
+        /**
+         * Documents are only removed from the cache when evicted.
+         */
+        STRONG,
+        /**
+         * Documents may additionally be reclaimed by the garbage collector.
+         */
+        SOFT
+    }
+
+    @FunctionalInterface
+    public interface Weigher {
+        /**
+         * Estimates the retained size of a document in bytes.
+         *
+         * @param uri the location of the document.
+         * @param document the loaded document.
+         * @param sourceByteCount the number of bytes read while loading the document.
+         * @return the estimated size.
+         */
+        long weigh(@NotNull URI uri, @NotNull SVGDocument document, long sourceByteCount);
+    }
+
+    private final long maximumWeight;
+    private final @NotNull ReferenceType referenceType;
+    private final @NotNull Weigher weigher;
+    private final @NotNull LoaderContext defaultLoaderContext;
+
+    private final @NotNull Object lock = new Object();
+    private final @NotNull LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final @NotNull Map<Key, CompletableFuture<@Nullable SVGDocument>> pendingLoads = new HashMap<>();
+    private final @NotNull ReferenceQueue<SVGDocument> collectedDocuments = new ReferenceQueue<>();
+    private final @NotNull ThreadLocal<SVGLoader> loaders = ThreadLocal.withInitial(SVGLoader::new);
+
+    private long totalWeight;
+    private long hitCount;
+    private long missCount;
+    private long loadFailureCount;
+    private long evictionCount;
+
+    private SVGDocumentCache(@NotNull Builder builder) {
+        this.maximumWeight = builder.maximumWeight;
+        this.referenceType = builder.referenceType;
+        this.weigher = builder.weigher;
+        this.defaultLoaderContext = builder.defaultLoaderContext;
+    }
+
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    public static @NotNull SVGDocumentCache createDefault() {
+        return builder().build();
+    }
+
+    public @Nullable SVGDocument get(@NotNull URL url) {
+        return get(url, defaultLoaderContext);
+    }
+
+    public @Nullable SVGDocument get(@NotNull URL url, @NotNull LoaderContext loaderContext) {
+        try {
+            return get(url.toURI(), loaderContext);
+        } catch (URISyntaxException e) {
+            SVGLoader.LOGGER.log(Level.WARNING, String.format("Could not read %s", url), e);
+        }
+        return null;
+    }
+
+    public @Nullable SVGDocument get(@NotNull URI uri) {
+        return get(uri, defaultLoaderContext);
+    }
+
+    /**
+     * Returns the document at the given location. If the document isn't cached it is loaded using the given
+     * loader context.
+     *
+     * @param uri the location of the document.
+     * @param loaderContext the loader context to use for loading the document.
+     * @return the document or null if it couldn't be loaded.
+     */
+    public @Nullable SVGDocument get(@NotNull URI uri, @NotNull LoaderContext loaderContext) {
+        Key key = new Key(uri, loaderContext);
+        CompletableFuture<@Nullable SVGDocument> pendingLoad;
+        boolean loading = false;
+        synchronized (lock) {
+            removeCollectedEntries();
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                SVGDocument document = entry.document();
+                if (document != null) {
+                    hitCount++;
+                    return document;
+                }
+                removeEntry(key);
+                evictionCount++;
+            }
+            pendingLoad = pendingLoads.get(key);
+            if (pendingLoad != null) {
+                hitCount++;
+            } else {
+                missCount++;
+                pendingLoad = new CompletableFuture<>();
+                pendingLoads.put(key, pendingLoad);
+                loading = true;
+            }
+        }
+        if (!loading) return pendingLoad.join();
+        return load(key, pendingLoad);
+    }
+
+    private @Nullable SVGDocument load(@NotNull Key key,
+            @NotNull CompletableFuture<@Nullable SVGDocument> pendingLoad) {
+        SVGDocument document = null;
+        try {
+            long sourceByteCount = 0;
+            try (CountingInputStream inputStream = new CountingInputStream(key.uri.toURL().openStream())) {
+                document = loaders.get().load(inputStream, key.uri, key.loaderContext);
+                sourceByteCount = inputStream.count;
+            } catch (IOException | IllegalArgumentException e) {
+                SVGLoader.LOGGER.log(Level.WARNING, String.format("Could not read %s", key.uri), e);
+            }
+            synchronized (lock) {
+                // If the location has been invalidated while loading, the document may be stale and isn't cached.
+                boolean current = pendingLoads.get(key) == pendingLoad;
+                if (document == null) {
+                    loadFailureCount++;
+                } else if (current) {
+                    long weight = Math.max(0, weigher.weigh(key.uri, document, sourceByteCount));
+                    entries.put(key, new Entry(key, weight, document, referenceType, collectedDocuments));
+                    totalWeight += weight;
+                    evictToMaximumWeight();
+                }
+            }
+        } finally {
+            // Waiting requests are released even if the load failed unexpectedly, e.g. because the weigher threw.
+            synchronized (lock) {
+                pendingLoads.remove(key, pendingLoad);
+            }
+            pendingLoad.complete(document);
+        }
+        return document;
+    }
+
+    private void evictToMaximumWeight() {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (totalWeight > maximumWeight && it.hasNext()) {
+            Entry entry = it.next().getValue();
+            it.remove();
+            totalWeight -= entry.weight;
+            evictionCount++;
+        }
+    }
+
+    private void removeCollectedEntries() {
+        DocumentReference reference;
+        while ((reference = (DocumentReference) collectedDocuments.poll()) != null) {
+            Entry entry = entries.get(reference.key);
+            // The key may have been reloaded since the reference was enqueued.
+            if (entry != null && entry.softDocument == reference) {
+                removeEntry(reference.key);
+                evictionCount++;
+            }
+        }
+    }
+
+    private void removeEntry(@NotNull Key key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) totalWeight -= entry.weight;
+    }
+
+    /**
+     * Removes all documents loaded from the given location regardless of the loader context. Documents which are
+     * being loaded while the location is invalidated are returned to their requests but not cached.
+     *
+     * @param uri the location of the documents.
+     */
+    public void invalidate(@NotNull URI uri) {
+        synchronized (lock) {
+            // Loads in progress may read the old document. Forgetting them makes them skip the cache and lets later
+            // requests load the document again.
+            pendingLoads.keySet().removeIf(key -> key.uri.equals(uri));
+            Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Key, Entry> entry = it.next();
+                if (entry.getKey().uri.equals(uri)) {
+                    it.remove();
+                    totalWeight -= entry.getValue().weight;
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            pendingLoads.clear();
+            entries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    public @NotNull Stats stats() {
+        synchronized (lock) {
+            removeCollectedEntries();
+            return new Stats(hitCount, missCount, loadFailureCount, evictionCount, entries.size(), totalWeight);
+        }
+    }
+
+    public static final class Builder {
+        private long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+        private @NotNull ReferenceType referenceType = ReferenceType.SOFT;
+        private @NotNull Weigher weigher =
+                (uri, document, sourceByteCount) -> sourceByteCount * DEFAULT_BYTES_PER_SOURCE_BYTE;
+        private @NotNull LoaderContext defaultLoaderContext = LoaderContext.createDefault();
+
+        private Builder() {}
+
+        /**
+         * The maximum total weight of the cached documents. See {@link #weigher(Weigher)}.
+         *
+         * @param maximumWeight the maximum weight.
+         * @return this builder.
+         */
+        public @NotNull Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 0) throw new IllegalArgumentException("Negative maximum weight " + maximumWeight);
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public @NotNull Builder referenceType(@NotNull ReferenceType referenceType) {
+            this.referenceType = referenceType;
+            return this;
+        }
+
+        /**
+         * The weigher used to estimate the retained size of a document. By default, the size is estimated as
+         * {@link #DEFAULT_BYTES_PER_SOURCE_BYTE} times the size of the source.
+         *
+         * @param weigher the weigher.
+         * @return this builder.
+         */
+        public @NotNull Builder weigher(@NotNull Weigher weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * The loader context used by the methods which don't take an explicit context.
+         *
+         * @param loaderContext the loader context.
+         * @return this builder.
+         */
+        public @NotNull Builder defaultLoaderContext(@NotNull LoaderContext loaderContext) {
+            this.defaultLoaderContext = loaderContext;
+            return this;
+        }
+
+        public @NotNull SVGDocumentCache build() {
+            return new SVGDocumentCache(this);
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a cache.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadFailureCount;
+        private final long evictionCount;
+        private final int entryCount;
+        private final long weightedSize;
+
+        private Stats(long hitCount, long missCount, long loadFailureCount, long evictionCount, int entryCount,
+                long weightedSize) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+            this.entryCount = entryCount;
+            this.weightedSize = weightedSize;
+        }
+
+        /**
+         * The number of requests served by a cached document or by waiting for a load already in progress.
+         *
+         * @return the hit count.
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * The number of requests which loaded the document.
+         *
+         * @return the miss count.
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        public long loadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * The number of entries removed because the maximum weight was exceeded or because the garbage collector
+         * reclaimed them. Explicit invalidations aren't counted.
+         *
+         * @return the eviction count.
+         */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public int entryCount() {
+            return entryCount;
+        }
+
+        public long weightedSize() {
+            return weightedSize;
+        }
+
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", loadFailureCount=" + loadFailureCount +
+                    ", evictionCount=" + evictionCount +
+                    ", entryCount=" + entryCount +
+                    ", weightedSize=" + weightedSize +
+                    '}';
+        }
+    }
+
+    private static final class Key {
+        private final @NotNull URI uri;
+        private final @NotNull LoaderContext loaderContext;
+
+        private Key(@NotNull URI uri, @NotNull LoaderContext loaderContext) {
+            this.uri = uri;
+            this.loaderContext = loaderContext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return loaderContext == other.loaderContext && uri.equals(other.uri);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * uri.hashCode() + System.identityHashCode(loaderContext);
+        }
+    }
+
+    private static final class Entry {
+        private final long weight;
+        private final @Nullable SVGDocument document;
+        private final @Nullable DocumentReference softDocument;
+
+        private Entry(@NotNull Key key, long weight, @NotNull SVGDocument document,
+                @NotNull ReferenceType referenceType, @NotNull ReferenceQueue<SVGDocument> queue) {
+            this.weight = weight;
+            if (referenceType == ReferenceType.SOFT) {
+                this.document = null;
+                this.softDocument = new DocumentReference(key, document, queue);
+            } else {
+                this.document = document;
+                this.softDocument = null;
+            }
+        }
+
+        @Nullable
+        SVGDocument document() {
+            if (softDocument != null) return softDocument.get();
+            return document;
+        }
+    }
+
+    private static final class DocumentReference extends SoftReference<SVGDocument> {
+        private final @NotNull Key key;
+
+        private DocumentReference(@NotNull Key key, @NotNull SVGDocument document,
+                @NotNull ReferenceQueue<SVGDocument> queue) {
+            super(document, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(@NotNull InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte @NotNull [] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -25,6 +25,13 @@ import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.xml.stream.XMLStreamException;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -93,4 +100,89 @@ public final class SVGLoader {
         }
         return null;
     }
+
+    /**
+     * Compiles the SVG document at the given url into a binary format, which can be loaded using
+     * {@link #loadCompiled(Path, URI, LoaderContext)} without parsing XML or matching style sheets.
+     *
+     * @param xmlBase the location of the document.
+     * @param outputStream the stream to write the compiled document to.
+     * @param loaderContext the loader context to use for building the document. Style sheets and the
+     *        {@link DomProcessor} of the context are applied before the document is written.
+     * @throws IOException if the document couldn't be read, built or written.
+     * @see SVGCompiler
+     */
+    public void compile(@NotNull URL xmlBase, @NotNull OutputStream outputStream,
+            @NotNull LoaderContext loaderContext) throws IOException {
+        try (InputStream inputStream = xmlBase.openStream()) {
+            compile(inputStream, xmlBase.toURI(), outputStream, loaderContext);
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Compiles the SVG document from the given input stream into a binary format, which can be loaded using
+     * {@link #loadCompiled(Path, URI, LoaderContext)} without parsing XML or matching style sheets.
+     *
+     * @param inputStream the input stream to read the SVG document from
+     * @param xmlBase The uri of the document. This is used to resolve external documents (if enabled).
+     * @param outputStream the stream to write the compiled document to.
+     * @param loaderContext the loader context to use for building the document. Style sheets and the
+     *        {@link DomProcessor} of the context are applied before the document is written.
+     * @throws IOException if the document couldn't be read, built or written.
+     */
+    public void compile(@NotNull InputStream inputStream, @Nullable URI xmlBase,
+            @NotNull OutputStream outputStream, @NotNull LoaderContext loaderContext) throws IOException {
+        try (InputStream is = StreamUtil.createDocumentInputStream(inputStream)) {
+            loader.compile(loader.createXMLInput(is), xmlBase, loaderContext, outputStream);
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Could not compile SVG", e);
+        }
+    }
+
+    public @Nullable SVGDocument loadCompiled(@NotNull Path path) {
+        return loadCompiled(path, path.toUri(), LoaderContext.createDefault());
+    }
+
+    /**
+     * Load an SVG document, which has been compiled using {@link #compile(URL, OutputStream, LoaderContext)}.
+     * The file is memory mapped.
+     *
+     * @param path the location of the compiled document.
+     * @param xmlBase The uri of the document. This is used to resolve external documents (if enabled).
+     * @param loaderContext The loader context to use for loading the document. A {@link DomProcessor} of the
+     *        context will be applied on top of the already processed document.
+     * @return The loaded SVG document or null if an error occurred.
+     */
+    public @Nullable SVGDocument loadCompiled(@NotNull Path path, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return loadCompiled(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), xmlBase,
+                    loaderContext);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, String.format("Could not read %s", path), e);
+        }
+        return null;
+    }
+
+    /**
+     * Load an SVG document, which has been compiled using {@link #compile(URL, OutputStream, LoaderContext)}.
+     * The content of the buffer is read starting at its current position. The position of the buffer itself
+     * isn't modified.
+     *
+     * @param buffer the compiled document.
+     * @param xmlBase The uri of the document. This is used to resolve external documents (if enabled).
+     * @param loaderContext The loader context to use for loading the document.
+     * @return The loaded SVG document or null if an error occurred.
+     */
+    public @Nullable SVGDocument loadCompiled(@NotNull ByteBuffer buffer, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) {
+        try {
+            return loader.loadCompiled(buffer.duplicate().order(ByteOrder.BIG_ENDIAN), xmlBase, loaderContext);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Could not load compiled SVG", e);
+        }
+        return null;
+    }
 }
@@ -83,7 +83,7 @@ public final class AttributeNode {
             new MeasureContext(0, 0, 0, 0, 0, new AnimationState(0, 0));
 
     private final @NotNull String tagName;
-    private final @NotNull Map<String, String> attributes;
+    private final @NotNull AttributeTable attributes;
     private final @NotNull List<@NotNull StyleSheet> styleSheets;
 
     private ParsedElement element = null;
@@ -91,7 +91,9 @@ public final class AttributeNode {
     public AttributeNode(@NotNull String tagName, @NotNull Map<String, String> attributes,
             @NotNull List<@NotNull StyleSheet> styleSheets) {
         this.tagName = tagName;
-        this.attributes = attributes;
+        this.attributes = attributes instanceof AttributeTable
+                ? (AttributeTable) attributes
+                : AttributeTable.copyOf(attributes);
         this.styleSheets = styleSheets;
     }
 
@@ -104,13 +106,13 @@ public final class AttributeNode {
     }
 
     public @NotNull AttributeNode copy() {
-        AttributeNode node = new AttributeNode(tagName, new HashMap<>(attributes), styleSheets);
+        AttributeNode node = new AttributeNode(tagName, attributes.copy(), styleSheets);
         node.setElement(element);
         return node;
     }
 
     void prepareForNodeBuilding() {
-        Map<String, String> styleSheetAttributes = new HashMap<>();
+        AttributeTable styleSheetAttributes = new AttributeTable();
 
         // First process the inline styles. They have the highest priority.
         String styleStr = attributes.get("style");
@@ -147,6 +149,7 @@ public final class AttributeNode {
             });
         }
         attributes.putAll(styleSheetAttributes);
+        attributes.trimToSize();
     }
 
     public @NotNull ParsedDocument document() {
@@ -553,6 +556,7 @@ public final class AttributeNode {
         for (T animateNode : animateNodes) {
             document().registerAnimatedElement(animateNode);
         }
+        if (!animateNodes.isEmpty()) document().registerAnimatedNode(element.node());
         return animateNodes;
     }
 
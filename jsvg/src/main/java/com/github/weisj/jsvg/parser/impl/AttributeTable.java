@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compact storage for the attributes of an element.
+ * <p>
+ * Keys and values are stored in parallel arrays, which avoids the per-entry node objects and the sparse table
+ * of a {@link HashMap}. Elements usually only have a handful of attributes, hence lookups are a linear scan.
+ * Keys are stored as given. The parsers already hand out shared name instances, so lookups with constant keys
+ * mostly succeed on the identity check and fall back to comparing the hash and contents otherwise.
+ */
+final class AttributeTable extends AbstractMap<String, String> {
+    private static final String[] EMPTY = new String[0];
+
+    private String @NotNull [] keys;
+    private String @NotNull [] values;
+    private int size;
+
+    AttributeTable() {
+        this(0);
+    }
+
+    AttributeTable(int initialCapacity) {
+        keys = initialCapacity == 0 ? EMPTY : new String[initialCapacity];
+        values = initialCapacity == 0 ? EMPTY : new String[initialCapacity];
+    }
+
+    static @NotNull AttributeTable copyOf(@NotNull Map<String, String> attributes) {
+        if (attributes instanceof AttributeTable) return ((AttributeTable) attributes).copy();
+        AttributeTable table = new AttributeTable(attributes.size());
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            table.put(entry.getKey(), entry.getValue());
+        }
+        return table;
+    }
+
+    @NotNull
+    AttributeTable copy() {
+        AttributeTable table = new AttributeTable();
+        table.keys = Arrays.copyOf(keys, size);
+        table.values = Arrays.copyOf(values, size);
+        table.size = size;
+        return table;
+    }
+
+    void trimToSize() {
+        if (keys.length == size) return;
+        keys = size == 0 ? EMPTY : Arrays.copyOf(keys, size);
+        values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+    }
+
+    private int indexOf(@Nullable Object key) {
+        if (!(key instanceof String)) return -1;
+        String name = (String) key;
+        int hash = name.hashCode();
+        String[] k = keys;
+        for (int i = 0; i < size; i++) {
+            String candidate = k[i];
+            if (candidate == name || (candidate.hashCode() == hash && candidate.equals(name))) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public @Nullable String get(@Nullable Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public @Nullable String put(@NotNull String key, @Nullable String value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            String old = values[index];
+            values[index] = value;
+            return old;
+        }
+        if (size == keys.length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public void putAll(@NotNull Map<? extends String, ? extends String> m) {
+        if (m instanceof AttributeTable) {
+            AttributeTable table = (AttributeTable) m;
+            for (int i = 0; i < table.size; i++) {
+                put(table.keys[i], table.values[i]);
+            }
+        } else {
+            super.putAll(m);
+        }
+    }
+
+    @Override
+    public @Nullable String remove(@Nullable Object key) {
+        int index = indexOf(key);
+        if (index < 0) return null;
+        String old = values[index];
+        removeAt(index);
+        return old;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public void forEach(@NotNull BiConsumer<? super String, ? super String> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, String>> entrySet() {
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<String, String>> iterator() {
+            return new Iterator<Entry<String, String>>() {
+                private int next = 0;
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (next >= size) throw new NoSuchElementException();
+                    last = next++;
+                    return new TableEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) throw new IllegalStateException();
+                    removeAt(last);
+                    next = last;
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    private final class TableEntry implements Entry<String, String> {
+        private final int index;
+
+        private TableEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public String getValue() {
+            return values[index];
+        }
+
+        @Override
+        public String setValue(String value) {
+            String old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) return false;
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
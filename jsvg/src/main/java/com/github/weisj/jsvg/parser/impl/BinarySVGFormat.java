@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.nodes.Style;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.TextContent;
+
+/**
+ * Compact binary representation of a built document.
+ * <p>
+ * The format stores the element tree after the {@link com.github.weisj.jsvg.parser.DomProcessor} has run and
+ * style sheets have been applied. Every element is written with its final attributes, hence {@code <style>}
+ * elements and {@code style} attributes are dropped, and reading it back needs neither an XML parser nor any
+ * CSS matching. The layout is:
+ * <pre>
+ *   magic      "JSVG"
+ *   version    u32
+ *   strings    count, (length, utf8 bytes)*
+ *   root       element
+ *   element    tag, attribute count, (name, value)*,
+ *              child count, (content, element)*, content
+ *   content    segment count, segment*
+ * </pre>
+ * The text content before the i-th child is written directly in front of it. All counts and string references
+ * are unsigned LEB128 varints. Strings are referenced by their index into the string table.
+ */
+public final class BinarySVGFormat {
+    public static final int VERSION = 1;
+    private static final int MAGIC = ('J' << 24) | ('S' << 16) | ('V' << 8) | 'G';
+    private static final String STYLE_ATTRIBUTE = "style";
+
+    private BinarySVGFormat() {}
+
+    public static void write(@NotNull ParsedElement root, @NotNull OutputStream outputStream) throws IOException {
+        new Writer().write(root, outputStream);
+    }
+
+    public static @NotNull SVGDocumentBuilder read(@NotNull ByteBuffer buffer, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws IOException {
+        try {
+            return new Reader(buffer).read(xmlBase, loaderContext);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt compiled SVG", e);
+        }
+    }
+
+    private static boolean isSerialized(@NotNull ParsedElement element) {
+        return !(element.node() instanceof Style);
+    }
+
+    private static final class Writer {
+        private final @NotNull Map<String, Integer> stringIndices = new HashMap<>();
+        private final @NotNull List<String> strings = new ArrayList<>();
+        private final @NotNull ByteArrayOutputStream tree = new ByteArrayOutputStream();
+
+        void write(@NotNull ParsedElement root, @NotNull OutputStream outputStream) throws IOException {
+            writeElement(root);
+
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            writeInt(header, MAGIC);
+            writeInt(header, VERSION);
+            writeVarInt(header, strings.size());
+            for (String s : strings) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(header, bytes.length);
+                header.write(bytes, 0, bytes.length);
+            }
+            header.writeTo(outputStream);
+            tree.writeTo(outputStream);
+        }
+
+        private void writeElement(@NotNull ParsedElement element) {
+            writeString(element.tagName());
+
+            Map<String, String> attributes = element.attributeNode().attributes();
+            int attributeCount = attributes.size() - (attributes.containsKey(STYLE_ATTRIBUTE) ? 1 : 0);
+            writeVarInt(tree, attributeCount);
+            attributes.forEach((name, value) -> {
+                if (STYLE_ATTRIBUTE.equals(name)) return;
+                writeString(name);
+                writeString(value);
+            });
+
+            List<ParsedElement> children = new ArrayList<>();
+            List<List<TextContent.Segment>> contentLists = new ArrayList<>();
+            List<TextContent.Segment> currentContent = new ArrayList<>();
+            List<List<TextContent.Segment>> sourceLists = element.hasTextContent()
+                    ? element.textContent().contentLists()
+                    : Collections.emptyList();
+            List<ParsedElement> sourceChildren = element.children();
+            int count = Math.max(sourceChildren.size() + 1, sourceLists.size());
+            for (int i = 0; i < count; i++) {
+                if (i < sourceLists.size()) currentContent.addAll(sourceLists.get(i));
+                if (i < sourceChildren.size()) {
+                    ParsedElement child = sourceChildren.get(i);
+                    // Skipped children merge the content around them into a single list.
+                    if (!isSerialized(child)) continue;
+                    children.add(child);
+                    contentLists.add(currentContent);
+                    currentContent = new ArrayList<>();
+                }
+            }
+            contentLists.add(currentContent);
+
+            writeVarInt(tree, children.size());
+            for (int i = 0; i < children.size(); i++) {
+                writeContent(contentLists.get(i));
+                writeElement(children.get(i));
+            }
+            writeContent(contentLists.get(children.size()));
+        }
+
+        private void writeContent(@NotNull List<TextContent.Segment> contentList) {
+            writeVarInt(tree, contentList.size());
+            for (TextContent.Segment segment : contentList) {
+                writeString(segment.text());
+            }
+        }
+
+        private void writeString(@NotNull String s) {
+            Integer index = stringIndices.get(s);
+            if (index == null) {
+                index = strings.size();
+                strings.add(s);
+                stringIndices.put(s, index);
+            }
+            writeVarInt(tree, index);
+        }
+
+        private static void writeInt(@NotNull ByteArrayOutputStream out, int value) {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+        }
+
+        private static void writeVarInt(@NotNull ByteArrayOutputStream out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    private static final class Reader {
+        private final @NotNull ByteBuffer buffer;
+        private String @NotNull [] strings = new String[0];
+
+        Reader(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @NotNull
+        SVGDocumentBuilder read(@Nullable URI xmlBase, @NotNull LoaderContext loaderContext) throws IOException {
+            if (buffer.getInt() != MAGIC) throw new IOException("Not a compiled SVG document");
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported compiled SVG version " + version + ", expected " + VERSION);
+            }
+            int stringCount = readVarInt();
+            strings = new String[stringCount];
+            byte[] bytes = new byte[0];
+            for (int i = 0; i < stringCount; i++) {
+                int length = readVarInt();
+                if (bytes.length < length) bytes = new byte[length];
+                buffer.get(bytes, 0, length);
+                strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+
+            SVGDocumentBuilder builder =
+                    new SVGDocumentBuilder(xmlBase, loaderContext, StaxSVGLoader.NODE_SUPPLIER);
+            builder.startDocument();
+            readElement(builder);
+            builder.endDocument();
+            return builder;
+        }
+
+        private void readElement(@NotNull SVGDocumentBuilder builder) throws IOException {
+            String tagName = readString();
+            int attributeCount = readVarInt();
+            AttributeTable attributes = new AttributeTable(attributeCount);
+            for (int i = 0; i < attributeCount; i++) {
+                String name = readString();
+                attributes.put(name, readString());
+            }
+            if (!builder.startElement(tagName, attributes)) {
+                throw new IOException("Unknown element <" + tagName + "> in compiled SVG");
+            }
+
+            int childCount = readVarInt();
+            for (int i = 0; i < childCount; i++) {
+                readContent(builder);
+                readElement(builder);
+            }
+            readContent(builder);
+            builder.endElement(tagName);
+        }
+
+        private void readContent(@NotNull SVGDocumentBuilder builder) throws IOException {
+            int segmentCount = readVarInt();
+            for (int i = 0; i < segmentCount; i++) {
+                builder.addTextSegment(readString());
+            }
+        }
+
+        private @NotNull String readString() throws IOException {
+            int index = readVarInt();
+            if (index >= strings.length) throw new IOException("Invalid string reference " + index);
+            return strings[index];
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("Malformed varint in compiled SVG");
+        }
+    }
+}
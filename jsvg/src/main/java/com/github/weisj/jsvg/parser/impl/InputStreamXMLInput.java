@@ -26,6 +26,7 @@ import java.io.InputStream;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -44,4 +45,8 @@ public final class InputStreamXMLInput implements XMLInput {
     public @NotNull XMLEventReader createReader() throws XMLStreamException {
         return xmlInputFactory.createXMLEventReader(inputStream);
     }
+
+    public @NotNull XMLStreamReader createStreamReader() throws XMLStreamException {
+        return xmlInputFactory.createXMLStreamReader(inputStream);
+    }
 }
@@ -114,6 +114,7 @@ public final class NodeSupplier {
         constructorMap.put(FeBlend.TAG, () -> new FeBlend());
         constructorMap.put(FeColorMatrix.TAG, () -> new FeColorMatrix());
         constructorMap.put(FeComposite.TAG, () -> new FeComposite());
+        constructorMap.put(FeConvolveMatrix.TAG, () -> new FeConvolveMatrix());
         constructorMap.put(FeDiffuseLighting.TAG, () -> new FeDiffuseLighting());
         constructorMap.put(FeDisplacementMap.TAG, () -> new FeDisplacementMap());
         constructorMap.put(FeDistantLight.TAG, () -> new FeDistantLight());
@@ -122,9 +123,11 @@ public final class NodeSupplier {
         constructorMap.put(FeGaussianBlur.TAG, () -> new FeGaussianBlur());
         constructorMap.put(FeMerge.TAG, () -> new FeMerge());
         constructorMap.put(FeMergeNode.TAG, () -> new FeMergeNode());
+        constructorMap.put(FeMorphology.TAG, () -> new FeMorphology());
         constructorMap.put(FeTurbulence.TAG, () -> new FeTurbulence());
         constructorMap.put(FeOffset.TAG, () -> new FeOffset());
         constructorMap.put(FePointLight.TAG, () -> new FePointLight());
+        constructorMap.put(FeSpecularLighting.TAG, () -> new FeSpecularLighting());
         constructorMap.put(FeSpotLight.TAG, () -> new FeSpotLight());
         constructorMap.put(FeComponentTransfer.TAG, () -> new FeComponentTransfer());
         constructorMap.put(TransferFunctionElement.FeFuncB.TAG, () -> new TransferFunctionElement.FeFuncB());
@@ -146,10 +149,7 @@ public final class NodeSupplier {
     }
 
     private void populateDummyNodeConstructors() {
-        constructorMap.put("feConvolveMatrix", () -> new DummyFilterPrimitive("feConvolveMatrix"));
         constructorMap.put("feImage", () -> new DummyFilterPrimitive("feImage"));
-        constructorMap.put("feMorphology", () -> new DummyFilterPrimitive("feMorphology"));
-        constructorMap.put("feSpecularLighting", () -> new DummyFilterPrimitive("feSpecularLighting"));
         constructorMap.put("feTile", () -> new DummyFilterPrimitive("feTile"));
     }
 
@@ -22,14 +22,14 @@
 package com.github.weisj.jsvg.parser.impl;
 
 import java.net.URI;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.animation.AnimationPeriod;
+import com.github.weisj.jsvg.nodes.SVGNode;
 import com.github.weisj.jsvg.nodes.animation.BaseAnimationNode;
 import com.github.weisj.jsvg.parser.DomDocument;
 import com.github.weisj.jsvg.parser.LoaderContext;
@@ -42,6 +42,7 @@ public class ParsedDocument implements DomDocument {
     private int currentDepth;
 
     private @NotNull AnimationPeriod animationPeriod = new AnimationPeriod(0, 0, false);
+    private final @NotNull Set<@NotNull SVGNode> animatedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
 
     public ParsedDocument(@Nullable URI rootURI, @NotNull LoaderContext loaderContext,
             @NotNull LoadHelper loadHelper) {
@@ -100,4 +101,18 @@ public class ParsedDocument implements DomDocument {
     public void registerAnimatedElement(@NotNull BaseAnimationNode animate) {
         animationPeriod = animationPeriod.derive(animate.track());
     }
+
+    /**
+     * Registers a node which has at least one animated attribute.
+     *
+     * @param node the animated node.
+     */
+    @ApiStatus.Internal
+    void registerAnimatedNode(@NotNull SVGNode node) {
+        animatedNodes.add(node);
+    }
+
+    public @NotNull Set<@NotNull SVGNode> animatedNodes() {
+        return Collections.unmodifiableSet(animatedNodes);
+    }
 }
@@ -124,6 +124,10 @@ public final class ParsedElement implements DomElement {
         return textContent;
     }
 
+    boolean hasTextContent() {
+        return textContent != null;
+    }
+
     public @NotNull Map<String, List<ParsedElement>> animationElements() {
         return animationElements;
     }
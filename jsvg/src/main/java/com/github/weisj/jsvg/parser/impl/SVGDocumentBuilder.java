@@ -119,6 +119,17 @@ public final class SVGDocumentBuilder {
         currentElement.characterDataParser.append(characterData, startOffset, endOffset);
     }
 
+    /*
+     * Adds an already processed text segment to the current element, bypassing the character data parser.
+     * Used when reading compiled documents.
+     */
+    void addTextSegment(@NotNull String text) {
+        if (currentNodeStack.isEmpty()) {
+            throw new IllegalStateException("Adding text content without a current node");
+        }
+        currentNodeStack.peek().textContent().currentContentList().add(new StringSegment(text));
+    }
+
     public void endElement(@NotNull String tagName) {
         if (currentNodeStack.isEmpty()) {
             throw new IllegalStateException("No current node to end");
@@ -139,6 +150,11 @@ public final class SVGDocumentBuilder {
         }
     }
 
+    @Nullable
+    ParsedElement rootElement() {
+        return rootNode;
+    }
+
     void preProcess() {
         if (rootNode == null) throw new IllegalStateException("No root node");
 
@@ -21,8 +21,11 @@
  */
 package com.github.weisj.jsvg.parser.impl;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
@@ -34,6 +37,7 @@ import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
@@ -53,7 +57,8 @@ public final class StaxSVGLoader {
     private static final Logger LOGGER = LogFactory.createLogger(StaxSVGLoader.class);
     private static final String SVG_NAMESPACE_URI = "http://www.w3.org/2000/svg";
     private static final String XLINK_NAMESPACE_URI = "http://www.w3.org/1999/xlink";
-    private static final @NotNull NodeSupplier NODE_SUPPLIER = new NodeSupplier();
+    static final @NotNull NodeSupplier NODE_SUPPLIER = new NodeSupplier();
+    private static final int TEXT_BUFFER_SIZE = 256;
 
     private final @NotNull Supplier<@NotNull XMLInputFactory> xmlInputFactory = new LazySupplier<>(() -> {
         XMLInputFactory factory = XMLInputFactory.newFactory();
@@ -76,6 +81,85 @@ public final class StaxSVGLoader {
             @NotNull XMLInput xmlInput,
             @Nullable URI xmlBase,
             @NotNull LoaderContext loaderContext) throws XMLStreamException {
+        if (xmlInput instanceof InputStreamXMLInput) {
+            return parseStream((InputStreamXMLInput) xmlInput, xmlBase, loaderContext);
+        }
+        return parseEvents(xmlInput, xmlBase, loaderContext);
+    }
+
+    /*
+     * Cursor based parsing. Avoids allocating event objects, qualified names and attribute copies for every element.
+     */
+    private @Nullable SVGDocumentBuilder parseStream(
+            @NotNull InputStreamXMLInput xmlInput,
+            @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws XMLStreamException {
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInput.createStreamReader();
+            SVGDocumentBuilder builder = new SVGDocumentBuilder(xmlBase, loaderContext, NODE_SUPPLIER);
+            NameCache names = new NameCache();
+            char[] textBuffer = new char[TEXT_BUFFER_SIZE];
+            builder.startDocument();
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.END_DOCUMENT:
+                        builder.endDocument();
+                        break;
+
+                    case XMLStreamConstants.START_ELEMENT:
+                        String uri = reader.getNamespaceURI();
+                        if (uri != null && !uri.isEmpty() && !SVG_NAMESPACE_URI.equals(uri)) {
+                            skipElement(reader);
+                            break;
+                        }
+                        int attributeCount = reader.getAttributeCount();
+                        Map<String, String> attributes = new AttributeTable(attributeCount);
+                        for (int i = 0; i < attributeCount; i++) {
+                            attributes.put(
+                                    names.qualifiedName(reader.getAttributePrefix(i),
+                                            reader.getAttributeLocalName(i), reader.getAttributeNamespace(i)),
+                                    reader.getAttributeValue(i).trim());
+                        }
+                        String tagName = names.lowerCaseName(
+                                reader.getPrefix(), reader.getLocalName(), reader.getNamespaceURI());
+                        if (!builder.startElement(tagName, attributes)) {
+                            skipElement(reader);
+                        }
+                        break;
+
+                    case XMLStreamConstants.END_ELEMENT:
+                        builder.endElement(names.lowerCaseName(
+                                reader.getPrefix(), reader.getLocalName(), reader.getNamespaceURI()));
+                        break;
+
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.CHARACTERS:
+                        // The text is copied into a reused buffer, as the builder may modify the data in place,
+                        // which mustn't happen to the internal buffer of the reader.
+                        int length = reader.getTextLength();
+                        if (textBuffer.length < length) textBuffer = new char[Math.max(length, 2 * textBuffer.length)];
+                        int copied = reader.getTextCharacters(0, textBuffer, 0, length);
+                        builder.addTextContent(textBuffer, 0, copied);
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+            return builder;
+        } catch (XMLStreamException e) {
+            LOGGER.log(Level.WARNING, "Error while parsing SVG.", e);
+        } finally {
+            if (reader != null) reader.close();
+        }
+        return null;
+    }
+
+    private @Nullable SVGDocumentBuilder parseEvents(
+            @NotNull XMLInput xmlInput,
+            @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws XMLStreamException {
         XMLEventReader reader = null;
         try {
             reader = xmlInput.createReader();
@@ -97,7 +181,7 @@ public final class StaxSVGLoader {
                             skipElement(reader);
                             break;
                         }
-                        Map<String, String> attributes = new HashMap<>();
+                        Map<String, String> attributes = new AttributeTable();
                         Iterator<Attribute> attrs = element.getAttributes();
                         while (attrs.hasNext()) {
                             Attribute attr = attrs.next();
@@ -152,6 +236,49 @@ public final class StaxSVGLoader {
         return builder.build();
     }
 
+    /**
+     * Builds the document and writes the resulting element tree in the {@link BinarySVGFormat}.
+     *
+     * @param xmlInput the supplier for the xml input events
+     * @param xmlBase the uri of the document.
+     * @param loaderContext the loader context used for building the document.
+     * @param outputStream the stream to write the compiled document to.
+     * @throws IOException if the document couldn't be built or written.
+     * @throws XMLStreamException if the input is not well-formed.
+     */
+    public void compile(
+            @NotNull XMLInput xmlInput,
+            @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext,
+            @NotNull OutputStream outputStream) throws IOException, XMLStreamException {
+        SVGDocumentBuilder builder = parse(xmlInput, xmlBase, loaderContext);
+        if (builder == null) throw new IOException("Could not parse SVG");
+        builder.build();
+        ParsedElement root = builder.rootElement();
+        if (root == null) throw new IOException("Document is empty");
+        BinarySVGFormat.write(root, outputStream);
+    }
+
+    public @NotNull SVGDocument loadCompiled(
+            @NotNull ByteBuffer buffer,
+            @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws IOException {
+        return BinarySVGFormat.read(buffer, xmlBase, loaderContext).build();
+    }
+
+    private static void skipElement(@NotNull XMLStreamReader reader) throws XMLStreamException {
+        int elementCount = 1;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementCount++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                elementCount--;
+            }
+            if (elementCount == 0) return;
+        }
+    }
+
     private static void skipElement(@NotNull XMLEventReader reader) throws XMLStreamException {
         int elementCount = 1;
         while (reader.hasNext()) {
@@ -185,13 +312,63 @@ public final class StaxSVGLoader {
     }
 
     private static @NotNull String qualifiedNameImpl(@NotNull QName name) {
-        String prefix = name.getPrefix();
+        String prefix = effectivePrefix(name.getPrefix(), name.getNamespaceURI());
         String localName = name.getLocalPart();
         if (prefix == null) return localName;
-        if (prefix.isEmpty()) return localName;
-        if (SVG_NAMESPACE_URI.equals(name.getNamespaceURI())) return localName;
-        if (XLINK_NAMESPACE_URI.equals(name.getNamespaceURI())) return "xlink:" + localName;
         return prefix + ":" + localName;
     }
 
+    private static @Nullable String effectivePrefix(@Nullable String prefix, @Nullable String namespaceURI) {
+        if (prefix == null) return null;
+        if (prefix.isEmpty()) return null;
+        if (SVG_NAMESPACE_URI.equals(namespaceURI)) return null;
+        if (XLINK_NAMESPACE_URI.equals(namespaceURI)) return "xlink";
+        return prefix;
+    }
+
+    /**
+     * Resolves the qualified names of elements and attributes. Names are interned such that all
+     * occurrences of a name share the same string instance. Repeated names are resolved without allocations.
+     */
+    private static final class NameCache {
+        private final @NotNull Map<String, String> names = new HashMap<>();
+        private final @NotNull Map<String, String> lowerCaseNames = new HashMap<>();
+        private final @NotNull Map<String, Map<String, String>> prefixedNames = new HashMap<>();
+
+        @NotNull
+        String qualifiedName(@Nullable String prefix, @NotNull String localName, @Nullable String namespaceURI) {
+            String effectivePrefix = effectivePrefix(prefix, namespaceURI);
+            if (effectivePrefix == null) {
+                String name = names.get(localName);
+                if (name == null) {
+                    name = localName.intern();
+                    names.put(name, name);
+                }
+                return name;
+            }
+            Map<String, String> namesWithPrefix = prefixedNames.get(effectivePrefix);
+            if (namesWithPrefix == null) {
+                namesWithPrefix = new HashMap<>();
+                prefixedNames.put(effectivePrefix, namesWithPrefix);
+            }
+            String name = namesWithPrefix.get(localName);
+            if (name == null) {
+                name = (effectivePrefix + ":" + localName).intern();
+                namesWithPrefix.put(localName, name);
+            }
+            return name;
+        }
+
+        @NotNull
+        String lowerCaseName(@Nullable String prefix, @NotNull String localName, @Nullable String namespaceURI) {
+            String qualifiedName = qualifiedName(prefix, localName, namespaceURI);
+            String name = lowerCaseNames.get(qualifiedName);
+            if (name == null) {
+                name = qualifiedName.toLowerCase(Locale.ROOT).intern();
+                lowerCaseNames.put(qualifiedName, name);
+            }
+            return name;
+        }
+    }
+
 }
@@ -80,6 +80,12 @@ public final class RenderContext {
                 return context.deriveForChildGraphics();
             }
 
+            @Override
+            public @NotNull RenderContext deriveForTransformedOutput(@NotNull RenderContext context,
+                    @NotNull AffineTransform outputTransform) {
+                return context.deriveForTransformedOutput(outputTransform);
+            }
+
             @Override
             public @NotNull RenderContext deriveForNode(
                     @NotNull RenderContext context,
@@ -259,6 +265,17 @@ public final class RenderContext {
                 new AffineTransform(rootTransform), EstablishRootMeasure.NO);
     }
 
+    private @NotNull RenderContext deriveForTransformedOutput(@NotNull AffineTransform outputTransform) {
+        // Rendering continues on an output whose device space differs from the one this context was created for.
+        AffineTransform newRootTransform = new AffineTransform(outputTransform);
+        newRootTransform.concatenate(rootTransform);
+        AffineTransform newHostTransform = new AffineTransform(outputTransform);
+        newHostTransform.concatenate(hostTransform);
+        return new RenderContext(platformSupport, newRootTransform, newHostTransform,
+                new AffineTransform(userSpaceTransform),
+                paintContext, measureContext, fontRenderContext, fontSpec, contextElementAttributes);
+    }
+
     private @NotNull RenderContext deriveForNode(
             @Nullable Mutator<PaintContext> context,
             @Nullable Mutator<MeasurableFontSpec> attributeFontSpec,
@@ -22,7 +22,9 @@
 package com.github.weisj.jsvg.renderer;
 
 import java.awt.*;
+import java.util.concurrent.Executor;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class SVGRenderingHints {
@@ -32,6 +34,9 @@ public final class SVGRenderingHints {
     private static final int P_KEY_SOFT_CLIPPING = 2;
     private static final int P_KEY_CACHE_OFFSCREEN_IMAGE = 3;
     private static final int P_KEY_MASK_CLIP_RENDERING = 4;
+    private static final int P_KEY_CULLING = 5;
+    private static final int P_KEY_FILTER_EXECUTOR = 6;
+    private static final int P_KEY_FILTER_PARALLELISM_THRESHOLD = 7;
 
     public static final RenderingHints.Key KEY_IMAGE_ANTIALIASING = new Key(P_KEY_IMAGE_ANTIALIASING);
     public static final Object VALUE_IMAGE_ANTIALIASING_ON = Value.ON;
@@ -50,14 +55,41 @@ public final class SVGRenderingHints {
     public static final Object VALUE_USE_CACHE = Value.ON;
     public static final Object VALUE_NO_CACHE = Value.OFF;
 
+    public static final RenderingHints.Key KEY_CULLING = new Key(P_KEY_CULLING);
+    public static final Object VALUE_CULLING_ON = Value.ON;
+    public static final Object VALUE_CULLING_OFF = Value.OFF;
+
+    /**
+     * The {@link Executor} filter primitives are run on in parallel bands of rows. If not set the common
+     * {@link java.util.concurrent.ForkJoinPool} is used. The rendering thread always takes part in the work, hence
+     * executors which are busy or reject the work don't block rendering.
+     */
+    public static final RenderingHints.Key KEY_FILTER_EXECUTOR =
+            new Key(P_KEY_FILTER_EXECUTOR, Executor.class);
+
+    /**
+     * The minimum number of pixels a filter primitive has to compute before it is run in parallel. The value is an
+     * {@link Integer}. {@link Integer#MAX_VALUE} disables parallel execution.
+     */
+    public static final RenderingHints.Key KEY_FILTER_PARALLELISM_THRESHOLD =
+            new Key(P_KEY_FILTER_PARALLELISM_THRESHOLD, Integer.class);
+    public static final int DEFAULT_FILTER_PARALLELISM_THRESHOLD = 1 << 16;
+
     private static final class Key extends RenderingHints.Key {
+        private final @NotNull Class<?> valueType;
+
         private Key(int privateKey) {
+            this(privateKey, Value.class);
+        }
+
+        private Key(int privateKey, @NotNull Class<?> valueType) {
             super(privateKey);
+            this.valueType = valueType;
         }
 
         @Override
         public boolean isCompatibleValue(@Nullable Object val) {
-            return val instanceof Value;
+            return valueType.isInstance(val);
         }
     }
 
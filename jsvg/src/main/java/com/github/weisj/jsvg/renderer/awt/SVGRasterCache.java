@@ -0,0 +1,421 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.awt;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.WritableRaster;
+import java.util.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.attributes.MaskType;
+import com.github.weisj.jsvg.paint.impl.MaskedPaint;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.PlatformSupport;
+import com.github.weisj.jsvg.view.ViewBox;
+
+/**
+ * Caches rasterized versions of documents for repeated painting e.g. of icons in Swing components.
+ * <p>
+ * Bitmaps are stored per document, device scale, viewport size and font. Painting a cached bitmap snaps it to the
+ * nearest device pixel. Transforms other than scaling and translation aren't cached and render the document
+ * directly.
+ * <p>
+ * A document is rendered once with a black and once with a white current color to find out how it depends on the
+ * color of the graphics. Documents which don't use {@code currentColor} are cached independent of the color.
+ * If {@code currentColor} is the only color of a document, only its coverage is cached and tinted with the current
+ * color when painting. Otherwise, the color is part of the cache key.
+ * <p>
+ * Documents are assumed not to change. Animated or modified documents have to be invalidated using
+ * {@link #invalidate(SVGDocument)}.
+ */
+public final class SVGRasterCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 16L * 1024 * 1024;
+
+    private enum ColorDependence {
+        NONE,
+        TINTABLE,
+        FULL
+    }
+
+    private final long maximumBytes;
+    private final @NotNull Object lock = new Object();
+    private final @NotNull LinkedHashMap<Key, Raster> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final @NotNull Map<SVGDocument, ColorDependence> colorDependencies = new WeakHashMap<>();
+    private long usedBytes;
+    private long hitCount;
+    private long missCount;
+
+    public SVGRasterCache() {
+        this(DEFAULT_MAXIMUM_BYTES);
+    }
+
+    public SVGRasterCache(long maximumBytes) {
+        if (maximumBytes < 0) throw new IllegalArgumentException("Negative maximum size " + maximumBytes);
+        this.maximumBytes = maximumBytes;
+    }
+
+    public void render(@NotNull SVGDocument document, @Nullable Component component, @NotNull Graphics2D g) {
+        render(document, component, g, null);
+    }
+
+    public void render(@NotNull SVGDocument document, @Nullable Component component, @NotNull Graphics2D g,
+            @Nullable ViewBox bounds) {
+        PlatformSupport platformSupport = component != null
+                ? new AwtComponentPlatformSupport(component)
+                : NullPlatformSupport.INSTANCE;
+        renderWithPlatform(document, platformSupport, g, bounds);
+    }
+
+    /**
+     * Paints the document using a cached bitmap if possible. This is the cached equivalent of
+     * {@link SVGDocument#renderWithPlatform(PlatformSupport, Graphics2D, ViewBox)}.
+     *
+     * @param document the document to paint.
+     * @param platformSupport the platform support.
+     * @param g the graphics to paint on.
+     * @param bounds the viewport of the document or null to use the size of the document.
+     */
+    public void renderWithPlatform(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+            @NotNull Graphics2D g, @Nullable ViewBox bounds) {
+        AffineTransform at = g.getTransform();
+        int unsupportedTransform = ~(AffineTransform.TYPE_TRANSLATION
+                | AffineTransform.TYPE_UNIFORM_SCALE
+                | AffineTransform.TYPE_GENERAL_SCALE);
+        ViewBox viewBox = bounds != null ? bounds : new ViewBox(document.size());
+        double scaleX = at.getScaleX();
+        double scaleY = at.getScaleY();
+        int width = (int) Math.ceil(viewBox.width * scaleX);
+        int height = (int) Math.ceil(viewBox.height * scaleY);
+        if ((at.getType() & unsupportedTransform) != 0 || scaleX <= 0 || scaleY <= 0
+                || width <= 0 || height <= 0 || 4L * width * height > maximumBytes) {
+            document.renderWithPlatform(platformSupport, g, bounds);
+            return;
+        }
+
+        Color color = g.getColor() != null ? g.getColor() : Color.BLACK;
+        Font font = g.getFont();
+        float fontSize = font != null ? font.getSize2D() : platformSupport.fontSize();
+        String fontFamily = platformSupport.fontFamily();
+
+        ColorDependence colorDependence;
+        synchronized (lock) {
+            colorDependence = colorDependencies.get(document);
+        }
+        Raster raster = null;
+        Key key = null;
+        if (colorDependence != null) {
+            key = new Key(document, scaleX, scaleY, viewBox.width, viewBox.height, fontSize, fontFamily,
+                    colorKey(colorDependence, color));
+            synchronized (lock) {
+                raster = entries.get(key);
+                if (raster != null) hitCount++;
+            }
+        }
+
+        if (raster == null) {
+            RasterRequest request = new RasterRequest(document, platformSupport, g, viewBox.width, viewBox.height,
+                    scaleX, scaleY, width, height);
+            BufferedImage white = null;
+            if (colorDependence == null) {
+                white = request.render(Color.WHITE);
+                colorDependence = classify(white, request.render(Color.BLACK));
+            }
+            raster = createRaster(request, colorDependence, color, white);
+            key = new Key(document, scaleX, scaleY, viewBox.width, viewBox.height, fontSize, fontFamily,
+                    colorKey(colorDependence, color));
+            synchronized (lock) {
+                colorDependencies.put(document, colorDependence);
+                missCount++;
+                Raster previous = entries.put(key, raster);
+                if (previous != null) usedBytes -= previous.byteCount;
+                usedBytes += raster.byteCount;
+                evictToMaximumSize();
+            }
+        }
+
+        Graphics2D blitGraphics = (Graphics2D) g.create();
+        try {
+            blitGraphics.setTransform(AffineTransform.getTranslateInstance(
+                    Math.round(at.getTranslateX() + viewBox.x * scaleX),
+                    Math.round(at.getTranslateY() + viewBox.y * scaleY)));
+            raster.paint(blitGraphics, color);
+        } finally {
+            blitGraphics.dispose();
+        }
+    }
+
+    private static @NotNull Raster createRaster(@NotNull RasterRequest request,
+            @NotNull ColorDependence colorDependence, @NotNull Color color, @Nullable BufferedImage white) {
+        switch (colorDependence) {
+            case NONE:
+                return new Raster(white != null ? white : request.render(color));
+            case TINTABLE:
+                if (color.getAlpha() == 255) {
+                    // Tinting a translucent color isn't equivalent to painting with it if shapes overlap.
+                    return new Raster(extractCoverage(white != null ? white : request.render(Color.WHITE)));
+                }
+                return new Raster(request.render(color));
+            case FULL:
+            default:
+                return new Raster(request.render(color));
+        }
+    }
+
+    private static long colorKey(@NotNull ColorDependence colorDependence, @NotNull Color color) {
+        if (colorDependence == ColorDependence.NONE) return -1;
+        if (colorDependence == ColorDependence.TINTABLE && color.getAlpha() == 255) return -2;
+        return color.getRGB() & 0xFFFFFFFFL;
+    }
+
+    private static @NotNull ColorDependence classify(@NotNull BufferedImage white, @NotNull BufferedImage black) {
+        int width = white.getWidth();
+        int height = white.getHeight();
+        int[] whiteRow = new int[width];
+        int[] blackRow = new int[width];
+        boolean identical = true;
+        boolean tintable = true;
+        for (int y = 0; y < height && (identical || tintable); y++) {
+            white.getRaster().getDataElements(0, y, width, 1, whiteRow);
+            black.getRaster().getDataElements(0, y, width, 1, blackRow);
+            for (int x = 0; x < width; x++) {
+                int w = whiteRow[x];
+                int b = blackRow[x];
+                if (w != b) identical = false;
+                int alpha = w >>> 24;
+                // With premultiplied alpha a pure current color pixel is (a, a, a, a) for white and (a, 0, 0, 0)
+                // for black.
+                if (b != alpha << 24 || w != (alpha << 24 | alpha << 16 | alpha << 8 | alpha)) tintable = false;
+            }
+        }
+        if (identical) return ColorDependence.NONE;
+        return tintable ? ColorDependence.TINTABLE : ColorDependence.FULL;
+    }
+
+    /**
+     * Extracts the alpha channel of the document rendered in white, which is a one byte per pixel mask.
+     */
+    private static @NotNull WritableRaster extractCoverage(@NotNull BufferedImage image) {
+        WritableRaster coverage = java.awt.image.Raster.createInterleavedRaster(DataBuffer.TYPE_BYTE,
+                image.getWidth(), image.getHeight(), 1, null);
+        WritableRaster alpha = image.getAlphaRaster();
+        assert alpha != null;
+        coverage.setRect(alpha);
+        return coverage;
+    }
+
+    private void evictToMaximumSize() {
+        Iterator<Raster> it = entries.values().iterator();
+        while (usedBytes > maximumBytes && it.hasNext()) {
+            Raster raster = it.next();
+            it.remove();
+            usedBytes -= raster.byteCount;
+        }
+    }
+
+    /**
+     * Removes all cached bitmaps of the given document. This has to be called whenever the document changes its
+     * appearance e.g. if it is animated or has been modified.
+     *
+     * @param document the document.
+     */
+    public void invalidate(@NotNull SVGDocument document) {
+        synchronized (lock) {
+            colorDependencies.remove(document);
+            Iterator<Map.Entry<Key, Raster>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Key, Raster> entry = it.next();
+                if (entry.getKey().document == document) {
+                    it.remove();
+                    usedBytes -= entry.getValue().byteCount;
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            colorDependencies.clear();
+            entries.clear();
+            usedBytes = 0;
+        }
+    }
+
+    public long usedBytes() {
+        synchronized (lock) {
+            return usedBytes;
+        }
+    }
+
+    public int entryCount() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    public long missCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    private static final class RasterRequest {
+        private final @NotNull SVGDocument document;
+        private final @NotNull PlatformSupport platformSupport;
+        private final @NotNull Graphics2D g;
+        private final float viewWidth;
+        private final float viewHeight;
+        private final double scaleX;
+        private final double scaleY;
+        private final int width;
+        private final int height;
+
+        private RasterRequest(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+                @NotNull Graphics2D g, float viewWidth, float viewHeight, double scaleX, double scaleY,
+                int width, int height) {
+            this.document = document;
+            this.platformSupport = platformSupport;
+            this.g = g;
+            this.viewWidth = viewWidth;
+            this.viewHeight = viewHeight;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.width = width;
+            this.height = height;
+        }
+
+        @NotNull
+        BufferedImage render(@NotNull Color color) {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D imageGraphics = image.createGraphics();
+            try {
+                imageGraphics.setRenderingHints(g.getRenderingHints());
+                imageGraphics.setFont(g.getFont());
+                imageGraphics.setColor(color);
+                imageGraphics.scale(scaleX, scaleY);
+                document.renderWithPlatform(platformSupport, imageGraphics,
+                        new ViewBox(0, 0, viewWidth, viewHeight));
+            } finally {
+                imageGraphics.dispose();
+            }
+            return image;
+        }
+    }
+
+    private static final class Raster {
+        private final @Nullable BufferedImage image;
+        private final @Nullable WritableRaster coverage;
+        private final long byteCount;
+
+        private Raster(@NotNull BufferedImage image) {
+            this.image = image;
+            this.coverage = null;
+            this.byteCount = 4L * image.getWidth() * image.getHeight();
+        }
+
+        private Raster(@NotNull WritableRaster coverage) {
+            this.image = null;
+            this.coverage = coverage;
+            this.byteCount = (long) coverage.getWidth() * coverage.getHeight();
+        }
+
+        /**
+         * Paints the raster at the origin of the graphics, which is translated to a device pixel. A coverage mask
+         * is filled with the given color through a {@link MaskedPaint}, which tints it while compositing. The
+         * cached data itself is never modified, hence rasters can be painted concurrently.
+         */
+        void paint(@NotNull Graphics2D g, @NotNull Color color) {
+            if (image != null) {
+                g.drawImage(image, 0, 0, null);
+                return;
+            }
+            assert coverage != null;
+            AffineTransform at = g.getTransform();
+            g.setPaint(new MaskedPaint(color, coverage,
+                    new Point2D.Double(at.getTranslateX(), at.getTranslateY()), null, MaskType.Alpha));
+            g.fillRect(0, 0, coverage.getWidth(), coverage.getHeight());
+        }
+    }
+
+    private static final class Key {
+        private final @NotNull SVGDocument document;
+        private final double scaleX;
+        private final double scaleY;
+        private final float width;
+        private final float height;
+        private final float fontSize;
+        private final @NotNull String fontFamily;
+        private final long color;
+
+        private Key(@NotNull SVGDocument document, double scaleX, double scaleY, float width, float height,
+                float fontSize, @NotNull String fontFamily, long color) {
+            this.document = document;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.width = width;
+            this.height = height;
+            this.fontSize = fontSize;
+            this.fontFamily = fontFamily;
+            this.color = color;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return document == other.document
+                    && Double.compare(scaleX, other.scaleX) == 0
+                    && Double.compare(scaleY, other.scaleY) == 0
+                    && Float.compare(width, other.width) == 0
+                    && Float.compare(height, other.height) == 0
+                    && Float.compare(fontSize, other.fontSize) == 0
+                    && color == other.color
+                    && fontFamily.equals(other.fontFamily);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(document);
+            result = 31 * result + Double.hashCode(scaleX);
+            result = 31 * result + Double.hashCode(scaleY);
+            result = 31 * result + Float.hashCode(width);
+            result = 31 * result + Float.hashCode(height);
+            result = 31 * result + Float.hashCode(fontSize);
+            result = 31 * result + fontFamily.hashCode();
+            result = 31 * result + Long.hashCode(color);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.awt;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.PlatformSupport;
+import com.github.weisj.jsvg.view.ViewBox;
+
+/**
+ * Renders large documents by splitting the target into tiles which are rendered in parallel.
+ * <p>
+ * Every tile is rendered on its own {@link Graphics2D} whose clip is the tile. Effects which read pixels outside
+ * of their own area, like blurs or offsets, extend the clip by the padding computed when laying out the filter
+ * region, so tiles line up seamlessly with a single pass rendering of the document. Anti-aliased curves may still
+ * differ slightly, as Java2D flattens curves differently depending on the clip.
+ * <p>
+ * Documents can be rendered from multiple threads concurrently, hence the same document may be rendered by several
+ * tile renderers at once.
+ */
+public final class SVGTileRenderer {
+    public static final int DEFAULT_TILE_SIZE = 512;
+
+    /**
+     * Receives the rendered tiles. Tiles are handed over on the thread which rendered them and may arrive in any
+     * order.
+     */
+    @FunctionalInterface
+    public interface TileConsumer {
+        /**
+         * @param x the x position of the tile in device pixels.
+         * @param y the y position of the tile in device pixels.
+         * @param tile the rendered tile. Tiles at the right and bottom edges may be smaller than the tile size.
+         */
+        void accept(int x, int y, @NotNull BufferedImage tile);
+    }
+
+    private final int tileSize;
+    private final @NotNull Executor executor;
+    private final @Nullable RenderingHints renderingHints;
+
+    public SVGTileRenderer() {
+        this(DEFAULT_TILE_SIZE, ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * @param tileSize the width and height of a tile in device pixels.
+     * @param executor the executor the tiles are rendered on.
+     * @param renderingHints the rendering hints used for every tile or null to use the defaults of JSVG.
+     */
+    public SVGTileRenderer(int tileSize, @NotNull Executor executor, @Nullable RenderingHints renderingHints) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Non positive tile size " + tileSize);
+        this.tileSize = tileSize;
+        this.executor = executor;
+        this.renderingHints = renderingHints;
+    }
+
+    /**
+     * Renders the document into a single image. Tiles are rendered directly into the image, hence no additional
+     * memory is needed for stitching.
+     *
+     * @param document the document to render.
+     * @param platformSupport the platform support.
+     * @param bounds the viewport of the document or null to use the size of the document.
+     * @param scale the scale from user space to device pixels.
+     * @return the rendered image of size {@code ceil(bounds.width * scale) x ceil(bounds.height * scale)}.
+     */
+    public @NotNull BufferedImage render(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+            @Nullable ViewBox bounds, double scale) {
+        ViewBox viewBox = bounds != null ? bounds : new ViewBox(document.size());
+        BufferedImage image = new BufferedImage(
+                deviceSize(viewBox.width, scale), deviceSize(viewBox.height, scale),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        // Tiles are disjoint, hence rendering into sub images of the same raster is safe.
+        renderTiles(viewBox, scale, image.getWidth(), image.getHeight(),
+                tile -> tile.render(document, platformSupport, image.getSubimage(
+                        tile.x, tile.y, tile.width, tile.height)));
+        return image;
+    }
+
+    /**
+     * Renders the document tile by tile and hands every tile to the given consumer. This avoids allocating an image
+     * for the whole document, which may not fit into memory for very large outputs.
+     *
+     * @param document the document to render.
+     * @param platformSupport the platform support.
+     * @param bounds the viewport of the document or null to use the size of the document.
+     * @param scale the scale from user space to device pixels.
+     * @param consumer the consumer of the tiles.
+     */
+    public void renderTiles(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+            @Nullable ViewBox bounds, double scale, @NotNull TileConsumer consumer) {
+        ViewBox viewBox = bounds != null ? bounds : new ViewBox(document.size());
+        renderTiles(viewBox, scale, deviceSize(viewBox.width, scale), deviceSize(viewBox.height, scale), tile -> {
+            BufferedImage image = new BufferedImage(tile.width, tile.height, BufferedImage.TYPE_INT_ARGB_PRE);
+            tile.render(document, platformSupport, image);
+            consumer.accept(tile.x, tile.y, image);
+        });
+    }
+
+    private void renderTiles(@NotNull ViewBox viewBox, double scale, int width, int height,
+            @NotNull TileTask task) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int y = 0; y < height; y += tileSize) {
+            for (int x = 0; x < width; x += tileSize) {
+                Tile tile = new Tile(viewBox, scale, x, y,
+                        Math.min(tileSize, width - x), Math.min(tileSize, height - y));
+                futures.add(CompletableFuture.runAsync(() -> task.run(tile), executor));
+            }
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private static int deviceSize(float size, double scale) {
+        if (scale <= 0) throw new IllegalArgumentException("Non positive scale " + scale);
+        return Math.max(1, (int) Math.ceil(size * scale));
+    }
+
+    @FunctionalInterface
+    private interface TileTask {
+        void run(@NotNull Tile tile);
+    }
+
+    private final class Tile {
+        private final @NotNull ViewBox viewBox;
+        private final double scale;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        private Tile(@NotNull ViewBox viewBox, double scale, int x, int y, int width, int height) {
+            this.viewBox = viewBox;
+            this.scale = scale;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        void render(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+                @NotNull BufferedImage target) {
+            Graphics2D g = target.createGraphics();
+            try {
+                if (renderingHints != null) g.setRenderingHints(renderingHints);
+                // The clip bounds determine how much of the document is rendered and which area filters process.
+                g.setClip(0, 0, width, height);
+                g.translate(-x, -y);
+                g.scale(scale, scale);
+                document.renderWithPlatform(platformSupport, g,
+                        new ViewBox(0, 0, viewBox.width, viewBox.height));
+            } finally {
+                g.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable R-tree over a fixed set of rectangles, bulk loaded using sort-tile-recursive packing.
+ * <p>
+ * The leaves hold the rectangles ordered such that each run of {@link #NODE_CAPACITY} rectangles is spatially close.
+ * Inner levels group consecutive nodes of the level below. All bounds are stored in flat arrays.
+ */
+final class BoundsTree {
+    private static final int NODE_CAPACITY = 16;
+
+    private final int @NotNull [] items;
+    // levels[0] are the leaves. Each level stores minX, minY, maxX, maxY of its nodes consecutively.
+    private final double @NotNull [] @NotNull [] levels;
+
+    BoundsTree(@NotNull List<? extends @NotNull Rectangle2D> bounds) {
+        int count = bounds.size();
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+
+        Arrays.sort(order, Comparator.comparingDouble(i -> bounds.get(i).getCenterX()));
+        int leafCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+        for (int start = 0; start < count; start += sliceSize) {
+            Arrays.sort(order, start, Math.min(start + sliceSize, count),
+                    Comparator.comparingDouble(i -> bounds.get(i).getCenterY()));
+        }
+
+        items = new int[count];
+        double[] leaves = new double[4 * count];
+        for (int i = 0; i < count; i++) {
+            items[i] = order[i];
+            Rectangle2D r = bounds.get(order[i]);
+            leaves[4 * i] = r.getMinX();
+            leaves[4 * i + 1] = r.getMinY();
+            leaves[4 * i + 2] = r.getMaxX();
+            leaves[4 * i + 3] = r.getMaxY();
+        }
+
+        int depth = 1;
+        for (int n = count; n > 1; n = (n + NODE_CAPACITY - 1) / NODE_CAPACITY) depth++;
+        levels = new double[depth][];
+        levels[0] = leaves;
+        for (int level = 1; level < depth; level++) {
+            levels[level] = pack(levels[level - 1]);
+        }
+    }
+
+    private static double @NotNull [] pack(double @NotNull [] children) {
+        int childCount = children.length / 4;
+        int count = (childCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        double[] nodes = new double[4 * count];
+        for (int node = 0; node < count; node++) {
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            int end = Math.min(childCount, (node + 1) * NODE_CAPACITY);
+            for (int child = node * NODE_CAPACITY; child < end; child++) {
+                minX = Math.min(minX, children[4 * child]);
+                minY = Math.min(minY, children[4 * child + 1]);
+                maxX = Math.max(maxX, children[4 * child + 2]);
+                maxY = Math.max(maxY, children[4 * child + 3]);
+            }
+            nodes[4 * node] = minX;
+            nodes[4 * node + 1] = minY;
+            nodes[4 * node + 2] = maxX;
+            nodes[4 * node + 3] = maxY;
+        }
+        return nodes;
+    }
+
+    /**
+     * Reports the indices of all rectangles containing the given point in no particular order.
+     *
+     * @param x the x coordinate of the point.
+     * @param y the y coordinate of the point.
+     * @param consumer receives the indices of the rectangles, as given during construction.
+     */
+    void query(double x, double y, @NotNull IntConsumer consumer) {
+        if (items.length == 0) return;
+        query(levels.length - 1, 0, x, y, consumer);
+    }
+
+    private void query(int level, int node, double x, double y, @NotNull IntConsumer consumer) {
+        double[] bounds = levels[level];
+        if (x < bounds[4 * node] || y < bounds[4 * node + 1]
+                || x > bounds[4 * node + 2] || y > bounds[4 * node + 3]) {
+            return;
+        }
+        if (level == 0) {
+            consumer.accept(items[node]);
+            return;
+        }
+        int end = Math.min(levels[level - 1].length / 4, (node + 1) * NODE_CAPACITY);
+        for (int child = node * NODE_CAPACITY; child < end; child++) {
+            query(level - 1, child, x, y, consumer);
+        }
+    }
+}
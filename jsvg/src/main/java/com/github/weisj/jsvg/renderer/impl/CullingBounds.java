@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.stroke.LineJoin;
+import com.github.weisj.jsvg.attributes.value.LengthValue;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.nodes.ShapeNode;
+import com.github.weisj.jsvg.renderer.MeasureContext;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
+import com.github.weisj.jsvg.renderer.impl.context.StrokeContext;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * Conservative bounds of a shape in the user space of its parent, used to skip shapes which lie outside the clip
+ * before their render context is derived.
+ * <p>
+ * The bounds contain the stroke, including miter joins, and the filter region. They only depend on the node itself
+ * and the measure and stroke state inherited from the parent, which form the key of the cached value.
+ * Shapes with markers or vector effects are never culled.
+ */
+public final class CullingBounds {
+    private final @NotNull MeasureContext measureContext;
+    private final @Nullable LengthValue strokeWidth;
+    private final @Nullable LineJoin lineJoin;
+    private final float miterLimit;
+    private final @NotNull Rectangle2D bounds;
+
+    private CullingBounds(@NotNull MeasureContext measureContext, @NotNull StrokeContext strokeContext,
+            @NotNull Rectangle2D bounds) {
+        this.measureContext = measureContext;
+        this.strokeWidth = strokeContext.strokeWidth;
+        this.lineJoin = strokeContext.lineJoin;
+        this.miterLimit = strokeContext.miterLimit;
+        this.bounds = bounds;
+    }
+
+    static boolean isCulled(@NotNull ShapeNode node, @NotNull RenderContext context, @NotNull Output output) {
+        if (output.renderingHint(SVGRenderingHints.KEY_CULLING) == SVGRenderingHints.VALUE_CULLING_OFF) {
+            return false;
+        }
+        if (node.hasMarkers() || !node.vectorEffects().isEmpty()) return false;
+
+        Rectangle2D clipBounds = output.clipBounds();
+        // Outputs which don't track a clip report null or empty bounds.
+        if (clipBounds == null || clipBounds.isEmpty()) return false;
+
+        MeasureContext measureContext = context.measureContext();
+        StrokeContext strokeContext = RenderContextAccessor.instance().strokeContext(context);
+        CullingBounds cullingBounds = node.cullingBounds();
+        if (cullingBounds == null || !cullingBounds.matches(measureContext, strokeContext)) {
+            Rectangle2D bounds = computeBounds(node, context);
+            if (bounds == null) return false;
+            cullingBounds = new CullingBounds(measureContext, strokeContext, bounds);
+            node.setCullingBounds(cullingBounds);
+        }
+
+        // Keep a device pixel of slack for anti-aliasing.
+        AffineTransform at = output.transform();
+        double scale = Math.min(GeometryUtil.scaleXOfTransform(at), GeometryUtil.scaleYOfTransform(at));
+        if (scale <= 0) return false;
+        return !cullingBounds.bounds.intersects(GeometryUtil.grow(clipBounds, 1 / scale));
+    }
+
+    private boolean matches(@NotNull MeasureContext measure, @NotNull StrokeContext strokeContext) {
+        return measureContext.equals(measure)
+                && Objects.equals(strokeWidth, strokeContext.strokeWidth)
+                && lineJoin == strokeContext.lineJoin
+                && Float.compare(miterLimit, strokeContext.miterLimit) == 0;
+    }
+
+    private static @Nullable Rectangle2D computeBounds(@NotNull ShapeNode node, @NotNull RenderContext context) {
+        RenderContext childContext = NodeRenderer.createChildContext(node, context, null);
+        ElementBounds elementBounds = new ElementBounds(node, childContext);
+        Rectangle2D bounds = elementBounds.geometryBox();
+        if (!GeometryUtil.isValidRect(bounds)) return null;
+
+        // The stroke box is grown by the stroke width. Miter joins may reach further.
+        StrokeContext strokeContext = RenderContextAccessor.instance().strokeContext(childContext);
+        LineJoin join = strokeContext.lineJoin != null ? strokeContext.lineJoin : LineJoin.Miter;
+        if (join == LineJoin.Miter && strokeContext.strokeWidth != null) {
+            float strokeWidth = strokeContext.strokeWidth.resolve(childContext.measureContext());
+            float miterOverhang = strokeWidth * (strokeContext.miterLimit / 2 - 1);
+            if (miterOverhang > 0) bounds = GeometryUtil.grow(bounds, miterOverhang);
+        }
+
+        if (node.shouldTransform()) {
+            AffineTransform transform = node.effectiveTransform(childContext, elementBounds);
+            if (transform != null) bounds = transform.createTransformedShape(bounds).getBounds2D();
+        }
+        return bounds;
+    }
+}
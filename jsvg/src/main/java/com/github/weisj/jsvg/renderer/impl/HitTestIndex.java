@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.*;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * A spatial index over the painted shapes of a document, which answers which elements lie under a point.
+ * <p>
+ * The index is built by rendering the document once into a recording output. Shapes are indexed by their device
+ * bounds in an R-tree. Shapes painted by an animated element or one of its descendants are kept apart from the
+ * static shapes. Moving to a different animation state only records those shapes again and reuses the tree of
+ * static shapes. If the document animates elements which aren't painted themselves, for example the content of a
+ * clip path, every shape is considered animated.
+ * <p>
+ * Instances are immutable and can be queried from multiple threads.
+ */
+public final class HitTestIndex {
+    private final @NotNull Set<@NotNull SVGNode> animatedNodes;
+    private final @NotNull AnimationState animationState;
+    private final boolean reusesStaticEntries;
+    private final @NotNull List<HitTestOutput.@NotNull Entry> staticEntries;
+    private final @NotNull BoundsTree staticTree;
+    private final int staticCount;
+    private final int @Nullable [] staticOrder;
+    private final @NotNull List<HitTestOutput.@NotNull Entry> animatedEntries;
+    private final @NotNull BoundsTree animatedTree;
+
+    private HitTestIndex(@NotNull Set<@NotNull SVGNode> animatedNodes, @NotNull AnimationState animationState,
+            boolean reusesStaticEntries, @NotNull List<HitTestOutput.@NotNull Entry> staticEntries,
+            @NotNull BoundsTree staticTree, int staticCount, int @Nullable [] staticOrder,
+            @NotNull List<HitTestOutput.@NotNull Entry> animatedEntries) {
+        this.animatedNodes = animatedNodes;
+        this.animationState = animationState;
+        this.reusesStaticEntries = reusesStaticEntries;
+        this.staticEntries = staticEntries;
+        this.staticTree = staticTree;
+        this.staticCount = staticCount;
+        this.staticOrder = staticOrder;
+        this.animatedEntries = animatedEntries;
+        this.animatedTree = new BoundsTree(boundsOf(animatedEntries));
+    }
+
+    /**
+     * Builds the index for a document.
+     *
+     * @param animatedNodes the nodes of the document with animated attributes.
+     * @param animationState the animation state the document is rendered at.
+     * @param renderer renders the document into the given output.
+     * @return the index.
+     */
+    public static @NotNull HitTestIndex create(@NotNull Set<@NotNull SVGNode> animatedNodes,
+            @NotNull AnimationState animationState, @NotNull Consumer<@NotNull Output> renderer) {
+        HitTestOutput.Recorder recorder = new HitTestOutput.Recorder(animatedNodes, false);
+        renderer.accept(new HitTestOutput(recorder));
+
+        List<HitTestOutput.Entry> staticEntries = new ArrayList<>();
+        List<HitTestOutput.Entry> animatedEntries = new ArrayList<>();
+        boolean reusesStaticEntries = recorder.hasEncounteredAllAnimatedNodes();
+        for (HitTestOutput.Entry entry : recorder.entries()) {
+            if (reusesStaticEntries && entry.staticIndex >= 0) {
+                staticEntries.add(entry);
+            } else {
+                animatedEntries.add(entry);
+            }
+        }
+        return new HitTestIndex(animatedNodes, animationState, reusesStaticEntries,
+                staticEntries, new BoundsTree(boundsOf(staticEntries)), recorder.staticCount(), null,
+                animatedEntries);
+    }
+
+    /**
+     * Returns the index for a different animation state. Only the shapes of animated elements are recorded again.
+     *
+     * @param state the animation state.
+     * @param renderer renders the document into the given output.
+     * @return the index for the given state.
+     */
+    public @NotNull HitTestIndex forAnimationState(@NotNull AnimationState state,
+            @NotNull Consumer<@NotNull Output> renderer) {
+        if (animatedNodes.isEmpty() || animationState.equals(state)) return this;
+        if (!reusesStaticEntries) return create(animatedNodes, state, renderer);
+
+        HitTestOutput.Recorder recorder = new HitTestOutput.Recorder(animatedNodes, true);
+        renderer.accept(new HitTestOutput(recorder));
+        // Static shapes are painted unconditionally, hence their number can't change. Be safe nonetheless.
+        if (recorder.staticCount() != staticCount) return create(animatedNodes, state, renderer);
+
+        return new HitTestIndex(animatedNodes, state, true, staticEntries, staticTree, staticCount,
+                recorder.staticOrder(), new ArrayList<>(recorder.entries()));
+    }
+
+    /**
+     * Finds the elements painted at the given point.
+     *
+     * @param point the point in the coordinate system of the output the document is rendered into.
+     * @return the ids of the hit elements. Shapes painted last come first. For every shape the ids of its render
+     *         stack follow from the innermost to the outermost element. Each id is only reported once.
+     */
+    public @NotNull List<@NotNull String> hitTest(@NotNull Point2D point) {
+        List<HitTestOutput.Entry> candidates = new ArrayList<>();
+        staticTree.query(point.getX(), point.getY(), i -> candidates.add(staticEntries.get(i)));
+        animatedTree.query(point.getX(), point.getY(), i -> candidates.add(animatedEntries.get(i)));
+        candidates.sort(Comparator.comparingInt(this::paintOrder).reversed());
+
+        Set<String> ids = new LinkedHashSet<>();
+        for (HitTestOutput.Entry entry : candidates) {
+            if (!entry.contains(point)) continue;
+            for (HitTestOutput.NodeChain chain = entry.chain; chain != null; chain = chain.parent) {
+                String id = chain.node.id();
+                if (id != null) ids.add(id);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private int paintOrder(HitTestOutput.@NotNull Entry entry) {
+        if (staticOrder != null && entry.staticIndex >= 0) return staticOrder[entry.staticIndex];
+        return entry.order;
+    }
+
+    private static @NotNull List<@NotNull Rectangle2D> boundsOf(@NotNull List<HitTestOutput.@NotNull Entry> entries) {
+        List<Rectangle2D> bounds = new ArrayList<>(entries.size());
+        for (HitTestOutput.Entry entry : entries) {
+            bounds.add(entry.bounds);
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.*;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.util.ShapeUtil;
+
+/**
+ * Records the painted geometry of a document for hit testing. Every painted shape is stored in user space
+ * together with the device clip and the chain of nodes which painted it, i.e. the render stack at the time
+ * it was painted. For instantiated content this chain passes through the instantiating {@code use} element.
+ */
+final class HitTestOutput implements Output {
+
+    private final @NotNull Recorder recorder;
+    private @Nullable NodeChain chain;
+    private @NotNull AffineTransform currentTransform;
+    private @NotNull Stroke currentStroke;
+    private @Nullable Shape currentClip;
+
+    HitTestOutput(@NotNull Recorder recorder) {
+        this.recorder = recorder;
+        currentStroke = new BasicStroke();
+        currentTransform = new AffineTransform();
+        currentClip = null;
+    }
+
+    private HitTestOutput(@NotNull HitTestOutput parent) {
+        recorder = parent.recorder;
+        chain = parent.chain;
+        currentStroke = parent.currentStroke;
+        currentTransform = new AffineTransform(parent.currentTransform);
+        currentClip = parent.currentClip;
+    }
+
+    void enterNode(@NotNull SVGNode node) {
+        chain = recorder.enter(chain, node);
+    }
+
+    private void record(@NotNull Supplier<Shape> shape, @NotNull AffineTransform transform) {
+        if (chain == null) return;
+        recorder.record(chain, shape, transform, currentClip);
+    }
+
+    @Override
+    public void fillShape(@NotNull Shape shape) {
+        // The shape is only read once the index is built, by which time nodes may have reused it.
+        Shape recorded = ShapeUtil.copyOf(shape);
+        record(() -> recorded, currentTransform);
+    }
+
+    @Override
+    public void drawShape(@NotNull Shape shape) {
+        Stroke stroke = currentStroke;
+        Shape recorded = ShapeUtil.copyOf(shape);
+        record(() -> stroke.createStrokedShape(recorded), currentTransform);
+    }
+
+    @Override
+    public void drawImage(@NotNull BufferedImage image) {
+        record(() -> new Rectangle2D.Float(0, 0, image.getWidth(), image.getHeight()), currentTransform);
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @Nullable ImageObserver observer) {
+        record(() -> new Rectangle2D.Float(0, 0, image.getWidth(null), image.getHeight(null)), currentTransform);
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @NotNull AffineTransform at, @Nullable ImageObserver observer) {
+        AffineTransform transform = new AffineTransform(currentTransform);
+        transform.concatenate(at);
+        record(() -> new Rectangle2D.Float(0, 0, image.getWidth(null), image.getHeight(null)), transform);
+    }
+
+    @Override
+    public void setPaint(@NotNull Paint paint) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void setPaint(@NotNull Supplier<Paint> paintProvider) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void setStroke(@NotNull Stroke stroke) {
+        currentStroke = stroke;
+    }
+
+    @Override
+    public @NotNull Stroke stroke() {
+        return currentStroke;
+    }
+
+    @Override
+    public void applyClip(@NotNull Shape clipShape) {
+        Shape transformedShape = ShapeUtil.transformShape(clipShape, currentTransform);
+        if (currentClip != null) {
+            currentClip = ShapeUtil.intersect(currentClip, transformedShape, true, false);
+        } else {
+            currentClip = transformedShape;
+        }
+    }
+
+    @Override
+    public Optional<Float> contextFontSize() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull Output createChild() {
+        return new HitTestOutput(this);
+    }
+
+    @Override
+    public void dispose() {
+        // No action needed
+    }
+
+    @Override
+    public void debugPaint(@NotNull Consumer<Graphics2D> painter) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull Rectangle2D clipBounds() {
+        float veryLargeNumber = Float.MAX_VALUE / 4;
+        Rectangle2D unbounded = new Rectangle2D.Float(
+                -veryLargeNumber, -veryLargeNumber, 2 * veryLargeNumber, 2 * veryLargeNumber);
+        if (currentClip == null) return unbounded;
+        try {
+            return currentTransform.createInverse().createTransformedShape(currentClip.getBounds2D()).getBounds2D();
+        } catch (NoninvertibleTransformException e) {
+            return unbounded;
+        }
+    }
+
+    @Override
+    public @Nullable RenderingHints renderingHints() {
+        return null;
+    }
+
+    @Override
+    public @Nullable Object renderingHint(RenderingHints.@NotNull Key key) {
+        return null;
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.@NotNull Key key, @Nullable Object value) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull AffineTransform transform() {
+        return new AffineTransform(currentTransform);
+    }
+
+    @Override
+    public void setTransform(@NotNull AffineTransform affineTransform) {
+        currentTransform = new AffineTransform(affineTransform);
+    }
+
+    @Override
+    public void applyTransform(@NotNull AffineTransform transform) {
+        currentTransform.concatenate(transform);
+    }
+
+    @Override
+    public void rotate(double angle) {
+        currentTransform.rotate(angle);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        currentTransform.scale(sx, sy);
+    }
+
+    @Override
+    public void translate(double dx, double dy) {
+        currentTransform.translate(dx, dy);
+    }
+
+    @Override
+    public float currentOpacity() {
+        return 1;
+    }
+
+    @Override
+    public void applyOpacity(float opacity) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull SafeState safeState() {
+        Stroke oldStroke = currentStroke;
+        AffineTransform oldTransform = transform();
+        Shape oldClip = currentClip;
+        return () -> {
+            currentStroke = oldStroke;
+            currentTransform = oldTransform;
+            currentClip = oldClip;
+        };
+    }
+
+    @Override
+    public boolean supportsFilters() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsColors() {
+        return false;
+    }
+
+    @Override
+    public boolean isSoftClippingEnabled() {
+        return false;
+    }
+
+    /**
+     * The render stack of a painted shape, innermost node first.
+     */
+    static final class NodeChain {
+        final @NotNull SVGNode node;
+        final @Nullable NodeChain parent;
+        final boolean animated;
+
+        private NodeChain(@NotNull SVGNode node, @Nullable NodeChain parent, boolean animated) {
+            this.node = node;
+            this.parent = parent;
+            this.animated = animated;
+        }
+    }
+
+    /**
+     * A painted shape. The shape is kept in user space and hit tested by mapping the point with the inverse
+     * transform.
+     */
+    static final class Entry {
+        final @NotNull NodeChain chain;
+        final int order;
+        // The index of the entry among all static paint operations or -1 if the entry is animated.
+        final int staticIndex;
+        final @NotNull Rectangle2D bounds;
+        private final @NotNull Shape shape;
+        private final @NotNull AffineTransform inverseTransform;
+        private final @Nullable Shape clip;
+
+        private Entry(@NotNull NodeChain chain, int order, int staticIndex, @NotNull Shape shape,
+                @NotNull AffineTransform inverseTransform, @Nullable Shape clip, @NotNull Rectangle2D bounds) {
+            this.chain = chain;
+            this.order = order;
+            this.staticIndex = staticIndex;
+            this.shape = shape;
+            this.inverseTransform = inverseTransform;
+            this.clip = clip;
+            this.bounds = bounds;
+        }
+
+        boolean contains(@NotNull Point2D point) {
+            if (!bounds.contains(point)) return false;
+            if (clip != null && !clip.contains(point)) return false;
+            return shape.contains(inverseTransform.transform(point, null));
+        }
+    }
+
+    /**
+     * Collects the entries of a single recording pass. Entries are numbered in paint order.
+     * <p>
+     * If static entries are skipped only their paint order is recorded, which allows reusing the static entries
+     * of a previous pass.
+     */
+    static final class Recorder {
+        private final @NotNull Set<@NotNull SVGNode> animatedNodes;
+        private final @NotNull Set<@NotNull SVGNode> encounteredAnimatedNodes =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        private final boolean skipStatic;
+        private final @NotNull List<@NotNull Entry> entries = new ArrayList<>();
+        private int[] staticOrder = new int[0];
+        private int staticCount;
+        private int order;
+
+        Recorder(@NotNull Set<@NotNull SVGNode> animatedNodes, boolean skipStatic) {
+            this.animatedNodes = animatedNodes;
+            this.skipStatic = skipStatic;
+        }
+
+        private @NotNull NodeChain enter(@Nullable NodeChain parent, @NotNull SVGNode node) {
+            boolean animated = animatedNodes.contains(node);
+            if (animated) encounteredAnimatedNodes.add(node);
+            return new NodeChain(node, parent, animated || (parent != null && parent.animated));
+        }
+
+        private void record(@NotNull NodeChain chain, @NotNull Supplier<Shape> shapeSupplier,
+                @NotNull AffineTransform transform, @Nullable Shape clip) {
+            int paintOrder = order++;
+            int staticIndex = -1;
+            if (!chain.animated) {
+                staticIndex = staticCount++;
+                if (skipStatic) {
+                    if (staticIndex == staticOrder.length) {
+                        staticOrder = Arrays.copyOf(staticOrder, Math.max(16, 2 * staticIndex));
+                    }
+                    staticOrder[staticIndex] = paintOrder;
+                    return;
+                }
+            }
+            AffineTransform inverse;
+            try {
+                inverse = transform.createInverse();
+            } catch (NoninvertibleTransformException e) {
+                // Degenerate transforms don't paint anything.
+                return;
+            }
+            Shape shape = shapeSupplier.get();
+            Rectangle2D bounds = transform.createTransformedShape(shape.getBounds2D()).getBounds2D();
+            if (clip != null) Rectangle2D.intersect(bounds, clip.getBounds2D(), bounds);
+            if (bounds.isEmpty()) return;
+            entries.add(new Entry(chain, paintOrder, staticIndex, shape, inverse, clip, bounds));
+        }
+
+        @NotNull
+        List<@NotNull Entry> entries() {
+            return entries;
+        }
+
+        int @NotNull [] staticOrder() {
+            return Arrays.copyOf(staticOrder, staticCount);
+        }
+
+        int staticCount() {
+            return staticCount;
+        }
+
+        boolean hasEncounteredAllAnimatedNodes() {
+            return encounteredAnimatedNodes.size() == animatedNodes.size();
+        }
+    }
+}
@@ -38,7 +38,7 @@ import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.renderer.output.impl.Graphics2DOutput;
 import com.github.weisj.jsvg.util.BlittableImage;
-import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.SurfacePool;
 
 class Info implements AutoCloseable {
     protected final @NotNull RenderContext context;
@@ -107,7 +107,7 @@ class Info implements AutoCloseable {
             RenderContext imageContext = RenderContextAccessor.instance().deriveForSurface(context);
 
             BlittableImage blitImage = BlittableImage.create(
-                    ImageUtil::createCompatibleTransparentImage, context, clipBounds,
+                    SurfacePool.SurfaceType.Transparent, SurfacePool.isPoolingEnabled(output), context, clipBounds,
                     bounds, elementBounds.boundingBox(), UnitType.UserSpaceOnUse, imageContext);
             if (blitImage == null) return null;
 
@@ -167,6 +167,7 @@ class Info implements AutoCloseable {
             blittableImage.prepareForBlitting(previousOutput);
             previousOutput.drawImage(result, context.platformSupport().imageObserver());
             imageOutput.dispose();
+            blittableImage.release();
             super.close();
         }
     }
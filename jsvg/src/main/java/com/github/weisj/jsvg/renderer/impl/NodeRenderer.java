@@ -21,16 +21,20 @@
  */
 package com.github.weisj.jsvg.renderer.impl;
 
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.util.function.BiConsumer;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.font.MeasurableFontSpec;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.ClipPath;
 import com.github.weisj.jsvg.nodes.Mask;
 import com.github.weisj.jsvg.nodes.SVG;
 import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.ShapeNode;
 import com.github.weisj.jsvg.nodes.container.BaseInnerViewContainer;
 import com.github.weisj.jsvg.nodes.filter.Filter;
 import com.github.weisj.jsvg.nodes.prototype.*;
@@ -41,6 +45,7 @@ import com.github.weisj.jsvg.renderer.impl.context.FontRenderContext;
 import com.github.weisj.jsvg.renderer.impl.context.PaintContext;
 import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.renderer.output.impl.RecordingOutput;
 import com.github.weisj.jsvg.view.FloatSize;
 import com.github.weisj.jsvg.view.ViewBox;
 
@@ -48,6 +53,7 @@ public final class NodeRenderer {
     private NodeRenderer() {}
 
     public static void renderRootSVG(@NotNull SVG svgRoot, @NotNull RenderContext context, @NotNull Output output) {
+        if (deferIsolation(svgRoot, context, output, (ctx, out) -> renderRootSVG(svgRoot, ctx, out))) return;
         try (Info info = createRenderInfo(svgRoot, context, output, null)) {
             if (info != null) ((SVG) info.renderable()).renderWithEstablishedViewBox(info.context(), info.output());
         }
@@ -59,6 +65,8 @@ public final class NodeRenderer {
 
     public static void renderNode(@NotNull SVGNode node, @NotNull RenderContext context, @NotNull Output output,
             @Nullable Instantiator instantiator) {
+        if (deferIsolation(node, context, output,
+                (ctx, out) -> renderNode(node, ctx, out, instantiator))) return;
         try (Info info = createRenderInfo(node, context, output, instantiator)) {
             if (info != null) info.renderable().render(info.context(), info.output());
         }
@@ -67,6 +75,8 @@ public final class NodeRenderer {
     public static void renderWithSize(@NotNull BaseInnerViewContainer node, @NotNull FloatSize size,
             @NotNull RenderContext context, @NotNull Output output,
             @Nullable Instantiator instantiator) {
+        if (deferIsolation(node, context, output,
+                (ctx, out) -> renderWithSize(node, size, ctx, out, instantiator))) return;
         try (Info info = createRenderInfo(node, context, output, instantiator)) {
             if (info != null) node.renderWithSize(size, node.viewBox(info.context()), info.context(), info.output());
         }
@@ -77,6 +87,44 @@ public final class NodeRenderer {
         return setupRenderContext(instantiator, node, context);
     }
 
+    // Outputs recording a render plan don't rasterize isolated elements. Instead, the element is rendered as usual
+    // when the plan is drawn, which resolves its effects at the resolution of the actual output.
+    // Masks are always deferred, as they are applied in device space and can't be resampled if a recording is
+    // replayed with a scaling transform.
+    private static boolean deferIsolation(@NotNull SVGNode node, @NotNull RenderContext context,
+            @NotNull Output output, @NotNull BiConsumer<@NotNull RenderContext, @NotNull Output> renderer) {
+        if (!(output instanceof RecordingOutput)) return false;
+        boolean defer = ((RecordingOutput) output).defersIsolation()
+                ? requiresIsolation(node, output)
+                : requiresMaskedPaint(node, output);
+        if (!defer) return false;
+        AffineTransform inverseRecordedTransform = GeometryUtil.createInverse(output.transform());
+        ((RecordingOutput) output).recordDeferred(out -> {
+            AffineTransform outputTransform = out.transform();
+            outputTransform.concatenate(inverseRecordedTransform);
+            renderer.accept(RenderContextAccessor.instance().deriveForTransformedOutput(context, outputTransform),
+                    out);
+        });
+        return true;
+    }
+
+    private static boolean requiresIsolation(@NotNull SVGNode node, @NotNull Output output) {
+        if (node instanceof HasFilter) {
+            Filter filter = ((HasFilter) node).filter();
+            if (filter != null && filter.hasEffect()) return true;
+        }
+        return requiresMaskedPaint(node, output);
+    }
+
+    private static boolean requiresMaskedPaint(@NotNull SVGNode node, @NotNull Output output) {
+        if (node instanceof HasClip) {
+            HasClip hasClip = (HasClip) node;
+            if (hasClip.mask() != null) return true;
+            return hasClip.clipPath() != null && (useAccurateMasking(output) || output.isSoftClippingEnabled());
+        }
+        return false;
+    }
+
     private static @Nullable Info createRenderInfo(@NotNull SVGNode node, @NotNull RenderContext context,
             @NotNull Output output, @Nullable Instantiator instantiator) {
         if (!(node instanceof Renderable)) return null;
@@ -85,9 +133,14 @@ public final class NodeRenderer {
 
         if (!checkInstantiation(node, instantiator, renderable)) return null;
         if (!renderable.isVisible(context)) return null;
+        if (instantiator == null && node instanceof ShapeNode
+                && CullingBounds.isCulled((ShapeNode) node, context, output)) {
+            return null;
+        }
 
         RenderContext childContext = createChildContext(renderable, context, instantiator);
         Output childOutput = output.createChild();
+        if (childOutput instanceof HitTestOutput) ((HitTestOutput) childOutput).enterNode(node);
         ElementBounds elementBounds = new ElementBounds(node, childContext);
 
         applyTransform(renderable, childOutput, childContext, elementBounds);
@@ -51,6 +51,10 @@ public final class RenderContextAccessor {
         @NotNull
         RenderContext deriveForChildGraphics(@NotNull RenderContext context);
 
+        @NotNull
+        RenderContext deriveForTransformedOutput(@NotNull RenderContext context,
+                @NotNull AffineTransform outputTransform);
+
         @NotNull
         RenderContext deriveForNode(
                 @NotNull RenderContext context,
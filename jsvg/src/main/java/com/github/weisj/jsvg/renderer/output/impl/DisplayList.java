@@ -0,0 +1,240 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.output.impl;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.paint.impl.MaskedPaint;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * An immutable list of drawing commands recorded by a {@link RecordingOutput}, which can be replayed onto any other
+ * {@link Output}. Replaying only issues the recorded commands, hence the node tree isn't traversed again. The exception
+ * are masked elements, which are rendered during replay.
+ * <p>
+ * Display lists can be replayed from multiple threads concurrently.
+ */
+public final class DisplayList {
+    static final int FILL_SHAPE = 0;
+    static final int DRAW_SHAPE = 1;
+    static final int DRAW_BUFFERED_IMAGE = 2;
+    static final int DRAW_IMAGE = 3;
+    static final int DRAW_TRANSFORMED_IMAGE = 4;
+    static final int SET_PAINT = 5;
+    static final int SET_STROKE = 6;
+    static final int APPLY_CLIP = 7;
+    static final int SET_CLIP = 8;
+    static final int CREATE_CHILD = 9;
+    static final int DISPOSE = 10;
+    static final int DEBUG_PAINT = 11;
+    static final int SET_RENDERING_HINT = 12;
+    static final int SET_TRANSFORM = 13;
+    static final int APPLY_TRANSFORM = 14;
+    static final int ROTATE = 15;
+    static final int SCALE = 16;
+    static final int TRANSLATE = 17;
+    static final int APPLY_OPACITY = 18;
+    static final int SAVE_STATE = 19;
+    static final int RESTORE_STATE = 20;
+    static final int RENDER_DEFERRED = 21;
+
+    // Every command starts with its opcode followed by the index of the output it is issued on.
+    // Object and numeric operands are stored as indices into the respective pools.
+    final int @NotNull [] code;
+    final @Nullable Object @NotNull [] objects;
+    final double @NotNull [] numbers;
+    final int outputCount;
+    final int stateCount;
+
+    DisplayList(int @NotNull [] code, @Nullable Object @NotNull [] objects, double @NotNull [] numbers,
+            int outputCount, int stateCount) {
+        this.code = code;
+        this.objects = objects;
+        this.numbers = numbers;
+        this.outputCount = outputCount;
+        this.stateCount = stateCount;
+    }
+
+    /**
+     * @return whether the list doesn't contain any commands.
+     */
+    public boolean isEmpty() {
+        return code.length == 0;
+    }
+
+    /**
+     * Replays the commands onto the given output. The commands are issued relative to the current transform of the
+     * output. The state of the output itself isn't changed.
+     *
+     * @param output the output to replay onto.
+     */
+    public void replay(@NotNull Output output) {
+        replay(output, new AffineTransform());
+    }
+
+    /**
+     * Replays the commands onto the given output using an additional root transform, which is applied before
+     * all recorded commands.
+     * <p>
+     * Filters and patterns are rendered to offscreen images while recording, hence they are resolved for the device
+     * space of the recording. They are exact if the root transform only translates and resampled otherwise. Masks are
+     * applied in device space and can't be resampled. Masked elements are therefore rendered during replay, at the
+     * resolution of the output.
+     *
+     * @param output the output to replay onto.
+     * @param rootTransform the transform to apply before all recorded commands.
+     */
+    public void replay(@NotNull Output output, @NotNull AffineTransform rootTransform) {
+        Output[] outputs = new Output[outputCount];
+        Output.SafeState[] states = new Output.SafeState[stateCount];
+
+        Output root = output.createChild();
+        AffineTransform base = root.transform();
+        base.concatenate(rootTransform);
+        root.setTransform(base);
+        outputs[0] = root;
+
+        int pc = 0;
+        while (pc < code.length) {
+            int op = code[pc++];
+            Output out = outputs[code[pc++]];
+            switch (op) {
+                case FILL_SHAPE:
+                    out.fillShape((Shape) object(code[pc++]));
+                    break;
+                case DRAW_SHAPE:
+                    out.drawShape((Shape) object(code[pc++]));
+                    break;
+                case DRAW_BUFFERED_IMAGE:
+                    out.drawImage((BufferedImage) object(code[pc++]));
+                    break;
+                case DRAW_IMAGE:
+                    out.drawImage((Image) object(code[pc++]), (ImageObserver) objects[code[pc++]]);
+                    break;
+                case DRAW_TRANSFORMED_IMAGE:
+                    out.drawImage((Image) object(code[pc++]), (AffineTransform) object(code[pc++]),
+                            (ImageObserver) objects[code[pc++]]);
+                    break;
+                case SET_PAINT:
+                    out.setPaint(unsharedPaint((Paint) object(code[pc++]), base));
+                    break;
+                case SET_STROKE:
+                    out.setStroke((Stroke) object(code[pc++]));
+                    break;
+                case APPLY_CLIP:
+                    out.applyClip((Shape) object(code[pc++]));
+                    break;
+                case SET_CLIP:
+                    setClip(out, (Shape) objects[code[pc++]]);
+                    break;
+                case CREATE_CHILD:
+                    outputs[code[pc++]] = out.createChild();
+                    break;
+                case DISPOSE:
+                    out.dispose();
+                    outputs[code[pc - 1]] = null;
+                    break;
+                case DEBUG_PAINT:
+                    debugPaint(out, object(code[pc++]));
+                    break;
+                case SET_RENDERING_HINT:
+                    out.setRenderingHint((RenderingHints.Key) object(code[pc++]), objects[code[pc++]]);
+                    break;
+                case SET_TRANSFORM: {
+                    AffineTransform transform = new AffineTransform(base);
+                    transform.concatenate((AffineTransform) object(code[pc++]));
+                    out.setTransform(transform);
+                    break;
+                }
+                case APPLY_TRANSFORM:
+                    out.applyTransform(new AffineTransform((AffineTransform) object(code[pc++])));
+                    break;
+                case ROTATE:
+                    out.rotate(numbers[code[pc++]]);
+                    break;
+                case SCALE:
+                    out.scale(numbers[code[pc]], numbers[code[pc] + 1]);
+                    pc++;
+                    break;
+                case TRANSLATE:
+                    out.translate(numbers[code[pc]], numbers[code[pc] + 1]);
+                    pc++;
+                    break;
+                case APPLY_OPACITY:
+                    out.applyOpacity((float) numbers[code[pc++]]);
+                    break;
+                case SAVE_STATE:
+                    states[code[pc++]] = out.safeState();
+                    break;
+                case RESTORE_STATE:
+                    states[code[pc++]].restore();
+                    break;
+                case RENDER_DEFERRED:
+                    renderDeferred(out, object(code[pc++]));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown command " + op);
+            }
+        }
+
+        for (int i = outputs.length - 1; i >= 0; i--) {
+            if (outputs[i] != null) outputs[i].dispose();
+        }
+    }
+
+    private @NotNull Object object(int index) {
+        Object o = objects[index];
+        assert o != null;
+        return o;
+    }
+
+    static @NotNull Paint unsharedPaint(@NotNull Paint paint, @NotNull AffineTransform base) {
+        // Masked paints are modified by the outputs they are set on. Hand out a copy to keep the list immutable.
+        // Masked elements are deferred, hence only paints which were set on the recording directly end up here.
+        if (paint instanceof MaskedPaint) {
+            return ((MaskedPaint) paint).copy(base.getTranslateX(), base.getTranslateY());
+        }
+        return paint;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void setClip(@NotNull Output output, @Nullable Shape shape) {
+        output.setClip(shape);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void renderDeferred(@NotNull Output output, @NotNull Object renderer) {
+        ((Consumer<Output>) renderer).accept(output);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void debugPaint(@NotNull Output output, @NotNull Object painter) {
+        output.debugPaint((Consumer<Graphics2D>) painter);
+    }
+}
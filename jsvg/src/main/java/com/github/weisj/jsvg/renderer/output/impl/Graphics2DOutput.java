@@ -208,7 +208,7 @@ public class Graphics2DOutput implements Output, CurrentColorProvider {
 
     @Override
     public @NotNull SafeState safeState() {
-        return new GraphicsResetHelper(g);
+        return new GraphicsResetHelper(g, this);
     }
 
     @Override
@@ -25,6 +25,7 @@ import java.awt.*;
 import java.awt.geom.AffineTransform;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.renderer.output.Output;
 
@@ -38,6 +39,7 @@ import com.github.weisj.jsvg.renderer.output.Output;
 public class GraphicsResetHelper implements Output.SafeState {
 
     private final Graphics2D graphics;
+    private final @Nullable Output output;
 
     private final Composite originalComposite;
     private final Paint originalPaint;
@@ -45,7 +47,17 @@ public class GraphicsResetHelper implements Output.SafeState {
     private final AffineTransform originalTransform;
 
     public GraphicsResetHelper(@NotNull Graphics2D graphics) {
+        this(graphics, null);
+    }
+
+    /**
+     * @param graphics the graphics to reset.
+     * @param output the output owning the graphics. Paints set on the output after this helper has been created are
+     *        cleaned up when restoring.
+     */
+    public GraphicsResetHelper(@NotNull Graphics2D graphics, @Nullable Output output) {
         this.graphics = graphics;
+        this.output = output;
 
         originalComposite = graphics.getComposite();
         originalPaint = graphics.getPaint();
@@ -60,6 +72,11 @@ public class GraphicsResetHelper implements Output.SafeState {
     @Override
     public void restore() {
         graphics.setComposite(originalComposite);
+        Paint paint = graphics.getPaint();
+        // Wrapping paints may contain the original paint, which must stay intact.
+        if (output != null && paint != originalPaint && !(paint instanceof GraphicsUtil.WrappingPaint)) {
+            GraphicsUtil.cleanupPaint(output, paint);
+        }
         graphics.setPaint(originalPaint);
         graphics.setStroke(originalStroke);
         graphics.setTransform(originalTransform);
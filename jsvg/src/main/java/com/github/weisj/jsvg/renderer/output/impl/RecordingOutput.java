@@ -0,0 +1,406 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.output.impl;
+
+import java.awt.*;
+import java.awt.geom.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.paint.impl.MaskedPaint;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.util.ShapeUtil;
+
+/**
+ * An output which records all drawing commands into a {@link DisplayList}. Documents which don't change can be
+ * rendered once into a recording output and the resulting display list replayed onto the actual output on every
+ * repaint.
+ * <p>
+ * The recording output tracks the state queried during rendering, like the transform and clip, in the same way a
+ * {@link Graphics2DOutput} does. The recording starts with the identity transform and without clip. Decisions
+ * made during rendering based on this state, e.g. the resolution of filters or the font size of the platform, are
+ * part of the recording. Masked elements are recorded as deferred operations, which render them when the display
+ * list is replayed.
+ * <p>
+ * Offscreen images are never taken from a cache while recording, as they are retained by the display list.
+ */
+public final class RecordingOutput implements Output {
+
+    private final @NotNull Recording recording;
+    private final boolean defersIsolation;
+    private final int index;
+    private @NotNull AffineTransform currentTransform;
+    private @NotNull Stroke currentStroke;
+    private @Nullable Shape currentClip;
+    private float currentOpacity;
+    private boolean hasMaskedPaint;
+    private final @NotNull RenderingHints renderingHints;
+
+    public RecordingOutput() {
+        this((RenderingHints) null);
+    }
+
+    /**
+     * @param renderingHints the rendering hints of the output the recording is going to be replayed onto or null
+     *        to use the defaults of JSVG.
+     */
+    public RecordingOutput(@Nullable RenderingHints renderingHints) {
+        this(renderingHints, false);
+    }
+
+    RecordingOutput(@Nullable RenderingHints renderingHints, boolean defersIsolation) {
+        this.defersIsolation = defersIsolation;
+        recording = new Recording();
+        index = recording.outputCount++;
+        currentTransform = new AffineTransform();
+        currentStroke = new BasicStroke();
+        currentClip = null;
+        currentOpacity = 1;
+        this.renderingHints = setupRenderingHints(renderingHints);
+    }
+
+    private RecordingOutput(@NotNull RecordingOutput parent) {
+        recording = parent.recording;
+        defersIsolation = parent.defersIsolation;
+        index = recording.outputCount++;
+        currentTransform = new AffineTransform(parent.currentTransform);
+        currentStroke = parent.currentStroke;
+        currentClip = parent.currentClip;
+        currentOpacity = parent.currentOpacity;
+        hasMaskedPaint = parent.hasMaskedPaint;
+        renderingHints = (RenderingHints) parent.renderingHints.clone();
+    }
+
+    private static @NotNull RenderingHints setupRenderingHints(@Nullable RenderingHints hints) {
+        RenderingHints result = new RenderingHints(null);
+        if (hints != null) result.putAll(hints);
+        Object aaHint = result.get(RenderingHints.KEY_ANTIALIASING);
+        if (aaHint != null && aaHint != RenderingHints.VALUE_ANTIALIAS_DEFAULT) {
+            result.putIfAbsent(SVGRenderingHints.KEY_IMAGE_ANTIALIASING,
+                    aaHint == RenderingHints.VALUE_ANTIALIAS_ON
+                            ? SVGRenderingHints.VALUE_IMAGE_ANTIALIASING_ON
+                            : SVGRenderingHints.VALUE_IMAGE_ANTIALIASING_OFF);
+        } else {
+            result.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        }
+        Object strokeHint = result.get(RenderingHints.KEY_STROKE_CONTROL);
+        if (strokeHint == null || strokeHint == RenderingHints.VALUE_STROKE_DEFAULT) {
+            result.put(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        }
+        result.putIfAbsent(SVGRenderingHints.KEY_MASK_CLIP_RENDERING,
+                SVGRenderingHints.VALUE_MASK_CLIP_RENDERING_DEFAULT);
+        result.put(SVGRenderingHints.KEY_CACHE_OFFSCREEN_IMAGE, SVGRenderingHints.VALUE_NO_CACHE);
+        return result;
+    }
+
+    /**
+     * Creates a display list of all commands recorded so far by this output and the outputs derived from it.
+     *
+     * @return the display list.
+     */
+    public @NotNull DisplayList toDisplayList() {
+        return recording.toDisplayList();
+    }
+
+    /**
+     * Whether elements which are rendered in isolation, i.e. with filters, masks or accurate clipping, should be
+     * recorded using {@link #recordDeferred(Consumer)} instead of being rasterized during recording. Masked elements
+     * are always deferred.
+     *
+     * @return whether isolated elements are deferred.
+     */
+    @ApiStatus.Internal
+    public boolean defersIsolation() {
+        return defersIsolation;
+    }
+
+    /**
+     * Records a rendering operation which is executed on the target output during replay.
+     *
+     * @param renderer the rendering operation.
+     */
+    @ApiStatus.Internal
+    public void recordDeferred(@NotNull Consumer<@NotNull Output> renderer) {
+        recording.add(DisplayList.RENDER_DEFERRED, index, recording.object(renderer));
+    }
+
+    @Override
+    public void fillShape(@NotNull Shape shape) {
+        recording.add(DisplayList.FILL_SHAPE, index, recording.object(ShapeUtil.copyOf(shape)));
+    }
+
+    @Override
+    public void drawShape(@NotNull Shape shape) {
+        recording.add(DisplayList.DRAW_SHAPE, index, recording.object(ShapeUtil.copyOf(shape)));
+    }
+
+    @Override
+    public void drawImage(@NotNull BufferedImage image) {
+        recording.add(DisplayList.DRAW_BUFFERED_IMAGE, index, recording.object(image));
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @Nullable ImageObserver observer) {
+        recording.add(DisplayList.DRAW_IMAGE, index, recording.object(image), recording.object(observer));
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @NotNull AffineTransform at, @Nullable ImageObserver observer) {
+        recording.add(DisplayList.DRAW_TRANSFORMED_IMAGE, index, recording.object(image),
+                recording.object(new AffineTransform(at)), recording.object(observer));
+    }
+
+    @Override
+    public void setPaint(@NotNull Paint paint) {
+        if (paint instanceof MaskedPaint) hasMaskedPaint = true;
+        recording.add(DisplayList.SET_PAINT, index, recording.object(paint));
+    }
+
+    @Override
+    public void setPaint(@NotNull Supplier<Paint> paintProvider) {
+        setPaint(paintProvider.get());
+    }
+
+    @Override
+    public void setStroke(@NotNull Stroke stroke) {
+        currentStroke = stroke;
+        recording.add(DisplayList.SET_STROKE, index, recording.object(stroke));
+    }
+
+    @Override
+    public @NotNull Stroke stroke() {
+        return currentStroke;
+    }
+
+    @Override
+    public void applyClip(@NotNull Shape clipShape) {
+        Shape transformedShape = ShapeUtil.transformShape(clipShape, currentTransform);
+        currentClip = currentClip != null
+                ? ShapeUtil.intersect(currentClip, transformedShape, true, false)
+                : transformedShape;
+        recording.add(DisplayList.APPLY_CLIP, index, recording.object(ShapeUtil.copyOf(clipShape)));
+    }
+
+    @Override
+    public void setClip(@Nullable Shape shape) {
+        currentClip = shape != null ? ShapeUtil.transformShape(shape, currentTransform) : null;
+        recording.add(DisplayList.SET_CLIP, index, recording.object(shape != null ? ShapeUtil.copyOf(shape) : null));
+    }
+
+    @Override
+    public Optional<Float> contextFontSize() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull Output createChild() {
+        RecordingOutput child = new RecordingOutput(this);
+        recording.add(DisplayList.CREATE_CHILD, index, child.index);
+        return child;
+    }
+
+    @Override
+    public void dispose() {
+        recording.add(DisplayList.DISPOSE, index);
+    }
+
+    @Override
+    public void debugPaint(@NotNull Consumer<Graphics2D> painter) {
+        recording.add(DisplayList.DEBUG_PAINT, index, recording.object(painter));
+    }
+
+    @Override
+    public @NotNull Rectangle2D clipBounds() {
+        float veryLargeNumber = Float.MAX_VALUE / 4;
+        Rectangle2D unbounded = new Rectangle2D.Float(
+                -veryLargeNumber, -veryLargeNumber, 2 * veryLargeNumber, 2 * veryLargeNumber);
+        if (currentClip == null) return unbounded;
+        try {
+            return currentTransform.createInverse().createTransformedShape(currentClip.getBounds2D()).getBounds2D();
+        } catch (NoninvertibleTransformException e) {
+            return new Rectangle2D.Double();
+        }
+    }
+
+    @Override
+    public @NotNull RenderingHints renderingHints() {
+        return (RenderingHints) renderingHints.clone();
+    }
+
+    @Override
+    public @Nullable Object renderingHint(RenderingHints.@NotNull Key key) {
+        return renderingHints.get(key);
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.@NotNull Key key, @Nullable Object value) {
+        if (value != null) {
+            renderingHints.put(key, value);
+        } else {
+            renderingHints.remove(key);
+        }
+        recording.add(DisplayList.SET_RENDERING_HINT, index, recording.object(key), recording.object(value));
+    }
+
+    @Override
+    public @NotNull AffineTransform transform() {
+        return new AffineTransform(currentTransform);
+    }
+
+    @Override
+    public void setTransform(@NotNull AffineTransform affineTransform) {
+        currentTransform = new AffineTransform(affineTransform);
+        recording.add(DisplayList.SET_TRANSFORM, index, recording.object(new AffineTransform(affineTransform)));
+    }
+
+    @Override
+    public void applyTransform(@NotNull AffineTransform transform) {
+        currentTransform.concatenate(transform);
+        recording.add(DisplayList.APPLY_TRANSFORM, index, recording.object(new AffineTransform(transform)));
+    }
+
+    @Override
+    public void rotate(double angle) {
+        currentTransform.rotate(angle);
+        recording.add(DisplayList.ROTATE, index, recording.number(angle));
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        currentTransform.scale(sx, sy);
+        recording.add(DisplayList.SCALE, index, recording.numbers(sx, sy));
+    }
+
+    @Override
+    public void translate(double dx, double dy) {
+        currentTransform.translate(dx, dy);
+        recording.add(DisplayList.TRANSLATE, index, recording.numbers(dx, dy));
+    }
+
+    @Override
+    public float currentOpacity() {
+        return currentOpacity;
+    }
+
+    @Override
+    public void applyOpacity(float opacity) {
+        if (GeometryUtil.approximatelyEqual(opacity, 1)) return;
+        currentOpacity *= opacity;
+        recording.add(DisplayList.APPLY_OPACITY, index, recording.number(opacity));
+    }
+
+    @Override
+    public boolean hasMaskedPaint() {
+        return hasMaskedPaint;
+    }
+
+    @Override
+    public @NotNull SafeState safeState() {
+        int state = recording.stateCount++;
+        recording.add(DisplayList.SAVE_STATE, index, state);
+        // Mirrors GraphicsResetHelper, which doesn't restore the clip.
+        AffineTransform oldTransform = transform();
+        Stroke oldStroke = currentStroke;
+        float oldOpacity = currentOpacity;
+        boolean oldHasMaskedPaint = hasMaskedPaint;
+        return () -> {
+            currentTransform = oldTransform;
+            currentStroke = oldStroke;
+            currentOpacity = oldOpacity;
+            hasMaskedPaint = oldHasMaskedPaint;
+            recording.add(DisplayList.RESTORE_STATE, index, state);
+        };
+    }
+
+    @Override
+    public boolean supportsFilters() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsColors() {
+        return true;
+    }
+
+    private static final class Recording {
+        private int[] code = new int[64];
+        private int codeLength;
+        private final @NotNull List<@Nullable Object> objects = new ArrayList<>();
+        private double[] numbers = new double[16];
+        private int numberCount;
+        private int outputCount;
+        private int stateCount;
+
+        int object(@Nullable Object o) {
+            objects.add(o);
+            return objects.size() - 1;
+        }
+
+        int number(double value) {
+            ensureNumberCapacity(1);
+            numbers[numberCount] = value;
+            return numberCount++;
+        }
+
+        int numbers(double first, double second) {
+            ensureNumberCapacity(2);
+            numbers[numberCount] = first;
+            numbers[numberCount + 1] = second;
+            numberCount += 2;
+            return numberCount - 2;
+        }
+
+        private void ensureNumberCapacity(int count) {
+            if (numberCount + count > numbers.length) {
+                numbers = Arrays.copyOf(numbers, Math.max(2 * numbers.length, numberCount + count));
+            }
+        }
+
+        void add(int op, int output, int... operands) {
+            if (codeLength + 2 + operands.length > code.length) {
+                code = Arrays.copyOf(code, Math.max(2 * code.length, codeLength + 2 + operands.length));
+            }
+            code[codeLength++] = op;
+            code[codeLength++] = output;
+            System.arraycopy(operands, 0, code, codeLength, operands.length);
+            codeLength += operands.length;
+        }
+
+        @NotNull
+        DisplayList toDisplayList() {
+            return new DisplayList(Arrays.copyOf(code, codeLength), objects.toArray(),
+                    Arrays.copyOf(numbers, numberCount), outputCount, stateCount);
+        }
+    }
+}
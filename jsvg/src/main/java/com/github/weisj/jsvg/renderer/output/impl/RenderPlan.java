@@ -0,0 +1,431 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.output.impl;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.paint.impl.MaskedPaint;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.util.ShapeUtil;
+
+/**
+ * A compiled form of a static document. All lengths, transforms, paints and strokes are resolved ahead of time and
+ * the node tree is flattened into a linear list of draw operations, each carrying its transform relative to the
+ * root. Consecutive operations sharing the same clip, opacity and rendering hints are drawn on a single output.
+ * <p>
+ * Elements which are rendered in isolation, i.e. with filters, masks or accurate clipping, are kept as nested
+ * operations which render the element as usual when the plan is drawn. Their effects are hence resolved at the
+ * resolution of the output the plan is drawn on.
+ * <p>
+ * Render plans are immutable and can be drawn from multiple threads concurrently.
+ */
+public final class RenderPlan {
+    private static final int FILL_SHAPE = 0;
+    private static final int DRAW_SHAPE = 1;
+    private static final int DRAW_BUFFERED_IMAGE = 2;
+    private static final int DRAW_IMAGE = 3;
+    private static final int DRAW_TRANSFORMED_IMAGE = 4;
+    private static final int RENDER_DEFERRED = 5;
+
+    private final @NotNull Operation @NotNull [] operations;
+
+    private RenderPlan(@NotNull Operation @NotNull [] operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Compiles a render plan.
+     *
+     * @param renderer renders the document into the given output.
+     * @param renderingHints the rendering hints of the outputs the plan is drawn on or null to use the defaults of
+     *        JSVG.
+     * @return the render plan.
+     */
+    public static @NotNull RenderPlan compile(@NotNull Consumer<@NotNull Output> renderer,
+            @Nullable RenderingHints renderingHints) {
+        RecordingOutput recordingOutput = new RecordingOutput(renderingHints, true);
+        renderer.accept(recordingOutput);
+        return new Compiler(recordingOutput.toDisplayList()).compile();
+    }
+
+    /**
+     * @return the number of draw operations of the plan.
+     */
+    public int operationCount() {
+        return operations.length;
+    }
+
+    /**
+     * Draws the plan onto the given graphics.
+     *
+     * @param g the graphics to draw on.
+     */
+    public void render(@NotNull Graphics2D g) {
+        Output output = Output.createForGraphics(g);
+        render(output, new AffineTransform());
+        output.dispose();
+    }
+
+    /**
+     * Draws the plan onto the given output. The state of the output itself isn't changed.
+     *
+     * @param output the output to draw on.
+     */
+    public void render(@NotNull Output output) {
+        render(output, new AffineTransform());
+    }
+
+    /**
+     * Draws the plan onto the given output using an additional root transform. The state of the output itself isn't
+     * changed.
+     *
+     * @param output the output to draw on.
+     * @param rootTransform the transform to apply before all operations.
+     */
+    public void render(@NotNull Output output, @NotNull AffineTransform rootTransform) {
+        AffineTransform base = output.transform();
+        base.concatenate(rootTransform);
+
+        Group group = null;
+        Output groupOutput = null;
+        AffineTransform transform = null;
+        Paint paint = null;
+        Stroke stroke = null;
+        for (Operation operation : operations) {
+            if (operation.group != group || groupOutput == null) {
+                if (groupOutput != null) groupOutput.dispose();
+                group = operation.group;
+                groupOutput = output.createChild();
+                group.apply(groupOutput, base);
+                transform = null;
+                paint = null;
+                stroke = null;
+            }
+            if (!operation.transform.equals(transform)) {
+                transform = operation.transform;
+                AffineTransform at = new AffineTransform(base);
+                at.concatenate(transform);
+                groupOutput.setTransform(at);
+            }
+            if (operation.paint != null && operation.paint != paint) {
+                paint = operation.paint;
+                groupOutput.setPaint(paint);
+            }
+            if (operation.stroke != null && operation.stroke != stroke) {
+                stroke = operation.stroke;
+                groupOutput.setStroke(stroke);
+            }
+            operation.draw(groupOutput);
+        }
+        if (groupOutput != null) groupOutput.dispose();
+    }
+
+    private static final class Operation {
+        private final int kind;
+        private final @NotNull Object target;
+        private final @Nullable AffineTransform imageTransform;
+        private final @Nullable ImageObserver observer;
+        private final @NotNull AffineTransform transform;
+        private final @Nullable Paint paint;
+        private final @Nullable Stroke stroke;
+        private final @NotNull Group group;
+
+        private Operation(int kind, @NotNull Object target, @Nullable AffineTransform imageTransform,
+                @Nullable ImageObserver observer, @NotNull State state, @NotNull Group group) {
+            this.kind = kind;
+            this.target = target;
+            this.imageTransform = imageTransform;
+            this.observer = observer;
+            this.transform = new AffineTransform(state.transform);
+            this.paint = state.paint;
+            this.stroke = state.stroke;
+            this.group = group;
+        }
+
+        void draw(@NotNull Output output) {
+            switch (kind) {
+                case FILL_SHAPE:
+                    output.fillShape((Shape) target);
+                    break;
+                case DRAW_SHAPE:
+                    output.drawShape((Shape) target);
+                    break;
+                case DRAW_BUFFERED_IMAGE:
+                    output.drawImage((BufferedImage) target);
+                    break;
+                case DRAW_IMAGE:
+                    output.drawImage((Image) target, observer);
+                    break;
+                case DRAW_TRANSFORMED_IMAGE:
+                    assert imageTransform != null;
+                    output.drawImage((Image) target, imageTransform, observer);
+                    break;
+                case RENDER_DEFERRED:
+                    DisplayList.renderDeferred(output, target);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation " + kind);
+            }
+        }
+    }
+
+    /**
+     * The state shared by consecutive operations, which can only be established on a fresh output.
+     */
+    private static final class Group {
+        private final @Nullable Shape clip;
+        private final float opacity;
+        private final @Nullable Hints hints;
+        private final @Nullable Masks masks;
+
+        private Group(@NotNull State state) {
+            this.clip = state.clip;
+            this.opacity = state.opacity;
+            this.hints = state.hints;
+            this.masks = state.masks;
+        }
+
+        boolean matches(@NotNull State state) {
+            return clip == state.clip && Float.compare(opacity, state.opacity) == 0
+                    && hints == state.hints && masks == state.masks;
+        }
+
+        void apply(@NotNull Output output, @NotNull AffineTransform base) {
+            for (Hints h = hints; h != null; h = h.parent) {
+                // Hints are stored most recent first. Only apply a hint if it isn't overridden later.
+                if (isLatest(h)) output.setRenderingHint(h.key, h.value);
+            }
+            output.setTransform(base);
+            if (clip != null) output.applyClip(clip);
+            output.applyOpacity(opacity);
+            if (masks != null) masks.apply(output, base);
+        }
+
+        private boolean isLatest(@NotNull Hints hint) {
+            for (Hints h = hints; h != hint; h = h.parent) {
+                assert h != null;
+                if (h.key.equals(hint.key)) return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Hints {
+        private final @Nullable Hints parent;
+        private final @NotNull RenderingHints.Key key;
+        private final @Nullable Object value;
+
+        private Hints(@Nullable Hints parent, @NotNull RenderingHints.Key key, @Nullable Object value) {
+            this.parent = parent;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Masks {
+        private final @Nullable Masks parent;
+        private final @NotNull MaskedPaint mask;
+
+        private Masks(@Nullable Masks parent, @NotNull MaskedPaint mask) {
+            this.parent = parent;
+            this.mask = mask;
+        }
+
+        void apply(@NotNull Output output, @NotNull AffineTransform base) {
+            // Masks wrap the paint which is current when they are set, hence apply the outermost one first.
+            if (parent != null) parent.apply(output, base);
+            output.setPaint(DisplayList.unsharedPaint(mask, base));
+        }
+    }
+
+    /**
+     * The state of an output while compiling. Clips are kept relative to the root.
+     */
+    private static final class State {
+        private @NotNull AffineTransform transform;
+        private @Nullable Stroke stroke;
+        private @Nullable Paint paint;
+        private @Nullable Masks masks;
+        private @Nullable Shape clip;
+        private float opacity;
+        private @Nullable Hints hints;
+
+        private State() {
+            transform = new AffineTransform();
+            opacity = 1;
+        }
+
+        private State(@NotNull State parent) {
+            transform = new AffineTransform(parent.transform);
+            stroke = parent.stroke;
+            paint = parent.paint;
+            masks = parent.masks;
+            clip = parent.clip;
+            opacity = parent.opacity;
+            hints = parent.hints;
+        }
+    }
+
+    private static final class Compiler {
+        private final @NotNull DisplayList displayList;
+        private final @NotNull List<@NotNull Operation> operations = new ArrayList<>();
+        private @Nullable Group group;
+
+        private Compiler(@NotNull DisplayList displayList) {
+            this.displayList = displayList;
+        }
+
+        @NotNull
+        RenderPlan compile() {
+            int[] code = displayList.code;
+            Object[] objects = displayList.objects;
+            double[] numbers = displayList.numbers;
+            State[] states = new State[displayList.outputCount];
+            Runnable[] restorers = new Runnable[displayList.stateCount];
+            states[0] = new State();
+
+            int pc = 0;
+            while (pc < code.length) {
+                int op = code[pc++];
+                State state = states[code[pc++]];
+                switch (op) {
+                    case DisplayList.FILL_SHAPE:
+                        add(FILL_SHAPE, objects[code[pc++]], null, null, state);
+                        break;
+                    case DisplayList.DRAW_SHAPE:
+                        add(DRAW_SHAPE, objects[code[pc++]], null, null, state);
+                        break;
+                    case DisplayList.DRAW_BUFFERED_IMAGE:
+                        add(DRAW_BUFFERED_IMAGE, objects[code[pc++]], null, null, state);
+                        break;
+                    case DisplayList.DRAW_IMAGE:
+                        add(DRAW_IMAGE, objects[code[pc++]], null, (ImageObserver) objects[code[pc++]], state);
+                        break;
+                    case DisplayList.DRAW_TRANSFORMED_IMAGE:
+                        add(DRAW_TRANSFORMED_IMAGE, objects[code[pc++]], (AffineTransform) objects[code[pc++]],
+                                (ImageObserver) objects[code[pc++]], state);
+                        break;
+                    case DisplayList.RENDER_DEFERRED:
+                        add(RENDER_DEFERRED, objects[code[pc++]], null, null, state);
+                        break;
+                    case DisplayList.SET_PAINT: {
+                        Paint paint = (Paint) objects[code[pc++]];
+                        if (paint instanceof MaskedPaint) {
+                            state.masks = new Masks(state.masks, (MaskedPaint) paint);
+                        } else {
+                            state.paint = paint;
+                        }
+                        break;
+                    }
+                    case DisplayList.SET_STROKE:
+                        state.stroke = (Stroke) objects[code[pc++]];
+                        break;
+                    case DisplayList.APPLY_CLIP: {
+                        Shape clip = ShapeUtil.transformShape((Shape) objects[code[pc++]], state.transform);
+                        state.clip = state.clip != null ? ShapeUtil.intersect(state.clip, clip, true, false) : clip;
+                        break;
+                    }
+                    case DisplayList.SET_CLIP: {
+                        Shape clip = (Shape) objects[code[pc++]];
+                        state.clip = clip != null ? ShapeUtil.transformShape(clip, state.transform) : null;
+                        break;
+                    }
+                    case DisplayList.CREATE_CHILD:
+                        states[code[pc++]] = new State(state);
+                        break;
+                    case DisplayList.DISPOSE:
+                        states[code[pc - 1]] = null;
+                        break;
+                    case DisplayList.DEBUG_PAINT:
+                        // Debug painting isn't part of the plan.
+                        pc++;
+                        break;
+                    case DisplayList.SET_RENDERING_HINT:
+                        state.hints = new Hints(state.hints,
+                                (RenderingHints.Key) objects[code[pc++]], objects[code[pc++]]);
+                        break;
+                    case DisplayList.SET_TRANSFORM:
+                        state.transform = new AffineTransform((AffineTransform) objects[code[pc++]]);
+                        break;
+                    case DisplayList.APPLY_TRANSFORM:
+                        state.transform.concatenate((AffineTransform) objects[code[pc++]]);
+                        break;
+                    case DisplayList.ROTATE:
+                        state.transform.rotate(numbers[code[pc++]]);
+                        break;
+                    case DisplayList.SCALE:
+                        state.transform.scale(numbers[code[pc]], numbers[code[pc] + 1]);
+                        pc++;
+                        break;
+                    case DisplayList.TRANSLATE:
+                        state.transform.translate(numbers[code[pc]], numbers[code[pc] + 1]);
+                        pc++;
+                        break;
+                    case DisplayList.APPLY_OPACITY:
+                        state.opacity *= (float) numbers[code[pc++]];
+                        break;
+                    case DisplayList.SAVE_STATE:
+                        restorers[code[pc++]] = saveState(state);
+                        break;
+                    case DisplayList.RESTORE_STATE:
+                        restorers[code[pc++]].run();
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown command " + op);
+                }
+            }
+            return new RenderPlan(operations.toArray(new Operation[0]));
+        }
+
+        private static @NotNull Runnable saveState(@NotNull State state) {
+            // Mirrors GraphicsResetHelper, which doesn't restore the clip.
+            AffineTransform transform = new AffineTransform(state.transform);
+            Stroke stroke = state.stroke;
+            Paint paint = state.paint;
+            Masks masks = state.masks;
+            float opacity = state.opacity;
+            return () -> {
+                state.transform = new AffineTransform(transform);
+                state.stroke = stroke;
+                state.paint = paint;
+                state.masks = masks;
+                state.opacity = opacity;
+            };
+        }
+
+        private void add(int kind, @Nullable Object target, @Nullable AffineTransform imageTransform,
+                @Nullable ImageObserver observer, @NotNull State state) {
+            assert target != null;
+            if (group == null || !group.matches(state)) group = new Group(state);
+            operations.add(new Operation(kind, target, imageTransform, observer, state, group));
+        }
+    }
+}
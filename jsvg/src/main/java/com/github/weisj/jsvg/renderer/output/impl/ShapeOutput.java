@@ -24,6 +24,7 @@ package com.github.weisj.jsvg.renderer.output.impl;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
+import java.awt.geom.NoninvertibleTransformException;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.ImageObserver;
@@ -163,8 +164,15 @@ public class ShapeOutput implements Output {
     @Override
     public @NotNull Rectangle2D clipBounds() {
         float veryLargeNumber = Float.MAX_VALUE / 4;
-        return currentClip != null ? currentClip.getBounds2D()
-                : new Rectangle2D.Float(-veryLargeNumber, -veryLargeNumber, 2 * veryLargeNumber, 2 * veryLargeNumber);
+        Rectangle2D unbounded = new Rectangle2D.Float(
+                -veryLargeNumber, -veryLargeNumber, 2 * veryLargeNumber, 2 * veryLargeNumber);
+        if (currentClip == null) return unbounded;
+        // The clip is stored in device space. Like Graphics2D#getClipBounds the bounds are reported in user space.
+        try {
+            return currentTransform.createInverse().createTransformedShape(currentClip.getBounds2D()).getBounds2D();
+        } catch (NoninvertibleTransformException e) {
+            return new Rectangle2D.Double();
+        }
     }
 
     @Override
@@ -56,29 +56,46 @@ public final class BlittableImage {
         BufferedImage createBufferSurface(@Nullable AffineTransform at, double width, double height);
     }
 
+    private final @Nullable SurfacePool.Lease lease;
     private final @NotNull BufferedImage image;
     private final @NotNull RenderContext context;
     private final @NotNull Rectangle2D boundsInDeviceSpace;
     private final @NotNull Rectangle2D clippedUserBounds;
 
-    private BlittableImage(@NotNull BufferedImage image, @NotNull RenderContext context,
-            @NotNull Rectangle2D boundsInDeviceSpace, @NotNull Rectangle2D clippedUserBounds) {
+    private BlittableImage(@Nullable SurfacePool.Lease lease, @NotNull BufferedImage image,
+            @NotNull RenderContext context, @NotNull Rectangle2D boundsInDeviceSpace,
+            @NotNull Rectangle2D clippedUserBounds) {
+        this.lease = lease;
         this.image = image;
         this.context = context;
         this.boundsInDeviceSpace = boundsInDeviceSpace;
         this.clippedUserBounds = clippedUserBounds;
     }
 
-    public static @Nullable BlittableImage create(@NotNull BufferSurfaceSupplier bufferSurfaceSupplier,
+    /**
+     * Creates an offscreen image covering the given bounds.
+     *
+     * @param surfaceType the type of the image.
+     * @param pooled whether the image is leased from the {@link SurfacePool#shared() shared pool}. Pooled images
+     *        have to be {@link #release() released} once they are no longer used.
+     * @param context the render context of the element.
+     * @param clipBounds the bounds to clip the image to in user space or null.
+     * @param bounds the bounds of the image in user space.
+     * @param objectBounds the bounding box of the element.
+     * @param contentUnits the units of the content of the image.
+     * @return the image or null if it would be empty.
+     * @see SurfacePool#isPoolingEnabled(Output)
+     */
+    public static @Nullable BlittableImage create(@NotNull SurfacePool.SurfaceType surfaceType, boolean pooled,
             @NotNull RenderContext context, @Nullable Rectangle2D clipBounds,
             @NotNull Rectangle2D bounds, @NotNull Rectangle2D objectBounds, @NotNull UnitType contentUnits) {
         RenderContextAccessor.Accessor accessor = RenderContextAccessor.instance();
         RenderContext imageContext = accessor.createInitial(accessor.currentColor(context), context.platformSupport(),
                 contentUnits.deriveMeasure(context.measureContext()));
-        return create(bufferSurfaceSupplier, context, clipBounds, bounds, objectBounds, contentUnits, imageContext);
+        return create(surfaceType, pooled, context, clipBounds, bounds, objectBounds, contentUnits, imageContext);
     }
 
-    public static @Nullable BlittableImage create(@NotNull BufferSurfaceSupplier bufferSurfaceSupplier,
+    public static @Nullable BlittableImage create(@NotNull SurfacePool.SurfaceType surfaceType, boolean pooled,
             @NotNull RenderContext context, @Nullable Rectangle2D clipBounds,
             @NotNull Rectangle2D bounds, @NotNull Rectangle2D objectBounds, @NotNull UnitType contentUnits,
             @NotNull RenderContext imageContext) {
@@ -99,9 +116,10 @@ public final class BlittableImage {
         Rectangle2D adjustedBoundsInUserSpace = GeometryUtil.convertBounds(context, boundsInDeviceSpace,
                 GeometryUtil.Space.DEVICE, GeometryUtil.Space.USER);
 
-        BufferedImage img = bufferSurfaceSupplier.createBufferSurface(null,
-                boundsInDeviceSpace.getWidth(),
-                boundsInDeviceSpace.getHeight());
+        int width = (int) Math.ceil(boundsInDeviceSpace.getWidth());
+        int height = (int) Math.ceil(boundsInDeviceSpace.getHeight());
+        SurfacePool.Lease lease = pooled ? SurfacePool.shared().lease(surfaceType, width, height) : null;
+        BufferedImage img = lease != null ? lease.image() : surfaceType.createImage(width, height);
 
         AffineTransform hostTransform = new AffineTransform();
         hostTransform.translate(-boundsInDeviceSpace.getX(), -boundsInDeviceSpace.getY());
@@ -122,7 +140,7 @@ public final class BlittableImage {
         // etc.
         RenderContextAccessor.instance().setTransforms(imageContext, hostTransform, rootTransform, userSpaceTransform);
 
-        return new BlittableImage(img, imageContext, boundsInDeviceSpace, adjustedBoundsInUserSpace);
+        return new BlittableImage(lease, img, imageContext, boundsInDeviceSpace, adjustedBoundsInUserSpace);
     }
 
     public @NotNull RenderContext context() {
@@ -141,6 +159,25 @@ public final class BlittableImage {
         return image;
     }
 
+    public boolean isPooled() {
+        return lease != null;
+    }
+
+    /**
+     * Returns the image to the pool if it is pooled. The image must not be used afterwards.
+     */
+    public void release() {
+        if (lease != null) lease.close();
+    }
+
+    /**
+     * @param owner the owner of the resources using the image.
+     * @return a cleaner releasing the image once the owner no longer uses it or null if the image isn't pooled.
+     */
+    public @Nullable ResourceCleaner releaseWith(@NotNull Object owner) {
+        return lease != null ? new ResourceCleaner(owner, lease::close) : null;
+    }
+
     public @NotNull Graphics2D createGraphics() {
         Graphics2D g = GraphicsUtil.createGraphics(image);
         g.transform(context.rootTransform());
@@ -23,9 +23,11 @@ package com.github.weisj.jsvg.util;
 
 import java.awt.image.RGBImageFilter;
 
+import org.jetbrains.annotations.NotNull;
+
 public abstract class ColorSpaceAwareRGBImageFilter extends RGBImageFilter {
 
-    private final int[] tmp = new int[4];
+    private int[] tmp = new int[4];
     private boolean convertToLinear;
 
     protected int[] getRGB(int rgb) {
@@ -48,4 +50,26 @@ public abstract class ColorSpaceAwareRGBImageFilter extends RGBImageFilter {
     public void setConvertToLinear(boolean convertToLinear) {
         this.convertToLinear = convertToLinear;
     }
+
+    /**
+     * Returns a filter which uses the given color space conversion without modifying this instance.
+     * Filters stored on nodes are shared between concurrent renders and hence shouldn't be mutated.
+     *
+     * @param convertToLinear whether to convert the color to linear RGB before filtering.
+     * @return a filter with the given conversion.
+     */
+    public @NotNull ColorSpaceAwareRGBImageFilter withConvertToLinear(boolean convertToLinear) {
+        if (this.convertToLinear == convertToLinear) return this;
+        ColorSpaceAwareRGBImageFilter filter = (ColorSpaceAwareRGBImageFilter) clone();
+        filter.convertToLinear = convertToLinear;
+        return filter;
+    }
+
+    @Override
+    public Object clone() {
+        // Instances are cloned per image consumer. Every copy needs its own scratch buffer.
+        ColorSpaceAwareRGBImageFilter filter = (ColorSpaceAwareRGBImageFilter) super.clone();
+        filter.tmp = new int[4];
+        return filter;
+    }
 }
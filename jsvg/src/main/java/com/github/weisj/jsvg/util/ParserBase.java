@@ -26,10 +26,27 @@ import org.jetbrains.annotations.NotNull;
 import com.github.weisj.jsvg.geometry.size.Length;
 
 public class ParserBase {
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+    private static final int MAX_EXPLICIT_EXPONENT = 1000;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
     protected final @NotNull String input;
     private final int inputLength;
     private int index;
 
+    // Result of the last call to scanDecimal.
+    private boolean scannedNegative;
+    private long scannedMantissa;
+    private int scannedExponent;
+
     public ParserBase(@NotNull String input, int startIndex) {
         this.input = input;
         this.inputLength = input.length();
@@ -58,14 +75,40 @@ public class ParserBase {
         return c == ',' || Character.isWhitespace(c);
     }
 
-    private String nextNumberString() {
+    private int nextNumberEnd() {
         int start = index;
-        NumberCharState state = new NumberCharState();
-        while (hasNext() && isValidNumberChar(peek(), state)) {
+        boolean dotAllowed = true;
+        boolean signAllowed = true;
+        boolean exponentAllowed = true;
+        while (hasNext()) {
+            // This only checks for the rough structure of a number as we need to know
+            // when to separate the next token.
+            char c = peek();
+            boolean valid = '0' <= c && c <= '9';
+            if (valid && index == start + 1 && input.charAt(start) == '0') {
+                // Break up combined zeros into multiple numbers.
+                break;
+            }
+            signAllowed = signAllowed && !valid;
+            if (dotAllowed && !valid) {
+                valid = c == '.';
+                dotAllowed = !valid;
+            }
+            if (signAllowed && !valid) {
+                valid = c == '+' || c == '-';
+                signAllowed = valid;
+            }
+            if (exponentAllowed && !valid) {
+                // Possible exponent notation. Needs at least one preceding number
+                valid = c == 'e' || c == 'E';
+                exponentAllowed = !valid;
+                signAllowed = valid;
+                dotAllowed = !valid;
+            }
+            if (!valid) break;
             consume();
         }
-        int end = index;
-        return input.substring(start, end);
+        return index;
     }
 
     protected float nextFloatOrUnspecified() {
@@ -75,7 +118,19 @@ public class ParserBase {
 
     public float nextFloat() throws NumberFormatException {
         int start = index;
-        String token = nextNumberString();
+        int end = nextNumberEnd();
+        if (scanDecimal(start, end)
+                && scannedMantissa <= MAX_EXACT_FLOAT_MANTISSA
+                && Math.abs(scannedExponent) < FLOAT_POWERS_OF_TEN.length) {
+            // Both the mantissa and the power of ten are exactly representable, hence a single
+            // multiplication or division is correctly rounded and agrees with Float#parseFloat.
+            float mantissa = scannedMantissa;
+            float value = scannedExponent < 0
+                    ? mantissa / FLOAT_POWERS_OF_TEN[-scannedExponent]
+                    : mantissa * FLOAT_POWERS_OF_TEN[scannedExponent];
+            return scannedNegative ? -value : value;
+        }
+        String token = input.substring(start, end);
         try {
             return Float.parseFloat(token);
         } catch (NumberFormatException e) {
@@ -88,7 +143,17 @@ public class ParserBase {
 
     public double nextDouble() throws NumberFormatException {
         int start = index;
-        String token = nextNumberString();
+        int end = nextNumberEnd();
+        if (scanDecimal(start, end)
+                && scannedMantissa <= MAX_EXACT_DOUBLE_MANTISSA
+                && Math.abs(scannedExponent) < DOUBLE_POWERS_OF_TEN.length) {
+            double mantissa = scannedMantissa;
+            double value = scannedExponent < 0
+                    ? mantissa / DOUBLE_POWERS_OF_TEN[-scannedExponent]
+                    : mantissa * DOUBLE_POWERS_OF_TEN[scannedExponent];
+            return scannedNegative ? -value : value;
+        }
+        String token = input.substring(start, end);
         try {
             return Double.parseDouble(token);
         } catch (NumberFormatException e) {
@@ -99,43 +164,65 @@ public class ParserBase {
         }
     }
 
-    protected @NotNull String currentLocation() {
-        return "(index=" + index + " in input=" + input + ")";
-    }
-
-    // This only checks for the rough structure of a number as we need to know
-    // when to separate the next token.
-    // Explicit parsing is done by Float#parseFloat.
-    private boolean isValidNumberChar(char c, NumberCharState state) {
-        boolean valid = '0' <= c && c <= '9';
-        if (valid && state.iteration == 1 && input.charAt(index - 1) == '0') {
-            // Break up combined zeros into multiple numbers.
-            return false;
+    /**
+     * Decomposes the number in {@code [start, end)} into a decimal mantissa and exponent.
+     * Returns false if the token is malformed or has too many significant digits, in which case
+     * the caller has to fall back to the JDK parsing methods.
+     */
+    private boolean scanDecimal(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i) == '-';
+            i++;
         }
-        state.signAllowed = state.signAllowed && !valid;
-        if (state.dotAllowed && !valid) {
-            valid = c == '.';
-            state.dotAllowed = !valid;
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '.') {
+                if (fraction) return false;
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') break;
+            digits++;
+            if (fraction) exponent--;
+            if (mantissa == 0 && c == '0') continue;
+            if (++significantDigits > MAX_SIGNIFICANT_DIGITS) return false;
+            mantissa = mantissa * 10 + (c - '0');
         }
-        if (state.signAllowed && !valid) {
-            valid = c == '+' || c == '-';
-            state.signAllowed = valid;
+        if (digits == 0) return false;
+        if (i < end) {
+            char c = input.charAt(i);
+            if (c != 'e' && c != 'E') return false;
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                negativeExponent = input.charAt(i) == '-';
+                i++;
+            }
+            if (i == end) return false;
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                c = input.charAt(i);
+                if (c < '0' || c > '9') return false;
+                explicitExponent = explicitExponent * 10 + (c - '0');
+                if (explicitExponent > MAX_EXPLICIT_EXPONENT) return false;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
         }
-        if (state.exponentAllowed && !valid) {
-            // Possible exponent notation. Needs at least one preceding number
-            valid = c == 'e' || c == 'E';
-            state.exponentAllowed = !valid;
-            state.signAllowed = valid;
-            state.dotAllowed = !valid;
-        }
-        state.iteration++;
-        return valid;
+        if (mantissa == 0) exponent = 0;
+        scannedNegative = negative;
+        scannedMantissa = mantissa;
+        scannedExponent = exponent;
+        return true;
     }
 
-    private static final class NumberCharState {
-        int iteration = 0;
-        boolean dotAllowed = true;
-        boolean signAllowed = true;
-        boolean exponentAllowed = true;
+    protected @NotNull String currentLocation() {
+        return "(index=" + index + " in input=" + input + ")";
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Frees a resource once its owner no longer uses it. Only the owner can trigger the cleanup.
+ */
+public final class ResourceCleaner {
+    private final @Nullable Object owner;
+    private @Nullable Runnable cleaner;
+
+    public ResourceCleaner(@Nullable Object owner, @Nullable Runnable cleaner) {
+        this.owner = owner;
+        this.cleaner = cleaner;
+    }
+
+    public void clean(Object owner) {
+        if (this.owner == owner) {
+            if (cleaner == null) {
+                throw new IllegalStateException("Resource already cleaned");
+            }
+            cleaner.run();
+            cleaner = null;
+        }
+    }
+
+    public @NotNull ResourceCleaner withOwner(Object owner) {
+        return new ResourceCleaner(owner, cleaner);
+    }
+}
@@ -192,6 +192,21 @@ public final class ShapeUtil {
         return mat.createTransformedShape(s);
     }
 
+    /**
+     * Copies the shape. Nodes may reuse their shape instances, hence outputs which keep a shape beyond the call it was
+     * passed to need their own copy.
+     *
+     * @param shape the shape.
+     * @return a copy of the shape.
+     */
+    public static @NotNull Shape copyOf(@NotNull Shape shape) {
+        if (shape instanceof RectangularShape) return (Shape) ((RectangularShape) shape).clone();
+        if (shape instanceof Path2D) return (Shape) ((Path2D) shape).clone();
+        if (shape instanceof Line2D) return (Shape) ((Line2D) shape).clone();
+        if (shape instanceof Area) return (Shape) ((Area) shape).clone();
+        return new Path2D.Double(shape);
+    }
+
     private static Shape cloneShape(Shape s) {
         return new GeneralPath(s);
     }
@@ -0,0 +1,367 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.renderer.output.impl.Graphics2DOutput;
+
+/**
+ * A pool of offscreen surfaces shared by all documents and threads.
+ * <p>
+ * Surfaces are grouped into size classes. A lease hands out a cleared surface of at least the requested size,
+ * which is returned to the pool when the lease is closed. The pool only keeps returned surfaces as long as their
+ * total size doesn't exceed its ceiling. Leases which are never closed are simply garbage collected.
+ * <p>
+ * The pool doesn't rely on thread local state and never blocks, hence it can be used from virtual threads and
+ * large thread pools alike.
+ */
+public final class SurfacePool {
+    public static final long DEFAULT_MAX_POOLED_BYTES = 32L * 1024 * 1024;
+    private static final int MIN_SIZE_CLASS = 16;
+    private static final SurfacePool SHARED = new SurfacePool(DEFAULT_MAX_POOLED_BYTES);
+
+    public enum SurfaceType {
+        Transparent(BufferedImage.TYPE_INT_ARGB, 4),
+        Luminosity(BufferedImage.TYPE_BYTE_GRAY, 1);
+
+        private final int imageType;
+        private final int bytesPerPixel;
+
+        SurfaceType(int imageType, int bytesPerPixel) {
+            this.imageType = imageType;
+            this.bytesPerPixel = bytesPerPixel;
+        }
+
+        public @NotNull BufferedImage createImage(int width, int height) {
+            return new BufferedImage(width, height, imageType);
+        }
+
+        private long bytes(int width, int height) {
+            return (long) width * height * bytesPerPixel;
+        }
+    }
+
+    private final @NotNull Map<Long, Deque<BufferedImage>> buckets = new ConcurrentHashMap<>();
+    private final @NotNull AtomicLong pooledBytes = new AtomicLong();
+    private volatile long maxPooledBytes;
+
+    private final @NotNull LongAdder leases = new LongAdder();
+    private final @NotNull LongAdder allocations = new LongAdder();
+    private final @NotNull LongAdder returns = new LongAdder();
+    private final @NotNull LongAdder discards = new LongAdder();
+
+    /**
+     * @param maxPooledBytes the maximum number of bytes of the surfaces kept by the pool.
+     */
+    public SurfacePool(long maxPooledBytes) {
+        setMaxPooledBytes(maxPooledBytes);
+    }
+
+    /**
+     * @return the pool used by JSVG.
+     */
+    public static @NotNull SurfacePool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Whether offscreen surfaces used for rendering onto the given output should be taken from the pool.
+     * This is the case if {@link SVGRenderingHints#KEY_CACHE_OFFSCREEN_IMAGE} is set to
+     * {@link SVGRenderingHints#VALUE_USE_CACHE}. If the hint isn't set, surfaces are only pooled for outputs which
+     * draw onto a {@link Graphics2D} immediately, as other outputs may keep references to the drawn images.
+     *
+     * @param output the output.
+     * @return whether surfaces should be pooled.
+     */
+    public static boolean isPoolingEnabled(@NotNull Output output) {
+        Object hint = output.renderingHint(SVGRenderingHints.KEY_CACHE_OFFSCREEN_IMAGE);
+        if (hint == SVGRenderingHints.VALUE_NO_CACHE) return false;
+        return hint == SVGRenderingHints.VALUE_USE_CACHE || output instanceof Graphics2DOutput;
+    }
+
+    public long maxPooledBytes() {
+        return maxPooledBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes of the surfaces kept by the pool. Surfaces exceeding the new ceiling are
+     * dropped immediately.
+     *
+     * @param maxPooledBytes the maximum number of bytes.
+     */
+    public void setMaxPooledBytes(long maxPooledBytes) {
+        if (maxPooledBytes < 0) throw new IllegalArgumentException("Negative size " + maxPooledBytes);
+        this.maxPooledBytes = maxPooledBytes;
+        for (Deque<BufferedImage> bucket : buckets.values()) {
+            while (pooledBytes.get() > maxPooledBytes) {
+                BufferedImage image = bucket.pollLast();
+                if (image == null) break;
+                pooledBytes.addAndGet(-bytes(image));
+            }
+        }
+    }
+
+    /**
+     * Leases a surface of the given size. The image of the lease is cleared, i.e. fully transparent respectively
+     * black for luminosity surfaces.
+     *
+     * @param type the type of the surface.
+     * @param width the width in pixels.
+     * @param height the height in pixels.
+     * @return the lease.
+     */
+    public @NotNull Lease lease(@NotNull SurfaceType type, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid surface size " + width + "x" + height);
+        }
+        leases.increment();
+        int classWidth = sizeClass(width);
+        int classHeight = sizeClass(height);
+        if (type.bytes(classWidth, classHeight) > maxPooledBytes) {
+            // The surface could never be pooled.
+            allocations.increment();
+            return new Lease(type, null, type.createImage(width, height));
+        }
+
+        Deque<BufferedImage> bucket = buckets.computeIfAbsent(key(type, classWidth, classHeight),
+                k -> new ConcurrentLinkedDeque<>());
+        BufferedImage surface = bucket.pollFirst();
+        if (surface != null) {
+            pooledBytes.addAndGet(-bytes(surface));
+            clear(surface, width, height);
+        } else {
+            allocations.increment();
+            surface = type.createImage(classWidth, classHeight);
+        }
+        BufferedImage image = classWidth == width && classHeight == height
+                ? surface
+                : surface.getSubimage(0, 0, width, height);
+        return new Lease(type, bucket, surface, image);
+    }
+
+    /**
+     * Drops all pooled surfaces.
+     */
+    public void clear() {
+        for (Deque<BufferedImage> bucket : buckets.values()) {
+            BufferedImage image;
+            while ((image = bucket.pollFirst()) != null) {
+                pooledBytes.addAndGet(-bytes(image));
+            }
+        }
+    }
+
+    public @NotNull Statistics statistics() {
+        long leaseCount = leases.sum();
+        long returnCount = returns.sum();
+        return new Statistics(leaseCount, allocations.sum(), returnCount, discards.sum(),
+                pooledBytes.get(), maxPooledBytes);
+    }
+
+    private void giveBack(@NotNull Deque<BufferedImage> bucket, @NotNull BufferedImage surface) {
+        returns.increment();
+        long bytes = bytes(surface);
+        if (pooledBytes.addAndGet(bytes) > maxPooledBytes) {
+            pooledBytes.addAndGet(-bytes);
+            discards.increment();
+            return;
+        }
+        bucket.addFirst(surface);
+    }
+
+    private static void clear(@NotNull BufferedImage surface, int width, int height) {
+        Graphics2D g = surface.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+    }
+
+    private static long bytes(@NotNull BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight()
+                * (image.getType() == BufferedImage.TYPE_BYTE_GRAY ? 1 : 4);
+    }
+
+    private static long key(@NotNull SurfaceType type, int classWidth, int classHeight) {
+        return ((long) type.ordinal() << 62) | ((long) classWidth << 31) | classHeight;
+    }
+
+    static int sizeClass(int size) {
+        if (size <= MIN_SIZE_CLASS) return MIN_SIZE_CLASS;
+        if (size > (1 << 29)) return size;
+        // Size classes are powers of two and the midpoints between them, which wastes at most a third per axis.
+        int upper = Integer.highestOneBit(size - 1) << 1;
+        int middle = upper - (upper >> 2);
+        return size <= middle ? middle : upper;
+    }
+
+    /**
+     * A surface taken from the pool.
+     */
+    public final class Lease implements AutoCloseable {
+        private final @NotNull SurfaceType type;
+        private final @Nullable Deque<BufferedImage> bucket;
+        private final @NotNull BufferedImage surface;
+        private final @NotNull BufferedImage image;
+        private final @NotNull AtomicBoolean returned = new AtomicBoolean();
+
+        private Lease(@NotNull SurfaceType type, @Nullable Deque<BufferedImage> bucket,
+                @NotNull BufferedImage image) {
+            this(type, bucket, image, image);
+        }
+
+        private Lease(@NotNull SurfaceType type, @Nullable Deque<BufferedImage> bucket,
+                @NotNull BufferedImage surface, @NotNull BufferedImage image) {
+            this.type = type;
+            this.bucket = bucket;
+            this.surface = surface;
+            this.image = image;
+        }
+
+        public @NotNull SurfaceType type() {
+            return type;
+        }
+
+        /**
+         * @return the image of the requested size. It must not be used after the lease has been closed.
+         */
+        public @NotNull BufferedImage image() {
+            return image;
+        }
+
+        /**
+         * Returns the surface to the pool.
+         */
+        @Override
+        public void close() {
+            if (!returned.compareAndSet(false, true)) {
+                throw new IllegalStateException("Surface already returned");
+            }
+            if (bucket != null) {
+                giveBack(bucket, surface);
+            } else {
+                returns.increment();
+                discards.increment();
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the usage of a pool.
+     */
+    public static final class Statistics {
+        private final long leases;
+        private final long allocations;
+        private final long returns;
+        private final long discards;
+        private final long pooledBytes;
+        private final long maxPooledBytes;
+
+        private Statistics(long leases, long allocations, long returns, long discards, long pooledBytes,
+                long maxPooledBytes) {
+            this.leases = leases;
+            this.allocations = allocations;
+            this.returns = returns;
+            this.discards = discards;
+            this.pooledBytes = pooledBytes;
+            this.maxPooledBytes = maxPooledBytes;
+        }
+
+        /**
+         * @return the number of surfaces leased.
+         */
+        public long leases() {
+            return leases;
+        }
+
+        /**
+         * @return the number of leases which needed a newly allocated surface.
+         */
+        public long allocations() {
+            return allocations;
+        }
+
+        /**
+         * @return the number of leases which reused a pooled surface.
+         */
+        public long reuses() {
+            return leases - allocations;
+        }
+
+        /**
+         * @return the number of closed leases.
+         */
+        public long returns() {
+            return returns;
+        }
+
+        /**
+         * @return the number of returned surfaces which weren't pooled, because they exceeded the ceiling.
+         */
+        public long discards() {
+            return discards;
+        }
+
+        /**
+         * @return the number of leases which haven't been closed yet.
+         */
+        public long outstanding() {
+            return leases - returns;
+        }
+
+        /**
+         * @return the number of bytes of the surfaces currently kept by the pool.
+         */
+        public long pooledBytes() {
+            return pooledBytes;
+        }
+
+        public long maxPooledBytes() {
+            return maxPooledBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "leases=" + leases +
+                    ", allocations=" + allocations +
+                    ", returns=" + returns +
+                    ", discards=" + discards +
+                    ", pooledBytes=" + pooledBytes +
+                    ", maxPooledBytes=" + maxPooledBytes +
+                    '}';
+        }
+    }
+}
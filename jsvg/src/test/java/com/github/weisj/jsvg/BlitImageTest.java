@@ -47,6 +47,7 @@ import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.renderer.output.impl.Graphics2DOutput;
 import com.github.weisj.jsvg.util.BlittableImage;
 import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.SurfacePool;
 import com.github.weisj.jsvg.view.FloatSize;
 
 class BlitImageTest {
@@ -92,7 +93,7 @@ class BlitImageTest {
             @NotNull Rectangle2D bounds, @NotNull Rectangle2D objectBounds,
             UnitType unitType, BiConsumer<Output, RenderContext> renderRoutine) {
         BlittableImage blitImage = BlittableImage.create(
-                ImageUtil::createCompatibleTransparentImage, context, null,
+                SurfacePool.SurfaceType.Transparent, false, context, null,
                 bounds, objectBounds, unitType);
         assertNotNull(blitImage);
         blitImage.render(output, renderRoutine);
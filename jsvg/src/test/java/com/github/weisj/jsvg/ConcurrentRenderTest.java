@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.DocumentRendering.forEachDocument;
+import static com.github.weisj.jsvg.DocumentRendering.load;
+import static com.github.weisj.jsvg.DocumentRendering.render;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.view.FloatSize;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class ConcurrentRenderTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int RENDERS_PER_THREAD = 10;
+
+    private static final List<String> DOCUMENTS = List.of(
+            "filter/blur.svg",
+            "filter/blend.svg",
+            "filter/colormatrix_linearRGB.svg",
+            "filter/dropShadow.svg",
+            "filter/composite.svg",
+            "filter/turbulence1.svg",
+            "gradient/linearGradient.svg",
+            "gradient/radialGradient.svg",
+            "mask/mask1.svg",
+            "mask/nestedMask.svg",
+            "clipPath/filterAndClipPath.svg",
+            "text/dominantBaseline.svg",
+            "fillRule.svg",
+            "units/relativeShapes.svg",
+            "animation/movingCircle.svg");
+
+    @TestFactory
+    Collection<DynamicTest> concurrentRenderingMatchesSequentialRendering() {
+        return forEachDocument(DOCUMENTS, ConcurrentRenderTest::renderConcurrently);
+    }
+
+    @Test
+    void concurrentAnimationFramesMatchSequentialRendering() throws Exception {
+        // Animated values memoize the value of the last frame, which must not leak into renders of other frames.
+        SVGDocument document = load("animation/animatedColor.svg");
+        List<String> variants = new ArrayList<>();
+        List<Supplier<int[]>> renders = new ArrayList<>();
+        for (long time : new long[] {500, 1500, 2500, 3500}) {
+            variants.add("animation/animatedColor.svg at " + time + "ms");
+            renders.add(() -> render(document.size(), 1, g -> {
+                Output output = Output.createForGraphics(g);
+                document.renderWithPlatform(NullPlatformSupport.INSTANCE, output, new ViewBox(document.size()),
+                        new AnimationState(0, time));
+                output.dispose();
+            }));
+        }
+        assertConcurrentRendersMatch(variants, renders);
+    }
+
+    private static void renderConcurrently(@NotNull String path, @NotNull SVGDocument document) throws Exception {
+        // Renders with different viewports resolve relative lengths differently, hence must not share resolved shapes.
+        FloatSize size = document.size();
+        List<String> variants = new ArrayList<>();
+        List<Supplier<int[]>> renders = new ArrayList<>();
+        for (FloatSize variantSize : new FloatSize[] {size, new FloatSize(2 * size.width, size.height / 2)}) {
+            variants.add(path + " at " + variantSize);
+            renders.add(() -> render(document, variantSize));
+        }
+        assertConcurrentRendersMatch(variants, renders);
+    }
+
+    /**
+     * Runs the renders concurrently, with each thread cycling through all of them starting at a different one, and
+     * compares the results to the sequentially rendered ones.
+     */
+    private static void assertConcurrentRendersMatch(@NotNull List<String> variants,
+            @NotNull List<Supplier<int[]>> renders) throws Exception {
+        int variantCount = renders.size();
+        int[][] expected = new int[variantCount][];
+        for (int i = 0; i < variantCount; i++) {
+            expected[i] = renders.get(i).get();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<int[]>>> results = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                int firstVariant = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<int[]> images = new ArrayList<>(RENDERS_PER_THREAD);
+                    for (int j = 0; j < RENDERS_PER_THREAD; j++) {
+                        images.add(renders.get((firstVariant + j) % variantCount).get());
+                    }
+                    return images;
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < results.size(); i++) {
+                List<int[]> images = results.get(i).get(1, TimeUnit.MINUTES);
+                for (int j = 0; j < images.size(); j++) {
+                    int variant = (i + j) % variantCount;
+                    assertArrayEquals(expected[variant], images.get(j),
+                            () -> "Concurrent render of " + variants.get(variant) + " differs");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -27,7 +27,6 @@ import static com.github.weisj.jsvg.ImageComparison.ImageInfo.expected;
 import static com.github.weisj.jsvg.ImageComparison.ReferenceTestResult.SUCCESS;
 import static org.junit.jupiter.api.Assertions.*;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -117,6 +116,11 @@ class FilterTest {
     void testDisplacementMap() {
         assertEquals(SUCCESS, compareImages("filter/displacement.svg"));
         assertEquals(SUCCESS, compareImages("filter/displacementNegativeCoordinates.svg", 0.4));
+        assertEquals(SUCCESS, compareImages("filter/displacementSubregion.svg"));
+        // The default subregion of the noise is the filter region, which must not clip it.
+        assertEquals(SUCCESS, compareImages(new CompareInfo(
+                expected(new PathImageSource("filter/displacement_ref.svg"), RenderType.JSVG),
+                actual(new PathImageSource("filter/displacement.svg"), RenderType.JSVG))));
     }
 
     @Test
@@ -125,6 +129,27 @@ class FilterTest {
         assertEquals(SUCCESS, compareImages("filter/diffuseLighting_issue167.svg", 0.2, 0.15));
     }
 
+    @Test
+    void testSpecularLighting() {
+        assertEquals(SUCCESS, compareImages("filter/specularLighting.svg", 0.2, 0.15));
+    }
+
+    @Test
+    void testMorphology() {
+        assertEquals(SUCCESS, compareImages("filter/morphology.svg"));
+        assertEquals(SUCCESS, compareImages(new CompareInfo(
+                expected(new PathImageSource("filter/morphologyDisabled_ref.svg"), RenderType.JSVG),
+                actual(new PathImageSource("filter/morphologyDisabled.svg"), RenderType.JSVG))));
+    }
+
+    @Test
+    void testConvolveMatrix() {
+        // Batik only supports a bias of zero.
+        assertEquals(SUCCESS, compareImages(new CompareInfo(
+                expected(new PathImageSource("filter/convolveMatrix_ref.svg"), RenderType.JSVG),
+                actual(new PathImageSource("filter/convolveMatrix.svg"), RenderType.JSVG))));
+    }
+
     @Test
     void testComposite() {
         // TODO: BackgroundImage not supported
@@ -176,7 +201,6 @@ class FilterTest {
     }
 
     @Test
-    @Disabled("See #70")
     void testFilterPrimitiveRegionClip() {
         assertEquals(SUCCESS, compareImages("filter/filterPrimitiveRegionClip.svg"));
         assertEquals(SUCCESS, compareImages("filter/filterPrimitiveRegionClip2.svg"));
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.geom.Point2D;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class HitTestTest {
+
+    private static final String FLOOR_PLAN = """
+            <svg xmlns="http://www.w3.org/2000/svg" xmlns:xlink="http://www.w3.org/1999/xlink"
+                 width="100" height="100">
+              <defs>
+                <rect id="chair" width="10" height="10"/>
+              </defs>
+              <g id="room">
+                <rect id="floor" width="100" height="50" fill="gray"/>
+                <rect id="table" x="10" y="10" width="30" height="20"/>
+                <line id="wall" x1="0" y1="70" x2="100" y2="70" stroke="black" stroke-width="4"/>
+              </g>
+              <use id="chair1" xlink:href="#chair" x="60" y="20"/>
+              <use id="chair2" xlink:href="#chair" x="60" y="20" transform="translate(0 60)"/>
+              <g clip-path="url(#clip)">
+                <circle id="lamp" cx="90" cy="90" r="10"/>
+              </g>
+              <clipPath id="clip">
+                <rect x="80" y="80" width="10" height="10"/>
+              </clipPath>
+            </svg>
+            """;
+
+    private static final String ANIMATED = """
+            <svg xmlns="http://www.w3.org/2000/svg" width="100" height="100">
+              <rect id="background" width="100" height="100"/>
+              <circle id="ball" cx="10" cy="50" r="5">
+                <animate attributeName="cx" from="10" to="90" dur="1s"/>
+              </circle>
+              <rect id="cover" x="45" y="45" width="10" height="10"/>
+            </svg>
+            """;
+
+    private static final String REUSED_SHAPE = """
+            <svg xmlns="http://www.w3.org/2000/svg" xmlns:xlink="http://www.w3.org/1999/xlink"
+                 width="100" height="100">
+              <defs>
+                <rect id="square" width="2em" height="2em"/>
+              </defs>
+              <use id="large" xlink:href="#square" font-size="40"/>
+              <use id="small" xlink:href="#square" font-size="10"/>
+            </svg>
+            """;
+
+    @Test
+    void hitsTopMostShapeFirst() {
+        SVGDocument document = load(FLOOR_PLAN);
+        assertEquals(List.of("table", "room", "floor"), hit(document, 20, 20));
+        assertEquals(List.of("floor", "room"), hit(document, 5, 5));
+        assertEquals(List.of(), hit(document, 5, 60));
+    }
+
+    @Test
+    void hitsStrokedOutline() {
+        SVGDocument document = load(FLOOR_PLAN);
+        assertEquals(List.of("wall", "room"), hit(document, 50, 71.5));
+        assertEquals(List.of(), hit(document, 50, 73));
+    }
+
+    @Test
+    void hitsInstantiatedContent() {
+        SVGDocument document = load(FLOOR_PLAN);
+        assertEquals(List.of("chair", "chair1", "floor", "room"), hit(document, 65, 25));
+        assertEquals(List.of("chair", "chair2"), hit(document, 65, 85));
+    }
+
+    @Test
+    void hitsShapesResolvedForEachInstance() {
+        SVGDocument document = load(REUSED_SHAPE);
+        assertEquals(List.of("square", "large"), hit(document, 60, 60));
+        assertEquals(List.of("square", "small", "large"), hit(document, 10, 10));
+    }
+
+    @Test
+    void respectsClipPaths() {
+        SVGDocument document = load(FLOOR_PLAN);
+        assertEquals(List.of("lamp"), hit(document, 85, 85));
+        assertEquals(List.of(), hit(document, 95, 95));
+    }
+
+    @Test
+    void respectsViewBox() {
+        SVGDocument document = load(FLOOR_PLAN);
+        ViewBox viewBox = new ViewBox(0, 0, 200, 200);
+        assertEquals(List.of("table", "room", "floor"), document.hitTest(new Point2D.Double(40, 40), viewBox));
+        assertEquals(List.of("floor", "room"), document.hitTest(new Point2D.Double(10, 10), viewBox));
+    }
+
+    @Test
+    void followsAnimatedElements() {
+        SVGDocument document = load(ANIMATED);
+        assertEquals(List.of("ball", "background"), hit(document, 10, 50, 0));
+        assertEquals(List.of("background"), hit(document, 90, 50, 0));
+        assertEquals(List.of("cover", "ball", "background"), hit(document, 50, 50, 500));
+        assertEquals(List.of("ball", "background"), hit(document, 82, 50, 900));
+        assertEquals(List.of("background"), hit(document, 10, 50, 900));
+        assertEquals(List.of("ball", "background"), hit(document, 10, 50, 0));
+    }
+
+    private static @NotNull List<String> hit(@NotNull SVGDocument document, double x, double y) {
+        return document.hitTest(new Point2D.Double(x, y), null);
+    }
+
+    private static @NotNull List<String> hit(@NotNull SVGDocument document, double x, double y, long time) {
+        return document.hitTest(new Point2D.Double(x, y), null, new AnimationState(0, time));
+    }
+
+    private static @NotNull SVGDocument load(@NotNull String svg) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null, LoaderContext.createDefault()));
+    }
+}
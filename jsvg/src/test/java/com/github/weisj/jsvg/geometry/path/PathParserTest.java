@@ -21,6 +21,12 @@
  */
 package com.github.weisj.jsvg.geometry.path;
 
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +59,52 @@ class PathParserTest {
         Assertions.assertEquals(5, cmds.length);
         Assertions.assertEquals(6, cmds[1].nodeCount());
     }
+
+    @Test
+    void testMalformedDataKeepsParsedSegments() {
+        PathCommand[] cmds = new PathParser("M0 0 L 1 2 L 3 x").parsePathCommand();
+        Assertions.assertEquals(2, cmds.length);
+        Assertions.assertEquals(0, new PathParser("L 1 2").parsePackedPath().commandCount());
+        Assertions.assertEquals(1, new PathParser("M0 0 Y 1").parsePackedPath().commandCount());
+        Assertions.assertEquals(0, new PathParser("none").parsePackedPath().commandCount());
+    }
+
+    @Test
+    void testPackedPathMatchesCommands() {
+        String[] data = {
+                "M10 20 L30 40 H50 V60 Z",
+                "m10 20 l30 40 h50 v60 z m5 5 l1 1",
+                "M0,0 C10,20 30,40 50,60 S70,80 90,100 c1 2 3 4 5 6 s7 8 9 10",
+                "M0 0 Q10 20 30 40 T50 60 q1 2 3 4 t5 6 T7 8",
+                "M0 0 a1 2 3 10 6 7 A 25 25 -30 0 1 50 -25 a0 5 0 0 0 10 10 A5 5 0 1 1 6 7",
+                "M.5-.5l1e2-3.5e-1.25.75 1 2 3 4Z M-1-2 0 0",
+                "M0 0 L 1 2 L 3 x"
+        };
+        for (String d : data) {
+            PathCommand[] commands = new PathParser(d).parsePathCommand();
+            Path2D expected = new Path2D.Float();
+            BuildHistory hist = new BuildHistory();
+            for (PathCommand command : commands) {
+                command.appendPath(expected, hist);
+            }
+            PackedPath packed = new PathParser(d).parsePackedPath();
+            Assertions.assertEquals(commands.length, packed.commandCount(), d);
+            Assertions.assertEquals(segments(expected), segments(packed.toPath(Path2D.WIND_NON_ZERO)), d);
+        }
+    }
+
+    private static @NotNull List<String> segments(@NotNull Path2D path) {
+        List<String> result = new ArrayList<>();
+        float[] coords = new float[6];
+        for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+            int type = it.currentSegment(coords);
+            StringBuilder sb = new StringBuilder().append(type);
+            for (float c : coords) {
+                sb.append(' ').append(Float.floatToIntBits(c));
+            }
+            result.add(sb.toString());
+            coords = new float[6];
+        }
+        return result;
+    }
 }
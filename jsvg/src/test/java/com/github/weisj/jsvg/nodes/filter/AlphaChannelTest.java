@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+
+import org.junit.jupiter.api.Test;
+
+class AlphaChannelTest {
+
+    @Test
+    void masksRasterInsideRegion() {
+        AlphaChannel alpha = AlphaChannel.create(3, 1);
+        alpha.data()[0] = (byte) 0xFF;
+        alpha.data()[1] = (byte) 0x80;
+        alpha.data()[2] = (byte) 0xFF;
+        RasterChannel flood = RasterChannel.create(3, 1);
+        for (int x = 0; x < 3; x++) {
+            flood.data()[flood.offset() + x] = 0xFF2040FF;
+        }
+        RasterChannel result = alpha.mask(flood, new Rectangle(0, 0, 2, 1));
+        assertEquals(0xFF2040FF, result.data()[result.offset()]);
+        assertEquals(0x80102080, result.data()[result.offset() + 1]);
+        // Outside the region.
+        assertEquals(0, result.data()[result.offset() + 2]);
+    }
+
+    @Test
+    void reportsBlackPixels() {
+        AlphaChannel alpha = AlphaChannel.create(2, 2);
+        alpha.data()[3] = (byte) 0x40;
+        assertEquals(0x40000000, alpha.pixelAt(1, 1));
+        assertEquals(0, alpha.pixelAt(0, 1));
+        assertSame(alpha, alpha.alphaChannel());
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+import com.github.weisj.jsvg.util.ColorUtil;
+
+class ConvolveMatrixFilterTest {
+    private static final int WIDTH = 19;
+    private static final int HEIGHT = 13;
+    private static final Rectangle IMAGE = new Rectangle(WIDTH, HEIGHT);
+
+    private static RasterChannel randomRaster() {
+        RasterChannel raster = RasterChannel.create(WIDTH, HEIGHT);
+        Random random = new Random(42);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                raster.data()[raster.offset() + y * raster.scanlineStride() + x] =
+                        ColorUtil.premultiply(random.nextInt());
+            }
+        }
+        return raster;
+    }
+
+    private static ConvolveMatrixFilter.Kernel kernel(int orderX, int orderY, float... weights) {
+        float sum = 0;
+        for (float w : weights) {
+            sum += w;
+        }
+        return new ConvolveMatrixFilter.Kernel(orderX, orderY, orderX / 2, orderY / 2, weights,
+                sum != 0 ? sum : 1, 0);
+    }
+
+    private static int sample(RasterChannel src, int x, int y, EdgeMode edgeMode) {
+        if (x < 0 || x >= WIDTH || y < 0 || y >= HEIGHT) {
+            if (edgeMode == EdgeMode.None) return 0;
+            if (edgeMode == EdgeMode.Duplicate) {
+                x = Math.max(0, Math.min(WIDTH - 1, x));
+                y = Math.max(0, Math.min(HEIGHT - 1, y));
+            } else {
+                x = Math.floorMod(x, WIDTH);
+                y = Math.floorMod(y, HEIGHT);
+            }
+        }
+        return src.data()[src.offset() + y * src.scanlineStride() + x];
+    }
+
+    private static int[] reference(RasterChannel src, ConvolveMatrixFilter.Kernel kernel, EdgeMode edgeMode) {
+        int[] result = src.data().clone();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                double[] sum = new double[4];
+                for (int i = 0; i < kernel.orderY; i++) {
+                    for (int j = 0; j < kernel.orderX; j++) {
+                        int argb = sample(src, x - kernel.targetX + j, y - kernel.targetY + i, edgeMode);
+                        double w = kernel.weights[i * kernel.orderX + j];
+                        for (int c = 0; c < 4; c++) {
+                            sum[c] += w * ((argb >>> (24 - 8 * c)) & 0xFF);
+                        }
+                    }
+                }
+                // SUM / divisor + bias * ALPHA, using the alpha of the result for the premultiplied colors.
+                int[] channels = new int[4];
+                channels[0] = clamp(sum[0] / kernel.divisor + kernel.bias * 255);
+                for (int c = 1; c < 4; c++) {
+                    channels[c] = clamp(sum[c] / kernel.divisor + kernel.bias * channels[0]);
+                }
+                for (int c = 1; c < 4; c++) {
+                    channels[c] = Math.min(channels[c], channels[0]);
+                }
+                result[src.offset() + y * src.scanlineStride() + x] =
+                        (channels[0] << 24) | (channels[1] << 16) | (channels[2] << 8) | channels[3];
+            }
+        }
+        return result;
+    }
+
+    private static int clamp(double value) {
+        return (int) Math.max(0, Math.min(255, Math.round(value)));
+    }
+
+    private static void assertClose(int[] expected, int[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            for (int shift = 0; shift < 32; shift += 8) {
+                int e = (expected[i] >>> shift) & 0xFF;
+                int a = (actual[i] >>> shift) & 0xFF;
+                assertTrue(Math.abs(e - a) <= 1,
+                        "Pixel " + i + ": expected " + Integer.toHexString(expected[i])
+                                + " but got " + Integer.toHexString(actual[i]));
+            }
+        }
+    }
+
+    private static void assertMatchesReference(ConvolveMatrixFilter.Kernel kernel) {
+        RasterChannel src = randomRaster();
+        for (EdgeMode edgeMode : EdgeMode.values()) {
+            int[] expected = reference(src, kernel, edgeMode);
+            RasterChannel dst = RasterChannel.create(WIDTH, HEIGHT);
+            ConvolveMatrixFilter.convolve(src, dst, IMAGE, kernel, edgeMode, false, null);
+            assertClose(expected, dst.data());
+        }
+    }
+
+    @Test
+    void detectsSeparableKernels() {
+        assertTrue(kernel(3, 3, 1, 2, 1, 2, 4, 2, 1, 2, 1).isSeparable());
+        assertTrue(kernel(3, 2, 1, 0, -1, 2, 0, -2).isSeparable());
+        assertFalse(kernel(3, 3, 0, -1, 0, -1, 5, -1, 0, -1, 0).isSeparable());
+        assertFalse(kernel(2, 2, 0, 0, 0, 0).isSeparable());
+    }
+
+    @Test
+    void separableKernelMatchesReference() {
+        assertMatchesReference(kernel(3, 3, 1, 2, 1, 2, 4, 2, 1, 2, 1));
+        assertMatchesReference(kernel(5, 2, 1, 0, -1, 0, 1, 2, 0, -2, 0, 2));
+    }
+
+    @Test
+    void generalKernelMatchesReference() {
+        // Sharpen and emboss.
+        assertMatchesReference(kernel(3, 3, 0, -1, 0, -1, 5, -1, 0, -1, 0));
+        assertMatchesReference(kernel(3, 3, -2, -1, 0, -1, 1, 1, 0, 1, 2));
+        assertMatchesReference(new ConvolveMatrixFilter.Kernel(4, 3, 3, 0,
+                new float[] {1, 0, 2, 0, 0, 3, 0, 1, -1, 0, 0, 1}, 6, 0));
+    }
+
+    @Test
+    void biasIsPremultipliedWithTheResultAlpha() {
+        assertMatchesReference(new ConvolveMatrixFilter.Kernel(3, 3, 1, 1,
+                new float[] {0, -1, 0, -1, 5, -1, 0, -1, 0}, 1, 0.2f));
+        assertMatchesReference(new ConvolveMatrixFilter.Kernel(3, 3, 1, 1,
+                new float[] {1, 2, 1, 2, 4, 2, 1, 2, 1}, 16, -0.1f));
+    }
+
+    @Test
+    void convolvesInPlaceAndOnlyWritesTheArea() {
+        ConvolveMatrixFilter.Kernel kernel = kernel(3, 3, 0, -1, 0, -1, 5, -1, 0, -1, 0);
+        RasterChannel src = randomRaster();
+        int[] expected = reference(src, kernel, EdgeMode.Duplicate);
+        Rectangle area = new Rectangle(3, 2, 8, 6);
+        int[] original = src.data().clone();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int i = src.offset() + y * src.scanlineStride() + x;
+                if (!area.contains(x, y)) expected[i] = original[i];
+            }
+        }
+        ConvolveMatrixFilter.convolve(src, src, area, kernel, EdgeMode.Duplicate, false, null);
+        assertClose(expected, src.data());
+    }
+
+    @Test
+    void preserveAlphaKeepsTheSourceAlpha() {
+        RasterChannel src = randomRaster();
+        RasterChannel dst = RasterChannel.create(WIDTH, HEIGHT);
+        ConvolveMatrixFilter.convolve(src, dst, IMAGE, kernel(3, 3, 0, -1, 0, -1, 5, -1, 0, -1, 0),
+                EdgeMode.Duplicate, true, null);
+        for (int i = 0; i < src.data().length; i++) {
+            int a = src.data()[i] >>> 24;
+            int result = dst.data()[i];
+            assertEquals(a, result >>> 24);
+            assertTrue(((result >> 16) & 0xFF) <= a && ((result >> 8) & 0xFF) <= a && (result & 0xFF) <= a);
+        }
+    }
+}
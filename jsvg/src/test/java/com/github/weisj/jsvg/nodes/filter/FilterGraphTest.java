@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+import com.github.weisj.jsvg.geometry.size.Length;
+import com.github.weisj.jsvg.renderer.MeasureContext;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
+import com.github.weisj.jsvg.view.FloatSize;
+
+class FilterGraphTest {
+
+    @Test
+    void unusedResultsAreSkipped() {
+        TestPrimitive unused = new TestPrimitive("unused", DefaultFilterChannel.SourceGraphic);
+        TestPrimitive first = new TestPrimitive("first", DefaultFilterChannel.SourceGraphic);
+        TestPrimitive overwritten = new TestPrimitive(null, DefaultFilterChannel.SourceGraphic);
+        TestPrimitive last = new TestPrimitive(null, key("first"), DefaultFilterChannel.SourceAlpha);
+        FilterGraph graph = FilterGraph.create(Arrays.asList(unused, first, overwritten, last));
+        assertEquals(Arrays.asList(
+                Collections.singletonList(first),
+                Collections.singletonList(last)), graph.steps());
+    }
+
+    @Test
+    void implicitInputsReadThePreviousResult() {
+        TestPrimitive first = new TestPrimitive("first", DefaultFilterChannel.SourceGraphic);
+        TestPrimitive second = new TestPrimitive(null, DefaultFilterChannel.LastResult);
+        FilterGraph graph = FilterGraph.create(Arrays.asList(first, second));
+        assertEquals(2, graph.steps().size());
+    }
+
+    @Test
+    void missingChannelsKeepDocumentOrder() {
+        TestPrimitive unused = new TestPrimitive("unused", DefaultFilterChannel.SourceGraphic);
+        TestPrimitive failing = new TestPrimitive(null, DefaultFilterChannel.BackgroundImage);
+        FilterGraph graph = FilterGraph.create(Arrays.asList(unused, failing));
+        assertEquals(2, graph.steps().size());
+
+        TestPrimitive undeclared = new TestPrimitive(null) {
+            @Override
+            public @NotNull FilterChannelKey @Nullable [] inputChannels() {
+                return null;
+            }
+        };
+        graph = FilterGraph.create(Arrays.asList(unused, undeclared));
+        assertEquals(2, graph.steps().size());
+    }
+
+    @Test
+    void fusedPassMatchesSeparatePasses() {
+        RasterChannel input = RasterChannel.create(4, 3);
+        for (int i = 0; i < input.data().length; i++) {
+            input.data()[i] = 0xFF000000 | (i * 20) << 16 | (255 - i * 20);
+        }
+        PixelPass.Stage invert = PixelPass.Stage.color(argb -> argb ^ 0x00FFFFFF);
+        // Transparent pixels become visible, hence pixels shifted in from outside matter.
+        PixelPass.Stage opaque = PixelPass.Stage.color(argb -> argb | 0xFF000000);
+        PixelPass.Stage[] stages = {
+                invert, PixelPass.Stage.translate(1, 0), opaque, PixelPass.Stage.translate(-2, 1), invert
+        };
+
+        PixelPass fused = new PixelPass();
+        RasterChannel expected = input;
+        for (PixelPass.Stage stage : stages) {
+            fused.add(stage);
+            PixelPass single = new PixelPass();
+            single.add(stage);
+            expected = single.apply(expected, RasterChannel.create(4, 3));
+        }
+        RasterChannel actual = fused.apply(input, RasterChannel.create(4, 3));
+        assertEquals(Arrays.toString(expected.data()), Arrays.toString(actual.data()));
+    }
+
+    @Test
+    void passOnlyWritesItsRegion() {
+        RasterChannel input = RasterChannel.create(4, 3);
+        Arrays.fill(input.data(), 0xFF0000FF);
+        PixelPass pass = new PixelPass();
+        pass.add(PixelPass.Stage.color(argb -> argb ^ 0x00FFFFFF));
+        RasterChannel output = pass.apply(input, RasterChannel.create(4, 3), new Rectangle(1, 1, 2, 5));
+        int[] expected = {
+                0, 0, 0, 0,
+                0, 0xFFFFFF00, 0xFFFFFF00, 0,
+                0, 0xFFFFFF00, 0xFFFFFF00, 0
+        };
+        assertEquals(Arrays.toString(expected), Arrays.toString(output.data()));
+    }
+
+    @Test
+    void clippingKeepsNoiseUnconverted() {
+        FeTurbulence.TurbulenceChannel noise = new FeTurbulence.TurbulenceChannel(
+                new Rectangle(0, 0, 20, 10), 20, 10, 0, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence);
+        RenderContext context = RenderContextAccessor.instance().createInitial(null, NullPlatformSupport.INSTANCE,
+                MeasureContext.createInitial(new FloatSize(20, 10), 12, 6, AnimationState.NO_ANIMATION));
+        PixelProvider expected = noise.pixels(context);
+        PixelProvider clipped = new ClippedChannel(noise, new Rectangle(5, 0, 10, 10), context).pixels(context);
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 20; x++) {
+                int pixel = x >= 5 && x < 15 ? expected.pixelAt(x, y) : 0;
+                assertEquals(pixel, clipped.pixelAt(x, y), "(" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    private static @NotNull FilterChannelKey key(@NotNull String key) {
+        return new FilterChannelKey.StringKey(key);
+    }
+
+    private static class TestPrimitive implements FilterPrimitive {
+        private final @NotNull FilterChannelKey result;
+        private final @NotNull FilterChannelKey @NotNull [] inputs;
+
+        private TestPrimitive(@Nullable String result, @NotNull FilterChannelKey @NotNull... inputs) {
+            this.result = result != null ? key(result) : DefaultFilterChannel.LastResult;
+            this.inputs = inputs;
+        }
+
+        @Override
+        public @NotNull FilterChannelKey @Nullable [] inputChannels() {
+            return inputs;
+        }
+
+        @Override
+        public @NotNull FilterChannelKey resultChannel() {
+            return result;
+        }
+
+        @Override
+        public @NotNull Length x() {
+            return Length.ZERO;
+        }
+
+        @Override
+        public @NotNull Length y() {
+            return Length.ZERO;
+        }
+
+        @Override
+        public @NotNull Length width() {
+            return Length.ZERO;
+        }
+
+        @Override
+        public @NotNull Length height() {
+            return Length.ZERO;
+        }
+
+        @Override
+        public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {}
+
+        @Override
+        public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {}
+
+        @Override
+        public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
+            return ColorInterpolation.Inherit;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+import com.github.weisj.jsvg.geometry.size.Length;
+import com.github.weisj.jsvg.geometry.size.Unit;
+import com.github.weisj.jsvg.renderer.MeasureContext;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.view.FloatSize;
+
+class FilterLayoutContextTest {
+    private static final MeasureContext MEASURE_CONTEXT =
+            MeasureContext.createInitial(new FloatSize(100, 100), 12, 6, AnimationState.NO_ANIMATION);
+    private static final Rectangle2D ELEMENT_BOUNDS = new Rectangle2D.Double(10, 10, 40, 20);
+    private static final Rectangle2D FILTER_REGION = new Rectangle2D.Double(0, 0, 60, 40);
+
+    @Test
+    void unspecifiedRegionsDefaultToTheFilterRegion() {
+        FilterLayoutContext context = context(UnitType.UserSpaceOnUse);
+        TestPrimitive noInputs = new TestPrimitive(null);
+        TestPrimitive source = new TestPrimitive(null, DefaultFilterChannel.SourceGraphic);
+        assertEquals(FILTER_REGION, layout(context, noInputs));
+        assertEquals(FILTER_REGION, layout(context, source));
+    }
+
+    @Test
+    void unspecifiedRegionsDefaultToTheInputRegions() {
+        FilterLayoutContext context = context(UnitType.UserSpaceOnUse);
+        TestPrimitive a = new TestPrimitive("a").region(5, 5, 10, 10);
+        TestPrimitive b = new TestPrimitive("b").region(20, 10, 10, 20);
+        TestPrimitive both = new TestPrimitive(null, key("a"), key("b"));
+        TestPrimitive previous = new TestPrimitive(null, DefaultFilterChannel.LastResult);
+        previous.x = Unit.RAW.valueOf(0);
+
+        layout(context, a);
+        layout(context, b);
+        assertEquals(new Rectangle2D.Double(5, 5, 25, 25), layout(context, both));
+        assertEquals(new Rectangle2D.Double(0, 5, 25, 25), layout(context, previous));
+    }
+
+    @Test
+    void objectBoundingBoxRegionsAreFractions() {
+        FilterLayoutContext context = context(UnitType.ObjectBoundingBox);
+        TestPrimitive fraction = new TestPrimitive(null).region(0.25f, 0.5f, 0.5f, 0.5f);
+        assertEquals(new Rectangle2D.Double(20, 20, 20, 10), layout(context, fraction));
+    }
+
+    private static @NotNull FilterLayoutContext context(@NotNull UnitType primitiveUnits) {
+        return new FilterLayoutContext(primitiveUnits, ELEMENT_BOUNDS, FILTER_REGION, FILTER_REGION);
+    }
+
+    private static @NotNull Rectangle2D layout(@NotNull FilterLayoutContext context,
+            @NotNull FilterPrimitive primitive) {
+        context.saveFilterPrimitiveRegion(MEASURE_CONTEXT, primitive);
+        return context.filterPrimitiveRegion(MEASURE_CONTEXT, primitive);
+    }
+
+    private static @NotNull FilterChannelKey key(@NotNull String key) {
+        return new FilterChannelKey.StringKey(key);
+    }
+
+    private static final class TestPrimitive implements FilterPrimitive {
+        private final @NotNull FilterChannelKey result;
+        private final @NotNull FilterChannelKey @NotNull [] inputs;
+        private @NotNull Length x = Length.UNSPECIFIED;
+        private @NotNull Length y = Length.UNSPECIFIED;
+        private @NotNull Length width = Length.UNSPECIFIED;
+        private @NotNull Length height = Length.UNSPECIFIED;
+
+        private TestPrimitive(@Nullable String result, @NotNull FilterChannelKey @NotNull... inputs) {
+            this.result = result != null ? key(result) : DefaultFilterChannel.LastResult;
+            this.inputs = inputs;
+        }
+
+        private @NotNull TestPrimitive region(float x, float y, float width, float height) {
+            this.x = Unit.RAW.valueOf(x);
+            this.y = Unit.RAW.valueOf(y);
+            this.width = Unit.RAW.valueOf(width);
+            this.height = Unit.RAW.valueOf(height);
+            return this;
+        }
+
+        @Override
+        public @NotNull FilterChannelKey @Nullable [] inputChannels() {
+            return inputs;
+        }
+
+        @Override
+        public @NotNull FilterChannelKey resultChannel() {
+            return result;
+        }
+
+        @Override
+        public @NotNull Length x() {
+            return x;
+        }
+
+        @Override
+        public @NotNull Length y() {
+            return y;
+        }
+
+        @Override
+        public @NotNull Length width() {
+            return width;
+        }
+
+        @Override
+        public @NotNull Length height() {
+            return height;
+        }
+
+        @Override
+        public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {}
+
+        @Override
+        public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {}
+
+        @Override
+        public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
+            return ColorInterpolation.Inherit;
+        }
+    }
+}
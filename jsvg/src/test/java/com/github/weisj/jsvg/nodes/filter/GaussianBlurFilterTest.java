@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+
+class GaussianBlurFilterTest {
+
+    private static RasterChannel filled(int width, int height, int argb) {
+        RasterChannel channel = RasterChannel.create(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                channel.data()[channel.offset() + y * channel.scanlineStride() + x] = argb;
+            }
+        }
+        return channel;
+    }
+
+    private static int pixel(RasterChannel channel, int x, int y) {
+        return channel.data()[channel.offset() + y * channel.scanlineStride() + x];
+    }
+
+    @Test
+    void duplicatedEdgesKeepUniformImages() {
+        for (double sigma : new double[] {0.7, 5, 24}) {
+            RasterChannel src = filled(40, 30, 0x80402010);
+            RasterChannel dst = RasterChannel.create(40, 30);
+            GaussianBlurFilter.blur(src, dst, new Rectangle(40, 30), sigma, sigma, EdgeMode.Duplicate, null);
+            for (int y = 0; y < 30; y++) {
+                for (int x = 0; x < 40; x++) {
+                    assertEquals(0x80402010, pixel(dst, x, y), "sigma " + sigma + " at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void wrappedEdgesCommuteWithCyclicShifts() {
+        int w = 32;
+        int h = 24;
+        RasterChannel src = RasterChannel.create(w, h);
+        RasterChannel shifted = RasterChannel.create(w, h);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int argb = (x * 7 + y * 3) % 5 == 0 ? 0xFFFFFFFF : 0;
+                src.data()[src.offset() + y * src.scanlineStride() + x] = argb;
+                shifted.data()[shifted.offset() + ((y + 5) % h) * shifted.scanlineStride() + (x + 11) % w] = argb;
+            }
+        }
+        RasterChannel a = RasterChannel.create(w, h);
+        RasterChannel b = RasterChannel.create(w, h);
+        GaussianBlurFilter.blur(src, a, new Rectangle(w, h), 3, 4, EdgeMode.Wrap, null);
+        GaussianBlurFilter.blur(shifted, b, new Rectangle(w, h), 3, 4, EdgeMode.Wrap, null);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                assertEquals(pixel(a, x, y), pixel(b, (x + 11) % w, (y + 5) % h));
+            }
+        }
+    }
+
+    @Test
+    void blursInPlaceAndOnlyWritesTheArea() {
+        RasterChannel src = RasterChannel.create(20, 20);
+        src.data()[src.offset() + 10 * src.scanlineStride() + 10] = 0xFF00FF00;
+        RasterChannel expected = RasterChannel.create(20, 20);
+        Rectangle area = new Rectangle(5, -5, 12, 30);
+        GaussianBlurFilter.blur(src, expected, area, 1.5, 1.5, EdgeMode.None, null);
+
+        GaussianBlurFilter.blur(src, src, area, 1.5, 1.5, EdgeMode.None, null);
+        for (int y = 0; y < 20; y++) {
+            for (int x = 0; x < 20; x++) {
+                assertEquals(pixel(expected, x, y), pixel(src, x, y));
+                if (x < 5 || x >= 17) assertEquals(0, pixel(expected, x, y));
+            }
+        }
+        assertNotEquals(0, pixel(expected, 9, 10));
+    }
+
+    @Test
+    void alphaBlurMatchesTheAlphaOfTheColorBlur() {
+        for (double sigma : new double[] {1.2, 6}) {
+            RasterChannel src = RasterChannel.create(30, 20);
+            for (int y = 0; y < 20; y++) {
+                for (int x = 0; x < 30; x++) {
+                    src.data()[src.offset() + y * src.scanlineStride() + x] = (x / 4 + y / 3) % 3 == 0
+                            ? 0xFF336699
+                            : 0;
+                }
+            }
+            RasterChannel color = RasterChannel.create(30, 20);
+            GaussianBlurFilter.blur(src, color, new Rectangle(30, 20), sigma, sigma, EdgeMode.Duplicate, null);
+            AlphaChannel alpha = src.alphaChannel();
+            GaussianBlurFilter.blurAlpha(alpha, alpha, new Rectangle(30, 20), sigma, sigma, EdgeMode.Duplicate,
+                    null);
+            for (int y = 0; y < 20; y++) {
+                for (int x = 0; x < 30; x++) {
+                    assertEquals(pixel(color, x, y) >>> 24, alpha.data()[y * 30 + x] & 0xFF);
+                }
+            }
+        }
+    }
+}
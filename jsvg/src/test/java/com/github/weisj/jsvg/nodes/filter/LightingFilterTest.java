@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.util.ColorUtil;
+
+class LightingFilterTest {
+    private static final Rectangle2D IMAGE_BOUNDS = new Rectangle2D.Double(0, 0, 8, 8);
+
+    private static AlphaChannel flatSurface() {
+        AlphaChannel alpha = AlphaChannel.create(8, 8);
+        Arrays.fill(alpha.data(), (byte) 0x80);
+        return alpha;
+    }
+
+    private static LightingFilter.NormalMap normals(LightingFilter.NormalMap previous, AlphaChannel alpha) {
+        return LightingFilter.NormalMap.of(previous, alpha, new Rectangle(1, 2, 5, 4), 3, null, IMAGE_BOUNDS, null);
+    }
+
+    private static RasterChannel light(LightingFilter.Reflection reflection) {
+        RasterChannel result = RasterChannel.create(8, 8);
+        // A light straight above the surface.
+        LightSource light = (x, y, z, l) -> {
+            l[0] = 0;
+            l[1] = 0;
+            l[2] = 1;
+            l[3] = 1;
+        };
+        LightingFilter.light(normals(null, flatSurface()), light, reflection, new Color(200, 100, 50), false,
+                IMAGE_BOUNDS, result, null);
+        return result;
+    }
+
+    @Test
+    void normalMapIsReusedForTheSameSurface() {
+        LightingFilter.NormalMap normalMap = normals(null, flatSurface());
+        assertSame(normalMap, normals(normalMap, flatSurface()));
+
+        AlphaChannel changed = flatSurface();
+        changed.data()[20] = 0;
+        assertNotSame(normalMap, normals(normalMap, changed));
+    }
+
+    @Test
+    void diffuseLightingOfFlatSurfaceIsOpaque() {
+        RasterChannel result = light(new LightingFilter.Diffuse(1));
+        assertEquals(0xFFC86432, result.data()[result.offset() + 3 * result.scanlineStride() + 2]);
+        // Outside the area.
+        assertEquals(0, result.data()[result.offset() + 3 * result.scanlineStride()]);
+    }
+
+    @Test
+    void specularAlphaIsTheMaximumOfTheChannels() {
+        RasterChannel result = light(new LightingFilter.Specular(1, 20));
+        assertEquals(ColorUtil.premultiply(0xC8C86432),
+                result.data()[result.offset() + 3 * result.scanlineStride() + 2]);
+        assertEquals(0, result.data()[result.offset() + 3 * result.scanlineStride() + 6]);
+    }
+}
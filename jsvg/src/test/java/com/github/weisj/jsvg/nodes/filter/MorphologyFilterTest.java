@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.util.ColorUtil;
+
+class MorphologyFilterTest {
+    private static final int WIDTH = 23;
+    private static final int HEIGHT = 17;
+
+    private static RasterChannel randomRaster(long seed) {
+        RasterChannel raster = RasterChannel.create(WIDTH, HEIGHT);
+        Random random = new Random(seed);
+        int[] data = raster.data();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                // Leave some pixels transparent so erosion and dilation both have an effect.
+                int argb = random.nextInt(4) == 0 ? 0 : random.nextInt();
+                data[raster.offset() + y * raster.scanlineStride() + x] = ColorUtil.premultiply(argb);
+            }
+        }
+        return raster;
+    }
+
+    private static int channel(int argb, int shift) {
+        return (argb >>> shift) & 0xFF;
+    }
+
+    private static int bruteForce(int[] data, int offset, int stride, int x, int y, int rx, int ry,
+            boolean dilate) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int value = dilate ? 0 : 255;
+            for (int j = y - ry; j <= y + ry; j++) {
+                for (int i = x - rx; i <= x + rx; i++) {
+                    int pixel = i >= 0 && i < WIDTH && j >= 0 && j < HEIGHT ? data[offset + j * stride + i] : 0;
+                    int c = channel(pixel, shift);
+                    value = dilate ? Math.max(value, c) : Math.min(value, c);
+                }
+            }
+            result |= value << shift;
+        }
+        return result;
+    }
+
+    private static void assertMatchesBruteForce(int rx, int ry, boolean dilate, Rectangle area, boolean inPlace) {
+        RasterChannel src = randomRaster(rx * 31L + ry);
+        int[] expected = src.data().clone();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (!area.contains(x, y)) continue;
+                expected[src.offset() + y * src.scanlineStride() + x] =
+                        bruteForce(src.data(), src.offset(), src.scanlineStride(), x, y, rx, ry, dilate);
+            }
+        }
+        RasterChannel dst = inPlace ? src : RasterChannel.create(WIDTH, HEIGHT);
+        if (!inPlace) System.arraycopy(src.data(), 0, dst.data(), 0, src.data().length);
+        MorphologyFilter.filter(src, dst, area, rx, ry, dilate, null);
+        assertArrayEquals(expected, dst.data(), "rx=" + rx + " ry=" + ry + " dilate=" + dilate);
+    }
+
+    @Test
+    void matchesBruteForceForAllRadii() {
+        Rectangle image = new Rectangle(WIDTH, HEIGHT);
+        for (int rx = 0; rx <= 12; rx++) {
+            for (int ry = 0; ry <= 9; ry += 3) {
+                assertMatchesBruteForce(rx, ry, false, image, false);
+                assertMatchesBruteForce(rx, ry, true, image, false);
+            }
+        }
+    }
+
+    @Test
+    void onlyFiltersTheArea() {
+        Rectangle area = new Rectangle(4, 3, 9, 7);
+        assertMatchesBruteForce(2, 3, false, area, false);
+        assertMatchesBruteForce(5, 1, true, area, false);
+    }
+
+    @Test
+    void filtersInPlace() {
+        assertMatchesBruteForce(3, 2, true, new Rectangle(WIDTH, HEIGHT), true);
+        assertMatchesBruteForce(1, 4, false, new Rectangle(2, 2, 10, 10), true);
+    }
+
+    @Test
+    void alphaMatchesAlphaOfRaster() {
+        RasterChannel raster = randomRaster(7);
+        AlphaChannel alpha = raster.alphaChannel();
+        Rectangle image = new Rectangle(WIDTH, HEIGHT);
+        for (boolean dilate : new boolean[] {false, true}) {
+            RasterChannel rasterResult = RasterChannel.create(WIDTH, HEIGHT);
+            AlphaChannel alphaResult = AlphaChannel.create(WIDTH, HEIGHT);
+            MorphologyFilter.filter(raster, rasterResult, image, 2, 3, dilate, null);
+            MorphologyFilter.filterAlpha(alpha, alphaResult, image, 2, 3, dilate, null);
+            assertArrayEquals(rasterResult.alphaChannel().data(), alphaResult.data());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+
+class ParallelBandsTest {
+
+    private static RenderingHints hints(Object executor, int threshold) {
+        RenderingHints hints = new RenderingHints(SVGRenderingHints.KEY_FILTER_PARALLELISM_THRESHOLD, threshold);
+        hints.put(SVGRenderingHints.KEY_FILTER_EXECUTOR, executor);
+        return hints;
+    }
+
+    private static void assertComputesEveryRowOnce(RenderingHints hints, int rows) {
+        AtomicIntegerArray computed = new AtomicIntegerArray(rows);
+        ParallelBands.run(hints, rows, 10, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                computed.incrementAndGet(i);
+            }
+        });
+        for (int i = 0; i < rows; i++) {
+            assertEquals(1, computed.get(i), "row " + i);
+        }
+    }
+
+    @Test
+    void computesEveryRowExactlyOnce() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertComputesEveryRowOnce(hints(executor, 1), 101);
+            assertComputesEveryRowOnce(hints(executor, 1), 1);
+            assertComputesEveryRowOnce(hints(executor, Integer.MAX_VALUE), 57);
+            assertComputesEveryRowOnce(null, 13);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void callerComputesRejectedBands() {
+        assertComputesEveryRowOnce(hints((Executor) r -> {
+            throw new RejectedExecutionException();
+        }, 1), 64);
+    }
+
+    @Test
+    void rethrowsFailuresOfBands() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> ParallelBands.run(hints(executor, 1), 50, 10, (from, to) -> {
+                        if (to == 50) throw new IllegalStateException("band failed");
+                    }));
+            assertEquals("band failed", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.RGBImageFilter;
+
+import org.junit.jupiter.api.Test;
+
+class RasterChannelTest {
+
+    @Test
+    void premultipliesNonPremultipliedImages() {
+        BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0x80FF0000);
+        image.setRGB(1, 0, 0xFF00FF00);
+        RasterChannel channel = RasterChannel.of(image);
+        assertNotSame(image, channel.image());
+        assertEquals(0x80800000, channel.data()[channel.offset()]);
+        assertEquals(0xFF00FF00, channel.data()[channel.offset() + 1]);
+        // Pixels are reported non-premultiplied.
+        assertEquals(0x80FF0000, channel.pixelAt(0, 0));
+    }
+
+    @Test
+    void wrapsPremultipliedImagesWithoutCopying() {
+        BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB_PRE);
+        BufferedImage subImage = image.getSubimage(2, 3, 4, 5);
+        subImage.setRGB(1, 1, 0xFF123456);
+        RasterChannel channel = RasterChannel.of(subImage);
+        assertSame(subImage, channel.image());
+        assertEquals(4, channel.width());
+        assertEquals(5, channel.height());
+        assertEquals(0xFF123456, channel.data()[channel.offset() + channel.scanlineStride() + 1]);
+
+        RasterChannel copy = channel.copy();
+        assertNotSame(channel.data(), copy.data());
+        assertEquals(0xFF123456, copy.pixelAt(1, 1));
+    }
+
+    @Test
+    void alphaChannelKeepsOnlyAlpha() {
+        RasterChannel channel = RasterChannel.create(1, 1);
+        channel.data()[channel.offset()] = 0x80402010;
+        AlphaChannel alpha = channel.alphaChannel();
+        assertEquals(0x80, alpha.data()[0] & 0xFF);
+        assertEquals(0x80000000, alpha.pixelAt(0, 0));
+    }
+
+    @Test
+    void filterReceivesNonPremultipliedColors() {
+        RasterChannel channel = RasterChannel.create(1, 1);
+        channel.data()[channel.offset()] = 0x80800000;
+        RasterChannel result = channel.filterRGB(new RGBImageFilter() {
+            @Override
+            public int filterRGB(int x, int y, int rgb) {
+                assertEquals(0x80FF0000, rgb);
+                return 0x80FFFFFF;
+            }
+        });
+        assertEquals(0x80808080, result.data()[result.offset()]);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+
+class TurbulenceGeneratorTest {
+
+    private static TurbulenceGenerator generator(int seed, Rectangle2D stitchTile, double scale, Rectangle area) {
+        return new TurbulenceGenerator(seed, 3, 0.25, 0.125, false, stitchTile, -3.5, 2, scale, scale, area);
+    }
+
+    @Test
+    void pixelsMatchSamplesOfTheNoise() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            RenderingHints hints = new RenderingHints(SVGRenderingHints.KEY_FILTER_PARALLELISM_THRESHOLD, 1);
+            hints.put(SVGRenderingHints.KEY_FILTER_EXECUTOR, executor);
+            Rectangle area = new Rectangle(2, 3, 37, 21);
+            TurbulenceGenerator generator = generator(11, null, 0.7, area);
+            int[] pixels = generator.pixels(hints);
+            assertEquals(area.width * area.height, pixels.length);
+            for (int y = 0; y < area.height; y++) {
+                for (int x = 0; x < area.width; x++) {
+                    double px = -3.5 + (area.x + x) * 0.7;
+                    double py = 2 + (area.y + y) * 0.7;
+                    int index = y * area.width + x;
+                    assertEquals(index, generator.indexOf(px, py));
+                    assertEquals(generator.pixelAt(px, py), pixels[index], "pixel " + x + ", " + y);
+                }
+            }
+            assertEquals(-1, generator.indexOf(-3.5 + 2.5 * 0.7, 2 + 3 * 0.7));
+            assertEquals(-1, generator.indexOf(-3.5, 2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void equalTurbulencesShareTheirPixels() {
+        Rectangle area = new Rectangle(0, 0, 16, 8);
+        int[] pixels = generator(5, null, 1, area).pixels(null);
+        assertSame(pixels, generator(5, null, 1, area).pixels(null));
+        assertNotSame(pixels, generator(6, null, 1, area).pixels(null));
+        assertNotSame(pixels, generator(5, null, 0.5, area).pixels(null));
+    }
+
+    @Test
+    void stitchedNoiseContinuesAtTheOppositeEdgeOfTheTile() {
+        Rectangle2D tile = new Rectangle2D.Double(-3.5, 2, 16, 16);
+        int[] pixels = generator(3, tile, 1, new Rectangle(0, 0, 17, 17)).pixels(null);
+        int[] unstitched = generator(3, null, 1, new Rectangle(0, 0, 17, 17)).pixels(null);
+        boolean unstitchedMatches = true;
+        for (int i = 0; i < 17; i++) {
+            assertEquals(pixels[i * 17], pixels[i * 17 + 16], "row " + i);
+            assertEquals(pixels[i], pixels[16 * 17 + i], "column " + i);
+            unstitchedMatches &= unstitched[i * 17] == unstitched[i * 17 + 16];
+        }
+        assertFalse(unstitchedMatches);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.paint.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.MaskType;
+
+class MaskedPaintTest {
+
+    private static @NotNull BufferedImage fill(@NotNull Paint paint, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(paint);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    void maskIsAppliedAtItsOffset() {
+        BufferedImage mask = new BufferedImage(40, 30, BufferedImage.TYPE_BYTE_GRAY);
+        for (int y = 0; y < mask.getHeight(); y++) {
+            for (int x = 0; x < mask.getWidth(); x++) {
+                mask.getRaster().setSample(x, y, 0, (x * 7 + y * 3) & 0xFF);
+            }
+        }
+        MaskedPaint paint = new MaskedPaint(Color.BLACK, mask.getRaster(), new Point2D.Double(5, 7), null,
+                MaskType.Luminance);
+        BufferedImage image = fill(paint, 64, 64);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int mx = x - 5;
+                int my = y - 7;
+                boolean inside = mx >= 0 && my >= 0 && mx < mask.getWidth() && my < mask.getHeight();
+                int expected = inside ? mask.getRaster().getSample(mx, my, 0) : 0;
+                assertEquals(expected, image.getRGB(x, y) >>> 24, "Alpha at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void premultipliedParentIsScaledAsAWhole() {
+        BufferedImage texture = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = texture.createGraphics();
+        g.setColor(new Color(0, 200, 0));
+        g.fillRect(0, 0, 8, 8);
+        g.dispose();
+
+        BufferedImage mask = new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB);
+        g = mask.createGraphics();
+        g.setColor(new Color(255, 255, 255, 128));
+        g.fillRect(0, 0, 32, 32);
+        g.dispose();
+
+        MaskedPaint paint = new MaskedPaint(new TexturePaint(texture, new Rectangle(0, 0, 8, 8)),
+                mask.getRaster(), new Point2D.Double(), null, MaskType.Alpha);
+        int argb = fill(paint, 32, 32).getRGB(16, 16);
+        assertEquals(128, argb >>> 24);
+        assertTrue(Math.abs(((argb >> 8) & 0xFF) - 200) <= 2, "Green channel " + ((argb >> 8) & 0xFF));
+    }
+
+    @Test
+    void premultipliedParentIsScaledAlikeWithoutFastPath() {
+        BufferedImage texture = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = texture.createGraphics();
+        g.setColor(new Color(240, 120, 60, 200));
+        g.fillRect(0, 0, 8, 8);
+        g.dispose();
+        Paint texturePaint = new TexturePaint(texture, new Rectangle(0, 0, 8, 8));
+
+        // The interleaved mask is read by the fast path, the packed byte mask only by the generic one.
+        BufferedImage interleavedMask = new BufferedImage(32, 32, BufferedImage.TYPE_BYTE_GRAY);
+        WritableRaster packedMask = Raster.createWritableRaster(
+                new SinglePixelPackedSampleModel(DataBuffer.TYPE_BYTE, 32, 32, new int[] {0xFF}), null);
+        for (int y = 0; y < 32; y++) {
+            for (int x = 0; x < 32; x++) {
+                int value = (x * 8 + y * 5) & 0xFF;
+                interleavedMask.getRaster().setSample(x, y, 0, value);
+                packedMask.setSample(x, y, 0, value);
+            }
+        }
+
+        BufferedImage fast = fill(new MaskedPaint(texturePaint, interleavedMask.getRaster(),
+                new Point2D.Double(), null, MaskType.Luminance), 32, 32);
+        BufferedImage generic = fill(new MaskedPaint(texturePaint, packedMask,
+                new Point2D.Double(), null, MaskType.Luminance), 32, 32);
+        for (int y = 0; y < 32; y++) {
+            for (int x = 0; x < 32; x++) {
+                assertEquals(fast.getRGB(x, y), generic.getRGB(x, y), "Pixel at " + x + "," + y);
+            }
+        }
+    }
+}
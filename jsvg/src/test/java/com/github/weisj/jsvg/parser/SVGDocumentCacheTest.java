@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.weisj.jsvg.SVGDocument;
+
+class SVGDocumentCacheTest {
+
+    private static @NotNull URL resource(@NotNull String path) {
+        return Objects.requireNonNull(SVGDocument.class.getResource(path), path);
+    }
+
+    @Test
+    void cachesDocuments() {
+        SVGDocumentCache cache = SVGDocumentCache.builder()
+                .referenceType(SVGDocumentCache.ReferenceType.STRONG)
+                .build();
+        SVGDocument first = cache.get(resource("fillRule.svg"));
+        SVGDocument second = cache.get(resource("fillRule.svg"));
+        assertSame(Objects.requireNonNull(first), second);
+
+        SVGDocumentCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.entryCount());
+        assertTrue(stats.weightedSize() > 0);
+    }
+
+    @Test
+    void loaderContextIsPartOfTheKey() {
+        SVGDocumentCache cache = SVGDocumentCache.createDefault();
+        URL url = resource("fillRule.svg");
+        LoaderContext context = LoaderContext.createDefault();
+        SVGDocument withDefaultContext = cache.get(url);
+        SVGDocument withOtherContext = cache.get(url, context);
+        assertNotSame(withDefaultContext, withOtherContext);
+        assertSame(withOtherContext, cache.get(url, context));
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    void concurrentRequestsShareSingleLoad() throws Exception {
+        int threadCount = 8;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LoaderContext context = LoaderContext.builder()
+                .preProcessor(root -> {
+                    loadCount.incrementAndGet();
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build();
+        SVGDocumentCache cache = SVGDocumentCache.createDefault();
+        URL url = resource("fillRule.svg");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<SVGDocument>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> cache.get(url, context)));
+            }
+            assertTrue(loading.await(1, TimeUnit.MINUTES));
+            while (cache.stats().hitCount() < threadCount - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            SVGDocument expected = Objects.requireNonNull(results.get(0).get(1, TimeUnit.MINUTES));
+            for (Future<SVGDocument> result : results) {
+                assertSame(expected, result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void failingWeigherReleasesWaitingRequests() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LoaderContext context = blockingLoaderContext(new AtomicInteger(), loading, release);
+        SVGDocumentCache cache = SVGDocumentCache.builder()
+                .weigher((uri, document, sourceByteCount) -> {
+                    throw new IllegalStateException("weigher");
+                })
+                .build();
+        URL url = resource("fillRule.svg");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SVGDocument> loader = executor.submit(() -> cache.get(url, context));
+            assertTrue(loading.await(1, TimeUnit.MINUTES));
+            Future<SVGDocument> waiter = executor.submit(() -> cache.get(url, context));
+            while (cache.stats().hitCount() < 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> loader.get(1, TimeUnit.MINUTES));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertNotNull(waiter.get(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, cache.stats().entryCount());
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotCached() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LoaderContext context = blockingLoaderContext(loadCount, loading, release);
+        SVGDocumentCache cache = SVGDocumentCache.builder()
+                .referenceType(SVGDocumentCache.ReferenceType.STRONG)
+                .build();
+        URL url = resource("fillRule.svg");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SVGDocument> staleLoad = executor.submit(() -> cache.get(url, context));
+            assertTrue(loading.await(1, TimeUnit.MINUTES));
+            cache.invalidate(url.toURI());
+            release.countDown();
+            SVGDocument stale = Objects.requireNonNull(staleLoad.get(1, TimeUnit.MINUTES));
+
+            assertEquals(0, cache.stats().entryCount());
+            SVGDocument reloaded = cache.get(url, context);
+            assertNotSame(stale, reloaded);
+            assertSame(reloaded, cache.get(url, context));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, loadCount.get());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    /**
+     * Creates a loader context whose first load blocks until it is released.
+     */
+    private static @NotNull LoaderContext blockingLoaderContext(@NotNull AtomicInteger loadCount,
+            @NotNull CountDownLatch loading, @NotNull CountDownLatch release) {
+        return LoaderContext.builder()
+                .preProcessor(root -> {
+                    if (loadCount.incrementAndGet() > 1) return;
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() throws Exception {
+        SVGDocumentCache cache = SVGDocumentCache.builder()
+                .referenceType(SVGDocumentCache.ReferenceType.STRONG)
+                .weigher((uri, document, sourceByteCount) -> 1)
+                .maximumWeight(2)
+                .build();
+        URI a = resource("fillRule.svg").toURI();
+        URI b = resource("line.svg").toURI();
+        URI c = resource("svg_logo.svg").toURI();
+
+        cache.get(a);
+        cache.get(b);
+        cache.get(a);
+        cache.get(c);
+
+        SVGDocumentCache.Stats stats = cache.stats();
+        assertEquals(1, stats.evictionCount());
+        assertEquals(2, stats.entryCount());
+        assertEquals(2, stats.weightedSize());
+
+        cache.get(a);
+        assertEquals(3, cache.stats().missCount());
+        cache.get(b);
+        assertEquals(4, cache.stats().missCount());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.stats().entryCount());
+        assertEquals(0, cache.stats().weightedSize());
+    }
+
+    @Test
+    void failedLoadsAreNotCached(@TempDir Path directory) {
+        SVGDocumentCache cache = SVGDocumentCache.createDefault();
+        URI missing = directory.resolve("missing.svg").toUri();
+        assertNull(cache.get(missing));
+        assertNull(cache.get(missing));
+
+        SVGDocumentCache.Stats stats = cache.stats();
+        assertEquals(2, stats.missCount());
+        assertEquals(2, stats.loadFailureCount());
+        assertEquals(0, stats.entryCount());
+    }
+}
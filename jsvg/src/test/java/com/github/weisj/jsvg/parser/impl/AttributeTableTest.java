@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.ehcache.sizeof.SizeOf;
+import org.junit.jupiter.api.Test;
+
+class AttributeTableTest {
+
+    @Test
+    void behavesLikeMap() {
+        AttributeTable table = new AttributeTable();
+        assertTrue(table.isEmpty());
+        assertNull(table.put("x", "1"));
+        assertNull(table.put("y", "2"));
+        assertNull(table.put("width", "3"));
+        assertEquals("1", table.put("x", "4"));
+        assertEquals(3, table.size());
+        assertEquals("4", table.get("x"));
+        assertEquals("3", table.get(new String("width".toCharArray())));
+        assertNull(table.get("height"));
+        assertNull(table.get(42));
+
+        assertEquals("2", table.remove("y"));
+        assertFalse(table.containsKey("y"));
+        assertEquals(2, table.size());
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("x", "4");
+        expected.put("width", "3");
+        assertEquals(expected, table);
+        assertEquals(expected.hashCode(), table.hashCode());
+    }
+
+    @Test
+    void entryIteratorWritesThrough() {
+        AttributeTable table = new AttributeTable();
+        table.put("a", "1");
+        table.put("b", "2");
+        table.put("c", "3");
+
+        Iterator<Map.Entry<String, String>> it = table.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, String> entry = it.next();
+            if (entry.getKey().equals("b")) {
+                it.remove();
+            } else {
+                entry.setValue(entry.getValue() + "!");
+            }
+        }
+        assertEquals(2, table.size());
+        assertEquals("1!", table.get("a"));
+        assertEquals("3!", table.get("c"));
+    }
+
+    @Test
+    void copiesAreIndependent() {
+        AttributeTable table = new AttributeTable();
+        table.put("fill", "red");
+        AttributeTable copy = table.copy();
+        copy.put("fill", "blue");
+        copy.put("stroke", "green");
+        assertEquals("red", table.get("fill"));
+        assertEquals(1, table.size());
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    void attributeNodeReadsAndWritesThroughTable() {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("id", "node");
+        attributes.put("style", "fill:red");
+        AttributeNode node = ParserTestUtil.createDummyAttributeNode(attributes);
+        node.prepareForNodeBuilding();
+        assertEquals("node", node.getValue("id"));
+        assertEquals("red", node.getValue("fill"));
+
+        node.attributes().put("stroke", "blue");
+        assertEquals("blue", node.getValue("stroke"));
+        node.attributes().remove("fill");
+        assertNull(node.getValue("fill"));
+    }
+
+    @Test
+    void retainsLessMemoryThanHashMap() {
+        String[] names = {"id", "x", "y", "width", "height", "fill", "stroke", "transform"};
+        Map<String, String> hashMap = new HashMap<>();
+        AttributeTable table = new AttributeTable(names.length);
+        for (String name : names) {
+            hashMap.put(name, "0");
+            table.put(name, "0");
+        }
+        SizeOf sizeOf = SizeOf.newInstance();
+        long hashMapSize = sizeOf.deepSizeOf(hashMap);
+        long tableSize = sizeOf.deepSizeOf(table);
+        assertTrue(tableSize < hashMapSize,
+                () -> "AttributeTable retains " + tableSize + " bytes, HashMap retains " + hashMapSize + " bytes");
+    }
+}
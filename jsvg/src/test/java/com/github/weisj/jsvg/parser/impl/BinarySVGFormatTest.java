@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static com.github.weisj.jsvg.DocumentRendering.forEachDocument;
+import static com.github.weisj.jsvg.DocumentRendering.render;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.DomElement;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+class BinarySVGFormatTest {
+
+    private static final List<String> DOCUMENTS = List.of(
+            "css/multipleStyleSheets.svg",
+            "css/precedence.svg",
+            "css/selectorTypes.svg",
+            "text/text1.svg",
+            "text/extractText.svg",
+            "filter/dropShadow.svg",
+            "use/use.svg",
+            "gradient/linearGradient.svg",
+            "mask/mask1.svg",
+            "animation/movingCircle.svg");
+
+    @TestFactory
+    Collection<DynamicTest> compiledDocumentsRenderIdentically() {
+        return forEachDocument(DOCUMENTS, (path, expected) -> {
+            URL url = Objects.requireNonNull(SVGDocument.class.getResource(path), path);
+            SVGLoader loader = new SVGLoader();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            loader.compile(url, out, LoaderContext.createDefault());
+            SVGDocument actual = Objects.requireNonNull(
+                    loader.loadCompiled(ByteBuffer.wrap(out.toByteArray()), url.toURI(),
+                            LoaderContext.createDefault()),
+                    path);
+
+            assertArrayEquals(render(expected), render(actual), () -> "Compiled " + path + " differs");
+        });
+    }
+
+    @Test
+    void styleSheetsAreResolvedWhenCompiling() throws IOException {
+        String svg = """
+                <svg xmlns="http://www.w3.org/2000/svg" width="10" height="10">
+                  <style>.a { fill: red; }</style>
+                  <rect class="a" style="stroke: blue" width="10" height="10"/>
+                  <text>Hello <tspan>World</tspan>!</text>
+                </svg>
+                """;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SVGLoader().compile(new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null, out,
+                LoaderContext.createDefault());
+
+        List<DomElement> roots = new ArrayList<>();
+        LoaderContext context = LoaderContext.builder().preProcessor(roots::add).build();
+        Objects.requireNonNull(new SVGLoader().loadCompiled(ByteBuffer.wrap(out.toByteArray()), null, context));
+
+        DomElement root = roots.get(0);
+        assertEquals(2, root.children().size());
+        DomElement rect = root.children().get(0);
+        assertEquals("rect", rect.tagName());
+        assertEquals("red", rect.attribute("fill"));
+        assertEquals("blue", rect.attribute("stroke"));
+        assertNull(rect.attribute("style"));
+
+        DomElement text = root.children().get(1);
+        assertEquals("Hello ", text.textContent().contentAfterChildIndex(-1).get(0).text());
+        assertEquals("World", text.children().get(0).textContent().contentAfterChildIndex(-1).get(0).text());
+        assertEquals("!", text.textContent().contentAfterChildIndex(0).get(0).text());
+    }
+
+    @Test
+    void loadsMappedFile(@TempDir Path directory) throws IOException {
+        URL url = Objects.requireNonNull(SVGDocument.class.getResource("fillRule.svg"));
+        Path file = directory.resolve("fillRule.svgb");
+        try (var out = Files.newOutputStream(file)) {
+            new SVGLoader().compile(url, out, LoaderContext.createDefault());
+        }
+        SVGDocument document = new SVGLoader().loadCompiled(file);
+        SVGDocument expected = Objects.requireNonNull(new SVGLoader().load(url));
+        assertArrayEquals(render(expected), render(Objects.requireNonNull(document)));
+    }
+
+    @Test
+    void rejectsOtherVersions() throws IOException {
+        URL url = Objects.requireNonNull(SVGDocument.class.getResource("fillRule.svg"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SVGLoader().compile(url, out, LoaderContext.createDefault());
+        byte[] bytes = out.toByteArray();
+        bytes[7]++;
+        assertNull(new SVGLoader().loadCompiled(ByteBuffer.wrap(bytes), null, LoaderContext.createDefault()));
+        assertThrows(IOException.class, () -> BinarySVGFormat.read(ByteBuffer.wrap(bytes), null,
+                LoaderContext.createDefault()));
+    }
+}
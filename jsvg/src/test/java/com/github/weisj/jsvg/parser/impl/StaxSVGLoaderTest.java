@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.TextContent;
+
+class StaxSVGLoaderTest {
+
+    private static final String SVG = "<svg id='root' xmlns='http://www.w3.org/2000/svg'"
+            + " xmlns:xlink='http://www.w3.org/1999/xlink' xmlns:foo='http://example.com/foo'"
+            + " width='100' height='100'>"
+            + "<foo:bar><rect id='skipped'/></foo:bar>"
+            + "<defs><linearGradient id='gradient' x1=' 0 '><stop offset='0'/></linearGradient>"
+            + "<filter id='filter'><feGaussianBlur id='blur' stdDeviation=' 2 '/></filter></defs>"
+            + "<use id='use' xlink:href='#gradient'/>"
+            + "<text id='text'>Hello\n   <tspan id='span'>big</tspan> <![CDATA[world & more]]></text>"
+            + "<rect id='rect' width='10' height='10' filter='url(#filter)'/>"
+            + "</svg>";
+
+    private final StaxSVGLoader loader = new StaxSVGLoader();
+
+    @Test
+    void streamParsingMatchesEventParsing() throws XMLStreamException {
+        ParsedDocument streamDocument = parseWithStreamReader();
+        ParsedDocument eventDocument = parseWithEventReader();
+        assertEquals(describe(root(eventDocument)), describe(root(streamDocument)));
+    }
+
+    @Test
+    void namesAreNormalized() throws XMLStreamException {
+        ParsedDocument document = parseWithStreamReader();
+        assertFalse(document.hasElementWithId("skipped"));
+
+        ParsedElement blur = element(document, "blur");
+        assertEquals("fegaussianblur", blur.tagName());
+        assertEquals("2", blur.attribute("stdDeviation"));
+
+        assertEquals("#gradient", element(document, "use").attribute("xlink:href"));
+    }
+
+    @Test
+    void namesAreInterned() throws XMLStreamException {
+        ParsedDocument document = parseWithStreamReader();
+        ParsedElement rect = element(document, "rect");
+        assertSame("rect", rect.tagName());
+        assertSame("tspan", element(document, "span").tagName());
+        for (String key : rect.attributeNode().attributes().keySet()) {
+            assertSame(key.intern(), key);
+        }
+    }
+
+    private @NotNull ParsedDocument parseWithStreamReader() throws XMLStreamException {
+        SVGDocumentBuilder builder = loader.parse(
+                loader.createXMLInput(new ByteArrayInputStream(SVG.getBytes(StandardCharsets.UTF_8))),
+                null, LoaderContext.createDefault());
+        assertNotNull(builder);
+        return builder.parsedDocument();
+    }
+
+    private @NotNull ParsedDocument parseWithEventReader() throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        SVGDocumentBuilder builder = loader.parse(
+                () -> factory.createXMLEventReader(new ByteArrayInputStream(SVG.getBytes(StandardCharsets.UTF_8))),
+                null, LoaderContext.createDefault());
+        assertNotNull(builder);
+        return builder.parsedDocument();
+    }
+
+    private static @NotNull ParsedElement root(@NotNull ParsedDocument document) {
+        return element(document, "root");
+    }
+
+    private static @NotNull ParsedElement element(@NotNull ParsedDocument document, @NotNull String id) {
+        ParsedElement element = document.getElementById(ParsedElement.class, id);
+        assertNotNull(element, id);
+        return element;
+    }
+
+    private static @NotNull String describe(@NotNull ParsedElement element) {
+        StringBuilder builder = new StringBuilder();
+        describe(element, builder);
+        return builder.toString();
+    }
+
+    private static void describe(@NotNull ParsedElement element, @NotNull StringBuilder builder) {
+        Map<String, String> attributes = new TreeMap<>(element.attributeNode().attributes());
+        builder.append('<').append(element.tagName()).append(' ').append(attributes).append('>');
+        List<ParsedElement> children = element.children();
+        for (int i = -1; i < children.size(); i++) {
+            for (TextContent.Segment segment : element.textContent().contentAfterChildIndex(i)) {
+                builder.append('[').append(segment.text()).append(']');
+            }
+            if (i + 1 < children.size()) describe(children.get(i + 1), builder);
+        }
+        builder.append("</").append(element.tagName()).append('>');
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.awt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class SVGRasterCacheTest {
+
+    private static final String CURRENT_COLOR_ICON = """
+            <svg xmlns="http://www.w3.org/2000/svg" width="16" height="16">
+              <circle cx="8" cy="8" r="6" fill="currentColor"/>
+              <rect x="2" y="2" width="6" height="6" fill="currentColor" fill-opacity="0.5"/>
+            </svg>
+            """;
+    private static final String FIXED_COLOR_ICON = """
+            <svg xmlns="http://www.w3.org/2000/svg" width="16" height="16">
+              <circle cx="8" cy="8" r="6" fill="green"/>
+            </svg>
+            """;
+    private static final String MIXED_COLOR_ICON = """
+            <svg xmlns="http://www.w3.org/2000/svg" width="16" height="16">
+              <circle cx="8" cy="8" r="6" fill="currentColor" stroke="green"/>
+            </svg>
+            """;
+
+    private static @NotNull SVGDocument load(@NotNull String svg) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+    }
+
+    private static int @NotNull [] paint(@NotNull Consumer<Graphics2D> painter, @NotNull Color color) {
+        BufferedImage image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.translate(3, 5);
+        g.scale(2, 2);
+        g.setColor(color);
+        painter.accept(g);
+        g.dispose();
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static void assertSimilar(int @NotNull [] expected, int @NotNull [] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            for (int shift = 0; shift < 32; shift += 8) {
+                int e = (expected[i] >>> shift) & 0xFF;
+                int a = (actual[i] >>> shift) & 0xFF;
+                assertTrue(Math.abs(e - a) <= 1, () -> "Pixels differ: expected "
+                        + Integer.toHexString(e) + " but was " + Integer.toHexString(a));
+            }
+        }
+    }
+
+    @Test
+    void cachedPaintingMatchesDirectRendering() {
+        SVGRasterCache cache = new SVGRasterCache();
+        for (String svg : new String[] {CURRENT_COLOR_ICON, FIXED_COLOR_ICON, MIXED_COLOR_ICON}) {
+            SVGDocument document = load(svg);
+            for (Color color : new Color[] {Color.RED, Color.BLUE, new Color(0x80FF8000, true)}) {
+                int[] expected = paint(g -> document.render(null, g), color);
+                assertSimilar(expected, paint(g -> cache.render(document, null, g), color));
+                assertSimilar(expected, paint(g -> cache.render(document, null, g), color));
+            }
+        }
+    }
+
+    @Test
+    void fixedColorDocumentsAreCachedOnce() {
+        SVGRasterCache cache = new SVGRasterCache();
+        SVGDocument document = load(FIXED_COLOR_ICON);
+        int[] red = paint(g -> cache.render(document, null, g), Color.RED);
+        int[] blue = paint(g -> cache.render(document, null, g), Color.BLUE);
+        assertArrayEquals(red, blue);
+        assertEquals(1, cache.entryCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void currentColorDocumentsAreTinted() {
+        SVGRasterCache cache = new SVGRasterCache();
+        SVGDocument document = load(CURRENT_COLOR_ICON);
+        paint(g -> cache.render(document, null, g), Color.RED);
+        paint(g -> cache.render(document, null, g), Color.BLUE);
+        paint(g -> cache.render(document, null, g), Color.GREEN);
+        assertEquals(1, cache.entryCount());
+
+        SVGDocument mixed = load(MIXED_COLOR_ICON);
+        paint(g -> cache.render(mixed, null, g), Color.RED);
+        paint(g -> cache.render(mixed, null, g), Color.BLUE);
+        assertEquals(3, cache.entryCount());
+    }
+
+    @Test
+    void entriesArePerScaleAndSize() {
+        SVGRasterCache cache = new SVGRasterCache();
+        SVGDocument document = load(FIXED_COLOR_ICON);
+        paint(g -> cache.render(document, null, g), Color.RED);
+        paint(g -> cache.render(document, null, g, new ViewBox(2, 2, 16, 16)), Color.RED);
+        paint(g -> cache.render(document, null, g, new ViewBox(0, 0, 8, 8)), Color.RED);
+        assertEquals(2, cache.entryCount());
+    }
+
+    @Test
+    void invalidationAndMemoryBudget() {
+        SVGDocument first = load(FIXED_COLOR_ICON);
+        SVGDocument second = load(CURRENT_COLOR_ICON);
+        // A single 32x32 bitmap needs 4096 bytes, the coverage mask of a tinted one 1024 bytes.
+        SVGRasterCache cache = new SVGRasterCache(6000);
+        paint(g -> cache.render(first, null, g), Color.RED);
+        assertEquals(4096, cache.usedBytes());
+        paint(g -> cache.render(second, null, g), Color.RED);
+        assertEquals(2, cache.entryCount());
+        assertEquals(5120, cache.usedBytes());
+        paint(g -> cache.render(first, null, g, new ViewBox(0, 0, 8, 8)), Color.RED);
+        assertEquals(2, cache.entryCount());
+        assertEquals(1024 + 256 * 4, cache.usedBytes());
+
+        cache.invalidate(second);
+        assertEquals(1, cache.entryCount());
+        assertEquals(1024, cache.usedBytes());
+    }
+}
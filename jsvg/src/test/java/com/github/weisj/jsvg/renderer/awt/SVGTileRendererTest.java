@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.awt;
+
+import static com.github.weisj.jsvg.DocumentRendering.forEachDocument;
+import static com.github.weisj.jsvg.DocumentRendering.load;
+import static com.github.weisj.jsvg.DocumentRendering.render;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class SVGTileRendererTest {
+
+    private static final int TILE_SIZE = 37;
+    private static final double SCALE = 1;
+
+    private static final List<String> DOCUMENTS = List.of(
+            "filter/blur.svg",
+            "filter/blur2.svg",
+            "filter/dropShadow.svg",
+            "filter/offset.svg",
+            "filter/composite.svg",
+            "mask/nestedMask.svg",
+            "gradient/radialGradient.svg");
+
+    private static @NotNull RenderingHints hints() {
+        RenderingHints hints = new RenderingHints(null);
+        hints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        hints.put(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        return hints;
+    }
+
+    private static int @NotNull [] renderSinglePass(@NotNull SVGDocument document) {
+        ViewBox viewBox = new ViewBox(document.size());
+        return render(document.size(), SCALE, g -> {
+            g.setRenderingHints(hints());
+            g.setClip(0, 0, (int) Math.ceil(viewBox.width * SCALE), (int) Math.ceil(viewBox.height * SCALE));
+            g.scale(SCALE, SCALE);
+            document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, viewBox);
+        });
+    }
+
+    private static int @NotNull [] pixels(@NotNull BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static void assertImagesMatch(@NotNull String path, int @NotNull [] expected, int @NotNull [] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            int e = expected[i];
+            int a = actual[i];
+            for (int shift = 0; shift < 32; shift += 8) {
+                int diff = Math.abs(((e >>> shift) & 0xFF) - ((a >>> shift) & 0xFF));
+                int index = i;
+                // Allow for rounding differences of the anti-aliasing
+                assertTrue(diff <= 2, () -> path + " differs at pixel " + index + ": "
+                        + Integer.toHexString(e) + " != " + Integer.toHexString(a));
+            }
+        }
+    }
+
+    @TestFactory
+    Collection<DynamicTest> tiledRenderingMatchesSinglePassRendering() {
+        return forEachDocument(DOCUMENTS, (path, document) -> {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                SVGTileRenderer renderer = new SVGTileRenderer(TILE_SIZE, executor, hints());
+                BufferedImage tiled = renderer.render(document, NullPlatformSupport.INSTANCE, null, SCALE);
+                assertImagesMatch(path, renderSinglePass(document), pixels(tiled));
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    @Test
+    void tilesCoverTheWholeImage() {
+        SVGDocument document = load("filter/blur.svg");
+        int width = (int) Math.ceil(document.size().width * SCALE);
+        int height = (int) Math.ceil(document.size().height * SCALE);
+        BufferedImage stitched = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        AtomicInteger tileCount = new AtomicInteger();
+        new SVGTileRenderer(TILE_SIZE, Runnable::run, hints()).renderTiles(
+                document, NullPlatformSupport.INSTANCE, null, SCALE, (x, y, tile) -> {
+                    assertTrue(tile.getWidth() <= TILE_SIZE && tile.getHeight() <= TILE_SIZE);
+                    tileCount.incrementAndGet();
+                    Graphics2D g = stitched.createGraphics();
+                    g.drawImage(tile, x, y, null);
+                    g.dispose();
+                });
+        int columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int rows = (height + TILE_SIZE - 1) / TILE_SIZE;
+        assertEquals(columns * rows, tileCount.get());
+        assertImagesMatch("filter/blur.svg", renderSinglePass(document), pixels(stitched));
+    }
+}
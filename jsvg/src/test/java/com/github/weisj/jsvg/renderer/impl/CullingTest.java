@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import static com.github.weisj.jsvg.DocumentRendering.DOCUMENTS;
+import static com.github.weisj.jsvg.DocumentRendering.forEachDocument;
+import static com.github.weisj.jsvg.DocumentRendering.render;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.view.FloatSize;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class CullingTest {
+
+    private static final List<String> CULLING_DOCUMENTS = Stream.concat(DOCUMENTS.stream(),
+            Stream.of("transform/transformBoxStroke.svg")).toList();
+
+    @TestFactory
+    Collection<DynamicTest> culledRenderingMatchesUnculledRendering() {
+        return forEachDocument(CULLING_DOCUMENTS, (path, document) -> {
+            FloatSize size = document.size();
+            int width = (int) Math.ceil(size.width * 2);
+            int height = (int) Math.ceil(size.height * 2);
+            Rectangle[] clips = {
+                new Rectangle(width / 3, height / 4, width / 3, height / 3),
+                new Rectangle(0, 0, width / 2, height),
+                new Rectangle(width / 2 + 1, height / 2 - 3, width, height)
+            };
+            for (Rectangle clip : clips) {
+                // Render twice to also cover the cached bounds.
+                for (int i = 0; i < 2; i++) {
+                    assertArrayEquals(renderClipped(document, clip, false), renderClipped(document, clip, true),
+                            () -> path + " differs with culling for clip " + clip);
+                }
+            }
+        });
+    }
+
+    private static int @NotNull [] renderClipped(@NotNull SVGDocument document, @NotNull Rectangle clip,
+            boolean cull) {
+        return render(document.size(), 2, g -> {
+            g.setRenderingHint(SVGRenderingHints.KEY_CULLING,
+                    cull ? SVGRenderingHints.VALUE_CULLING_ON : SVGRenderingHints.VALUE_CULLING_OFF);
+            g.setClip(clip);
+            g.scale(2, 2);
+            document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, new ViewBox(document.size()));
+        });
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.output.impl;
+
+import static com.github.weisj.jsvg.DocumentRendering.DOCUMENTS;
+import static com.github.weisj.jsvg.DocumentRendering.forEachDocument;
+import static com.github.weisj.jsvg.DocumentRendering.render;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.util.Collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class RecordingOutputTest {
+
+    @TestFactory
+    Collection<DynamicTest> replayMatchesDirectRendering() {
+        return forEachDocument(DOCUMENTS, (path, document) -> {
+            DisplayList displayList = record(document);
+            // Replaying multiple times must not alter the display list.
+            for (int i = 0; i < 2; i++) {
+                assertArrayEquals(render(document), render(document.size(), 1,
+                        g -> replay(displayList, g, null)), path);
+            }
+        });
+    }
+
+    @TestFactory
+    Collection<DynamicTest> replayWithRootTransform() {
+        return forEachDocument(DOCUMENTS, (path, document) -> {
+            ViewBox viewBox = new ViewBox(document.size());
+            int[] expected = render(document.size(), 1, g -> {
+                g.translate(7, 3);
+                document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, viewBox);
+            });
+            DisplayList displayList = record(document);
+            assertArrayEquals(expected, render(document.size(), 1,
+                    g -> replay(displayList, g, AffineTransform.getTranslateInstance(7, 3))), path);
+        });
+    }
+
+    @TestFactory
+    Collection<DynamicTest> replayWithScalingRootTransform() {
+        // Filters and patterns are resampled when scaled, hence only documents without them match exactly.
+        return forEachDocument(DOCUMENTS.stream()
+                .filter(path -> !path.startsWith("filter/") && !path.startsWith("pattern/"))
+                .toList(), (path, document) -> {
+                    ViewBox viewBox = new ViewBox(document.size());
+                    int[] expected = render(document.size(), 2, g -> {
+                        g.scale(2, 2);
+                        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, viewBox);
+                    });
+                    DisplayList displayList = record(document);
+                    assertArrayEquals(expected, render(document.size(), 2,
+                            g -> replay(displayList, g, AffineTransform.getScaleInstance(2, 2))), path);
+                });
+    }
+
+    private static @NotNull DisplayList record(@NotNull SVGDocument document) {
+        RecordingOutput recordingOutput = new RecordingOutput();
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, recordingOutput, new ViewBox(document.size()));
+        return recordingOutput.toDisplayList();
+    }
+
+    private static void replay(@NotNull DisplayList displayList, @NotNull Graphics2D g,
+            @Nullable AffineTransform rootTransform) {
+        Output output = Output.createForGraphics(g);
+        if (rootTransform != null) {
+            displayList.replay(output, rootTransform);
+        } else {
+            displayList.replay(output);
+        }
+        output.dispose();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+class SurfacePoolTest {
+
+    @Test
+    void reusesReturnedSurfaces() {
+        SurfacePool pool = new SurfacePool(SurfacePool.DEFAULT_MAX_POOLED_BYTES);
+        SurfacePool.Lease lease = pool.lease(SurfacePool.SurfaceType.Transparent, 100, 50);
+        assertEquals(100, lease.image().getWidth());
+        assertEquals(50, lease.image().getHeight());
+        lease.close();
+
+        // Sizes of the same size class share surfaces.
+        SurfacePool.Lease other = pool.lease(SurfacePool.SurfaceType.Transparent, 120, 60);
+        assertEquals(120, other.image().getWidth());
+        assertEquals(60, other.image().getHeight());
+        other.close();
+
+        SurfacePool.Statistics statistics = pool.statistics();
+        assertEquals(2, statistics.leases());
+        assertEquals(1, statistics.allocations());
+        assertEquals(1, statistics.reuses());
+        assertEquals(0, statistics.outstanding());
+    }
+
+    @Test
+    void leasedSurfacesAreCleared() {
+        SurfacePool pool = new SurfacePool(SurfacePool.DEFAULT_MAX_POOLED_BYTES);
+        for (SurfacePool.SurfaceType type : SurfacePool.SurfaceType.values()) {
+            try (SurfacePool.Lease lease = pool.lease(type, 30, 30)) {
+                Graphics2D g = lease.image().createGraphics();
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, 30, 30);
+                g.dispose();
+            }
+            try (SurfacePool.Lease lease = pool.lease(type, 30, 30)) {
+                BufferedImage image = lease.image();
+                for (int y = 0; y < image.getHeight(); y++) {
+                    for (int x = 0; x < image.getWidth(); x++) {
+                        assertEquals(0, image.getRaster().getSample(x, y, image.getRaster().getNumBands() - 1),
+                                type.name());
+                    }
+                }
+            }
+        }
+        assertEquals(2, pool.statistics().allocations());
+    }
+
+    @Test
+    void respectsCeiling() {
+        SurfacePool pool = new SurfacePool(64 * 64 * 4);
+        SurfacePool.Lease first = pool.lease(SurfacePool.SurfaceType.Transparent, 64, 64);
+        SurfacePool.Lease second = pool.lease(SurfacePool.SurfaceType.Transparent, 64, 64);
+        first.close();
+        second.close();
+
+        SurfacePool.Statistics statistics = pool.statistics();
+        assertEquals(1, statistics.discards());
+        assertEquals(64 * 64 * 4, statistics.pooledBytes());
+
+        pool.setMaxPooledBytes(0);
+        assertEquals(0, pool.statistics().pooledBytes());
+    }
+
+    @Test
+    void leasesCanOnlyBeClosedOnce() {
+        SurfacePool pool = new SurfacePool(SurfacePool.DEFAULT_MAX_POOLED_BYTES);
+        SurfacePool.Lease lease = pool.lease(SurfacePool.SurfaceType.Luminosity, 10, 10);
+        lease.close();
+        assertThrows(IllegalStateException.class, lease::close);
+    }
+
+    @Test
+    void sizeClasses() {
+        assertEquals(16, SurfacePool.sizeClass(1));
+        assertEquals(16, SurfacePool.sizeClass(16));
+        assertEquals(24, SurfacePool.sizeClass(17));
+        assertEquals(32, SurfacePool.sizeClass(25));
+        assertEquals(96, SurfacePool.sizeClass(65));
+        assertEquals(128, SurfacePool.sizeClass(97));
+        assertEquals(1024, SurfacePool.sizeClass(1024));
+    }
+}
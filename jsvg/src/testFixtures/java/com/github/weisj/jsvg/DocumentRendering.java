@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DynamicTest;
+
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.view.FloatSize;
+import com.github.weisj.jsvg.view.ViewBox;
+
+/**
+ * Renders test documents into raw pixels, such that different ways of rendering the same document can be compared
+ * exactly.
+ */
+public final class DocumentRendering {
+
+    /**
+     * Documents covering shapes, strokes, paints, clipping, masking, filters, text and references.
+     */
+    public static final List<String> DOCUMENTS = List.of(
+            "fillRule.svg",
+            "stroke/stroke3.svg",
+            "gradient/linearGradient.svg",
+            "gradient/radialGradient.svg",
+            "pattern/pattern.svg",
+            "clipPath/clipPathUnits.svg",
+            "mask/mask1.svg",
+            "mask/nestedMask.svg",
+            "mask/translucentMask.svg",
+            "filter/blur.svg",
+            "filter/dropShadow.svg",
+            "text/text1.svg",
+            "use/use.svg");
+
+    private DocumentRendering() {}
+
+    @FunctionalInterface
+    public interface DocumentTest {
+        void run(@NotNull String path, @NotNull SVGDocument document) throws Throwable;
+    }
+
+    public static @NotNull Collection<DynamicTest> forEachDocument(@NotNull List<String> paths,
+            @NotNull DocumentTest test) {
+        return paths.stream()
+                .map(path -> DynamicTest.dynamicTest(path, () -> test.run(path, load(path))))
+                .toList();
+    }
+
+    public static @NotNull SVGDocument load(@NotNull String path) {
+        URL url = Objects.requireNonNull(DocumentRendering.class.getResource(path), path);
+        return Objects.requireNonNull(new SVGLoader().load(url), path);
+    }
+
+    /**
+     * Renders the document at its own size.
+     */
+    public static int @NotNull [] render(@NotNull SVGDocument document) {
+        return render(document, document.size());
+    }
+
+    /**
+     * Renders the document into a viewport of the given size.
+     */
+    public static int @NotNull [] render(@NotNull SVGDocument document, @NotNull FloatSize size) {
+        return render(size, 1, g -> document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, new ViewBox(size)));
+    }
+
+    /**
+     * Paints into an image of the given size scaled by {@code scale}. The graphics is set up with the
+     * {@link ImageComparison#referenceHintSet()}, but isn't transformed.
+     */
+    public static int @NotNull [] render(@NotNull FloatSize size, double scale,
+            @NotNull Consumer<@NotNull Graphics2D> painter) {
+        BufferedImage image = new BufferedImage(
+                (int) Math.ceil(size.width * scale), (int) Math.ceil(size.height * scale),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHints(ImageComparison.referenceHintSet());
+        painter.accept(g);
+        g.dispose();
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
@@ -106,4 +106,5 @@ include(
     "annotations-processor",
     "jsvg-systemlogger",
     "jsvg-slf4j",
+    "jsvg-benchmarks",
 )